@@ -0,0 +1,166 @@
+package controllers.export;
+
+import akka.NotUsed;
+import akka.japi.Pair;
+import akka.stream.javadsl.Source;
+import akka.util.ByteString;
+import com.fasterxml.jackson.databind.JsonNode;
+import controllers.BaseController;
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.operations.ActorOperations;
+import org.sunbird.request.RequestContext;
+import org.sunbird.service.export.ExportService;
+import org.sunbird.service.export.impl.ExportServiceImpl;
+import org.sunbird.util.ProjectUtil;
+import org.sunbird.validator.BaseRequestValidator;
+import play.libs.Json;
+import play.mvc.Http;
+import play.mvc.Result;
+import scala.compat.java8.FutureConverters;
+
+/**
+ * This controller streams all the users or organisations matching the filters as newline delimited
+ * JSON, one document per line in the order of their id. Pages are read from Elasticsearch only as
+ * fast as the client consumes them, so memory use does not depend on the size of the export. An
+ * interrupted export resumes with the id of the last line received as checkpoint.
+ */
+public class ExportController extends BaseController {
+  private static final LoggerUtil logger = new LoggerUtil(ExportController.class);
+
+  private static final String NDJSON = "application/x-ndjson";
+  private static final int DEFAULT_LIMIT = 1000;
+  private static final int MAX_LIMIT = 10000;
+
+  private final ExportService exportService = ExportServiceImpl.getInstance();
+
+  public CompletionStage<Result> exportUsers(Http.Request httpRequest) {
+    return export(ActorOperations.USER_EXPORT.getValue(), ProjectUtil.EsType.user, httpRequest);
+  }
+
+  public CompletionStage<Result> exportOrgs(Http.Request httpRequest) {
+    return export(
+        ActorOperations.ORG_EXPORT.getValue(), ProjectUtil.EsType.organisation, httpRequest);
+  }
+
+  private CompletionStage<Result> export(
+      String operation, ProjectUtil.EsType type, Http.Request httpRequest) {
+    org.sunbird.request.Request request = new org.sunbird.request.Request();
+    try {
+      JsonNode requestBodyJson = httpRequest.body().asJson();
+      if (null == requestBodyJson) {
+        ProjectCommonException.throwClientErrorException(ResponseCode.invalidRequestData, null);
+      }
+      request = createAndInitRequest(operation, requestBodyJson, httpRequest);
+      setContextAndPrintEntryLog(httpRequest, request);
+      new BaseRequestValidator().validateSearchRequest(request);
+      Map<String, Object> filters = (Map<String, Object>) request.getRequest().get(JsonKey.FILTERS);
+      List<String> fields = (List<String>) request.getRequest().get(JsonKey.FIELDS);
+      String checkpoint = getCheckpoint(request.getRequest().get(JsonKey.CHECKPOINT));
+      int limit = getLimit(request.getRequest().get(JsonKey.LIMIT));
+      Source<ByteString, NotUsed> source =
+          createSource(type, filters, fields, checkpoint, limit, request.getRequestContext());
+      return CompletableFuture.completedFuture(ok().chunked(source).as(NDJSON));
+    } catch (Exception e) {
+      logger.error(
+          request.getRequestContext(),
+          "ExportController:export: Exception occurred with error message = " + e.getMessage(),
+          e);
+      if (e instanceof ProjectCommonException) {
+        e =
+            new ProjectCommonException(
+                (ProjectCommonException) e,
+                ActorOperations.getOperationCodeByActorOperation(operation));
+      }
+      return CompletableFuture.completedFuture(createCommonExceptionResponse(e, httpRequest));
+    }
+  }
+
+  /**
+   * Creates the stream of the export. Each element is the NDJSON of one page, and the next page is
+   * read when the previous one has been written to the client.
+   */
+  private Source<ByteString, NotUsed> createSource(
+      ProjectUtil.EsType type,
+      Map<String, Object> filters,
+      List<String> fields,
+      String checkpoint,
+      int limit,
+      RequestContext context) {
+    return Source.unfoldAsync(
+        new Checkpoint(checkpoint, false),
+        current -> {
+          if (current.complete) {
+            return CompletableFuture.completedFuture(Optional.empty());
+          }
+          return FutureConverters.toJava(
+                  exportService.readPage(type, filters, fields, current.id, limit, context))
+              .<Optional<Pair<Checkpoint, ByteString>>>thenApply(
+                  page -> {
+                    if (page.isEmpty()) {
+                      return Optional.empty();
+                    }
+                    String lastId = (String) page.get(page.size() - 1).get(JsonKey.ID);
+                    return Optional.of(
+                        Pair.create(new Checkpoint(lastId, page.size() < limit), toNdjson(page)));
+                  })
+              .whenComplete(
+                  (page, e) -> {
+                    if (null != e) {
+                      logger.error(
+                          context,
+                          "ExportController:createSource: export of "
+                              + type
+                              + " failed after "
+                              + current.id,
+                          e);
+                    }
+                  });
+        });
+  }
+
+  private static ByteString toNdjson(List<Map<String, Object>> page) {
+    StringBuilder builder = new StringBuilder();
+    for (Map<String, Object> document : page) {
+      builder.append(Json.stringify(Json.toJson(document))).append('\n');
+    }
+    return ByteString.fromString(builder.toString());
+  }
+
+  private static String getCheckpoint(Object checkpoint) {
+    if (null != checkpoint && !(checkpoint instanceof String)) {
+      throw new ProjectCommonException(
+          ResponseCode.dataTypeError,
+          MessageFormat.format(
+              ResponseCode.dataTypeError.getErrorMessage(), JsonKey.CHECKPOINT, "String"),
+          ResponseCode.CLIENT_ERROR.getResponseCode());
+    }
+    return (String) checkpoint;
+  }
+
+  private static int getLimit(Object limit) {
+    if (!(limit instanceof Number)) {
+      return DEFAULT_LIMIT;
+    }
+    return Math.max(1, Math.min(((Number) limit).intValue(), MAX_LIMIT));
+  }
+
+  /** Id of the last exported document, and whether the last page has been read. */
+  private static final class Checkpoint {
+    private final String id;
+    private final boolean complete;
+
+    private Checkpoint(String id, boolean complete) {
+      this.id = id;
+      this.complete = complete;
+    }
+  }
+}
@@ -371,6 +371,7 @@ public class UserController extends BaseController {
     final String provider = httpRequest.getQueryString(JsonKey.PROVIDER);
     final String idType = httpRequest.getQueryString(JsonKey.ID_TYPE);
     final String withTokens = httpRequest.getQueryString(JsonKey.WITH_TOKENS);
+    final String projection = httpRequest.getQueryString(JsonKey.PROJECTION);
     userId = ProjectUtil.getLmsUserId(userId);
     return handleRequest(
         userProfileReadActor,
@@ -381,6 +382,7 @@ public class UserController extends BaseController {
           request.getContext().put(JsonKey.FIELDS, requestedFields);
           request.getContext().put(JsonKey.PRIVATE, isPrivate);
           request.getContext().put(JsonKey.WITH_TOKENS, withTokens);
+          request.getContext().put(JsonKey.PROJECTION, projection);
           request.getContext().put(JsonKey.PROVIDER, provider);
           request.getContext().put(JsonKey.ID_TYPE, idType);
           return null;
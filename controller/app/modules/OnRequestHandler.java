@@ -33,7 +33,7 @@ public class OnRequestHandler implements ActionCreator {
 
   private static final LoggerUtil logger = new LoggerUtil(OnRequestHandler.class);
   private final ObjectMapper mapper = new ObjectMapper();
-  public static boolean isServiceHealthy = true;
+  public static volatile boolean isServiceHealthy = true;
 
   @Override
   public Action createAction(Http.Request request, Method method) {
@@ -210,6 +210,11 @@ public class OnRequestHandler implements ActionCreator {
       if (optionalTraceEnabled.isPresent()) {
         reqContext.put(JsonKey.X_TRACE_ENABLED, optionalTraceEnabled.get());
       }
+
+      Optional<String> optionalCacheControl = request.header(HeaderParam.CACHE_CONTROL.getName());
+      if (optionalCacheControl.isPresent()) {
+        reqContext.put(JsonKey.CACHE_CONTROL, optionalCacheControl.get());
+      }
       requestContext.put(JsonKey.CONTEXT, reqContext);
       Map<String, Object> additionalInfo = new HashMap<>();
       additionalInfo.put(JsonKey.URL, url);
@@ -74,6 +74,8 @@ public class RequestInterceptor {
     apiHeaderIgnoreMap.put("/v1/system/settings/get", var);
     apiHeaderIgnoreMap.put("/v1/system/settings/list", var);
     apiHeaderIgnoreMap.put("/private/user/v1/search", var);
+    apiHeaderIgnoreMap.put("/private/user/v1/export", var);
+    apiHeaderIgnoreMap.put("/private/org/v1/export", var);
     apiHeaderIgnoreMap.put("/private/user/v1/migrate", var);
     apiHeaderIgnoreMap.put("/private/user/v1/identifier/freeup", var);
     apiHeaderIgnoreMap.put("/private/user/v1/password/reset", var);
@@ -0,0 +1,62 @@
+package controllers.export;
+
+import static org.junit.Assert.assertEquals;
+
+import controllers.BaseApplicationTest;
+import controllers.DummyActor;
+import java.util.HashMap;
+import java.util.Map;
+import modules.OnRequestHandler;
+import org.junit.Before;
+import org.junit.Test;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.sunbird.exception.ResponseCode;
+import org.sunbird.keys.JsonKey;
+import play.mvc.Result;
+import util.ACTORS;
+
+@PrepareForTest(OnRequestHandler.class)
+@PowerMockIgnore({
+  "javax.management.*",
+  "javax.net.ssl.*",
+  "javax.security.*",
+  "jdk.internal.reflect.*",
+  "javax.crypto.*",
+  "javax.script.*",
+  "javax.xml.*",
+  "com.sun.org.apache.xerces.*",
+  "org.xml.*"
+})
+public class ExportControllerTest extends BaseApplicationTest {
+
+  @Before
+  public void before() {
+    setup(ACTORS.SEARCH_HANDLER_ACTOR, DummyActor.class);
+  }
+
+  @Test
+  public void testExportUsersFailureWithInvalidCheckpoint() {
+    Result result = performTest("/private/user/v1/export", "POST", getExportRequest(10));
+    assertEquals(ResponseCode.CLIENT_ERROR.name(), getResponseCode(result));
+    assertEquals(400, getResponseStatus(result));
+  }
+
+  @Test
+  public void testExportOrgsFailureWithInvalidCheckpoint() {
+    Map<String, Object> checkpoint = new HashMap<>();
+    checkpoint.put(JsonKey.ID, "orgId");
+    Result result = performTest("/private/org/v1/export", "POST", getExportRequest(checkpoint));
+    assertEquals(ResponseCode.CLIENT_ERROR.name(), getResponseCode(result));
+    assertEquals(400, getResponseStatus(result));
+  }
+
+  private Map<String, Object> getExportRequest(Object checkpoint) {
+    Map<String, Object> innerMap = new HashMap<>();
+    innerMap.put(JsonKey.FILTERS, new HashMap<>());
+    innerMap.put(JsonKey.CHECKPOINT, checkpoint);
+    Map<String, Object> requestMap = new HashMap<>();
+    requestMap.put(JsonKey.REQUEST, innerMap);
+    return requestMap;
+  }
+}
@@ -0,0 +1,197 @@
+package org.sunbird.actor.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.sunbird.keys.JsonKey;
+
+/**
+ * Mailbox time and processing time histograms, in flight and error counters of the requests
+ * processed by actors, kept per actor class and operation. The pool an actor class runs in is kept
+ * along, so the metrics can be matched with the router pools they are meant to size.
+ *
+ * <p>Lookups of the metrics of an operation do not allocate once the operation has been seen, and
+ * the histograms are HdrHistogram {@link Recorder}s, whose writers are wait free. The histograms
+ * keep one significant digit only, which is enough to size pools and keeps their footprint small as
+ * there is one pair of them per actor and operation.
+ */
+public final class ActorMetrics {
+
+  private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+  private static final int SIGNIFICANT_DIGITS = 1;
+  private static final String UNKNOWN_OPERATION = "unknown";
+  private static final ActorMetrics instance = new ActorMetrics();
+
+  private final ConcurrentMap<Class<?>, ActorClassMetrics> metrics = new ConcurrentHashMap<>();
+
+  private ActorMetrics() {}
+
+  public static ActorMetrics getInstance() {
+    return instance;
+  }
+
+  /**
+   * Method to set the router pool the actors of a class run in.
+   *
+   * @param actorClass Actor class
+   * @param pool Name of the router pool
+   */
+  public void setPool(Class<?> actorClass, String pool) {
+    getActorClassMetrics(actorClass).pool = pool;
+  }
+
+  /**
+   * Method to get the metrics of an operation processed by an actor class.
+   *
+   * @param actorClass Actor class
+   * @param operation Operation of the request
+   * @return Metrics of the operation
+   */
+  public OperationMetrics getOperationMetrics(Class<?> actorClass, String operation) {
+    ActorClassMetrics actorClassMetrics = getActorClassMetrics(actorClass);
+    String key = null != operation ? operation : UNKNOWN_OPERATION;
+    OperationMetrics operationMetrics = actorClassMetrics.operations.get(key);
+    if (null == operationMetrics) {
+      operationMetrics =
+          actorClassMetrics.operations.computeIfAbsent(
+              key, k -> new OperationMetrics(actorClassMetrics, k));
+    }
+    return operationMetrics;
+  }
+
+  /**
+   * Method to get the metrics of every actor class and operation since start up. Times are in
+   * microseconds.
+   *
+   * @return List of metrics, one map per actor class and operation
+   */
+  public List<Map<String, Object>> getSnapshot() {
+    List<Map<String, Object>> snapshot = new ArrayList<>();
+    for (ActorClassMetrics actorClassMetrics : metrics.values()) {
+      for (OperationMetrics operationMetrics : actorClassMetrics.operations.values()) {
+        snapshot.add(operationMetrics.snapshot());
+      }
+    }
+    return snapshot;
+  }
+
+  public void reset() {
+    metrics.clear();
+  }
+
+  private ActorClassMetrics getActorClassMetrics(Class<?> actorClass) {
+    ActorClassMetrics actorClassMetrics = metrics.get(actorClass);
+    if (null == actorClassMetrics) {
+      actorClassMetrics = metrics.computeIfAbsent(actorClass, ActorClassMetrics::new);
+    }
+    return actorClassMetrics;
+  }
+
+  private static final class ActorClassMetrics {
+    private final String actor;
+    private final ConcurrentMap<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+    private volatile String pool;
+
+    private ActorClassMetrics(Class<?> actorClass) {
+      this.actor = actorClass.getSimpleName();
+    }
+  }
+
+  public static final class OperationMetrics {
+    private final ActorClassMetrics actorClassMetrics;
+    private final String operation;
+    private final Recorder mailboxTime = newRecorder();
+    private final Recorder processingTime = newRecorder();
+    private final Histogram totalMailboxTime = newHistogram();
+    private final Histogram totalProcessingTime = newHistogram();
+    private final LongAdder inFlight = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private Histogram mailboxInterval;
+    private Histogram processingInterval;
+
+    private OperationMetrics(ActorClassMetrics actorClassMetrics, String operation) {
+      this.actorClassMetrics = actorClassMetrics;
+      this.operation = operation;
+    }
+
+    /**
+     * Method to record the start of the processing of a request.
+     *
+     * @param enqueueTime Time the request was enqueued in nanoseconds, or 0 if it is not known
+     * @param startTime Time the processing started in nanoseconds
+     */
+    void started(long enqueueTime, long startTime) {
+      inFlight.increment();
+      if (enqueueTime > 0) {
+        mailboxTime.recordValue(toMicros(startTime - enqueueTime));
+      }
+    }
+
+    /**
+     * Method to record the time an actor spent processing a request.
+     *
+     * @param elapsedTime Elapsed time in nanoseconds
+     */
+    void recordProcessingTime(long elapsedTime) {
+      processingTime.recordValue(toMicros(elapsedTime));
+    }
+
+    /**
+     * Method to record that the response of a request is sent, which can happen after the actor has
+     * processed it if the response is sent by a stage.
+     *
+     * @param failed Whether the request failed
+     */
+    void completed(boolean failed) {
+      inFlight.decrement();
+      if (failed) {
+        errors.increment();
+      }
+    }
+
+    private synchronized Map<String, Object> snapshot() {
+      mailboxInterval = mailboxTime.getIntervalHistogram(mailboxInterval);
+      totalMailboxTime.add(mailboxInterval);
+      processingInterval = processingTime.getIntervalHistogram(processingInterval);
+      totalProcessingTime.add(processingInterval);
+      Map<String, Object> snapshot = new HashMap<>();
+      snapshot.put(JsonKey.ACTOR, actorClassMetrics.actor);
+      snapshot.put(JsonKey.ROUTER, actorClassMetrics.pool);
+      snapshot.put(JsonKey.OPERATION, operation);
+      snapshot.put(JsonKey.COUNT, totalProcessingTime.getTotalCount());
+      snapshot.put(JsonKey.IN_FLIGHT, inFlight.sum());
+      snapshot.put(JsonKey.ERRORS, errors.sum());
+      snapshot.put(JsonKey.MAILBOX_TIME, percentiles(totalMailboxTime));
+      snapshot.put(JsonKey.PROCESSING_TIME, percentiles(totalProcessingTime));
+      return snapshot;
+    }
+
+    private static Map<String, Object> percentiles(Histogram histogram) {
+      Map<String, Object> percentiles = new HashMap<>();
+      percentiles.put(JsonKey.COUNT, histogram.getTotalCount());
+      percentiles.put(JsonKey.P50_MICROS, histogram.getValueAtPercentile(50));
+      percentiles.put(JsonKey.P99_MICROS, histogram.getValueAtPercentile(99));
+      percentiles.put(JsonKey.MAX_MICROS, histogram.getMaxValue());
+      return percentiles;
+    }
+
+    private static long toMicros(long nanos) {
+      return Math.max(0, Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    private static Recorder newRecorder() {
+      return new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+
+    private static Histogram newHistogram() {
+      return new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+  }
+}
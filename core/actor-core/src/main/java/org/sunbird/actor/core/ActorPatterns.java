@@ -0,0 +1,188 @@
+package org.sunbird.actor.core;
+
+import akka.actor.ActorRef;
+import akka.pattern.AskTimeoutException;
+import akka.pattern.Patterns;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.operations.ActorOperations;
+import org.sunbird.request.Request;
+
+/**
+ * Non blocking composition of actor calls. An actor asks another actor for a stage of the reply,
+ * composes further work on it and pipes the result back to its sender, instead of holding its
+ * thread until the other actor replies.
+ */
+public final class ActorPatterns {
+
+  public static final Duration DEFAULT_ASK_TIMEOUT = Duration.ofSeconds(10);
+
+  private static final LoggerUtil logger = new LoggerUtil(ActorPatterns.class);
+
+  private ActorPatterns() {}
+
+  /**
+   * Method to ask an actor with the default timeout.
+   *
+   * @param actorRef Actor to ask
+   * @param request Request to send
+   * @return Stage of the reply
+   * @see #ask(ActorRef, Request, Duration)
+   */
+  public static CompletionStage<Object> ask(ActorRef actorRef, Request request) {
+    return ask(actorRef, request, DEFAULT_ASK_TIMEOUT);
+  }
+
+  /**
+   * Method to ask an actor. The stage fails with the exception the actor replies with, also when it
+   * is replied as a {@link akka.actor.Status.Failure}, or with a server error if the actor cannot
+   * be asked or does not reply in time. Failures to get a reply are logged with the context of the
+   * request, so they can be correlated with the request which caused them.
+   *
+   * @param actorRef Actor to ask
+   * @param request Request to send
+   * @param timeout Time to wait for the reply
+   * @return Stage of the reply
+   */
+  public static CompletionStage<Object> ask(ActorRef actorRef, Request request, Duration timeout) {
+    CompletableFuture<Object> reply = new CompletableFuture<>();
+    CompletionStage<Object> askF;
+    try {
+      askF = Patterns.ask(actorRef, request, timeout);
+    } catch (Exception e) {
+      failWithServerError(reply, actorRef, request, e);
+      return reply;
+    }
+    askF.whenComplete(
+        (result, error) -> {
+          Throwable cause = null != error ? unwrap(error) : null;
+          if (cause instanceof AskTimeoutException) {
+            failWithServerError(reply, actorRef, request, cause);
+          } else if (null != cause) {
+            // the actor replied with a failure, e.g. piped a failed stage as Status.Failure
+            reply.completeExceptionally(cause);
+          } else if (result instanceof Throwable) {
+            reply.completeExceptionally((Throwable) result);
+          } else {
+            reply.complete(result);
+          }
+        });
+    return reply;
+  }
+
+  private static void failWithServerError(
+      CompletableFuture<Object> reply, ActorRef actorRef, Request request, Throwable error) {
+    logger.error(
+        request.getRequestContext(),
+        "ActorPatterns:ask: No reply from "
+            + (null != actorRef ? actorRef.path() : null)
+            + " for operation: "
+            + request.getOperation(),
+        error);
+    reply.completeExceptionally(
+        new ProjectCommonException(
+            ResponseCode.SERVER_ERROR,
+            ResponseCode.SERVER_ERROR.getErrorMessage(),
+            ResponseCode.SERVER_ERROR.getResponseCode()));
+  }
+
+  /**
+   * Method to send the result of a stage to an actor once it is complete. A failure is sent as
+   * {@link BaseActor} sends the exceptions thrown while processing a request.
+   *
+   * @param stage Stage of the result
+   * @param request Request the result is for
+   * @param recipient Actor to send the result to, usually the sender of the request
+   * @param sender Sender of the result
+   */
+  public static void pipe(
+      CompletionStage<?> stage, Request request, ActorRef recipient, ActorRef sender) {
+    stage.whenComplete((result, error) -> send(result, error, request, recipient, sender));
+  }
+
+  /**
+   * Method to send the result of a stage to an actor once it is complete, from the given executor.
+   * As with akka's pipe, the result is never sent from the thread which pipes the stage, so a stage
+   * which is already complete does not overtake what the actor sends while still processing the
+   * request.
+   *
+   * @param stage Stage of the result
+   * @param request Request the result is for
+   * @param recipient Actor to send the result to, usually the sender of the request
+   * @param sender Sender of the result
+   * @param executor Executor to send the result from, usually the dispatcher of the actor
+   */
+  public static void pipe(
+      CompletionStage<?> stage,
+      Request request,
+      ActorRef recipient,
+      ActorRef sender,
+      Executor executor) {
+    stage.whenCompleteAsync(
+        (result, error) -> send(result, error, request, recipient, sender), executor);
+  }
+
+  private static void send(
+      Object result, Throwable error, Request request, ActorRef recipient, ActorRef sender) {
+    if (null == error) {
+      recipient.tell(result, sender);
+      return;
+    }
+    Throwable cause = unwrap(error);
+    logger.error(
+        request.getRequestContext(),
+        "Error while processing the message for operation: " + request.getOperation(),
+        cause);
+    if (cause instanceof ProjectCommonException) {
+      recipient.tell(
+          new ProjectCommonException(
+              (ProjectCommonException) cause,
+              ActorOperations.getOperationCodeByActorOperation(request.getOperation())),
+          sender);
+    } else {
+      recipient.tell(cause, sender);
+    }
+  }
+
+  /**
+   * Method to get the exception a stage failed with, without the exceptions wrapping it.
+   *
+   * @param error Exception a stage failed with
+   * @return Cause of the failure
+   */
+  public static Throwable unwrap(Throwable error) {
+    Throwable cause = error;
+    while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+        && null != cause.getCause()) {
+      cause = cause.getCause();
+    }
+    return cause;
+  }
+
+  /**
+   * Method to get the result of a stage in a blocking call. To be used only by code which cannot
+   * continue without the result, e.g. steps of a background job which depend on each other.
+   *
+   * @param stage Stage of the result
+   * @return Result of the stage
+   * @throws RuntimeException Exception the stage failed with, as it was thrown
+   */
+  public static <T> T join(CompletionStage<T> stage) {
+    try {
+      return stage.toCompletableFuture().join();
+    } catch (CompletionException e) {
+      Throwable cause = unwrap(e);
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw e;
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package org.sunbird.actor.core;
 
 import akka.actor.UntypedAbstractActor;
+import java.util.concurrent.CompletionStage;
 import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.exception.ResponseCode;
 import org.sunbird.logging.LoggerUtil;
@@ -10,15 +11,34 @@ import org.sunbird.request.Request;
 public abstract class BaseActor extends UntypedAbstractActor {
   public final LoggerUtil logger = new LoggerUtil(this.getClass());
 
+  // metrics of the request being processed, until its response is sent or left to a stage
+  private ActorMetrics.OperationMetrics currentMetrics;
+
   public abstract void onReceive(Request request) throws Throwable;
 
+  @Override
+  public void preStart() throws Exception {
+    super.preStart();
+    // routees are named by the router, whose name is the name of the pool in the deployment config
+    ActorMetrics.getInstance().setPool(getClass(), self().path().parent().name());
+  }
+
   @Override
   public void onReceive(Object message) throws Throwable {
+    // taken for every message, so that the time is not left behind for another message
+    long enqueueTime = TimedMailbox.takeEnqueueTime();
     if (message instanceof Request) {
       Request request = (Request) message;
       String operation = request.getOperation();
+      ActorMetrics.OperationMetrics metrics =
+          ActorMetrics.getInstance().getOperationMetrics(getClass(), operation);
+      long startTime = System.nanoTime();
+      metrics.started(enqueueTime, startTime);
+      currentMetrics = metrics;
+      boolean failed = true;
       try {
         onReceive(request);
+        failed = false;
       } catch (Exception e) {
         logger.error(
             request.getRequestContext(),
@@ -32,10 +52,33 @@ public abstract class BaseActor extends UntypedAbstractActor {
           sender().tell(exception, self());
         }
         sender().tell(e, self());
+      } finally {
+        metrics.recordProcessingTime(System.nanoTime() - startTime);
+        if (null != currentMetrics) {
+          currentMetrics = null;
+          metrics.completed(failed);
+        }
       }
     }
   }
 
+  /**
+   * Sends the result of a stage to the sender of the request once it is complete, without waiting
+   * for it.
+   *
+   * @param stage Stage of the result
+   * @param request Request being processed
+   */
+  protected void pipeToSender(CompletionStage<?> stage, Request request) {
+    ActorPatterns.pipe(stage, request, sender(), self(), getContext().dispatcher());
+    ActorMetrics.OperationMetrics metrics = currentMetrics;
+    if (null != metrics) {
+      // the request stays in flight until the stage sends its response
+      currentMetrics = null;
+      stage.whenComplete((result, error) -> metrics.completed(null != error));
+    }
+  }
+
   protected void onReceiveUnsupportedOperation() {
     ProjectCommonException exception =
         new ProjectCommonException(
@@ -0,0 +1,98 @@
+package org.sunbird.actor.core;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigObject;
+import com.typesafe.config.ConfigValue;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.sunbird.keys.JsonKey;
+
+/**
+ * Router pools of the actors as deployed by akka.actor.deployment, i.e. the number of routees of
+ * each pool and the parallelism of the dispatcher they run on. Exported along with {@link
+ * ActorMetrics}, whose router field is the name of the pool.
+ */
+public final class RouterPools {
+
+  private static final String DEPLOYMENT = "akka.actor.deployment";
+  private static final String DEFAULT_DISPATCHER = "akka.actor.default-dispatcher";
+  private static final String ACTOR_PREFIX = "akka.actor.";
+  private static final String ROUTEES = "/*";
+  private static final String ROUTER = "router";
+  private static final String NR_OF_INSTANCES = "nr-of-instances";
+  private static final String DISPATCHER = "dispatcher";
+  private static final String FORK_JOIN_EXECUTOR = ".fork-join-executor";
+
+  private RouterPools() {}
+
+  /**
+   * Method to get the router pools deployed by a config.
+   *
+   * @param config Config of the actor system
+   * @return List of router pools, one map per pool
+   */
+  public static List<Map<String, Object>> getSnapshot(Config config) {
+    List<Map<String, Object>> pools = new ArrayList<>();
+    if (!config.hasPath(DEPLOYMENT)) {
+      return pools;
+    }
+    ConfigObject deployment = config.getObject(DEPLOYMENT);
+    for (Map.Entry<String, ConfigValue> entry : deployment.entrySet()) {
+      String path = entry.getKey();
+      // skip the defaults of akka and the deployment of the routees of a pool
+      if (!path.startsWith("/") || path.endsWith(ROUTEES)) {
+        continue;
+      }
+      Config pool = ((ConfigObject) entry.getValue()).toConfig();
+      // routees run on their own dispatcher if one is deployed, else on the one of the pool
+      ConfigValue routees = deployment.get(path + ROUTEES);
+      Config routeesConfig =
+          routees instanceof ConfigObject ? ((ConfigObject) routees).toConfig() : pool;
+      String dispatcher =
+          routeesConfig.hasPath(DISPATCHER)
+              ? routeesConfig.getString(DISPATCHER)
+              : pool.hasPath(DISPATCHER) ? pool.getString(DISPATCHER) : DEFAULT_DISPATCHER;
+      Map<String, Object> poolMap = new HashMap<>();
+      poolMap.put(JsonKey.NAME, path.substring(1));
+      poolMap.put(JsonKey.ROUTER, pool.hasPath(ROUTER) ? pool.getString(ROUTER) : null);
+      poolMap.put(
+          JsonKey.NR_OF_INSTANCES,
+          pool.hasPath(NR_OF_INSTANCES) ? pool.getInt(NR_OF_INSTANCES) : 1);
+      poolMap.put(JsonKey.DISPATCHER, dispatcher);
+      poolMap.put(JsonKey.PARALLELISM, getParallelism(config, dispatcher));
+      pools.add(poolMap);
+    }
+    return pools;
+  }
+
+  /**
+   * Method to get the number of threads of a fork join dispatcher, as akka computes it from the
+   * available processors.
+   *
+   * @return Parallelism of the dispatcher, or null if it is not a fork join dispatcher
+   */
+  private static Integer getParallelism(Config config, String dispatcher) {
+    String executorPath = dispatcher + FORK_JOIN_EXECUTOR;
+    if (!config.hasPath(executorPath)) {
+      executorPath = ACTOR_PREFIX + executorPath;
+    }
+    if (!config.hasPath(executorPath)) {
+      return null;
+    }
+    // dispatchers fall back to the settings of the default dispatcher which they do not override
+    Config executor =
+        config
+            .getConfig(executorPath)
+            .withFallback(config.getConfig(DEFAULT_DISPATCHER + FORK_JOIN_EXECUTOR));
+    int parallelism =
+        (int)
+            Math.ceil(
+                Runtime.getRuntime().availableProcessors()
+                    * executor.getDouble("parallelism-factor"));
+    return Math.min(
+        Math.max(parallelism, executor.getInt("parallelism-min")),
+        executor.getInt("parallelism-max"));
+  }
+}
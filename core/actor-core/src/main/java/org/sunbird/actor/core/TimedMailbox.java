@@ -0,0 +1,97 @@
+package org.sunbird.actor.core;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.dispatch.Envelope;
+import akka.dispatch.MailboxType;
+import akka.dispatch.MessageQueue;
+import akka.dispatch.ProducesMessageQueue;
+import akka.dispatch.UnboundedMessageQueueSemantics;
+import com.typesafe.config.Config;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import scala.Option;
+
+/**
+ * Unbounded mailbox which keeps the time every message is enqueued next to it, so that {@link
+ * BaseActor} can record how long a request waited for an actor of the pool to pick it up. Messages
+ * are not modified. Configured per deployment for the pools whose mailbox time is measured, see
+ * akka.actor.timed-mailbox.
+ */
+public class TimedMailbox
+    implements MailboxType, ProducesMessageQueue<TimedMailbox.TimedMessageQueue> {
+
+  // enqueue time of the message last dequeued by the thread, which then processes it
+  private static final ThreadLocal<long[]> dequeuedEnqueueTime =
+      ThreadLocal.withInitial(() -> new long[1]);
+
+  public TimedMailbox(ActorSystem.Settings settings, Config config) {}
+
+  @Override
+  public MessageQueue create(Option<ActorRef> owner, Option<ActorSystem> system) {
+    return new TimedMessageQueue();
+  }
+
+  /**
+   * Method to take the time the message being processed by the current thread was enqueued. Reset
+   * once taken, so that messages of actors with other mailboxes are not given a stale time.
+   *
+   * @return Time the message was enqueued in nanoseconds, or 0 if it did not come from a timed
+   *     mailbox
+   */
+  static long takeEnqueueTime() {
+    long[] enqueueTime = dequeuedEnqueueTime.get();
+    long time = enqueueTime[0];
+    enqueueTime[0] = 0;
+    return time;
+  }
+
+  public static class TimedMessageQueue implements MessageQueue, UnboundedMessageQueueSemantics {
+
+    private final Queue<TimedEnvelope> queue = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void enqueue(ActorRef receiver, Envelope handle) {
+      queue.add(new TimedEnvelope(handle, System.nanoTime()));
+    }
+
+    @Override
+    public Envelope dequeue() {
+      TimedEnvelope envelope = queue.poll();
+      if (null == envelope) {
+        return null;
+      }
+      dequeuedEnqueueTime.get()[0] = envelope.enqueueTime;
+      return envelope.envelope;
+    }
+
+    @Override
+    public int numberOfMessages() {
+      return queue.size();
+    }
+
+    @Override
+    public boolean hasMessages() {
+      return !queue.isEmpty();
+    }
+
+    @Override
+    public void cleanUp(ActorRef owner, MessageQueue deadLetters) {
+      TimedEnvelope envelope = queue.poll();
+      while (null != envelope) {
+        deadLetters.enqueue(owner, envelope.envelope);
+        envelope = queue.poll();
+      }
+    }
+  }
+
+  private static final class TimedEnvelope {
+    private final Envelope envelope;
+    private final long enqueueTime;
+
+    private TimedEnvelope(Envelope envelope, long enqueueTime) {
+      this.envelope = envelope;
+      this.enqueueTime = enqueueTime;
+    }
+  }
+}
@@ -5,6 +5,9 @@ import com.datastax.driver.core.ResultSet;
 import com.google.common.util.concurrent.FutureCallback;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
 
@@ -189,6 +192,43 @@ public interface CassandraOperation {
   public Response getAllRecords(
       String keyspaceName, String tableName, List<String> fields, RequestContext context);
 
+  /**
+   * @desc This method is used to stream all records of a table using driver paging, so only one
+   *     page of rows is held in memory at a time. Next page is prefetched while the current page is
+   *     being consumed.
+   * @param keyspaceName String (data base keyspace name)
+   * @param tableName String
+   * @param fields List of columns to be returned in each record, all columns if empty
+   * @param fetchSize Number of rows per page, configured allRecordsFetchSize is used if not
+   *     positive
+   * @param context
+   * @return Stream of records as map of column name and value
+   */
+  Stream<Map<String, Object>> getAllRecordsAsStream(
+      String keyspaceName,
+      String tableName,
+      List<String> fields,
+      int fetchSize,
+      RequestContext context);
+
+  /**
+   * @desc This method is used to scan all records of a table in parallel. The token ring is split
+   *     into token ranges which are read with driver paging on a bounded pool of
+   *     tokenRangeScanParallelism threads. Records are handed to the consumer as they are read, so
+   *     the consumer must be thread safe.
+   * @param keyspaceName String (data base keyspace name)
+   * @param tableName String
+   * @param fields List of columns to be returned in each record, all columns if empty
+   * @param consumer Consumer invoked for each record
+   * @param context
+   */
+  void scanAllRecords(
+      String keyspaceName,
+      String tableName,
+      List<String> fields,
+      Consumer<Map<String, Object>> consumer,
+      RequestContext context);
+
   /**
    * Method to update the record on basis of composite primary key.
    *
@@ -264,6 +304,38 @@ public interface CassandraOperation {
       List<String> fields,
       RequestContext context);
 
+  /**
+   * Method to get record by primary key as an object of given class. Columns are copied into the
+   * fields of the same name, the field annotated with PartitioningKey (id if none) is used as
+   * primary key.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param key Primary key
+   * @param clazz Model class of the record
+   * @param context
+   * @return Matched record, null if not found
+   */
+  <T> T getRecordObjById(
+      String keyspaceName, String tableName, String key, Class<T> clazz, RequestContext context);
+
+  /**
+   * Fetch records for given column map (name, value pairs) as objects of given class.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param propertyMap Map describing columns to be used in where clause of select query.
+   * @param clazz Model class of the records
+   * @param context
+   * @return List of fetched records
+   */
+  <T> List<T> getRecordObjsByProperties(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> propertyMap,
+      Class<T> clazz,
+      RequestContext context);
+
   /**
    * Method to get record by primary key consisting of only specified fields (return all if null).
    *
@@ -336,7 +408,8 @@ public interface CassandraOperation {
       RequestContext context);
 
   /**
-   * Fetch records with specified columns for given identifiers.
+   * Fetch records with specified columns for given identifiers. Lists longer than the parallel read
+   * threshold are read with {@link #getRecordsByIdsInParallel} instead of one IN query.
    *
    * @param keyspaceName Keyspace name
    * @param tableName Table name
@@ -369,6 +442,43 @@ public interface CassandraOperation {
       String primaryKeyColumnName,
       RequestContext context);
 
+  /**
+   * Fetch records with specified columns for given identifiers, reading every identifier with its
+   * own single partition query instead of one IN query, so that the fan-out is spread over the
+   * coordinators. Records are returned in the order of the identifiers.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param properties List of columns to be returned in each record
+   * @param ids List of identifiers
+   * @param context
+   * @return Response consisting of fetched records
+   */
+  Response getRecordsByIdsInParallel(
+      String keyspaceName,
+      String tableName,
+      List<String> properties,
+      List<String> ids,
+      RequestContext context);
+
+  /**
+   * Fetch records for given primary keys, reading every key with its own single partition query
+   * instead of one IN query. Records are returned in the order of the keys.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param primaryKeys List of primary key values
+   * @param primaryKeyColumnName Name of the primary key column
+   * @param context
+   * @return Response consisting of fetched records
+   */
+  Response getRecordsByPrimaryKeysInParallel(
+      String keyspaceName,
+      String tableName,
+      List<String> primaryKeys,
+      String primaryKeyColumnName,
+      RequestContext context);
+
   /**
    * Insert record with TTL expiration
    *
@@ -552,4 +662,127 @@ public interface CassandraOperation {
       String tableName,
       Map<String, Object> partitionKeyMap,
       RequestContext context);
+
+  /**
+   * Asynchronous variant of {@link #getRecordById(String, String, String, List, RequestContext)}.
+   * The returned stage completes exceptionally with {@link
+   * org.sunbird.exception.ProjectCommonException} on failure.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param key Primary key value
+   * @param fields List of columns to fetch, all columns are fetched if empty
+   * @param context
+   * @return CompletionStage of Response consisting of fetched record
+   */
+  CompletionStage<Response> getRecordByIdAsync(
+      String keyspaceName,
+      String tableName,
+      String key,
+      List<String> fields,
+      RequestContext context);
+
+  /**
+   * Asynchronous variant of {@link #getRecordById(String, String, Map, List, RequestContext)}.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param key Column map for composite primary key
+   * @param fields List of columns to fetch, all columns are fetched if empty
+   * @param context
+   * @return CompletionStage of Response consisting of fetched records
+   */
+  CompletionStage<Response> getRecordByIdAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> key,
+      List<String> fields,
+      RequestContext context);
+
+  /**
+   * Asynchronous variant of {@link #getRecordsByProperties(String, String, Map, List,
+   * RequestContext)}.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param propertyMap Map of properties using which records are fetched
+   * @param fields List of columns to fetch, all columns are fetched if empty
+   * @param context
+   * @return CompletionStage of Response consisting of fetched records
+   */
+  CompletionStage<Response> getRecordsByPropertiesAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> propertyMap,
+      List<String> fields,
+      RequestContext context);
+
+  /**
+   * Asynchronous variant of {@link #getPropertiesValueById(String, String, List, List,
+   * RequestContext)}.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param ids List of primary key values
+   * @param properties List of columns to fetch, all columns are fetched if empty
+   * @param context
+   * @return CompletionStage of Response consisting of fetched records
+   */
+  CompletionStage<Response> getPropertiesValueByIdAsync(
+      String keyspaceName,
+      String tableName,
+      List<String> ids,
+      List<String> properties,
+      RequestContext context);
+
+  /**
+   * Asynchronous variant of {@link #insertRecord(String, String, Map, RequestContext)}.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param request Map<String,Object>(i.e map of column name and their value)
+   * @param context
+   * @return CompletionStage of Response
+   */
+  CompletionStage<Response> insertRecordAsync(
+      String keyspaceName, String tableName, Map<String, Object> request, RequestContext context);
+
+  /**
+   * Asynchronous variant of {@link #upsertRecord(String, String, Map, RequestContext)}.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param request Map<String,Object>(i.e map of column name and their value)
+   * @param context
+   * @return CompletionStage of Response
+   */
+  CompletionStage<Response> upsertRecordAsync(
+      String keyspaceName, String tableName, Map<String, Object> request, RequestContext context);
+
+  /**
+   * Asynchronous variant of {@link #updateRecord(String, String, Map, RequestContext)}.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param request Map<String,Object>(i.e map of column name and their value)
+   * @param context
+   * @return CompletionStage of Response
+   */
+  CompletionStage<Response> updateRecordAsync(
+      String keyspaceName, String tableName, Map<String, Object> request, RequestContext context);
+
+  /**
+   * Asynchronous variant of {@link #batchInsert(String, String, List, RequestContext)}.
+   *
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param records List of records in the batch insert operation
+   * @param context
+   * @return CompletionStage of Response indicating status of operation
+   */
+  CompletionStage<Response> batchInsertAsync(
+      String keyspaceName,
+      String tableName,
+      List<Map<String, Object>> records,
+      RequestContext context);
 }
@@ -10,13 +10,13 @@ import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executors;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.sunbird.common.CassandraUtil;
 import org.sunbird.common.Constants;
 import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.exception.ResponseCode;
+import org.sunbird.helper.CassandraConnectionManagerImpl;
 import org.sunbird.logging.LoggerUtil;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
@@ -57,6 +57,7 @@ public class CassandraDACImpl extends CassandraOperationImpl {
       results = session.execute(select);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
+      recordQueryError("getRecords", table);
       logger.error(context, Constants.EXCEPTION_MSG_FETCH + table + " : " + e.getMessage(), e);
       throw new ProjectCommonException(
           ResponseCode.serverError,
@@ -64,7 +65,7 @@ public class CassandraDACImpl extends CassandraOperationImpl {
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != select) {
-        logQueryElapseTime("getRecords", startTime, select.getQueryString(), context);
+        logQueryElapseTime("getRecords", table, startTime, select, context);
       }
     }
     return response;
@@ -99,8 +100,9 @@ public class CassandraDACImpl extends CassandraOperationImpl {
         }
       }
       ResultSetFuture future = session.executeAsync(select);
-      Futures.addCallback(future, callback, Executors.newFixedThreadPool(1));
+      Futures.addCallback(future, callback, CassandraConnectionManagerImpl.getCallbackExecutor());
     } catch (Exception e) {
+      recordQueryError("applyOperationOnRecordsAsync", table);
       logger.error(context, Constants.EXCEPTION_MSG_FETCH + table + " : " + e.getMessage(), e);
       throw new ProjectCommonException(
           ResponseCode.serverError,
@@ -108,8 +110,7 @@ public class CassandraDACImpl extends CassandraOperationImpl {
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != select) {
-        logQueryElapseTime(
-            "applyOperationOnRecordsAsync", startTime, select.getQueryString(), context);
+        logQueryElapseTime("applyOperationOnRecordsAsync", table, startTime, select, context);
       }
     }
   }
@@ -175,6 +176,7 @@ public class CassandraDACImpl extends CassandraOperationImpl {
       response.put(Constants.RESPONSE, Constants.SUCCESS);
       return response;
     } catch (Exception e) {
+      recordQueryError("updateMapRecord", table);
       logger.error(context, Constants.EXCEPTION_MSG_FETCH + table + " : " + e.getMessage(), e);
       throw new ProjectCommonException(
           ResponseCode.serverError,
@@ -182,7 +184,7 @@ public class CassandraDACImpl extends CassandraOperationImpl {
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != update) {
-        logQueryElapseTime("updateMapRecord", startTime, update.getQueryString(), context);
+        logQueryElapseTime("updateMapRecord", table, startTime, update, context);
       }
     }
   }
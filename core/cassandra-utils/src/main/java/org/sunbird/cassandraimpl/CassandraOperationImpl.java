@@ -11,20 +11,45 @@ import com.datastax.driver.core.querybuilder.Select.Builder;
 import com.datastax.driver.core.querybuilder.Select.Selection;
 import com.datastax.driver.core.querybuilder.Select.Where;
 import com.datastax.driver.core.querybuilder.Update.Assignments;
-import java.text.MessageFormat;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.cassandra.CassandraOperation;
+import org.sunbird.common.CassandraMetrics;
+import org.sunbird.common.CassandraPropertyReader;
+import org.sunbird.common.CassandraRowMapper;
 import org.sunbird.common.CassandraUtil;
 import org.sunbird.common.Constants;
+import org.sunbird.common.PreparedStatementCache;
 import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.exception.ResponseCode;
 import org.sunbird.helper.CassandraConnectionManager;
+import org.sunbird.helper.CassandraConnectionManagerImpl;
 import org.sunbird.helper.CassandraConnectionMngrFactory;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.logging.LoggerUtil;
@@ -34,6 +59,10 @@ import org.sunbird.response.Response;
 /** This class will hold functions for cassandra db interaction */
 public abstract class CassandraOperationImpl implements CassandraOperation {
 
+  private static final int DEFAULT_FETCH_SIZE = 500;
+  private static final int DEFAULT_PARALLEL_READ_THRESHOLD = 100;
+  private static final int DEFAULT_PARALLEL_READ_MAX_IN_FLIGHT = 32;
+
   protected CassandraConnectionManager connectionManager;
   private final LoggerUtil logger = new LoggerUtil(CassandraOperationImpl.class);
 
@@ -49,45 +78,62 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     Response response = new Response();
     String query = CassandraUtil.getPreparedStatement(keyspaceName, tableName, request);
     try {
-      PreparedStatement statement = connectionManager.getSession(keyspaceName).prepare(query);
-      BoundStatement boundStatement = new BoundStatement(statement);
-      Iterator<Object> iterator = request.values().iterator();
-      Object[] array = new Object[request.keySet().size()];
-      int i = 0;
-      while (iterator.hasNext()) {
-        array[i++] = iterator.next();
-      }
-      connectionManager.getSession(keyspaceName).execute(boundStatement.bind(array));
+      connectionManager
+          .getSession(keyspaceName)
+          .execute(bindInsertStatement(keyspaceName, query, request));
       response.put(Constants.RESPONSE, Constants.SUCCESS);
       if (tableName.equalsIgnoreCase(JsonKey.USER)) {
         logger.info(context, "Cassandra Service insertRecord in user table :" + request);
       }
     } catch (Exception e) {
-      if (e.getMessage().contains(JsonKey.UNKNOWN_IDENTIFIER)
-          || e.getMessage().contains(JsonKey.UNDEFINED_IDENTIFIER)) {
-        logger.error(
-            context,
-            "Exception occurred while inserting record to " + tableName + " : " + e.getMessage(),
-            e);
-        throw new ProjectCommonException(
-            ResponseCode.invalidPropertyError,
-            CassandraUtil.processExceptionForUnknownIdentifier(e),
-            ResponseCode.CLIENT_ERROR.getResponseCode());
-      }
-      logger.error(
-          context,
-          "Exception occurred while inserting record to " + tableName + " : " + e.getMessage(),
-          e);
-      throw new ProjectCommonException(
-          ResponseCode.serverError,
-          "DB insert operation failed.",
-          ResponseCode.SERVER_ERROR.getResponseCode());
+      recordQueryError("insertRecord", tableName);
+      throw handleInsertException(tableName, e, context);
     } finally {
-      logQueryElapseTime("insertRecord", startTime, query, context);
+      logQueryElapseTime("insertRecord", tableName, startTime, query, context);
     }
     return response;
   }
 
+  private BoundStatement bindInsertStatement(
+      String keyspaceName, String query, Map<String, Object> request) {
+    PreparedStatement statement =
+        PreparedStatementCache.getInstance()
+            .getPreparedStatement(connectionManager.getSession(keyspaceName), keyspaceName, query);
+    BoundStatement boundStatement = new BoundStatement(statement);
+    Iterator<Object> iterator = request.values().iterator();
+    Object[] array = new Object[request.keySet().size()];
+    int i = 0;
+    while (iterator.hasNext()) {
+      array[i++] = iterator.next();
+    }
+    return boundStatement.bind(array);
+  }
+
+  private ProjectCommonException handleInsertException(
+      String tableName, Throwable e, RequestContext context) {
+    logger.error(
+        context,
+        "Exception occurred while inserting record to " + tableName + " : " + e.getMessage(),
+        e);
+    if (isUnknownIdentifierException(e)) {
+      return new ProjectCommonException(
+          ResponseCode.invalidPropertyError,
+          CassandraUtil.processExceptionForUnknownIdentifier((Exception) e),
+          ResponseCode.CLIENT_ERROR.getResponseCode());
+    }
+    return new ProjectCommonException(
+        ResponseCode.serverError,
+        "DB insert operation failed.",
+        ResponseCode.SERVER_ERROR.getResponseCode());
+  }
+
+  private boolean isUnknownIdentifierException(Throwable e) {
+    return e instanceof Exception
+        && null != e.getMessage()
+        && (e.getMessage().contains(JsonKey.UNKNOWN_IDENTIFIER)
+            || e.getMessage().contains(JsonKey.UNDEFINED_IDENTIFIER));
+  }
+
   @Override
   public Response updateRecord(
       String keyspaceName, String tableName, Map<String, Object> request, RequestContext context) {
@@ -96,46 +142,60 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     Response response = new Response();
     String query = CassandraUtil.getUpdateQueryStatement(keyspaceName, tableName, request);
     try {
-      PreparedStatement statement = connectionManager.getSession(keyspaceName).prepare(query);
-      Object[] array = new Object[request.size()];
-      int i = 0;
-      String str = "";
-      int index = query.lastIndexOf(Constants.SET.trim());
-      str = query.substring(index + 4);
-      str = str.replace(Constants.EQUAL_WITH_QUE_MARK, "");
-      str = str.replace(Constants.WHERE_ID, "");
-      str = str.replace(Constants.SEMICOLON, "");
-      String[] arr = str.split(",");
-      for (String key : arr) {
-        array[i++] = request.get(key.trim());
-      }
-      array[i] = request.get(Constants.IDENTIFIER);
-      BoundStatement boundStatement = statement.bind(array);
-      connectionManager.getSession(keyspaceName).execute(boundStatement);
+      connectionManager
+          .getSession(keyspaceName)
+          .execute(bindUpdateStatement(keyspaceName, query, request));
       response.put(Constants.RESPONSE, Constants.SUCCESS);
       if (tableName.equalsIgnoreCase(JsonKey.USER)) {
         logger.info(context, "Cassandra Service updateRecord in user table :" + request);
       }
     } catch (Exception e) {
-      if (e.getMessage().contains(JsonKey.UNKNOWN_IDENTIFIER)) {
-        logger.error(
-            context, Constants.EXCEPTION_MSG_UPDATE + tableName + " : " + e.getMessage(), e);
-        throw new ProjectCommonException(
-            ResponseCode.invalidPropertyError,
-            CassandraUtil.processExceptionForUnknownIdentifier(e),
-            ResponseCode.CLIENT_ERROR.getResponseCode());
-      }
-      logger.error(context, Constants.EXCEPTION_MSG_UPDATE + tableName + " : " + e.getMessage(), e);
-      throw new ProjectCommonException(
-          ResponseCode.serverError,
-          "Db update operation failed.",
-          ResponseCode.SERVER_ERROR.getResponseCode());
+      recordQueryError("updateRecord", tableName);
+      throw handleUpdateException(tableName, e, context);
     } finally {
-      logQueryElapseTime("updateRecord", startTime, query, context);
+      logQueryElapseTime("updateRecord", tableName, startTime, query, context);
     }
     return response;
   }
 
+  private BoundStatement bindUpdateStatement(
+      String keyspaceName, String query, Map<String, Object> request) {
+    PreparedStatement statement =
+        PreparedStatementCache.getInstance()
+            .getPreparedStatement(connectionManager.getSession(keyspaceName), keyspaceName, query);
+    Object[] array = new Object[request.size()];
+    int i = 0;
+    String str = "";
+    int index = query.lastIndexOf(Constants.SET.trim());
+    str = query.substring(index + 4);
+    str = str.replace(Constants.EQUAL_WITH_QUE_MARK, "");
+    str = str.replace(Constants.WHERE_ID, "");
+    str = str.replace(Constants.SEMICOLON, "");
+    String[] arr = str.split(",");
+    for (String key : arr) {
+      array[i++] = request.get(key.trim());
+    }
+    array[i] = request.get(Constants.IDENTIFIER);
+    return statement.bind(array);
+  }
+
+  private ProjectCommonException handleUpdateException(
+      String tableName, Throwable e, RequestContext context) {
+    logger.error(context, Constants.EXCEPTION_MSG_UPDATE + tableName + " : " + e.getMessage(), e);
+    if (e instanceof Exception
+        && null != e.getMessage()
+        && e.getMessage().contains(JsonKey.UNKNOWN_IDENTIFIER)) {
+      return new ProjectCommonException(
+          ResponseCode.invalidPropertyError,
+          CassandraUtil.processExceptionForUnknownIdentifier((Exception) e),
+          ResponseCode.CLIENT_ERROR.getResponseCode());
+    }
+    return new ProjectCommonException(
+        ResponseCode.serverError,
+        "Db update operation failed.",
+        ResponseCode.SERVER_ERROR.getResponseCode());
+  }
+
   @Override
   public Response deleteRecord(
       String keyspaceName, String tableName, String identifier, RequestContext context) {
@@ -151,6 +211,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       connectionManager.getSession(keyspaceName).execute(delete);
       response.put(Constants.RESPONSE, Constants.SUCCESS);
     } catch (Exception e) {
+      recordQueryError("deleteRecord", tableName);
       logger.error(context, Constants.EXCEPTION_MSG_DELETE + tableName + " : " + e.getMessage(), e);
       throw new ProjectCommonException(
           ResponseCode.serverError,
@@ -158,7 +219,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != delete) {
-        logQueryElapseTime("deleteRecord", startTime, delete.getQueryString(), context);
+        logQueryElapseTime("deleteRecord", tableName, startTime, delete, context);
       }
     }
     return response;
@@ -185,6 +246,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       ResultSet results = connectionManager.getSession(keyspaceName).execute(selectStatement);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
+      recordQueryError("getRecordsByProperty", tableName);
       logger.error(context, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
       throw new ProjectCommonException(
           ResponseCode.serverError,
@@ -192,7 +254,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != selectStatement) {
-        logQueryElapseTime("getRecordsByProperty", startTime, selectStatement.toString(), context);
+        logQueryElapseTime("getRecordsByProperty", tableName, startTime, selectStatement, context);
       }
     }
     return response;
@@ -211,45 +273,51 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     Response response;
     Select selectQuery = null;
     try {
-      Builder selectBuilder;
-      if (CollectionUtils.isNotEmpty(fields)) {
-        String[] dbFields = fields.toArray(new String[fields.size()]);
-        selectBuilder = QueryBuilder.select(dbFields);
-      } else {
-        selectBuilder = QueryBuilder.select().all();
-      }
-      selectQuery = selectBuilder.from(keyspaceName, tableName);
-      if (MapUtils.isNotEmpty(propertyMap)) {
-        Where selectWhere = selectQuery.where();
-        for (Entry<String, Object> entry : propertyMap.entrySet()) {
-          if (entry.getValue() instanceof List) {
-            List<Object> list = (List) entry.getValue();
-            if (null != list) {
-              Object[] propertyValues = list.toArray(new Object[list.size()]);
-              Clause clause = QueryBuilder.in(entry.getKey(), propertyValues);
-              selectWhere.and(clause);
-            }
-          } else {
-            Clause clause = eq(entry.getKey(), entry.getValue());
-            selectWhere.and(clause);
-          }
-        }
-      }
+      selectQuery = createSelectByProperties(keyspaceName, tableName, propertyMap, fields);
       ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
+      recordQueryError("getRecordsByProperties", tableName);
       logger.error(context, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
       throw new ProjectCommonException(
           ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != selectQuery) {
-        logQueryElapseTime(
-            "getRecordsByProperties", startTime, selectQuery.getQueryString(), context);
+        logQueryElapseTime("getRecordsByProperties", tableName, startTime, selectQuery, context);
       }
     }
     return response;
   }
 
+  private Select createSelectByProperties(
+      String keyspaceName, String tableName, Map<String, Object> propertyMap, List<String> fields) {
+    Builder selectBuilder;
+    if (CollectionUtils.isNotEmpty(fields)) {
+      String[] dbFields = fields.toArray(new String[fields.size()]);
+      selectBuilder = QueryBuilder.select(dbFields);
+    } else {
+      selectBuilder = QueryBuilder.select().all();
+    }
+    Select selectQuery = selectBuilder.from(keyspaceName, tableName);
+    if (MapUtils.isNotEmpty(propertyMap)) {
+      Where selectWhere = selectQuery.where();
+      for (Entry<String, Object> entry : propertyMap.entrySet()) {
+        if (entry.getValue() instanceof List) {
+          List<Object> list = (List) entry.getValue();
+          if (null != list) {
+            Object[] propertyValues = list.toArray(new Object[list.size()]);
+            Clause clause = QueryBuilder.in(entry.getKey(), propertyValues);
+            selectWhere.and(clause);
+          }
+        } else {
+          Clause clause = eq(entry.getKey(), entry.getValue());
+          selectWhere.and(clause);
+        }
+      }
+    }
+    return selectQuery;
+  }
+
   @Override
   public Response getRecordsByProperties(
       String keyspaceName,
@@ -273,18 +341,22 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     String selectQuery = null;
     try {
       selectQuery = CassandraUtil.getSelectStatement(keyspaceName, tableName, properties);
-      PreparedStatement statement = connectionManager.getSession(keyspaceName).prepare(selectQuery);
+      PreparedStatement statement =
+          PreparedStatementCache.getInstance()
+              .getPreparedStatement(
+                  connectionManager.getSession(keyspaceName), keyspaceName, selectQuery);
       BoundStatement boundStatement = new BoundStatement(statement);
       ResultSet results =
           connectionManager.getSession(keyspaceName).execute(boundStatement.bind(id));
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
+      recordQueryError("getPropertiesValueById", tableName);
       logger.error(context, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
       throw new ProjectCommonException(
           ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != selectQuery) {
-        logQueryElapseTime("getPropertiesValueById", startTime, selectQuery, context);
+        logQueryElapseTime("getPropertiesValueById", tableName, startTime, selectQuery, context);
       }
     }
     return response;
@@ -303,31 +375,37 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     Response response;
     Select selectQuery = null;
     try {
-      Builder selectBuilder;
-      if (CollectionUtils.isNotEmpty(properties)) {
-        String[] dbFields = properties.toArray(new String[properties.size()]);
-        selectBuilder = QueryBuilder.select(dbFields);
-      } else {
-        selectBuilder = QueryBuilder.select().all();
-      }
-      selectQuery = selectBuilder.from(keyspaceName, tableName);
-      selectQuery.where(QueryBuilder.in(JsonKey.ID, ids));
+      selectQuery = createSelectByIds(keyspaceName, tableName, ids, properties);
       ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
 
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
+      recordQueryError("getPropertiesValueById", tableName);
       logger.error(context, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
       throw new ProjectCommonException(
           ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != selectQuery) {
-        logQueryElapseTime(
-            "getPropertiesValueById", startTime, selectQuery.getQueryString(), context);
+        logQueryElapseTime("getPropertiesValueById", tableName, startTime, selectQuery, context);
       }
     }
     return response;
   }
 
+  private Select createSelectByIds(
+      String keyspaceName, String tableName, List<String> ids, List<String> properties) {
+    Builder selectBuilder;
+    if (CollectionUtils.isNotEmpty(properties)) {
+      String[] dbFields = properties.toArray(new String[properties.size()]);
+      selectBuilder = QueryBuilder.select(dbFields);
+    } else {
+      selectBuilder = QueryBuilder.select().all();
+    }
+    Select selectQuery = selectBuilder.from(keyspaceName, tableName);
+    selectQuery.where(QueryBuilder.in(JsonKey.ID, ids));
+    return selectQuery;
+  }
+
   @Override
   public Response getAllRecords(String keyspaceName, String tableName, RequestContext context) {
     return getAllRecords(keyspaceName, tableName, null, context);
@@ -349,20 +427,227 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
         selectBuilder = QueryBuilder.select().all();
       }
       selectQuery = selectBuilder.from(keyspaceName, tableName);
+      // a scan of the whole table, paged like the other scans
+      selectQuery.setFetchSize(getAllRecordsFetchSize());
       ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
+      recordQueryError("getAllRecords", tableName);
       logger.error(context, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
       throw new ProjectCommonException(
           ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != selectQuery) {
-        logQueryElapseTime("getAllRecords", startTime, selectQuery.getQueryString(), context);
+        logQueryElapseTime("getAllRecords", tableName, startTime, selectQuery, context);
       }
     }
     return response;
   }
 
+  @Override
+  public Stream<Map<String, Object>> getAllRecordsAsStream(
+      String keyspaceName,
+      String tableName,
+      List<String> fields,
+      int fetchSize,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    logger.debug(
+        context, "Cassandra Service getAllRecordsAsStream method started at ==" + startTime);
+    int pageSize = fetchSize > 0 ? fetchSize : getAllRecordsFetchSize();
+    Select selectQuery = null;
+    try {
+      Builder selectBuilder;
+      if (CollectionUtils.isNotEmpty(fields)) {
+        selectBuilder = QueryBuilder.select(fields.toArray(new String[fields.size()]));
+      } else {
+        selectBuilder = QueryBuilder.select().all();
+      }
+      selectQuery = selectBuilder.from(keyspaceName, tableName);
+      selectQuery.setFetchSize(pageSize);
+      ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
+      return StreamSupport.stream(
+          Spliterators.spliteratorUnknownSize(
+              new PagingRowIterator(results, pageSize), Spliterator.ORDERED | Spliterator.NONNULL),
+          false);
+    } catch (Exception e) {
+      recordQueryError("getAllRecordsAsStream", tableName);
+      logger.error(context, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
+      throw new ProjectCommonException(
+          ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
+    } finally {
+      if (null != selectQuery) {
+        logQueryElapseTime("getAllRecordsAsStream", tableName, startTime, selectQuery, context);
+      }
+    }
+  }
+
+  @Override
+  public void scanAllRecords(
+      String keyspaceName,
+      String tableName,
+      List<String> fields,
+      Consumer<Map<String, Object>> consumer,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    logger.debug(context, "Cassandra Service scanAllRecords method started at ==" + startTime);
+    Session session = connectionManager.getSession(keyspaceName);
+    Metadata metadata = session.getCluster().getMetadata();
+    KeyspaceMetadata keyspaceMetadata = metadata.getKeyspace(keyspaceName);
+    TableMetadata tableMetadata =
+        null != keyspaceMetadata ? keyspaceMetadata.getTable(tableName) : null;
+    if (null == tableMetadata) {
+      logger.info(context, "scanAllRecords: table metadata not found for " + tableName);
+      ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR);
+    }
+    String tokenColumn =
+        "token("
+            + tableMetadata
+                .getPartitionKey()
+                .stream()
+                .map(column -> Metadata.quoteIfNecessary(column.getName()))
+                .collect(Collectors.joining(","))
+            + ")";
+    String selection = CollectionUtils.isNotEmpty(fields) ? String.join(",", fields) : "*";
+    String query =
+        Constants.SELECT
+            + selection
+            + Constants.FROM
+            + keyspaceName
+            + Constants.DOT
+            + tableName
+            + Constants.WHERE;
+    int pageSize = getAllRecordsFetchSize();
+    List<Statement> statements = new ArrayList<>();
+    for (TokenRange range : metadata.getTokenRanges()) {
+      statements.addAll(
+          createTokenRangeStatements(session, keyspaceName, query, tokenColumn, range));
+    }
+    // at most parallelism ranges of this scan are read at a time, by workers which take the
+    // ranges one after another from the queue of the scan
+    Queue<Statement> pending = new ConcurrentLinkedQueue<>(statements);
+    int parallelism =
+        Math.min(statements.size(), CassandraConnectionManagerImpl.getScanParallelism());
+    try {
+      List<CompletableFuture<Void>> futures = new ArrayList<>();
+      for (int i = 0; i < parallelism; i++) {
+        futures.add(
+            CompletableFuture.runAsync(
+                () -> readTokenRanges(session, pending, pageSize, consumer),
+                CassandraConnectionManagerImpl.getScanExecutor()));
+      }
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+    } catch (InterruptedException e) {
+      recordQueryError("scanAllRecords", tableName);
+      Thread.currentThread().interrupt();
+      logger.error(context, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
+      throw new ProjectCommonException(
+          ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
+    } catch (ExecutionException e) {
+      recordQueryError("scanAllRecords", tableName);
+      logger.error(
+          context,
+          Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getCause().getMessage(),
+          e.getCause());
+      throw new ProjectCommonException(
+          ResponseCode.serverError,
+          e.getCause().getMessage(),
+          ResponseCode.SERVER_ERROR.getResponseCode());
+    } finally {
+      logQueryElapseTime("scanAllRecords", tableName, startTime, query, context);
+    }
+  }
+
+  private void readTokenRanges(
+      Session session,
+      Queue<Statement> pending,
+      int pageSize,
+      Consumer<Map<String, Object>> consumer) {
+    Statement statement;
+    while (null != (statement = pending.poll())) {
+      try {
+        statement.setFetchSize(pageSize);
+        ResultSet results = session.execute(statement);
+        new PagingRowIterator(results, pageSize).forEachRemaining(consumer);
+      } catch (RuntimeException e) {
+        // the scan fails, so the other workers need not read the remaining ranges
+        pending.clear();
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * A range that wraps around the ring, or covers the whole ring when start equals end, is read
+   * with two open ended queries, as a single bounded query on such a range matches nothing.
+   */
+  private List<Statement> createTokenRangeStatements(
+      Session session, String keyspaceName, String query, String tokenColumn, TokenRange range) {
+    PreparedStatementCache cache = PreparedStatementCache.getInstance();
+    String lowerBound = tokenColumn + " > ?";
+    String upperBound = tokenColumn + " <= ?";
+    List<Statement> statements = new ArrayList<>();
+    if (range.isWrappedAround() || range.getStart().equals(range.getEnd())) {
+      statements.add(
+          cache
+              .getPreparedStatement(session, keyspaceName, query + lowerBound)
+              .bind()
+              .setToken(0, range.getStart()));
+      statements.add(
+          cache
+              .getPreparedStatement(session, keyspaceName, query + upperBound)
+              .bind()
+              .setToken(0, range.getEnd()));
+    } else {
+      statements.add(
+          cache
+              .getPreparedStatement(
+                  session, keyspaceName, query + lowerBound + " AND " + upperBound)
+              .bind()
+              .setToken(0, range.getStart())
+              .setToken(1, range.getEnd()));
+    }
+    return statements;
+  }
+
+  private int getAllRecordsFetchSize() {
+    return CassandraPropertyReader.getInstance()
+        .getIntProperty(Constants.ALL_RECORDS_FETCH_SIZE, DEFAULT_FETCH_SIZE);
+  }
+
+  /**
+   * Iterator over a paged result set which converts each row into a map and triggers the fetch of
+   * the next page in background once the current page is three quarters consumed.
+   */
+  private static class PagingRowIterator implements Iterator<Map<String, Object>> {
+    private final ResultSet results;
+    private final Map<String, String> columnsMapping;
+    private final int prefetchThreshold;
+
+    PagingRowIterator(ResultSet results, int fetchSize) {
+      this.results = results;
+      this.columnsMapping = CassandraUtil.fetchColumnsMapping(results);
+      this.prefetchThreshold = Math.max(1, fetchSize / 4);
+    }
+
+    @Override
+    public boolean hasNext() {
+      return !results.isExhausted();
+    }
+
+    @Override
+    public Map<String, Object> next() {
+      if (results.getAvailableWithoutFetching() == prefetchThreshold && !results.isFullyFetched()) {
+        results.fetchMoreResults();
+      }
+      Row row = results.one();
+      if (null == row) {
+        throw new NoSuchElementException();
+      }
+      return CassandraUtil.createRowMap(row, columnsMapping);
+    }
+  }
+
   @Override
   public Response upsertRecord(
       String keyspaceName, String tableName, Map<String, Object> request, RequestContext context) {
@@ -372,39 +657,39 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     String query = "";
     try {
       query = CassandraUtil.getPreparedStatement(keyspaceName, tableName, request);
-      PreparedStatement statement = connectionManager.getSession(keyspaceName).prepare(query);
-      BoundStatement boundStatement = new BoundStatement(statement);
-      Iterator<Object> iterator = request.values().iterator();
-      Object[] array = new Object[request.keySet().size()];
-      int i = 0;
-      while (iterator.hasNext()) {
-        array[i++] = iterator.next();
-      }
-      connectionManager.getSession(keyspaceName).execute(boundStatement.bind(array));
+      connectionManager
+          .getSession(keyspaceName)
+          .execute(bindInsertStatement(keyspaceName, query, request));
       response.put(Constants.RESPONSE, Constants.SUCCESS);
       if (tableName.equalsIgnoreCase(JsonKey.USER)) {
         logger.info(context, "Cassandra Service upsertRecord in user table :" + request);
       }
     } catch (Exception e) {
-      if (e.getMessage().contains(JsonKey.UNKNOWN_IDENTIFIER)) {
-        logger.error(
-            context, Constants.EXCEPTION_MSG_UPSERT + tableName + " : " + e.getMessage(), e);
-        throw new ProjectCommonException(
-            ResponseCode.invalidPropertyError,
-            CassandraUtil.processExceptionForUnknownIdentifier(e),
-            ResponseCode.CLIENT_ERROR.getResponseCode());
-      }
-      logger.error(context, Constants.EXCEPTION_MSG_UPSERT + tableName + " : " + e.getMessage(), e);
-      throw new ProjectCommonException(
-          ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
+      recordQueryError("upsertRecord", tableName);
+      throw handleUpsertException(tableName, e, context);
     } finally {
       if (null != query) {
-        logQueryElapseTime("upsertRecord", startTime, query, context);
+        logQueryElapseTime("upsertRecord", tableName, startTime, query, context);
       }
     }
     return response;
   }
 
+  private ProjectCommonException handleUpsertException(
+      String tableName, Throwable e, RequestContext context) {
+    logger.error(context, Constants.EXCEPTION_MSG_UPSERT + tableName + " : " + e.getMessage(), e);
+    if (e instanceof Exception
+        && null != e.getMessage()
+        && e.getMessage().contains(JsonKey.UNKNOWN_IDENTIFIER)) {
+      return new ProjectCommonException(
+          ResponseCode.invalidPropertyError,
+          CassandraUtil.processExceptionForUnknownIdentifier((Exception) e),
+          ResponseCode.CLIENT_ERROR.getResponseCode());
+    }
+    return new ProjectCommonException(
+        ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
+  }
+
   @Override
   public Response updateRecord(
       String keyspaceName,
@@ -440,6 +725,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       session.execute(updateQuery);
       response.put(Constants.RESPONSE, Constants.SUCCESS);
     } catch (Exception e) {
+      recordQueryError("updateRecord", tableName);
       logger.error(context, Constants.EXCEPTION_MSG_UPDATE + tableName + " : " + e.getMessage(), e);
       if (e.getMessage().contains(JsonKey.UNKNOWN_IDENTIFIER)) {
         throw new ProjectCommonException(
@@ -453,7 +739,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != updateQuery) {
-        logQueryElapseTime("updateRecord", startTime, updateQuery.toString(), context);
+        logQueryElapseTime("updateRecord", tableName, startTime, updateQuery, context);
       }
     }
     return response;
@@ -471,50 +757,63 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     Where selectWhereQuery = null;
     try {
       Session session = connectionManager.getSession(keyspaceName);
-      Builder selectBuilder;
-      if (CollectionUtils.isNotEmpty(fields)) {
-        selectBuilder = QueryBuilder.select(fields.toArray(new String[fields.size()]));
-      } else {
-        selectBuilder = QueryBuilder.select().all();
-      }
-      Select selectQuery = selectBuilder.from(keyspaceName, tableName);
-      Where selectWhere = selectQuery.where();
-      if (key instanceof String) {
-        if (StringUtils.isBlank(String.valueOf(key))) {
-          logger.info(context, "primary key is empty or null");
-          ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR);
-        }
-        selectWhere.and(eq(Constants.IDENTIFIER, key));
-      } else if (key instanceof Map) {
-        if (MapUtils.isEmpty((Map) key)) {
-          logger.info(context, "primary composite key is empty or null");
-          ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR);
-        }
-        Map<String, Object> compositeKey = (Map<String, Object>) key;
-        compositeKey
-            .entrySet()
-            .stream()
-            .forEach(
-                x -> {
-                  CassandraUtil.createQuery(x.getKey(), x.getValue(), selectWhere);
-                });
-      }
+      Where selectWhere = createSelectByIdentifier(keyspaceName, tableName, key, fields, context);
       selectWhereQuery = selectWhere;
       ResultSet results = session.execute(selectWhere);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
+      recordQueryError("getRecordByIdentifier", tableName);
       logger.error(context, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
       throw new ProjectCommonException(
           ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != selectWhereQuery) {
         logQueryElapseTime(
-            "getRecordByIdentifier", startTime, selectWhereQuery.getQueryString(), context);
+            "getRecordByIdentifier", tableName, startTime, selectWhereQuery, context);
       }
     }
     return response;
   }
 
+  private Where createSelectByIdentifier(
+      String keyspaceName,
+      String tableName,
+      Object key,
+      List<String> fields,
+      RequestContext context) {
+    Builder selectBuilder;
+    if (CollectionUtils.isNotEmpty(fields)) {
+      selectBuilder = QueryBuilder.select(fields.toArray(new String[fields.size()]));
+    } else {
+      selectBuilder = QueryBuilder.select().all();
+    }
+    Select selectQuery = selectBuilder.from(keyspaceName, tableName);
+    Where selectWhere = selectQuery.where();
+    if (key instanceof String) {
+      if (StringUtils.isBlank(String.valueOf(key))) {
+        logger.info(context, "primary key is empty or null");
+        ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR);
+      }
+      selectWhere.and(eq(Constants.IDENTIFIER, key));
+    } else if (key instanceof Map) {
+      if (MapUtils.isEmpty((Map) key)) {
+        logger.info(context, "primary composite key is empty or null");
+        ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR);
+      }
+      Map<String, Object> compositeKey = (Map<String, Object>) key;
+      compositeKey
+          .entrySet()
+          .stream()
+          .forEach(
+              x -> {
+                CassandraUtil.createQuery(x.getKey(), x.getValue(), selectWhere);
+              });
+    }
+    // Reads by key are safe to retry on another replica, allowing speculative executions.
+    selectWhere.setIdempotent(true);
+    return selectWhere;
+  }
+
   @Override
   public Response getRecordById(
       String keyspaceName, String tableName, String key, RequestContext context) {
@@ -547,6 +846,61 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     return getRecordByIdentifier(keyspaceName, tableName, key, fields, context);
   }
 
+  @Override
+  public <T> T getRecordObjById(
+      String keyspaceName, String tableName, String key, Class<T> clazz, RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    logger.debug(context, "Cassandra Service getRecordObjById method started at ==" + startTime);
+    CassandraRowMapper<T> rowMapper = CassandraRowMapper.getInstance(clazz);
+    List<String> partitionKeys = rowMapper.getPartitionKeys();
+    Map<String, Object> primaryKey = new HashMap<>();
+    primaryKey.put(partitionKeys.size() == 1 ? partitionKeys.get(0) : Constants.IDENTIFIER, key);
+    Where selectWhereQuery = null;
+    try {
+      if (StringUtils.isBlank(key)) {
+        logger.info(context, "primary key is empty or null");
+        ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR);
+      }
+      selectWhereQuery =
+          createSelectByIdentifier(keyspaceName, tableName, primaryKey, null, context);
+      ResultSet results = connectionManager.getSession(keyspaceName).execute(selectWhereQuery);
+      List<T> records = rowMapper.map(results);
+      return records.isEmpty() ? null : records.get(0);
+    } catch (Exception e) {
+      recordQueryError("getRecordObjById", tableName);
+      throw handleReadException(tableName, e, context);
+    } finally {
+      if (null != selectWhereQuery) {
+        logQueryElapseTime("getRecordObjById", tableName, startTime, selectWhereQuery, context);
+      }
+    }
+  }
+
+  @Override
+  public <T> List<T> getRecordObjsByProperties(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> propertyMap,
+      Class<T> clazz,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    logger.debug(
+        context, "Cassandra Service getRecordObjsByProperties method started at ==" + startTime);
+    Select selectQuery = null;
+    try {
+      selectQuery = createSelectByProperties(keyspaceName, tableName, propertyMap, null);
+      ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
+      return CassandraRowMapper.getInstance(clazz).map(results);
+    } catch (Exception e) {
+      recordQueryError("getRecordObjsByProperties", tableName);
+      throw handleReadException(tableName, e, context);
+    } finally {
+      if (null != selectQuery) {
+        logQueryElapseTime("getRecordObjsByProperties", tableName, startTime, selectQuery, context);
+      }
+    }
+  }
+
   @Override
   public Response getRecordWithTTLById(
       String keyspaceName,
@@ -589,13 +943,14 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       ResultSet results = session.execute(selectWhere);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
+      recordQueryError("getRecordByIdentifier", tableName);
       logger.error(context, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
       throw new ProjectCommonException(
           ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != selectWhereQuery) {
         logQueryElapseTime(
-            "getRecordByIdentifier", startTime, selectWhereQuery.getQueryString(), context);
+            "getRecordByIdentifier", tableName, startTime, selectWhereQuery, context);
       }
     }
     return response;
@@ -613,34 +968,24 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
 
     Session session = connectionManager.getSession(keyspaceName);
     Response response = new Response();
-    BatchStatement batchStatement = new BatchStatement();
-    ResultSet resultSet = null;
+    PartitionedBatch batch = new PartitionedBatch(session, keyspaceName, tableName);
 
     try {
       for (Map<String, Object> map : records) {
-        Insert insert = QueryBuilder.insertInto(keyspaceName, tableName);
-        map.entrySet()
-            .stream()
-            .forEach(
-                x -> {
-                  insert.value(x.getKey(), x.getValue());
-                });
-        batchStatement.add(insert);
+        batch.add(map, createInsertStatement(keyspaceName, tableName, map));
       }
-      resultSet = session.execute(batchStatement);
+      batch.execute(context);
       response.put(Constants.RESPONSE, Constants.SUCCESS);
     } catch (QueryExecutionException
         | QueryValidationException
         | NoHostAvailableException
         | IllegalStateException e) {
+      recordQueryError("batchInsert", tableName);
       logger.error(context, "Cassandra Batch Insert Failed." + e.getMessage(), e);
       throw new ProjectCommonException(
           ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != batchStatement) {
-        logQueryElapseTime(
-            "batchInsert", startTime, batchStatement.getStatements().toString(), context);
-      }
+      logQueryElapseTime("batchInsert", tableName, startTime, batch.getStatements(), context);
     }
     return response;
   }
@@ -665,28 +1010,24 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     logger.debug(context, "Cassandra Service batchUpdateById method started at ==" + startTime);
     Session session = connectionManager.getSession(keyspaceName);
     Response response = new Response();
-    BatchStatement batchStatement = new BatchStatement();
-    ResultSet resultSet = null;
+    PartitionedBatch batch = new PartitionedBatch(session, keyspaceName, tableName);
 
     try {
       for (Map<String, Object> map : records) {
-        Update update = createUpdateStatement(keyspaceName, tableName, map);
-        batchStatement.add(update);
+        batch.add(map, createUpdateStatement(keyspaceName, tableName, map));
       }
-      resultSet = session.execute(batchStatement);
+      batch.execute(context);
       response.put(Constants.RESPONSE, Constants.SUCCESS);
     } catch (QueryExecutionException
         | QueryValidationException
         | NoHostAvailableException
         | IllegalStateException e) {
+      recordQueryError("batchUpdateById", tableName);
       logger.error(context, "Cassandra Batch Update Failed." + e.getMessage(), e);
       throw new ProjectCommonException(
           ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != batchStatement) {
-        logQueryElapseTime(
-            "batchUpdateById", startTime, batchStatement.getStatements().toString(), context);
-      }
+      logQueryElapseTime("batchUpdateById", tableName, startTime, batch.getStatements(), context);
     }
     return response;
   }
@@ -713,34 +1054,32 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
 
     Session session = connectionManager.getSession(keySpaceName);
     Response response = new Response();
-    BatchStatement batchStatement = new BatchStatement();
-    ResultSet resultSet = null;
+    PartitionedBatch batch = new PartitionedBatch(session, keySpaceName, tableName);
     try {
       inputData.forEach(
           (key, inputMap) -> {
             Map<String, Object> record = (Map<String, Object>) inputMap;
             if (key.equals(JsonKey.INSERT)) {
               Insert insert = createInsertStatement(keySpaceName, tableName, record);
-              batchStatement.add(insert);
+              batch.add(record, insert);
             } else if (key.equals(JsonKey.UPDATE)) {
               Update update = createUpdateStatement(keySpaceName, tableName, record);
-              batchStatement.add(update);
+              batch.add(record, update);
             }
           });
-      resultSet = session.execute(batchStatement);
+      batch.execute(context);
       response.put(Constants.RESPONSE, Constants.SUCCESS);
     } catch (QueryExecutionException
         | QueryValidationException
         | NoHostAvailableException
         | IllegalStateException e) {
+      recordQueryError("performBatchAction", tableName);
       logger.error(context, "Cassandra performBatchAction Failed." + e.getMessage(), e);
       throw new ProjectCommonException(
           ResponseCode.SERVER_ERROR, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != batchStatement) {
-        logQueryElapseTime(
-            "performBatchAction", startTime, batchStatement.getStatements().toString(), context);
-      }
+      logQueryElapseTime(
+          "performBatchAction", tableName, startTime, batch.getStatements(), context);
     }
     return response;
   }
@@ -785,42 +1124,56 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       RequestContext context) {
 
     Session session = connectionManager.getSession(keyspaceName);
-    BatchStatement batchStatement = new BatchStatement();
+    PartitionedBatch batch = new PartitionedBatch(session, keyspaceName, tableName);
     long startTime = System.currentTimeMillis();
     logger.debug(context, "Cassandra Service batchUpdate method started at ==" + startTime);
     Response response = new Response();
-    ResultSet resultSet = null;
     try {
       for (Map<String, Map<String, Object>> record : list) {
         Map<String, Object> primaryKey = record.get(JsonKey.PRIMARY_KEY);
         Map<String, Object> nonPKRecord = record.get(JsonKey.NON_PRIMARY_KEY);
-        batchStatement.add(
+        batch.add(
+            primaryKey,
             CassandraUtil.createUpdateQuery(primaryKey, nonPKRecord, keyspaceName, tableName));
       }
-      resultSet = session.execute(batchStatement);
+      batch.execute(context);
       response.put(Constants.RESPONSE, Constants.SUCCESS);
     } catch (Exception ex) {
+      recordQueryError("batchUpdate", tableName);
       logger.error(context, "Cassandra Batch Update failed " + ex.getMessage(), ex);
       throw new ProjectCommonException(
           ResponseCode.SERVER_ERROR, ex.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
-      if (null != batchStatement) {
-        logQueryElapseTime(
-            "batchUpdate", startTime, batchStatement.getStatements().toString(), context);
-      }
+      logQueryElapseTime("batchUpdate", tableName, startTime, batch.getStatements(), context);
     }
     return response;
   }
 
+  /**
+   * Records the elapsed time of the operation in {@link CassandraMetrics} and logs the query when
+   * it took longer than the configured slow query threshold.
+   */
   protected void logQueryElapseTime(
-      String operation, long startTime, String query, RequestContext context) {
-    logger.info(context, "Cassandra query : " + query);
-    long stopTime = System.currentTimeMillis();
-    long elapsedTime = stopTime - startTime;
-    String message =
-        "Cassandra operation {0} started at {1} and completed at {2}. Total time elapsed is {3}.";
-    MessageFormat mf = new MessageFormat(message);
-    logger.debug(context, mf.format(new Object[] {operation, startTime, stopTime, elapsedTime}));
+      String operation, String tableName, long startTime, Object query, RequestContext context) {
+    long elapsedTime = System.currentTimeMillis() - startTime;
+    CassandraMetrics metrics = CassandraMetrics.getInstance();
+    metrics.recordLatency(operation, tableName, elapsedTime);
+    if (metrics.isSlowQuery(elapsedTime)) {
+      logger.info(
+          context,
+          "Cassandra slow query : operation "
+              + operation
+              + " on "
+              + tableName
+              + " took "
+              + elapsedTime
+              + " ms : "
+              + getQueryString(query));
+    }
+  }
+
+  protected void recordQueryError(String operation, String tableName) {
+    CassandraMetrics.getInstance().recordError(operation, tableName);
   }
 
   @Override
@@ -846,6 +1199,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
               });
       connectionManager.getSession(keyspaceName).execute(delete);
     } catch (Exception e) {
+      recordQueryError("deleteRecordByCompositeKey", tableName);
       logger.error(
           context,
           "CassandraOperationImpl: deleteRecord by composite key. "
@@ -858,8 +1212,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           ResponseCode.SERVER_ERROR, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != delete) {
-        logQueryElapseTime(
-            "deleteRecordByCompositeKey", startTime, delete.getQueryString(), context);
+        logQueryElapseTime("deleteRecordByCompositeKey", tableName, startTime, delete, context);
       }
     }
   }
@@ -878,6 +1231,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       deleteWhere.and(clause);
       resultSet = connectionManager.getSession(keyspaceName).execute(delete);
     } catch (Exception e) {
+      recordQueryError("deleteRecords", tableName);
       logger.error(
           context,
           "CassandraOperationImpl: deleteRecords by list of primary key. "
@@ -890,7 +1244,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           ResponseCode.SERVER_ERROR, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != delete) {
-        logQueryElapseTime("deleteRecords", startTime, delete.getQueryString(), context);
+        logQueryElapseTime("deleteRecords", tableName, startTime, delete, context);
       }
     }
     return resultSet.wasApplied();
@@ -918,6 +1272,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
+      recordQueryError("getRecordsByCompositeKey", tableName);
       logger.error(
           context,
           "CassandraOperationImpl:getRecordsByCompositeKey: "
@@ -930,8 +1285,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           ResponseCode.SERVER_ERROR, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != selectQuery) {
-        logQueryElapseTime(
-            "getRecordsByCompositeKey", startTime, selectQuery.getQueryString(), context);
+        logQueryElapseTime("getRecordsByCompositeKey", tableName, startTime, selectQuery, context);
       }
     }
     return response;
@@ -944,6 +1298,9 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       List<String> properties,
       List<String> ids,
       RequestContext context) {
+    if (isParallelRead(ids)) {
+      return getRecordsByIdsInParallel(keyspaceName, tableName, properties, ids, context);
+    }
     Response response;
     try {
       Builder selectBuilder;
@@ -980,12 +1337,17 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     }
 
     selectWhere.and(clause);
-    if (null != selectQuery) {
-      logQueryElapseTime("read", startTime, selectQuery.getQueryString(), context);
+    selectQuery.setIdempotent(true);
+    try {
+      ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
+      response = CassandraUtil.createResponse(results);
+      return response;
+    } catch (Exception e) {
+      recordQueryError("read", tableName);
+      throw e;
+    } finally {
+      logQueryElapseTime("read", tableName, startTime, selectQuery, context);
     }
-    ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
-    response = CassandraUtil.createResponse(results);
-    return response;
   }
 
   @Override
@@ -995,6 +1357,10 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       List<String> primaryKeys,
       String primaryKeyColumnName,
       RequestContext context) {
+    if (isParallelRead(primaryKeys)) {
+      return getRecordsByPrimaryKeysInParallel(
+          keyspaceName, tableName, primaryKeys, primaryKeyColumnName, context);
+    }
     Response response;
     try {
       Builder selectBuilder = QueryBuilder.select().all();
@@ -1009,6 +1375,154 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     return response;
   }
 
+  @Override
+  public Response getRecordsByIdsInParallel(
+      String keyspaceName,
+      String tableName,
+      List<String> properties,
+      List<String> ids,
+      RequestContext context) {
+    return executeParallelSelect(
+        keyspaceName, tableName, properties, ids, JsonKey.ID, "getRecordsByIdsInParallel", context);
+  }
+
+  @Override
+  public Response getRecordsByPrimaryKeysInParallel(
+      String keyspaceName,
+      String tableName,
+      List<String> primaryKeys,
+      String primaryKeyColumnName,
+      RequestContext context) {
+    return executeParallelSelect(
+        keyspaceName,
+        tableName,
+        null,
+        primaryKeys,
+        StringUtils.isBlank(primaryKeyColumnName) ? JsonKey.ID : primaryKeyColumnName,
+        "getRecordsByPrimaryKeysInParallel",
+        context);
+  }
+
+  /** @return true if the keys are too many to be read with a single IN query */
+  private boolean isParallelRead(List<String> keys) {
+    int threshold =
+        CassandraPropertyReader.getInstance()
+            .getIntProperty(Constants.PARALLEL_READ_KEY_THRESHOLD, DEFAULT_PARALLEL_READ_THRESHOLD);
+    return threshold > 0 && null != keys && keys.size() > threshold;
+  }
+
+  /**
+   * Reads every key with its own asynchronous single partition query, keeping at most {@code
+   * parallelReadMaxInFlight} of them outstanding. A key whose asynchronous read fails is read once
+   * more synchronously, so one slow or failed replica does not fail the whole request. The records
+   * are merged in the order of the keys.
+   */
+  private Response executeParallelSelect(
+      String keyspaceName,
+      String tableName,
+      List<String> properties,
+      List<String> keys,
+      String keyColumnName,
+      String operation,
+      RequestContext context) {
+    List<Map<String, Object>> records = new ArrayList<>();
+    if (CollectionUtils.isNotEmpty(keys)) {
+      int maxInFlight =
+          Math.max(
+              1,
+              CassandraPropertyReader.getInstance()
+                  .getIntProperty(
+                      Constants.PARALLEL_READ_MAX_IN_FLIGHT, DEFAULT_PARALLEL_READ_MAX_IN_FLIGHT));
+      Semaphore permits = new Semaphore(maxInFlight);
+      Map<String, CompletableFuture<Response>> futures = new LinkedHashMap<>();
+      try {
+        for (String key : keys) {
+          if (futures.containsKey(key)) {
+            continue;
+          }
+          permits.acquire();
+          CompletableFuture<Response> future =
+              executeAsync(
+                      keyspaceName,
+                      tableName,
+                      createSelectByKey(keyspaceName, tableName, properties, keyColumnName, key),
+                      operation,
+                      CassandraUtil::createResponse,
+                      e -> handleReadException(tableName, e, context),
+                      context)
+                  .toCompletableFuture();
+          future.whenComplete((result, e) -> permits.release());
+          futures.put(key, future);
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        futures.values().forEach(future -> future.cancel(true));
+        throw new ProjectCommonException(
+            ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
+      }
+      for (Map.Entry<String, CompletableFuture<Response>> entry : futures.entrySet()) {
+        Response response;
+        try {
+          response = entry.getValue().join();
+        } catch (CompletionException | CancellationException e) {
+          logger.info(
+              context,
+              "CassandraOperationImpl:"
+                  + operation
+                  + ": retrying key "
+                  + entry.getKey()
+                  + " after "
+                  + e.getMessage());
+          response =
+              executeSelectByKey(
+                  keyspaceName, tableName, properties, keyColumnName, entry.getKey(), context);
+        }
+        records.addAll((List<Map<String, Object>>) response.get(Constants.RESPONSE));
+      }
+    }
+    Response response = new Response();
+    response.put(Constants.RESPONSE, records);
+    return response;
+  }
+
+  private Response executeSelectByKey(
+      String keyspaceName,
+      String tableName,
+      List<String> properties,
+      String keyColumnName,
+      String key,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    Select selectQuery = createSelectByKey(keyspaceName, tableName, properties, keyColumnName, key);
+    try {
+      ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
+      return CassandraUtil.createResponse(results);
+    } catch (Exception e) {
+      recordQueryError("executeSelectByKey", tableName);
+      throw handleReadException(tableName, e, context);
+    } finally {
+      logQueryElapseTime("executeSelectByKey", tableName, startTime, selectQuery, context);
+    }
+  }
+
+  private Select createSelectByKey(
+      String keyspaceName,
+      String tableName,
+      List<String> properties,
+      String keyColumnName,
+      String key) {
+    Builder selectBuilder;
+    if (CollectionUtils.isNotEmpty(properties)) {
+      selectBuilder = QueryBuilder.select(properties.toArray(new String[properties.size()]));
+    } else {
+      selectBuilder = QueryBuilder.select().all();
+    }
+    Select selectQuery = selectBuilder.from(keyspaceName, tableName);
+    selectQuery.where(eq(keyColumnName, key));
+    selectQuery.setIdempotent(true);
+    return selectQuery;
+  }
+
   @Override
   public Response insertRecordWithTTL(
       String keyspaceName,
@@ -1026,12 +1540,16 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
               insert.value(x.getKey(), x.getValue());
             });
     insert.using(QueryBuilder.ttl(ttl));
-    if (null != insert) {
-      logQueryElapseTime("insertRecordWithTTL", startTime, insert.getQueryString(), context);
+    try {
+      ResultSet results = connectionManager.getSession(keyspaceName).execute(insert);
+      Response response = CassandraUtil.createResponse(results);
+      return response;
+    } catch (Exception e) {
+      recordQueryError("insertRecordWithTTL", tableName);
+      throw e;
+    } finally {
+      logQueryElapseTime("insertRecordWithTTL", tableName, startTime, insert, context);
     }
-    ResultSet results = connectionManager.getSession(keyspaceName).execute(insert);
-    Response response = CassandraUtil.createResponse(results);
-    return response;
   }
 
   @Override
@@ -1062,12 +1580,16 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
               where.and(eq(x.getKey(), x.getValue()));
             });
     update.using(QueryBuilder.ttl(ttl));
-    if (null != update) {
-      logQueryElapseTime("updateRecordWithTTL", startTime, update.getQueryString(), context);
+    try {
+      ResultSet results = session.execute(update);
+      Response response = CassandraUtil.createResponse(results);
+      return response;
+    } catch (Exception e) {
+      recordQueryError("updateRecordWithTTL", tableName);
+      throw e;
+    } finally {
+      logQueryElapseTime("updateRecordWithTTL", tableName, startTime, update, context);
     }
-    ResultSet results = session.execute(update);
-    Response response = CassandraUtil.createResponse(results);
-    return response;
   }
 
   @Override
@@ -1126,6 +1648,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       ResultSet results = connectionManager.getSession(keyspaceName).execute(select);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
+      recordQueryError("getRecordsByIdsWithSpecifiedColumnsAndTTL", tableName);
       logger.error(context, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
       throw new ProjectCommonException(
           ResponseCode.SERVER_ERROR, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
@@ -1133,8 +1656,9 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       if (null != selectQuery) {
         logQueryElapseTime(
             "getRecordsByIdsWithSpecifiedColumnsAndTTL",
+            tableName,
             startTime,
-            selectQuery.getQueryString(),
+            selectQuery,
             context);
       }
     }
@@ -1189,6 +1713,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
         | QueryValidationException
         | NoHostAvailableException
         | IllegalStateException e) {
+      recordQueryError("batchInsertWithTTL", tableName);
       logger.error(
           context,
           "CassandraOperationImpl:batchInsertWithTTL: Exception occurred with error message = "
@@ -1199,7 +1724,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     } finally {
       if (null != batchStatement) {
         logQueryElapseTime(
-            "batchInsertWithTTL", startTime, batchStatement.getStatements().toString(), context);
+            "batchInsertWithTTL", tableName, startTime, batchStatement.getStatements(), context);
       }
     }
     return response;
@@ -1238,12 +1763,16 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
         }
       }
     }
-    if (null != selectQuery) {
-      logQueryElapseTime("searchValueInList", startTime, selectQuery.getQueryString(), context);
+    try {
+      ResultSet resultSet = connectionManager.getSession(keyspace).execute(selectQuery);
+      Response response = CassandraUtil.createResponse(resultSet);
+      return response;
+    } catch (Exception e) {
+      recordQueryError("searchValueInList", tableName);
+      throw e;
+    } finally {
+      logQueryElapseTime("searchValueInList", tableName, startTime, selectQuery, context);
     }
-    ResultSet resultSet = connectionManager.getSession(keyspace).execute(selectQuery);
-    Response response = CassandraUtil.createResponse(resultSet);
-    return response;
   }
 
   @Override
@@ -1277,6 +1806,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
       ResultSet results = connectionManager.getSession(keyspaceName).execute(selectQuery);
       response = CassandraUtil.createResponse(results);
     } catch (Exception e) {
+      recordQueryError("getRecordsByCompositeKey", tableName);
       logger.error(
           context,
           "CassandraOperationImpl:getRecordsByCompositeKey: "
@@ -1289,10 +1819,264 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
           ResponseCode.SERVER_ERROR, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
     } finally {
       if (null != selectQuery) {
-        logQueryElapseTime(
-            "getRecordsByCompositeKey", startTime, selectQuery.getQueryString(), context);
+        logQueryElapseTime("getRecordsByCompositeKey", tableName, startTime, selectQuery, context);
       }
     }
     return response;
   }
+
+  @Override
+  public CompletionStage<Response> getRecordByIdAsync(
+      String keyspaceName,
+      String tableName,
+      String key,
+      List<String> fields,
+      RequestContext context) {
+    return getRecordByIdentifierAsync(keyspaceName, tableName, key, fields, context);
+  }
+
+  @Override
+  public CompletionStage<Response> getRecordByIdAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> key,
+      List<String> fields,
+      RequestContext context) {
+    return getRecordByIdentifierAsync(keyspaceName, tableName, key, fields, context);
+  }
+
+  private CompletionStage<Response> getRecordByIdentifierAsync(
+      String keyspaceName,
+      String tableName,
+      Object key,
+      List<String> fields,
+      RequestContext context) {
+    Where selectWhere;
+    try {
+      selectWhere = createSelectByIdentifier(keyspaceName, tableName, key, fields, context);
+    } catch (Exception e) {
+      return failedStage(handleReadException(tableName, e, context));
+    }
+    return executeAsync(
+        keyspaceName,
+        tableName,
+        selectWhere,
+        "getRecordByIdentifierAsync",
+        CassandraUtil::createResponse,
+        e -> handleReadException(tableName, e, context),
+        context);
+  }
+
+  @Override
+  public CompletionStage<Response> getRecordsByPropertiesAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> propertyMap,
+      List<String> fields,
+      RequestContext context) {
+    Select selectQuery;
+    try {
+      selectQuery = createSelectByProperties(keyspaceName, tableName, propertyMap, fields);
+    } catch (Exception e) {
+      return failedStage(handleReadException(tableName, e, context));
+    }
+    return executeAsync(
+        keyspaceName,
+        tableName,
+        selectQuery,
+        "getRecordsByPropertiesAsync",
+        CassandraUtil::createResponse,
+        e -> handleReadException(tableName, e, context),
+        context);
+  }
+
+  @Override
+  public CompletionStage<Response> getPropertiesValueByIdAsync(
+      String keyspaceName,
+      String tableName,
+      List<String> ids,
+      List<String> properties,
+      RequestContext context) {
+    Select selectQuery;
+    try {
+      selectQuery = createSelectByIds(keyspaceName, tableName, ids, properties);
+    } catch (Exception e) {
+      return failedStage(handleReadException(tableName, e, context));
+    }
+    return executeAsync(
+        keyspaceName,
+        tableName,
+        selectQuery,
+        "getPropertiesValueByIdAsync",
+        CassandraUtil::createResponse,
+        e -> handleReadException(tableName, e, context),
+        context);
+  }
+
+  @Override
+  public CompletionStage<Response> insertRecordAsync(
+      String keyspaceName, String tableName, Map<String, Object> request, RequestContext context) {
+    BoundStatement boundStatement;
+    try {
+      String query = CassandraUtil.getPreparedStatement(keyspaceName, tableName, request);
+      boundStatement = bindInsertStatement(keyspaceName, query, request);
+    } catch (Exception e) {
+      return failedStage(handleInsertException(tableName, e, context));
+    }
+    return executeAsync(
+        keyspaceName,
+        tableName,
+        boundStatement,
+        "insertRecordAsync",
+        results -> createSuccessResponse(),
+        e -> handleInsertException(tableName, e, context),
+        context);
+  }
+
+  @Override
+  public CompletionStage<Response> upsertRecordAsync(
+      String keyspaceName, String tableName, Map<String, Object> request, RequestContext context) {
+    BoundStatement boundStatement;
+    try {
+      String query = CassandraUtil.getPreparedStatement(keyspaceName, tableName, request);
+      boundStatement = bindInsertStatement(keyspaceName, query, request);
+    } catch (Exception e) {
+      return failedStage(handleUpsertException(tableName, e, context));
+    }
+    return executeAsync(
+        keyspaceName,
+        tableName,
+        boundStatement,
+        "upsertRecordAsync",
+        results -> createSuccessResponse(),
+        e -> handleUpsertException(tableName, e, context),
+        context);
+  }
+
+  @Override
+  public CompletionStage<Response> updateRecordAsync(
+      String keyspaceName, String tableName, Map<String, Object> request, RequestContext context) {
+    BoundStatement boundStatement;
+    try {
+      String query = CassandraUtil.getUpdateQueryStatement(keyspaceName, tableName, request);
+      boundStatement = bindUpdateStatement(keyspaceName, query, request);
+    } catch (Exception e) {
+      return failedStage(handleUpdateException(tableName, e, context));
+    }
+    return executeAsync(
+        keyspaceName,
+        tableName,
+        boundStatement,
+        "updateRecordAsync",
+        results -> createSuccessResponse(),
+        e -> handleUpdateException(tableName, e, context),
+        context);
+  }
+
+  @Override
+  public CompletionStage<Response> batchInsertAsync(
+      String keyspaceName,
+      String tableName,
+      List<Map<String, Object>> records,
+      RequestContext context) {
+    BatchStatement batchStatement = new BatchStatement();
+    for (Map<String, Object> map : records) {
+      batchStatement.add(createInsertStatement(keyspaceName, tableName, map));
+    }
+    return executeAsync(
+        keyspaceName,
+        tableName,
+        batchStatement,
+        "batchInsertAsync",
+        results -> createSuccessResponse(),
+        e -> {
+          logger.error(context, "Cassandra Batch Insert Failed." + e.getMessage(), e);
+          return new ProjectCommonException(
+              ResponseCode.serverError,
+              e.getMessage(),
+              ResponseCode.SERVER_ERROR.getResponseCode());
+        },
+        context);
+  }
+
+  /**
+   * Executes the statement with executeAsync and adapts the driver future to a CompletionStage.
+   * Failures are translated with the given errorMapper so that callers see the same
+   * ProjectCommonException as the blocking variant.
+   */
+  protected CompletionStage<Response> executeAsync(
+      String keyspaceName,
+      String tableName,
+      Statement statement,
+      String operation,
+      Function<ResultSet, Response> responseMapper,
+      Function<Throwable, ProjectCommonException> errorMapper,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    CompletableFuture<Response> result = new CompletableFuture<>();
+    ResultSetFuture future;
+    try {
+      future = connectionManager.getSession(keyspaceName).executeAsync(statement);
+    } catch (Exception e) {
+      recordQueryError(operation, tableName);
+      logQueryElapseTime(operation, tableName, startTime, statement, context);
+      return failedStage(errorMapper.apply(e));
+    }
+    Futures.addCallback(
+        future,
+        new FutureCallback<ResultSet>() {
+          @Override
+          public void onSuccess(ResultSet results) {
+            logQueryElapseTime(operation, tableName, startTime, statement, context);
+            try {
+              result.complete(responseMapper.apply(results));
+            } catch (Exception e) {
+              recordQueryError(operation, tableName);
+              result.completeExceptionally(errorMapper.apply(e));
+            }
+          }
+
+          @Override
+          public void onFailure(Throwable t) {
+            recordQueryError(operation, tableName);
+            logQueryElapseTime(operation, tableName, startTime, statement, context);
+            result.completeExceptionally(errorMapper.apply(t));
+          }
+        },
+        CassandraConnectionManagerImpl.getCallbackExecutor());
+    return result;
+  }
+
+  private static String getQueryString(Object statement) {
+    if (statement instanceof RegularStatement) {
+      return ((RegularStatement) statement).getQueryString();
+    } else if (statement instanceof BoundStatement) {
+      return ((BoundStatement) statement).preparedStatement().getQueryString();
+    } else if (statement instanceof BatchStatement) {
+      return ((BatchStatement) statement).getStatements().toString();
+    }
+    return String.valueOf(statement);
+  }
+
+  private ProjectCommonException handleReadException(
+      String tableName, Throwable e, RequestContext context) {
+    if (e instanceof ProjectCommonException) {
+      return (ProjectCommonException) e;
+    }
+    logger.error(context, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
+    return new ProjectCommonException(
+        ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
+  }
+
+  private static Response createSuccessResponse() {
+    Response response = new Response();
+    response.put(Constants.RESPONSE, Constants.SUCCESS);
+    return response;
+  }
+
+  private static <T> CompletionStage<T> failedStage(Throwable e) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    future.completeExceptionally(e);
+    return future;
+  }
 }
@@ -0,0 +1,150 @@
+package org.sunbird.cassandraimpl;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.ColumnMetadata;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.TableMetadata;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+import org.sunbird.common.CassandraPropertyReader;
+import org.sunbird.common.Constants;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.request.RequestContext;
+
+/**
+ * Collects the statements of a batch operation and groups them by the partition key of the record
+ * they write. Each partition is sent as one UNLOGGED batch, which Cassandra applies atomically on a
+ * single replica set without the batch log. When the records span several partitions the batches
+ * are sent concurrently with executeAsync, keeping at most {@code batchMaxInFlight} of them
+ * outstanding.
+ */
+class PartitionedBatch {
+  private static final LoggerUtil logger = new LoggerUtil(PartitionedBatch.class);
+
+  private static final int DEFAULT_MAX_IN_FLIGHT = 16;
+
+  private final Session session;
+  private final String tableName;
+  private final List<String> partitionKeyNames;
+  private final Map<List<Object>, BatchStatement> batches = new LinkedHashMap<>();
+  private final List<Statement> statements = new ArrayList<>();
+
+  PartitionedBatch(Session session, String keyspaceName, String tableName) {
+    this.session = session;
+    this.tableName = tableName;
+    this.partitionKeyNames = getPartitionKeyNames(session, keyspaceName, tableName);
+  }
+
+  /**
+   * Adds the statement to the batch of the partition the record belongs to.
+   *
+   * @param record Column values of the record, containing at least its partition key
+   * @param statement Statement writing the record
+   */
+  void add(Map<String, Object> record, Statement statement) {
+    batches
+        .computeIfAbsent(
+            getPartitionKey(record), key -> new BatchStatement(BatchStatement.Type.UNLOGGED))
+        .add(statement);
+    statements.add(statement);
+  }
+
+  List<Statement> getStatements() {
+    return statements;
+  }
+
+  /**
+   * Executes the partition batches and waits for all of them. Driver exceptions of the first failed
+   * batch are thrown as is, so callers keep their existing error handling.
+   */
+  void execute(RequestContext context) {
+    if (batches.isEmpty()) {
+      return;
+    }
+    if (batches.size() == 1) {
+      session.execute(batches.values().iterator().next());
+      return;
+    }
+    int maxInFlight =
+        Math.max(
+            1,
+            CassandraPropertyReader.getInstance()
+                .getIntProperty(Constants.BATCH_MAX_IN_FLIGHT, DEFAULT_MAX_IN_FLIGHT));
+    logger.debug(
+        context,
+        "PartitionedBatch:execute: "
+            + statements.size()
+            + " statements on "
+            + tableName
+            + " span "
+            + batches.size()
+            + " partitions");
+    Semaphore permits = new Semaphore(maxInFlight);
+    List<ResultSetFuture> futures = new ArrayList<>(batches.size());
+    try {
+      for (BatchStatement batch : batches.values()) {
+        permits.acquire();
+        ResultSetFuture future = session.executeAsync(batch);
+        future.addListener(permits::release, MoreExecutors.directExecutor());
+        futures.add(future);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      futures.forEach(future -> future.cancel(true));
+      throw new ProjectCommonException(
+          ResponseCode.serverError, e.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
+    }
+    for (ResultSetFuture future : futures) {
+      future.getUninterruptibly();
+    }
+  }
+
+  private List<Object> getPartitionKey(Map<String, Object> record) {
+    List<Object> values = new ArrayList<>(partitionKeyNames.size());
+    for (String name : partitionKeyNames) {
+      Object value = record.get(name);
+      if (null == value) {
+        // Unquoted column names are case insensitive, records may use camel case keys.
+        value =
+            record
+                .entrySet()
+                .stream()
+                .filter(entry -> name.equalsIgnoreCase(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+      }
+      values.add(value);
+    }
+    return values;
+  }
+
+  private static List<String> getPartitionKeyNames(
+      Session session, String keyspaceName, String tableName) {
+    Cluster cluster = session.getCluster();
+    KeyspaceMetadata keyspaceMetadata =
+        null != cluster ? cluster.getMetadata().getKeyspace(keyspaceName) : null;
+    TableMetadata tableMetadata =
+        null != keyspaceMetadata ? keyspaceMetadata.getTable(tableName) : null;
+    if (null == tableMetadata) {
+      return Collections.singletonList(Constants.ID);
+    }
+    return tableMetadata
+        .getPartitionKey()
+        .stream()
+        .map(ColumnMetadata::getName)
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,137 @@
+package org.sunbird.common;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latency histograms and error counters of Cassandra operations, kept per operation name and table.
+ * Latencies are written to an HdrHistogram {@link Recorder}, whose writers are wait free, so
+ * recording on the request path never blocks; readers drain the recorder into a cumulative
+ * histogram when a snapshot is taken.
+ */
+public final class CassandraMetrics {
+
+  private static final long DEFAULT_SLOW_QUERY_THRESHOLD = 300;
+  private static final long HIGHEST_TRACKABLE_MILLIS = TimeUnit.MINUTES.toMillis(10);
+  private static final int SIGNIFICANT_DIGITS = 2;
+  private static final String KEY_SEPARATOR = "|";
+  private static volatile CassandraMetrics instance;
+
+  private final ConcurrentMap<String, OperationMetrics> metrics = new ConcurrentHashMap<>();
+  private final long slowQueryThreshold;
+
+  private CassandraMetrics() {
+    slowQueryThreshold =
+        CassandraPropertyReader.getInstance()
+            .getIntProperty(Constants.QUERY_LOGGER_THRESHOLD, (int) DEFAULT_SLOW_QUERY_THRESHOLD);
+  }
+
+  public static CassandraMetrics getInstance() {
+    if (null == instance) {
+      synchronized (CassandraMetrics.class) {
+        if (null == instance) {
+          instance = new CassandraMetrics();
+        }
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * Method to record the elapsed time of an operation.
+   *
+   * @param operation Operation name
+   * @param tableName Table name
+   * @param elapsedTime Elapsed time in milliseconds
+   */
+  public void recordLatency(String operation, String tableName, long elapsedTime) {
+    getOperationMetrics(operation, tableName)
+        .recorder
+        .recordValue(Math.max(0, Math.min(elapsedTime, HIGHEST_TRACKABLE_MILLIS)));
+  }
+
+  /**
+   * Method to count a failed operation.
+   *
+   * @param operation Operation name
+   * @param tableName Table name
+   */
+  public void recordError(String operation, String tableName) {
+    getOperationMetrics(operation, tableName).errors.increment();
+  }
+
+  /** @return true if an operation taking given milliseconds should be logged as a slow query */
+  public boolean isSlowQuery(long elapsedTime) {
+    return elapsedTime >= slowQueryThreshold;
+  }
+
+  public long getSlowQueryThreshold() {
+    return slowQueryThreshold;
+  }
+
+  /**
+   * Method to get the count, error count and latency percentiles in milliseconds of every recorded
+   * operation and table since start up.
+   *
+   * @return List of metrics, one map per operation and table
+   */
+  public List<Map<String, Object>> getSnapshot() {
+    List<Map<String, Object>> snapshot = new ArrayList<>();
+    for (OperationMetrics operationMetrics : metrics.values()) {
+      snapshot.add(operationMetrics.snapshot());
+    }
+    return snapshot;
+  }
+
+  public void reset() {
+    metrics.clear();
+  }
+
+  private OperationMetrics getOperationMetrics(String operation, String tableName) {
+    String key = tableName + KEY_SEPARATOR + operation;
+    OperationMetrics operationMetrics = metrics.get(key);
+    if (null == operationMetrics) {
+      operationMetrics =
+          metrics.computeIfAbsent(key, k -> new OperationMetrics(operation, tableName));
+    }
+    return operationMetrics;
+  }
+
+  private static final class OperationMetrics {
+    private final String operation;
+    private final String tableName;
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MILLIS, SIGNIFICANT_DIGITS);
+    private final Histogram total = new Histogram(HIGHEST_TRACKABLE_MILLIS, SIGNIFICANT_DIGITS);
+    private final LongAdder errors = new LongAdder();
+    private Histogram interval;
+
+    private OperationMetrics(String operation, String tableName) {
+      this.operation = operation;
+      this.tableName = tableName;
+    }
+
+    private synchronized Map<String, Object> snapshot() {
+      interval = recorder.getIntervalHistogram(interval);
+      total.add(interval);
+      Map<String, Object> snapshot = new HashMap<>();
+      snapshot.put(Constants.OPERATION, operation);
+      snapshot.put(Constants.TABLE, tableName);
+      snapshot.put(Constants.COUNT, total.getTotalCount());
+      snapshot.put(Constants.ERROR_COUNT, errors.sum());
+      snapshot.put(Constants.MEAN, total.getMean());
+      snapshot.put(Constants.P50, total.getValueAtPercentile(50));
+      snapshot.put(Constants.P95, total.getValueAtPercentile(95));
+      snapshot.put(Constants.P99, total.getValueAtPercentile(99));
+      snapshot.put(Constants.MAX, total.getMaxValue());
+      return snapshot;
+    }
+  }
+}
@@ -58,4 +58,51 @@ public class CassandraPropertyReader {
     if (StringUtils.isNotBlank(value)) return value;
     return properties.getProperty(key) != null ? properties.getProperty(key) : key;
   }
+
+  /**
+   * Method to read an integer value, falling back to the default if the key is missing or invalid.
+   *
+   * @param key property key to read
+   * @param defaultValue value to use when the property is not configured
+   * @return configured value or defaultValue
+   */
+  public int getIntProperty(String key, int defaultValue) {
+    String value = getProperty(key);
+    try {
+      return Integer.parseInt(value.trim());
+    } catch (NumberFormatException e) {
+      return defaultValue;
+    }
+  }
+
+  /**
+   * Method to read a decimal value, falling back to the default if the key is missing or invalid.
+   *
+   * @param key property key to read
+   * @param defaultValue value to use when the property is not configured
+   * @return configured value or defaultValue
+   */
+  public double getDoubleProperty(String key, double defaultValue) {
+    String value = getProperty(key);
+    try {
+      return Double.parseDouble(value.trim());
+    } catch (NumberFormatException e) {
+      return defaultValue;
+    }
+  }
+
+  /**
+   * Method to read a boolean value, falling back to the default if the key is missing.
+   *
+   * @param key property key to read
+   * @param defaultValue value to use when the property is not configured
+   * @return configured value or defaultValue
+   */
+  public boolean getBooleanProperty(String key, boolean defaultValue) {
+    String value = getProperty(key);
+    if (key.equals(value)) {
+      return defaultValue;
+    }
+    return Boolean.parseBoolean(value.trim());
+  }
 }
@@ -0,0 +1,199 @@
+package org.sunbird.common;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.commons.lang3.ClassUtils;
+import org.sunbird.cassandraannotation.ClusteringKey;
+import org.sunbird.cassandraannotation.PartitioningKey;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
+import org.sunbird.logging.LoggerUtil;
+
+/**
+ * Maps rows of a result set straight into objects of a model class, without building an
+ * intermediate map per row. Fields of the class are looked up reflectively once and cached per
+ * class; for every result set the columns are resolved once to the field they fill, and each row is
+ * then copied by column index. A column matches the field of the same name ignoring case, or the
+ * field named by its entry in the cassandra properties file.
+ *
+ * <p>Fields annotated with {@link PartitioningKey} and {@link ClusteringKey} form the primary key
+ * of the class.
+ *
+ * @param <T> Model class
+ */
+public final class CassandraRowMapper<T> {
+  private static final LoggerUtil logger = new LoggerUtil(CassandraRowMapper.class);
+
+  private static final ConcurrentMap<Class<?>, CassandraRowMapper<?>> mappers =
+      new ConcurrentHashMap<>();
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final Class<T> clazz;
+  private final Constructor<T> constructor;
+  private final Map<String, FieldAccessor> accessors = new HashMap<>();
+  private final List<String> partitionKeys = new ArrayList<>();
+  private final List<String> clusteringKeys = new ArrayList<>();
+
+  private CassandraRowMapper(Class<T> clazz) {
+    this.clazz = clazz;
+    try {
+      constructor = clazz.getDeclaredConstructor();
+      constructor.setAccessible(true);
+    } catch (NoSuchMethodException e) {
+      logger.error("CassandraRowMapper: no default constructor in " + clazz.getName(), e);
+      throw new ProjectCommonException(
+          ResponseCode.serverError,
+          ResponseCode.serverError.getErrorMessage(),
+          ResponseCode.SERVER_ERROR.getResponseCode());
+    }
+    for (Class<?> type = clazz; type != Object.class; type = type.getSuperclass()) {
+      for (Field field : type.getDeclaredFields()) {
+        if (Modifier.isStatic(field.getModifiers())) {
+          continue;
+        }
+        field.setAccessible(true);
+        accessors.putIfAbsent(field.getName().toLowerCase(), new FieldAccessor(field));
+        if (field.isAnnotationPresent(PartitioningKey.class)) {
+          partitionKeys.add(field.getName());
+        } else if (field.isAnnotationPresent(ClusteringKey.class)) {
+          clusteringKeys.add(field.getName());
+        }
+      }
+    }
+  }
+
+  /**
+   * Method to get the mapper of given class, created on first use.
+   *
+   * @param clazz Model class with a default constructor
+   * @return CassandraRowMapper
+   */
+  public static <T> CassandraRowMapper<T> getInstance(Class<T> clazz) {
+    CassandraRowMapper<?> mapper = mappers.get(clazz);
+    if (null == mapper) {
+      mapper = mappers.computeIfAbsent(clazz, CassandraRowMapper::new);
+    }
+    return (CassandraRowMapper<T>) mapper;
+  }
+
+  /** @return Names of the fields annotated with {@link PartitioningKey} */
+  public List<String> getPartitionKeys() {
+    return Collections.unmodifiableList(partitionKeys);
+  }
+
+  /** @return Names of the fields annotated with {@link ClusteringKey} */
+  public List<String> getClusteringKeys() {
+    return Collections.unmodifiableList(clusteringKeys);
+  }
+
+  /**
+   * Method to map all the rows of the result set.
+   *
+   * @param results ResultSet
+   * @return List of objects, one per row
+   */
+  public List<T> map(ResultSet results) {
+    FieldAccessor[] columnAccessors = resolveColumns(results.getColumnDefinitions());
+    List<T> list = new ArrayList<>();
+    for (Row row : results) {
+      list.add(map(row, columnAccessors));
+    }
+    return list;
+  }
+
+  private FieldAccessor[] resolveColumns(ColumnDefinitions columnDefinitions) {
+    CassandraPropertyReader propertyReader = CassandraPropertyReader.getInstance();
+    FieldAccessor[] columnAccessors = new FieldAccessor[columnDefinitions.size()];
+    for (int i = 0; i < columnAccessors.length; i++) {
+      String column = columnDefinitions.getName(i);
+      FieldAccessor accessor = accessors.get(column.toLowerCase());
+      if (null == accessor) {
+        accessor = accessors.get(propertyReader.readProperty(column).trim().toLowerCase());
+      }
+      columnAccessors[i] = accessor;
+    }
+    return columnAccessors;
+  }
+
+  private T map(Row row, FieldAccessor[] columnAccessors) {
+    T object;
+    try {
+      object = constructor.newInstance();
+    } catch (ReflectiveOperationException e) {
+      logger.error("CassandraRowMapper: unable to create " + clazz.getName(), e);
+      throw new ProjectCommonException(
+          ResponseCode.serverError,
+          ResponseCode.serverError.getErrorMessage(),
+          ResponseCode.SERVER_ERROR.getResponseCode());
+    }
+    for (int i = 0; i < columnAccessors.length; i++) {
+      if (null != columnAccessors[i]) {
+        columnAccessors[i].set(object, row.getObject(i));
+      }
+    }
+    return object;
+  }
+
+  /** Copies a column value into a field, converting it when the types differ. */
+  private static final class FieldAccessor {
+    private final Field field;
+    private final Class<?> type;
+    private final JavaType javaType;
+
+    private FieldAccessor(Field field) {
+      this.field = field;
+      this.type = ClassUtils.primitiveToWrapper(field.getType());
+      this.javaType = objectMapper.constructType(field.getGenericType());
+    }
+
+    private void set(Object object, Object value) {
+      if (null == value) {
+        return;
+      }
+      try {
+        field.set(object, convert(value));
+      } catch (Exception e) {
+        // a column which does not map is a schema mismatch, fail the read rather than drop it
+        logger.error(
+            "CassandraRowMapper: unable to set "
+                + field.getName()
+                + " of "
+                + field.getDeclaringClass().getSimpleName(),
+            e);
+        throw new ProjectCommonException(
+            ResponseCode.serverError,
+            ResponseCode.serverError.getErrorMessage(),
+            ResponseCode.SERVER_ERROR.getResponseCode());
+      }
+    }
+
+    private Object convert(Object value) throws Exception {
+      if (type.isInstance(value)) {
+        return value;
+      }
+      if (value instanceof Date && type == Timestamp.class) {
+        return new Timestamp(((Date) value).getTime());
+      }
+      if (value instanceof String) {
+        // Collections and objects stored as JSON text, e.g. orgLocation.
+        return objectMapper.readValue((String) value, javaType);
+      }
+      return objectMapper.convertValue(value, javaType);
+    }
+  }
+}
@@ -79,17 +79,27 @@ public final class CassandraUtil {
     Iterator<Row> rowIterator = results.iterator();
     rowIterator.forEachRemaining(
         row -> {
-          Map<String, Object> rowMap = new HashMap<>();
-          columnsMapping
-              .entrySet()
-              .stream()
-              .forEach(entry -> rowMap.put(entry.getKey(), row.getObject(entry.getValue())));
-          responseList.add(rowMap);
+          responseList.add(createRowMap(row, columnsMapping));
         });
     response.put(Constants.RESPONSE, responseList);
     return response;
   }
 
+  /**
+   * @desc This method is used to convert a row into map<columnName,columnValue>
+   * @param row Row
+   * @param columnsMapping Column mapping as returned by fetchColumnsMapping
+   * @return Map<String, Object>
+   */
+  public static Map<String, Object> createRowMap(Row row, Map<String, String> columnsMapping) {
+    Map<String, Object> rowMap = new HashMap<>();
+    columnsMapping
+        .entrySet()
+        .stream()
+        .forEach(entry -> rowMap.put(entry.getKey(), row.getObject(entry.getValue())));
+    return rowMap;
+  }
+
   public static Map<String, String> fetchColumnsMapping(ResultSet results) {
     return results
         .getColumnDefinitions()
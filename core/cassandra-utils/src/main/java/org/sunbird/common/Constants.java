@@ -17,6 +17,24 @@ public interface Constants {
   public static final String CONTACT_POINT = "contactPoint";
   public static final String PORT = "port";
   public static final String QUERY_LOGGER_THRESHOLD = "queryLoggerConstantThreshold";
+  public static final String PREPARED_STATEMENT_CACHE_SIZE = "preparedStatementCacheSize";
+  public static final String ALL_RECORDS_FETCH_SIZE = "allRecordsFetchSize";
+  public static final String TOKEN_RANGE_SCAN_PARALLELISM = "tokenRangeScanParallelism";
+  public static final String CALLBACK_EXECUTOR_POOL_SIZE = "callbackExecutorPoolSize";
+  public static final String CALLBACK_EXECUTOR_QUEUE_SIZE = "callbackExecutorQueueSize";
+  public static final String BATCH_MAX_IN_FLIGHT = "batchMaxInFlight";
+  public static final String PARALLEL_READ_KEY_THRESHOLD = "parallelReadKeyThreshold";
+  public static final String PARALLEL_READ_MAX_IN_FLIGHT = "parallelReadMaxInFlight";
+  public static final String TOKEN_AWARE_ROUTING_ENABLED = "tokenAwareRoutingEnabled";
+  public static final String LATENCY_AWARE_ROUTING_ENABLED = "latencyAwareRoutingEnabled";
+  public static final String LATENCY_AWARE_EXCLUSION_THRESHOLD = "latencyAwareExclusionThreshold";
+  public static final String LATENCY_AWARE_SCALE = "latencyAwareScaleMillis";
+  public static final String LATENCY_AWARE_RETRY_PERIOD = "latencyAwareRetryPeriodSeconds";
+  public static final String LATENCY_AWARE_MINIMUM_MEASUREMENTS = "latencyAwareMinimumMeasurements";
+  public static final String SPECULATIVE_EXECUTION_ENABLED = "speculativeExecutionEnabled";
+  public static final String SPECULATIVE_EXECUTION_DELAY = "speculativeExecutionDelayMillis";
+  public static final String SPECULATIVE_EXECUTION_MAX_EXECUTIONS =
+      "speculativeExecutionMaxExecutions";
   public static final String CASSANDRA_PROPERTIES_FILE = "cassandra.config.properties";
 
   // CONSTANT
@@ -62,5 +80,18 @@ public interface Constants {
   public static final String GTE = ">=";
   public static final String GT = ">";
   public static final String ID = "id";
-  public static final String IS_MULTI_DC_ENABLED = "isMultiDCEnabled";
+
+  // METRICS
+  public static final String OPERATION = "operation";
+  public static final String TABLE = "table";
+  public static final String COUNT = "count";
+  public static final String ERROR_COUNT = "errorCount";
+  public static final String MEAN = "meanMillis";
+  public static final String P50 = "p50Millis";
+  public static final String P95 = "p95Millis";
+  public static final String P99 = "p99Millis";
+  public static final String MAX = "maxMillis";
+  public static final String QUEUE_DEPTH = "queueDepth";
+  public static final String ACTIVE_THREAD_COUNT = "activeThreadCount";
+  public static final String COMPLETED_TASK_COUNT = "completedTaskCount";
 }
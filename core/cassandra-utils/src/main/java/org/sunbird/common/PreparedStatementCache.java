@@ -0,0 +1,88 @@
+package org.sunbird.common;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.sunbird.logging.LoggerUtil;
+
+/**
+ * Bounded cache of prepared statements keyed by keyspace and generated CQL text. Preparing a
+ * statement costs a round trip to the coordinator, so the statements generated by {@link
+ * CassandraUtil#getPreparedStatement} and {@link CassandraUtil#getUpdateQueryStatement} are
+ * prepared once per keyspace and reused afterwards.
+ */
+public final class PreparedStatementCache {
+  private static final LoggerUtil logger = new LoggerUtil(PreparedStatementCache.class);
+
+  private static final int DEFAULT_MAX_SIZE = 1000;
+  private static final String KEY_SEPARATOR = "|";
+  private static volatile PreparedStatementCache instance;
+
+  private final Cache<String, PreparedStatement> cache;
+
+  private PreparedStatementCache() {
+    int maxSize =
+        CassandraPropertyReader.getInstance()
+            .getIntProperty(Constants.PREPARED_STATEMENT_CACHE_SIZE, DEFAULT_MAX_SIZE);
+    logger.info("PreparedStatementCache: maximum size = " + maxSize);
+    cache = CacheBuilder.newBuilder().maximumSize(maxSize).recordStats().build();
+  }
+
+  public static PreparedStatementCache getInstance() {
+    if (null == instance) {
+      synchronized (PreparedStatementCache.class) {
+        if (null == instance) {
+          instance = new PreparedStatementCache();
+        }
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * Method to get the prepared statement for given query, preparing it on the session on a cache
+   * miss.
+   *
+   * @param session Session connected to the keyspace
+   * @param keyspaceName Keyspace name
+   * @param query CQL query text
+   * @return PreparedStatement
+   */
+  public PreparedStatement getPreparedStatement(
+      Session session, String keyspaceName, String query) {
+    String key = keyspaceName + KEY_SEPARATOR + query;
+    PreparedStatement statement = cache.getIfPresent(key);
+    if (null == statement) {
+      // Concurrent misses may prepare the same query twice, which the driver handles safely.
+      statement = session.prepare(query);
+      cache.put(key, statement);
+    }
+    return statement;
+  }
+
+  public long getHitCount() {
+    return cache.stats().hitCount();
+  }
+
+  public long getMissCount() {
+    return cache.stats().missCount();
+  }
+
+  public double getHitRate() {
+    return cache.stats().hitRate();
+  }
+
+  public long size() {
+    return cache.size();
+  }
+
+  public CacheStats getStats() {
+    return cache.stats();
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+}
@@ -1,12 +1,23 @@
 package org.sunbird.helper;
 
 import com.datastax.driver.core.*;
+import com.datastax.driver.core.policies.ConstantSpeculativeExecutionPolicy;
 import com.datastax.driver.core.policies.DCAwareRoundRobinPolicy;
 import com.datastax.driver.core.policies.DefaultRetryPolicy;
+import com.datastax.driver.core.policies.LatencyAwarePolicy;
+import com.datastax.driver.core.policies.LoadBalancingPolicy;
+import com.datastax.driver.core.policies.SpeculativeExecutionPolicy;
+import com.datastax.driver.core.policies.TokenAwarePolicy;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.common.CassandraPropertyReader;
@@ -15,6 +26,7 @@ import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.exception.ResponseCode;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.logging.LoggerUtil;
+import org.sunbird.util.BackendGuard;
 import org.sunbird.util.ProjectUtil;
 
 public class CassandraConnectionManagerImpl implements CassandraConnectionManager {
@@ -22,6 +34,8 @@ public class CassandraConnectionManagerImpl implements CassandraConnectionManage
 
   private static Cluster cluster;
   private static final Map<String, Session> cassandraSessionMap = new ConcurrentHashMap<>(2);
+  private static final ThreadPoolExecutor callbackExecutor = createCallbackExecutor();
+  private static final ThreadPoolExecutor scanExecutor = createScanExecutor();
 
   static {
     registerShutDownHook();
@@ -38,7 +52,9 @@ public class CassandraConnectionManagerImpl implements CassandraConnectionManage
     if (null != session) {
       return session;
     } else {
-      Session session2 = cluster.connect(keyspace);
+      Session session2 =
+          new GuardedSession(
+              cluster.connect(keyspace), BackendGuard.getInstance(BackendGuard.CASSANDRA));
       cassandraSessionMap.put(keyspace, session2);
       return session2;
     }
@@ -68,9 +84,7 @@ public class CassandraConnectionManagerImpl implements CassandraConnectionManage
       poolingOptions.setPoolTimeoutMillis(
           Integer.parseInt(cache.getProperty(Constants.POOL_TIMEOUT)));
 
-      //check for multi DC enabled or not from configuration file and send the value
-      cluster = createCluster(hosts, poolingOptions, Boolean.parseBoolean(cache.getProperty(Constants.IS_MULTI_DC_ENABLED)));
-
+      cluster = createCluster(hosts, poolingOptions);
 
       final Metadata metadata = cluster.getMetadata();
       String msg = String.format("Connected to cluster: %s", metadata.getClusterName());
@@ -89,7 +103,7 @@ public class CassandraConnectionManagerImpl implements CassandraConnectionManage
     }
   }
 
-  private static Cluster createCluster(String[] hosts, PoolingOptions poolingOptions, boolean isMultiDCEnabled) {
+  static Cluster createCluster(String[] hosts, PoolingOptions poolingOptions) {
     Cluster.Builder builder =
         Cluster.builder()
             .addContactPoints(hosts)
@@ -106,15 +120,69 @@ public class CassandraConnectionManagerImpl implements CassandraConnectionManage
       builder.withQueryOptions(new QueryOptions().setConsistencyLevel(consistencyLevel));
     }
 
-    logger.info(
-            "CassandraConnectionManagerImpl:createCluster: isMultiDCEnabled = " + isMultiDCEnabled);
-    if (isMultiDCEnabled) {
-      builder.withLoadBalancingPolicy(DCAwareRoundRobinPolicy.builder().build());
+    CassandraPropertyReader cache = CassandraPropertyReader.getInstance();
+    builder.withLoadBalancingPolicy(createLoadBalancingPolicy(cache));
+
+    SpeculativeExecutionPolicy speculativeExecutionPolicy = createSpeculativeExecutionPolicy(cache);
+    if (speculativeExecutionPolicy != null) {
+      builder.withSpeculativeExecutionPolicy(speculativeExecutionPolicy);
     }
 
     return builder.build();
   }
 
+  /**
+   * Creates the load balancing policy. Hosts of the local data center are queried round robin; when
+   * enabled, hosts much slower than the fastest one are skipped for a while (latency aware) and
+   * replicas owning the partition of a statement are tried first (token aware).
+   */
+  static LoadBalancingPolicy createLoadBalancingPolicy(CassandraPropertyReader cache) {
+    LoadBalancingPolicy policy = DCAwareRoundRobinPolicy.builder().build();
+    if (cache.getBooleanProperty(Constants.LATENCY_AWARE_ROUTING_ENABLED, false)) {
+      double exclusionThreshold =
+          cache.getDoubleProperty(Constants.LATENCY_AWARE_EXCLUSION_THRESHOLD, 2.0);
+      logger.info(
+          "CassandraConnectionManagerImpl:createLoadBalancingPolicy: latency aware routing with exclusion threshold = "
+              + exclusionThreshold);
+      policy =
+          LatencyAwarePolicy.builder(policy)
+              .withExclusionThreshold(exclusionThreshold)
+              .withScale(
+                  cache.getIntProperty(Constants.LATENCY_AWARE_SCALE, 100), TimeUnit.MILLISECONDS)
+              .withRetryPeriod(
+                  cache.getIntProperty(Constants.LATENCY_AWARE_RETRY_PERIOD, 10), TimeUnit.SECONDS)
+              .withMininumMeasurements(
+                  cache.getIntProperty(Constants.LATENCY_AWARE_MINIMUM_MEASUREMENTS, 50))
+              .build();
+    }
+    if (cache.getBooleanProperty(Constants.TOKEN_AWARE_ROUTING_ENABLED, true)) {
+      policy = new TokenAwarePolicy(policy);
+    }
+    return policy;
+  }
+
+  /**
+   * Creates the speculative execution policy, or null when it is disabled. A statement marked
+   * idempotent that has not completed within the configured delay is also sent to the next host of
+   * the query plan, up to the configured number of extra executions, and the first response is
+   * used. This bounds the latency added by a replica stalled in a GC pause.
+   */
+  static SpeculativeExecutionPolicy createSpeculativeExecutionPolicy(
+      CassandraPropertyReader cache) {
+    if (!cache.getBooleanProperty(Constants.SPECULATIVE_EXECUTION_ENABLED, false)) {
+      return null;
+    }
+    int delay = cache.getIntProperty(Constants.SPECULATIVE_EXECUTION_DELAY, 100);
+    int maxExecutions =
+        Math.max(1, cache.getIntProperty(Constants.SPECULATIVE_EXECUTION_MAX_EXECUTIONS, 1));
+    logger.info(
+        "CassandraConnectionManagerImpl:createSpeculativeExecutionPolicy: delay = "
+            + delay
+            + ", maxExecutions = "
+            + maxExecutions);
+    return new ConstantSpeculativeExecutionPolicy(delay, maxExecutions);
+  }
+
   private static ConsistencyLevel getConsistencyLevel() {
     String consistency = ProjectUtil.getConfigValue(JsonKey.SUNBIRD_CASSANDRA_CONSISTENCY_LEVEL);
 
@@ -133,6 +201,120 @@ public class CassandraConnectionManagerImpl implements CassandraConnectionManage
     return null;
   }
 
+  /**
+   * Creates the bounded executor on which callbacks of asynchronous queries are run. Callbacks are
+   * executed by the caller (the driver I/O thread) when the queue is full, so that no result is
+   * dropped.
+   */
+  private static ThreadPoolExecutor createCallbackExecutor() {
+    CassandraPropertyReader cache = CassandraPropertyReader.getInstance();
+    int poolSize =
+        cache.getIntProperty(
+            Constants.CALLBACK_EXECUTOR_POOL_SIZE, Runtime.getRuntime().availableProcessors());
+    int queueSize = cache.getIntProperty(Constants.CALLBACK_EXECUTOR_QUEUE_SIZE, 10000);
+    logger.info(
+        "CassandraConnectionManagerImpl:createCallbackExecutor: poolSize = "
+            + poolSize
+            + ", queueSize = "
+            + queueSize);
+    return createCallbackExecutor(poolSize, queueSize);
+  }
+
+  static ThreadPoolExecutor createCallbackExecutor(int poolSize, int queueSize) {
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(queueSize),
+            new ThreadFactoryBuilder()
+                .setNameFormat("cassandra-callback-%d")
+                .setDaemon(true)
+                .build(),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * Creates the bounded executor on which token ranges of table scans are read, shared by all the
+   * scans so that they do not create threads of their own. A scan is read by the calling thread
+   * when the queue is full.
+   */
+  private static ThreadPoolExecutor createScanExecutor() {
+    int poolSize = getScanParallelism();
+    logger.info("CassandraConnectionManagerImpl:createScanExecutor: poolSize = " + poolSize);
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(poolSize),
+            new ThreadFactoryBuilder().setNameFormat("cassandra-scan-%d").setDaemon(true).build(),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /** @return number of token ranges read in parallel by table scans */
+  public static int getScanParallelism() {
+    return Math.max(
+        1,
+        CassandraPropertyReader.getInstance()
+            .getIntProperty(
+                Constants.TOKEN_RANGE_SCAN_PARALLELISM,
+                Runtime.getRuntime().availableProcessors()));
+  }
+
+  /**
+   * Method to get the shared executor to be used to read the token ranges of table scans.
+   *
+   * @return Executor
+   */
+  public static Executor getScanExecutor() {
+    return scanExecutor;
+  }
+
+  /**
+   * Method to get the shared executor to be used for callbacks of asynchronous cassandra queries.
+   *
+   * @return Executor
+   */
+  public static Executor getCallbackExecutor() {
+    return callbackExecutor;
+  }
+
+  /** @return number of callbacks waiting in the callback executor queue */
+  public static int getCallbackQueueDepth() {
+    return callbackExecutor.getQueue().size();
+  }
+
+  /** @return number of threads currently running callbacks */
+  public static int getCallbackActiveThreadCount() {
+    return callbackExecutor.getActiveCount();
+  }
+
+  /** @return number of callbacks completed since start up */
+  public static long getCallbackCompletedTaskCount() {
+    return callbackExecutor.getCompletedTaskCount();
+  }
+
+  /**
+   * Method to get the queue depth, the active threads and the completed callbacks of the callback
+   * executor, reported by the health API.
+   *
+   * @return Map of callback executor statistics
+   */
+  public static Map<String, Object> getCallbackExecutorStats() {
+    Map<String, Object> stats = new HashMap<>();
+    stats.put(Constants.QUEUE_DEPTH, getCallbackQueueDepth());
+    stats.put(Constants.ACTIVE_THREAD_COUNT, getCallbackActiveThreadCount());
+    stats.put(Constants.COMPLETED_TASK_COUNT, getCallbackCompletedTaskCount());
+    return stats;
+  }
+
   @Override
   public List<String> getTableList(String keyspacename) {
     Collection<TableMetadata> tables = cluster.getMetadata().getKeyspace(keyspacename).getTables();
@@ -161,6 +343,14 @@ public class CassandraConnectionManagerImpl implements CassandraConnectionManage
         cluster.close();
       } catch (Exception ex) {
         logger.error("Error :", ex);
+      } finally {
+        callbackExecutor.shutdown();
+        scanExecutor.shutdownNow();
+        try {
+          callbackExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+        }
       }
     }
   }
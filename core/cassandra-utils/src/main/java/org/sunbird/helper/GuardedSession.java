@@ -0,0 +1,178 @@
+package org.sunbird.helper;
+
+import com.datastax.driver.core.AbstractSession;
+import com.datastax.driver.core.CloseFuture;
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.StatementWrapper;
+import com.datastax.driver.core.exceptions.DriverException;
+import com.datastax.driver.core.exceptions.QueryValidationException;
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import org.sunbird.util.BackendGuard;
+
+/**
+ * Session which makes each query through the {@link BackendGuard} of Cassandra, so queries fail
+ * fast while the breaker is open or too many queries are in flight. Queries without a read timeout
+ * of their own, other than the ones which page through their results, get the timeout of the guard,
+ * which follows the recent latency of Cassandra. Invalid queries do not count as failures of
+ * Cassandra.
+ */
+class GuardedSession extends AbstractSession {
+
+  private final Session session;
+  private final BackendGuard guard;
+
+  GuardedSession(Session session, BackendGuard guard) {
+    this.session = session;
+    this.guard = guard;
+  }
+
+  @Override
+  public ResultSet execute(Statement statement) {
+    long startTime = guard.acquire();
+    try {
+      ResultSet result = session.execute(withReadTimeout(statement));
+      guard.complete(startTime, false);
+      return result;
+    } catch (RuntimeException e) {
+      guard.complete(startTime, isBackendFailure(e));
+      throw e;
+    }
+  }
+
+  @Override
+  public ResultSetFuture executeAsync(Statement statement) {
+    long startTime = guard.acquire();
+    ResultSetFuture future;
+    try {
+      future = session.executeAsync(withReadTimeout(statement));
+    } catch (RuntimeException e) {
+      guard.complete(startTime, isBackendFailure(e));
+      throw e;
+    }
+    Futures.addCallback(
+        future,
+        new FutureCallback<ResultSet>() {
+          @Override
+          public void onSuccess(ResultSet result) {
+            guard.complete(startTime, false);
+          }
+
+          @Override
+          public void onFailure(Throwable t) {
+            guard.complete(startTime, isBackendFailure(t));
+          }
+        },
+        MoreExecutors.directExecutor());
+    return future;
+  }
+
+  @Override
+  public ListenableFuture<PreparedStatement> prepareAsync(String query) {
+    return session.prepareAsync(query);
+  }
+
+  @Override
+  public ListenableFuture<PreparedStatement> prepareAsync(RegularStatement statement) {
+    return session.prepareAsync(statement);
+  }
+
+  @Override
+  protected ListenableFuture<PreparedStatement> prepareAsync(
+      String query, Map<String, ByteBuffer> customPayload) {
+    // the session prepares the query with the outgoing payload of the statement
+    RegularStatement statement = new SimpleStatement(query);
+    statement.setOutgoingPayload(customPayload);
+    return session.prepareAsync(statement);
+  }
+
+  @Override
+  public String getLoggedKeyspace() {
+    return session.getLoggedKeyspace();
+  }
+
+  @Override
+  public Session init() {
+    session.init();
+    return this;
+  }
+
+  @Override
+  public ListenableFuture<Session> initAsync() {
+    return Futures.transform(
+        session.initAsync(),
+        (Function<Session, Session>) initialized -> this,
+        MoreExecutors.directExecutor());
+  }
+
+  @Override
+  public CloseFuture closeAsync() {
+    return session.closeAsync();
+  }
+
+  @Override
+  public void close() {
+    session.close();
+  }
+
+  @Override
+  public boolean isClosed() {
+    return session.isClosed();
+  }
+
+  @Override
+  public Cluster getCluster() {
+    return session.getCluster();
+  }
+
+  @Override
+  public State getState() {
+    return session.getState();
+  }
+
+  /**
+   * Method to give a statement the timeout of the guard, unless it has a read timeout of its own or
+   * pages through its results, as scans do, whose pages can take longer than the recent latency.
+   * The statement of the caller is wrapped rather than changed, as it can be executed again.
+   *
+   * @param statement Statement to execute
+   * @return Statement to pass to the session
+   */
+  Statement withReadTimeout(Statement statement) {
+    if (Integer.MIN_VALUE != statement.getReadTimeoutMillis() || statement.getFetchSize() > 0) {
+      return statement;
+    }
+    return new TimedStatement(statement, (int) guard.getTimeoutMillis());
+  }
+
+  static boolean isBackendFailure(Throwable t) {
+    return t instanceof DriverException && !(t instanceof QueryValidationException);
+  }
+
+  private static final class TimedStatement extends StatementWrapper {
+
+    private final int readTimeoutMillis;
+
+    private TimedStatement(Statement statement, int readTimeoutMillis) {
+      super(statement);
+      this.readTimeoutMillis = readTimeoutMillis;
+    }
+
+    @Override
+    public int getReadTimeoutMillis() {
+      return readTimeoutMillis;
+    }
+  }
+}
@@ -2,17 +2,29 @@ package org.sunbird.cassandraimpl;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.powermock.api.mockito.PowerMockito.when;
 
+import com.datastax.driver.core.BatchStatement;
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.ColumnMetadata;
+import com.datastax.driver.core.KeyspaceMetadata;
 import com.datastax.driver.core.Metadata;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.TableMetadata;
+import com.datastax.driver.core.Token;
+import com.datastax.driver.core.TokenRange;
+import com.datastax.driver.core.exceptions.NoHostAvailableException;
 import com.datastax.driver.core.querybuilder.Delete;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Select;
@@ -20,10 +32,18 @@ import com.datastax.driver.core.querybuilder.Update;
 import com.datastax.driver.core.querybuilder.Using;
 import com.google.common.util.concurrent.Uninterruptibles;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 import org.junit.FixMethodOrder;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -34,7 +54,10 @@ import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.sunbird.cassandra.CassandraOperation;
+import org.sunbird.cassandraannotation.PartitioningKey;
+import org.sunbird.common.CassandraMetrics;
 import org.sunbird.common.CassandraUtil;
+import org.sunbird.common.Constants;
 import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.exception.ResponseCode;
 import org.sunbird.helper.CassandraConnectionManager;
@@ -71,6 +94,7 @@ import org.sunbird.util.PropertiesCache;
   Update.class,
   Update.Assignments.class,
   Update.Where.class,
+  TokenRange.class,
   Using.class,
   Iterator.class,
   Row.class,
@@ -396,4 +420,392 @@ public class CassandraOperationImplTest {
       assertNotNull(ex);
     }
   }
+
+  @Test
+  public void testGetRecordByIdAsyncSuccess() throws Exception {
+    Session session = mockSession();
+    ResultSet resultSet = PowerMockito.mock(ResultSet.class);
+    ResultSetFuture future = mockResultSetFuture();
+    when(future.get()).thenReturn(resultSet);
+    when(session.executeAsync(Mockito.any(Statement.class))).thenReturn(future);
+    Response expected = new Response();
+    PowerMockito.mockStatic(CassandraUtil.class);
+    when(CassandraUtil.createResponse(resultSet)).thenReturn(expected);
+
+    CassandraOperation cassandraOperation = new CassandraDACImpl();
+    Response response =
+        cassandraOperation
+            .getRecordByIdAsync("sunbird", "user", "1234567890", null, null)
+            .toCompletableFuture()
+            .get();
+    assertSame(expected, response);
+  }
+
+  @Test
+  public void testGetRecordByIdAsyncFailure() throws Exception {
+    Session session = mockSession();
+    ResultSetFuture future = mockResultSetFuture();
+    when(future.get()).thenThrow(new ExecutionException(new RuntimeException("read timeout")));
+    when(session.executeAsync(Mockito.any(Statement.class))).thenReturn(future);
+
+    CassandraOperation cassandraOperation = new CassandraDACImpl();
+    try {
+      cassandraOperation
+          .getRecordByIdAsync("sunbird", "user", "1234567890", null, null)
+          .toCompletableFuture()
+          .get();
+      fail();
+    } catch (ExecutionException ex) {
+      assertTrue(ex.getCause() instanceof ProjectCommonException);
+      assertEquals(
+          ResponseCode.SERVER_ERROR.getResponseCode(),
+          ((ProjectCommonException) ex.getCause()).getErrorResponseCode());
+    }
+  }
+
+  @Test
+  public void testGetAllRecordsAsStreamSuccess() {
+    Session session = mockSession();
+    ResultSet resultSet = PowerMockito.mock(ResultSet.class);
+    when(session.execute(Mockito.any(Statement.class))).thenReturn(resultSet);
+    Row row1 = PowerMockito.mock(Row.class);
+    Row row2 = PowerMockito.mock(Row.class);
+    when(resultSet.isExhausted()).thenReturn(false, false, true);
+    when(resultSet.one()).thenReturn(row1, row2);
+    when(resultSet.isFullyFetched()).thenReturn(true);
+    Map<String, String> columnsMapping = new HashMap<>();
+    PowerMockito.mockStatic(CassandraUtil.class);
+    when(CassandraUtil.fetchColumnsMapping(resultSet)).thenReturn(columnsMapping);
+    Map<String, Object> record1 = new HashMap<>();
+    record1.put(JsonKey.ID, "1");
+    Map<String, Object> record2 = new HashMap<>();
+    record2.put(JsonKey.ID, "2");
+    when(CassandraUtil.createRowMap(row1, columnsMapping)).thenReturn(record1);
+    when(CassandraUtil.createRowMap(row2, columnsMapping)).thenReturn(record2);
+
+    CassandraOperation cassandraOperation = new CassandraDACImpl();
+    List<Map<String, Object>> records =
+        cassandraOperation
+            .getAllRecordsAsStream("sunbird", "user", null, 2, null)
+            .collect(Collectors.toList());
+    assertEquals(2, records.size());
+    assertEquals("2", records.get(1).get(JsonKey.ID));
+  }
+
+  @Test
+  public void testBatchInsertSinglePartitionSuccess() {
+    Session session = mockSession();
+    List<Map<String, Object>> records = new ArrayList<>();
+    records.add(createRecord("1", "email"));
+    records.add(createRecord("1", "phone"));
+
+    CassandraOperation cassandraOperation = new CassandraDACImpl();
+    Response response = cassandraOperation.batchInsert("sunbird", "user_lookup", records, null);
+    assertEquals(JsonKey.SUCCESS, response.get(JsonKey.RESPONSE));
+    Mockito.verify(session, Mockito.times(1)).execute(Mockito.any(BatchStatement.class));
+    Mockito.verify(session, Mockito.never()).executeAsync(Mockito.any(Statement.class));
+  }
+
+  @Test
+  public void testBatchInsertMultiplePartitionsSuccess() {
+    Session session = mockSession();
+    ResultSetFuture future = mockResultSetFuture();
+    when(session.executeAsync(Mockito.any(Statement.class))).thenReturn(future);
+    List<Map<String, Object>> records = new ArrayList<>();
+    records.add(createRecord("1", "email"));
+    records.add(createRecord("2", "email"));
+    records.add(createRecord("1", "phone"));
+
+    CassandraOperation cassandraOperation = new CassandraDACImpl();
+    Response response = cassandraOperation.batchInsert("sunbird", "user_lookup", records, null);
+    assertEquals(JsonKey.SUCCESS, response.get(JsonKey.RESPONSE));
+    Mockito.verify(session, Mockito.times(2)).executeAsync(Mockito.any(BatchStatement.class));
+  }
+
+  @Test
+  public void testBatchInsertMultiplePartitionsFailure() {
+    Session session = mockSession();
+    ResultSetFuture future = mockResultSetFuture();
+    when(future.getUninterruptibly()).thenThrow(new NoHostAvailableException(new HashMap<>()));
+    when(session.executeAsync(Mockito.any(Statement.class))).thenReturn(future);
+    List<Map<String, Object>> records = new ArrayList<>();
+    records.add(createRecord("1", "email"));
+    records.add(createRecord("2", "email"));
+
+    CassandraOperation cassandraOperation = new CassandraDACImpl();
+    try {
+      cassandraOperation.batchInsert("sunbird", "user_lookup", records, null);
+      fail();
+    } catch (ProjectCommonException ex) {
+      assertEquals(ResponseCode.SERVER_ERROR.getResponseCode(), ex.getErrorResponseCode());
+    }
+  }
+
+  @Test
+  public void testGetRecordObjByIdSuccess() {
+    Session session = mockSession();
+    ResultSet resultSet = PowerMockito.mock(ResultSet.class);
+    when(session.execute(Mockito.any(Statement.class))).thenReturn(resultSet);
+    ColumnDefinitions columnDefinitions = PowerMockito.mock(ColumnDefinitions.class);
+    when(resultSet.getColumnDefinitions()).thenReturn(columnDefinitions);
+    when(columnDefinitions.size()).thenReturn(3);
+    when(columnDefinitions.getName(0)).thenReturn("id");
+    when(columnDefinitions.getName(1)).thenReturn("locationids");
+    when(columnDefinitions.getName(2)).thenReturn("unmapped");
+    Row row = PowerMockito.mock(Row.class);
+    when(row.getObject(0)).thenReturn("1234567890");
+    when(row.getObject(1)).thenReturn(new LinkedHashSet<>(Arrays.asList("l1", "l2")));
+    when(row.getObject(2)).thenReturn("value");
+    when(resultSet.iterator()).thenReturn(Arrays.asList(row).iterator());
+
+    CassandraOperation cassandraOperation = new CassandraDACImpl();
+    TestRecord record =
+        cassandraOperation.getRecordObjById(
+            "sunbird", "user", "1234567890", TestRecord.class, null);
+    assertEquals("1234567890", record.id);
+    assertEquals(Arrays.asList("l1", "l2"), record.locationIds);
+  }
+
+  @Test
+  public void testGetRecordObjByIdFailsWhenAColumnCannotBeMapped() {
+    Session session = mockSession();
+    ResultSet resultSet = PowerMockito.mock(ResultSet.class);
+    when(session.execute(Mockito.any(Statement.class))).thenReturn(resultSet);
+    ColumnDefinitions columnDefinitions = PowerMockito.mock(ColumnDefinitions.class);
+    when(resultSet.getColumnDefinitions()).thenReturn(columnDefinitions);
+    when(columnDefinitions.size()).thenReturn(2);
+    when(columnDefinitions.getName(0)).thenReturn("id");
+    when(columnDefinitions.getName(1)).thenReturn("locationids");
+    Row row = PowerMockito.mock(Row.class);
+    when(row.getObject(0)).thenReturn("1234567890");
+    when(row.getObject(1)).thenReturn("not json");
+    when(resultSet.iterator()).thenReturn(Arrays.asList(row).iterator());
+
+    CassandraOperation cassandraOperation = new CassandraDACImpl();
+    try {
+      cassandraOperation.getRecordObjById("sunbird", "user", "1234567890", TestRecord.class, null);
+      fail();
+    } catch (ProjectCommonException e) {
+      assertEquals(ResponseCode.SERVER_ERROR.getResponseCode(), e.getErrorResponseCode());
+    }
+  }
+
+  @Test
+  public void testGetRecordObjByIdNotFound() {
+    Session session = mockSession();
+    ResultSet resultSet = PowerMockito.mock(ResultSet.class);
+    when(session.execute(Mockito.any(Statement.class))).thenReturn(resultSet);
+    when(resultSet.getColumnDefinitions()).thenReturn(PowerMockito.mock(ColumnDefinitions.class));
+    when(resultSet.iterator()).thenReturn(new ArrayList<Row>().iterator());
+
+    CassandraOperation cassandraOperation = new CassandraDACImpl();
+    assertNull(
+        cassandraOperation.getRecordObjById(
+            "sunbird", "user", "1234567890", TestRecord.class, null));
+  }
+
+  @Test
+  public void testGetRecordsByIdsInParallelMergesInIdOrder() throws Exception {
+    Session session = mockSession();
+    ResultSet resultSet1 = PowerMockito.mock(ResultSet.class);
+    ResultSet resultSet2 = PowerMockito.mock(ResultSet.class);
+    ResultSetFuture future1 = mockResultSetFuture();
+    when(future1.get()).thenReturn(resultSet1);
+    ResultSetFuture future2 = mockResultSetFuture();
+    when(future2.get()).thenReturn(resultSet2);
+    when(session.executeAsync(Mockito.any(Statement.class))).thenReturn(future1, future2);
+    PowerMockito.mockStatic(CassandraUtil.class);
+    when(CassandraUtil.createResponse(resultSet1)).thenReturn(createResponse("id2"));
+    when(CassandraUtil.createResponse(resultSet2)).thenReturn(createResponse("id1"));
+
+    CassandraOperation cassandraOperation = new CassandraDACImpl();
+    Response response =
+        cassandraOperation.getRecordsByIdsInParallel(
+            "sunbird", "location", null, Arrays.asList("id2", "id1", "id2"), null);
+    List<Map<String, Object>> records = (List<Map<String, Object>>) response.get(JsonKey.RESPONSE);
+    assertEquals(
+        Arrays.asList("id2", "id1"),
+        records.stream().map(record -> record.get(JsonKey.ID)).collect(Collectors.toList()));
+    Mockito.verify(session, Mockito.times(2)).executeAsync(Mockito.any(Statement.class));
+  }
+
+  @Test
+  public void testGetRecordsByIdsInParallelFallsBackPerKey() throws Exception {
+    Session session = mockSession();
+    ResultSet resultSet1 = PowerMockito.mock(ResultSet.class);
+    ResultSet resultSet2 = PowerMockito.mock(ResultSet.class);
+    ResultSetFuture future1 = mockResultSetFuture();
+    when(future1.get()).thenReturn(resultSet1);
+    ResultSetFuture future2 = mockResultSetFuture();
+    when(future2.get()).thenThrow(new ExecutionException(new RuntimeException("read timeout")));
+    when(session.executeAsync(Mockito.any(Statement.class))).thenReturn(future1, future2);
+    when(session.execute(Mockito.any(Statement.class))).thenReturn(resultSet2);
+    PowerMockito.mockStatic(CassandraUtil.class);
+    when(CassandraUtil.createResponse(resultSet1)).thenReturn(createResponse("id1"));
+    when(CassandraUtil.createResponse(resultSet2)).thenReturn(createResponse("id2"));
+
+    CassandraOperation cassandraOperation = new CassandraDACImpl();
+    Response response =
+        cassandraOperation.getRecordsByPrimaryKeysInParallel(
+            "sunbird", "location", Arrays.asList("id1", "id2"), JsonKey.ID, null);
+    assertEquals(2, ((List<Map<String, Object>>) response.get(JsonKey.RESPONSE)).size());
+    Mockito.verify(session, Mockito.times(1)).execute(Mockito.any(Statement.class));
+  }
+
+  @Test
+  public void testGetRecordsByIdsRecordsReadLatencyAndError() {
+    CassandraMetrics.getInstance().reset();
+    Session session = mockSession();
+    when(session.execute(Mockito.any(Statement.class)))
+        .thenAnswer(
+            invocation -> {
+              Thread.sleep(20);
+              throw new NoHostAvailableException(new HashMap<>());
+            });
+
+    CassandraOperation cassandraOperation = new CassandraDACImpl();
+    try {
+      cassandraOperation.getRecordsByIdsWithSpecifiedColumns(
+          "sunbird", "location", null, Arrays.asList("id1", "id2"), null);
+      fail();
+    } catch (ProjectCommonException e) {
+      assertEquals(ResponseCode.SERVER_ERROR.getResponseCode(), e.getErrorResponseCode());
+    }
+    Map<String, Object> metrics = CassandraMetrics.getInstance().getSnapshot().get(0);
+    assertEquals("read", metrics.get(Constants.OPERATION));
+    assertEquals(1L, metrics.get(Constants.COUNT));
+    assertEquals(1L, metrics.get(Constants.ERROR_COUNT));
+    // the latency is measured around the execute call
+    assertTrue((long) metrics.get(Constants.MAX) >= 20);
+  }
+
+  @Test
+  public void testScanAllRecordsReadsEveryTokenRange() {
+    Session session = mockSession();
+    List<BoundStatement> statements = mockTokenRangeStatements(session, "scan_success", 3);
+    PowerMockito.mockStatic(CassandraUtil.class);
+    for (int i = 0; i < statements.size(); i++) {
+      ResultSet resultSet = mockResultSet(createRecord("id" + i, "state"));
+      when(session.execute(statements.get(i))).thenReturn(resultSet);
+    }
+
+    List<Map<String, Object>> records = new CopyOnWriteArrayList<>();
+    CassandraOperation cassandraOperation = new CassandraDACImpl();
+    cassandraOperation.scanAllRecords("sunbird", "scan_success", null, records::add, null);
+
+    assertEquals(
+        new HashSet<>(Arrays.asList("id0", "id1", "id2")),
+        records.stream().map(record -> record.get(JsonKey.ID)).collect(Collectors.toSet()));
+    Mockito.verify(session, Mockito.times(3)).execute(Mockito.any(Statement.class));
+  }
+
+  @Test
+  public void testScanAllRecordsFailsWhenATokenRangeFails() {
+    Session session = mockSession();
+    List<BoundStatement> statements = mockTokenRangeStatements(session, "scan_failure", 3);
+    PowerMockito.mockStatic(CassandraUtil.class);
+    ResultSet resultSet = mockResultSet(createRecord("id0", "state"));
+    when(session.execute(Mockito.any(Statement.class))).thenReturn(resultSet);
+    when(session.execute(statements.get(1)))
+        .thenThrow(new NoHostAvailableException(new HashMap<>()));
+
+    CassandraOperation cassandraOperation = new CassandraDACImpl();
+    try {
+      cassandraOperation.scanAllRecords("sunbird", "scan_failure", null, record -> {}, null);
+      fail();
+    } catch (ProjectCommonException e) {
+      assertEquals(ResponseCode.SERVER_ERROR.getResponseCode(), e.getErrorResponseCode());
+      assertTrue(e.getMessage().startsWith("All host(s) tried for query failed"));
+    }
+  }
+
+  public static class TestRecord {
+    @PartitioningKey private String id;
+    private List<String> locationIds;
+  }
+
+  private Map<String, Object> createRecord(String id, String type) {
+    Map<String, Object> record = new HashMap<>();
+    record.put(JsonKey.ID, id);
+    record.put(JsonKey.TYPE, type);
+    return record;
+  }
+
+  private Response createResponse(String id) {
+    List<Map<String, Object>> records = new ArrayList<>();
+    records.add(createRecord(id, "state"));
+    Response response = new Response();
+    response.put(JsonKey.RESPONSE, records);
+    return response;
+  }
+
+  private List<BoundStatement> mockTokenRangeStatements(
+      Session session, String tableName, int rangeCount) {
+    Cluster cluster = PowerMockito.mock(Cluster.class);
+    Metadata metadata = PowerMockito.mock(Metadata.class);
+    KeyspaceMetadata keyspaceMetadata = PowerMockito.mock(KeyspaceMetadata.class);
+    TableMetadata tableMetadata = PowerMockito.mock(TableMetadata.class);
+    ColumnMetadata column = PowerMockito.mock(ColumnMetadata.class);
+    when(session.getCluster()).thenReturn(cluster);
+    when(cluster.getMetadata()).thenReturn(metadata);
+    when(metadata.getKeyspace("sunbird")).thenReturn(keyspaceMetadata);
+    when(keyspaceMetadata.getTable(tableName)).thenReturn(tableMetadata);
+    when(column.getName()).thenReturn(JsonKey.ID);
+    when(tableMetadata.getPartitionKey()).thenReturn(Arrays.asList(column));
+
+    PreparedStatement preparedStatement = PowerMockito.mock(PreparedStatement.class);
+    when(session.prepare(Mockito.anyString())).thenReturn(preparedStatement);
+    Set<TokenRange> ranges = new LinkedHashSet<>();
+    List<BoundStatement> statements = new ArrayList<>();
+    for (int i = 0; i < rangeCount; i++) {
+      TokenRange range = PowerMockito.mock(TokenRange.class);
+      when(range.getStart()).thenReturn(PowerMockito.mock(Token.class));
+      when(range.getEnd()).thenReturn(PowerMockito.mock(Token.class));
+      ranges.add(range);
+      BoundStatement statement = PowerMockito.mock(BoundStatement.class);
+      when(statement.setToken(Mockito.anyInt(), Mockito.any(Token.class))).thenReturn(statement);
+      statements.add(statement);
+    }
+    when(metadata.getTokenRanges()).thenReturn(ranges);
+    when(preparedStatement.bind())
+        .thenReturn(
+            statements.get(0), statements.subList(1, rangeCount).toArray(new BoundStatement[0]));
+    return statements;
+  }
+
+  private ResultSet mockResultSet(Map<String, Object> record) {
+    ResultSet resultSet = PowerMockito.mock(ResultSet.class);
+    ColumnDefinitions columnDefinitions = PowerMockito.mock(ColumnDefinitions.class);
+    when(resultSet.getColumnDefinitions()).thenReturn(columnDefinitions);
+    when(columnDefinitions.asList()).thenReturn(new ArrayList<>());
+    Row row = PowerMockito.mock(Row.class);
+    when(resultSet.isExhausted()).thenReturn(false, true);
+    when(resultSet.one()).thenReturn(row);
+    when(CassandraUtil.fetchColumnsMapping(resultSet)).thenReturn(new HashMap<>());
+    when(CassandraUtil.createRowMap(Mockito.eq(row), Mockito.anyMap())).thenReturn(record);
+    return resultSet;
+  }
+
+  private Session mockSession() {
+    CassandraConnectionManager connectionManager =
+        PowerMockito.mock(CassandraConnectionManagerImpl.class);
+    PowerMockito.mockStatic(CassandraConnectionMngrFactory.class);
+    when(CassandraConnectionMngrFactory.getInstance()).thenReturn(connectionManager);
+    Session session = PowerMockito.mock(Session.class);
+    when(connectionManager.getSession(Mockito.anyString())).thenReturn(session);
+    return session;
+  }
+
+  private ResultSetFuture mockResultSetFuture() {
+    ResultSetFuture future = Mockito.mock(ResultSetFuture.class);
+    when(future.isDone()).thenReturn(true);
+    Mockito.doAnswer(
+            invocation -> {
+              ((Runnable) invocation.getArgument(0)).run();
+              return null;
+            })
+        .when(future)
+        .addListener(Mockito.any(Runnable.class), Mockito.any(Executor.class));
+    return future;
+  }
 }
@@ -0,0 +1,62 @@
+package org.sunbird.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CassandraMetricsTest {
+
+  private CassandraMetrics metrics = CassandraMetrics.getInstance();
+
+  @Before
+  public void setUp() {
+    metrics.reset();
+  }
+
+  @Test
+  public void testGetSnapshotPerOperationAndTable() {
+    for (long i = 1; i <= 100; i++) {
+      metrics.recordLatency("getRecordById", "user", i);
+    }
+    metrics.recordLatency("getRecordById", "organisation", 5);
+    metrics.recordError("getRecordById", "user");
+
+    List<Map<String, Object>> snapshot = metrics.getSnapshot();
+    assertEquals(2, snapshot.size());
+    Map<String, Object> userMetrics = getMetrics(snapshot, "user");
+    assertEquals("getRecordById", userMetrics.get(Constants.OPERATION));
+    assertEquals(100L, userMetrics.get(Constants.COUNT));
+    assertEquals(1L, userMetrics.get(Constants.ERROR_COUNT));
+    assertEquals(99L, userMetrics.get(Constants.P99));
+    assertEquals(100L, userMetrics.get(Constants.MAX));
+    assertEquals(0L, getMetrics(snapshot, "organisation").get(Constants.ERROR_COUNT));
+  }
+
+  @Test
+  public void testGetSnapshotIsCumulative() {
+    metrics.recordLatency("insertRecord", "user", 10);
+    metrics.getSnapshot();
+    metrics.recordLatency("insertRecord", "user", 20);
+
+    assertEquals(2L, metrics.getSnapshot().get(0).get(Constants.COUNT));
+  }
+
+  @Test
+  public void testIsSlowQuery() {
+    assertTrue(metrics.isSlowQuery(metrics.getSlowQueryThreshold()));
+    assertFalse(metrics.isSlowQuery(metrics.getSlowQueryThreshold() - 1));
+  }
+
+  private Map<String, Object> getMetrics(List<Map<String, Object>> snapshot, String tableName) {
+    return snapshot
+        .stream()
+        .filter(map -> tableName.equals(map.get(Constants.TABLE)))
+        .findFirst()
+        .get();
+  }
+}
@@ -0,0 +1,51 @@
+package org.sunbird.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class PreparedStatementCacheTest {
+
+  @Test
+  public void testGetPreparedStatementPreparesOnlyOnce() {
+    Session session = Mockito.mock(Session.class);
+    PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+    Map<String, Object> record = new HashMap<>();
+    record.put("id", "1");
+    record.put("name", "test");
+    String query = CassandraUtil.getPreparedStatement("sunbird", "cache_test", record);
+    Mockito.when(session.prepare(query)).thenReturn(statement);
+
+    PreparedStatementCache cache = PreparedStatementCache.getInstance();
+    long hits = cache.getHitCount();
+    long misses = cache.getMissCount();
+    PreparedStatement first = cache.getPreparedStatement(session, "sunbird", query);
+    PreparedStatement second = cache.getPreparedStatement(session, "sunbird", query);
+
+    assertSame(statement, first);
+    assertSame(statement, second);
+    Mockito.verify(session, Mockito.times(1)).prepare(query);
+    assertEquals(misses + 1, cache.getMissCount());
+    assertEquals(hits + 1, cache.getHitCount());
+  }
+
+  @Test
+  public void testGetPreparedStatementIsKeyspaceAware() {
+    Session session = Mockito.mock(Session.class);
+    String query = "SELECT id FROM cache_test where id = ?;";
+    Mockito.when(session.prepare(query))
+        .thenReturn(Mockito.mock(PreparedStatement.class), Mockito.mock(PreparedStatement.class));
+
+    PreparedStatementCache cache = PreparedStatementCache.getInstance();
+    cache.getPreparedStatement(session, "sunbird", query);
+    cache.getPreparedStatement(session, "sunbird_courses", query);
+
+    Mockito.verify(session, Mockito.times(2)).prepare(query);
+  }
+}
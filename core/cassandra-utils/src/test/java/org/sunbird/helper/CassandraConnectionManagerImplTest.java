@@ -0,0 +1,109 @@
+package org.sunbird.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.PoolingOptions;
+import com.datastax.driver.core.policies.ConstantSpeculativeExecutionPolicy;
+import com.datastax.driver.core.policies.LatencyAwarePolicy;
+import com.datastax.driver.core.policies.LoadBalancingPolicy;
+import com.datastax.driver.core.policies.Policies;
+import com.datastax.driver.core.policies.SpeculativeExecutionPolicy;
+import com.datastax.driver.core.policies.SpeculativeExecutionPolicy.SpeculativeExecutionPlan;
+import com.datastax.driver.core.policies.TokenAwarePolicy;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import org.sunbird.common.CassandraPropertyReader;
+import org.sunbird.common.Constants;
+
+public class CassandraConnectionManagerImplTest {
+
+  @Test
+  public void testCreateLoadBalancingPolicy() {
+    LoadBalancingPolicy policy =
+        CassandraConnectionManagerImpl.createLoadBalancingPolicy(
+            CassandraPropertyReader.getInstance());
+    assertTrue(policy instanceof TokenAwarePolicy);
+    assertTrue(((TokenAwarePolicy) policy).getChildPolicy() instanceof LatencyAwarePolicy);
+  }
+
+  @Test
+  public void testCreateSpeculativeExecutionPolicy() {
+    SpeculativeExecutionPolicy policy =
+        CassandraConnectionManagerImpl.createSpeculativeExecutionPolicy(
+            CassandraPropertyReader.getInstance());
+    assertTrue(policy instanceof ConstantSpeculativeExecutionPolicy);
+    SpeculativeExecutionPlan plan = policy.newPlan(null, null);
+    assertEquals(100, plan.nextExecution(null));
+    assertEquals(-1, plan.nextExecution(null));
+  }
+
+  @Test
+  public void testCreateClusterInstallsConfiguredPolicies() {
+    // building a cluster does not connect to it until a session is opened
+    Cluster cluster =
+        CassandraConnectionManagerImpl.createCluster(
+            new String[] {"127.0.0.1"}, new PoolingOptions());
+    try {
+      Policies policies = cluster.getConfiguration().getPolicies();
+      assertTrue(policies.getLoadBalancingPolicy() instanceof TokenAwarePolicy);
+      assertTrue(
+          policies.getSpeculativeExecutionPolicy() instanceof ConstantSpeculativeExecutionPolicy);
+      SpeculativeExecutionPlan plan = policies.getSpeculativeExecutionPolicy().newPlan(null, null);
+      assertEquals(100, plan.nextExecution(null));
+      assertEquals(-1, plan.nextExecution(null));
+    } finally {
+      cluster.close();
+    }
+  }
+
+  @Test
+  public void testCallbackExecutorQueuesThenRunsOnCallerWhenFull() throws Exception {
+    ThreadPoolExecutor executor = CassandraConnectionManagerImpl.createCallbackExecutor(1, 1);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      executor.execute(
+          () -> {
+            started.countDown();
+            awaitQuietly(release);
+          });
+      assertTrue(started.await(5, TimeUnit.SECONDS));
+      executor.execute(() -> {});
+      assertEquals(1, executor.getQueue().size());
+      assertEquals(1, executor.getActiveCount());
+
+      // the queue is full, so the callback is run by the thread completing the query
+      AtomicReference<Thread> runner = new AtomicReference<>();
+      executor.execute(() -> runner.set(Thread.currentThread()));
+      assertEquals(Thread.currentThread(), runner.get());
+      assertEquals(1, executor.getQueue().size());
+    } finally {
+      release.countDown();
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+    assertEquals(2, executor.getCompletedTaskCount());
+  }
+
+  @Test
+  public void testGetCallbackExecutorStats() {
+    Map<String, Object> stats = CassandraConnectionManagerImpl.getCallbackExecutorStats();
+    assertTrue(stats.containsKey(Constants.QUEUE_DEPTH));
+    assertTrue(stats.containsKey(Constants.ACTIVE_THREAD_COUNT));
+    assertTrue(stats.containsKey(Constants.COMPLETED_TASK_COUNT));
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
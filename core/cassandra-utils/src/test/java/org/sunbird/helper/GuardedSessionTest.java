@@ -0,0 +1,136 @@
+package org.sunbird.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.InvalidQueryException;
+import com.datastax.driver.core.exceptions.NoHostAvailableException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
+import org.sunbird.util.BackendGuard;
+import org.sunbird.util.PropertiesCache;
+
+public class GuardedSessionTest {
+
+  private final Session session = mock(Session.class);
+
+  @BeforeClass
+  public static void setUp() {
+    for (String backend :
+        new String[] {
+          "cassandraTimeoutTest", "cassandraUnavailableTest", "cassandraInvalidQueryTest"
+        }) {
+      PropertiesCache.getInstance()
+          .saveConfigProperty("sunbird_" + backend + "_guard_enabled", "true");
+    }
+  }
+
+  @Test
+  public void testExecuteSetsTimeoutOfGuard() {
+    BackendGuard guard = BackendGuard.getInstance("cassandraTimeoutTest");
+    GuardedSession guardedSession = new GuardedSession(session, guard);
+    ResultSet resultSet = mock(ResultSet.class);
+    ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+    when(session.execute(captor.capture())).thenReturn(resultSet);
+    Statement statement = new SimpleStatement("select * from sunbird.user");
+
+    assertEquals(resultSet, guardedSession.execute(statement));
+    assertEquals(guard.getTimeoutMillis(), captor.getValue().getReadTimeoutMillis());
+    // the statement of the caller is left as it is
+    assertEquals(Integer.MIN_VALUE, statement.getReadTimeoutMillis());
+  }
+
+  @Test
+  public void testExecuteKeepsTimeoutOfStatement() {
+    GuardedSession guardedSession =
+        new GuardedSession(session, BackendGuard.getInstance("cassandraTimeoutTest"));
+    Statement statement =
+        new SimpleStatement("select * from sunbird.user").setReadTimeoutMillis(60000);
+
+    assertSame(statement, guardedSession.withReadTimeout(statement));
+  }
+
+  @Test
+  public void testExecuteKeepsTimeoutOfPagingStatement() {
+    GuardedSession guardedSession =
+        new GuardedSession(session, BackendGuard.getInstance("cassandraTimeoutTest"));
+    Statement statement = new SimpleStatement("select * from sunbird.user").setFetchSize(500);
+
+    assertSame(statement, guardedSession.withReadTimeout(statement));
+  }
+
+  @Test
+  public void testPrepareAsyncPassesCustomPayload() {
+    GuardedSession guardedSession =
+        new GuardedSession(session, BackendGuard.getInstance("cassandraTimeoutTest"));
+    Map<String, ByteBuffer> customPayload =
+        Collections.singletonMap("trace", ByteBuffer.wrap(new byte[] {1}));
+    ArgumentCaptor<RegularStatement> captor = ArgumentCaptor.forClass(RegularStatement.class);
+
+    guardedSession.prepareAsync("select * from sunbird.user", customPayload);
+
+    verify(session).prepareAsync(captor.capture());
+    assertEquals("select * from sunbird.user", captor.getValue().getQueryString());
+    assertEquals(customPayload, captor.getValue().getOutgoingPayload());
+  }
+
+  @Test
+  public void testUnavailableCassandraOpensBreaker() {
+    GuardedSession guardedSession =
+        new GuardedSession(session, BackendGuard.getInstance("cassandraUnavailableTest"));
+    when(session.execute(Mockito.any(Statement.class)))
+        .thenThrow(new NoHostAvailableException(Collections.emptyMap()));
+
+    ProjectCommonException exception = null;
+    for (int i = 0; i <= 20 && null == exception; i++) {
+      try {
+        guardedSession.execute("select * from sunbird.user");
+        fail("Expected the query to fail");
+      } catch (NoHostAvailableException e) {
+        // counted as a failure of Cassandra
+      } catch (ProjectCommonException e) {
+        exception = e;
+      }
+    }
+
+    assertEquals(
+        ResponseCode.SERVICE_UNAVAILABLE.getResponseCode(), exception.getErrorResponseCode());
+    verify(session, times(20)).execute(Mockito.any(Statement.class));
+  }
+
+  @Test
+  public void testInvalidQueriesDoNotOpenBreaker() {
+    BackendGuard guard = BackendGuard.getInstance("cassandraInvalidQueryTest");
+    GuardedSession guardedSession = new GuardedSession(session, guard);
+    when(session.execute(Mockito.any(Statement.class)))
+        .thenThrow(new InvalidQueryException("unknown column"));
+
+    for (int i = 0; i < 30; i++) {
+      try {
+        guardedSession.execute("select * from sunbird.user");
+        fail("Expected the query to fail");
+      } catch (InvalidQueryException e) {
+        // a bad query, not a failure of Cassandra
+      }
+    }
+
+    assertEquals(BackendGuard.State.CLOSED, guard.getState());
+  }
+}
@@ -1,16 +1,27 @@
 package org.sunbird.common;
 
+import akka.dispatch.ExecutionContexts;
+import akka.dispatch.OnComplete;
 import akka.util.Timeout;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
 import java.math.BigInteger;
+import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
@@ -25,6 +36,7 @@ import org.elasticsearch.index.query.ExistsQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.index.query.RangeQueryBuilder;
+import org.elasticsearch.index.query.SimpleQueryStringBuilder;
 import org.elasticsearch.index.query.TermQueryBuilder;
 import org.elasticsearch.index.query.TermsQueryBuilder;
 import org.elasticsearch.search.SearchHit;
@@ -36,8 +48,13 @@ import org.elasticsearch.search.aggregations.bucket.terms.Terms;
 import org.elasticsearch.search.aggregations.bucket.terms.Terms.Bucket;
 import org.elasticsearch.search.sort.SortOrder;
 import org.sunbird.dto.SearchDTO;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.logging.LoggerUtil;
+import org.sunbird.request.RequestContext;
+import org.sunbird.util.BackendGuard;
+import org.sunbird.util.PropertiesCache;
 import scala.concurrent.Await;
 import scala.concurrent.Future;
 
@@ -50,6 +67,7 @@ import scala.concurrent.Future;
  */
 public class ElasticSearchHelper {
   private static final LoggerUtil logger = new LoggerUtil(ElasticSearchHelper.class);
+  private static final ObjectMapper mapper = new ObjectMapper();
   public static final String LTE = "<=";
   public static final String LT = "<";
   public static final String GTE = ">=";
@@ -67,7 +85,9 @@ public class ElasticSearchHelper {
   private ElasticSearchHelper() {}
 
   /**
-   * This method will return the object after getting complete future.
+   * This method will return the object after getting complete future. It blocks the calling thread
+   * until the future completes, use {@link #toCompletionStage(Future, String, RequestContext)} to
+   * compose on the result instead.
    *
    * @param future
    * @return Object which future inherits
@@ -83,6 +103,86 @@ public class ElasticSearchHelper {
     return null;
   }
 
+  /**
+   * This method will adapt the future of an elastic search call to a CompletionStage, without
+   * waiting for it. The returned stage completes exceptionally with {@link ProjectCommonException}
+   * if the call fails or does not complete within the call timeout, which follows the recent
+   * latency of elastic search.
+   *
+   * @param future Future of the elastic search call
+   * @param operation Name of the call, used in logs
+   * @param context
+   * @return CompletionStage of the call result
+   */
+  public static <T> CompletionStage<T> toCompletionStage(
+      Future<T> future, String operation, RequestContext context) {
+    return toCompletionStage(future, getCallTimeoutMillis(), operation, context);
+  }
+
+  /**
+   * This method will adapt the future of an elastic search call to a CompletionStage, without
+   * waiting for it. The returned stage completes exceptionally with {@link ProjectCommonException}
+   * if the call fails or does not complete within timeoutMillis.
+   *
+   * @param future Future of the elastic search call
+   * @param timeoutMillis Time to wait for the call, in milliseconds
+   * @param operation Name of the call, used in logs
+   * @param context
+   * @return CompletionStage of the call result
+   */
+  public static <T> CompletionStage<T> toCompletionStage(
+      Future<T> future, long timeoutMillis, String operation, RequestContext context) {
+    CompletableFuture<T> call = new CompletableFuture<>();
+    future.onComplete(
+        new OnComplete<T>() {
+          @Override
+          public void onComplete(Throwable failure, T result) {
+            if (null == failure) {
+              call.complete(result);
+            } else {
+              call.completeExceptionally(failure);
+            }
+          }
+        },
+        ExecutionContexts.global());
+    CompletableFuture<T> result = new CompletableFuture<>();
+    call.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+        .whenComplete(
+            (value, failure) -> {
+              if (null == failure) {
+                result.complete(value);
+              } else {
+                result.completeExceptionally(
+                    handleCallException(failure, timeoutMillis, operation, context));
+              }
+            });
+    return result;
+  }
+
+  private static ProjectCommonException handleCallException(
+      Throwable e, long timeoutMillis, String operation, RequestContext context) {
+    Throwable cause = e instanceof CompletionException && null != e.getCause() ? e.getCause() : e;
+    if (cause instanceof ProjectCommonException) {
+      return (ProjectCommonException) cause;
+    }
+    if (cause instanceof TimeoutException) {
+      logger.error(
+          context,
+          "ElasticSearchHelper:" + operation + ": no response in " + timeoutMillis + " ms",
+          cause);
+      return new ProjectCommonException(
+          ResponseCode.serviceUnAvailable,
+          ResponseCode.serviceUnAvailable.getErrorMessage(),
+          ResponseCode.SERVICE_UNAVAILABLE.getResponseCode());
+    }
+    return new ProjectCommonException(
+        ResponseCode.serverError, cause.getMessage(), ResponseCode.SERVER_ERROR.getResponseCode());
+  }
+
+  private static long getCallTimeoutMillis() {
+    return BackendGuard.getInstance(BackendGuard.ES).getTimeoutMillis();
+  }
+
   /**
    * This method adds aggregations to the incoming SearchRequestBuilder object
    *
@@ -140,6 +240,55 @@ public class ElasticSearchHelper {
     return Collections.emptyMap();
   }
 
+  /**
+   * Method to create the query of a search, matching the configured channel, the simple query
+   * string, the additional properties and the fuzzy match of the searchDTO.
+   *
+   * @param searchDTO with query, filters and fuzzy match
+   * @return BoolQueryBuilder
+   */
+  public static BoolQueryBuilder createQuery(SearchDTO searchDTO) {
+    // check mode and set constraints
+    Map<String, Float> constraintsMap = getConstraints(searchDTO);
+
+    BoolQueryBuilder query = new BoolQueryBuilder();
+
+    // add channel field as mandatory
+    String channel = PropertiesCache.getInstance().getProperty(JsonKey.SUNBIRD_ES_CHANNEL);
+    if (!(StringUtils.isBlank(channel) || JsonKey.SUNBIRD_ES_CHANNEL.equals(channel))) {
+      query.must(QueryBuilders.matchQuery(JsonKey.CHANNEL, channel));
+    }
+
+    // apply simple query string
+    if (!StringUtils.isBlank(searchDTO.getQuery())) {
+      SimpleQueryStringBuilder sqsb = QueryBuilders.simpleQueryStringQuery(searchDTO.getQuery());
+      query.must(sqsb);
+      if (CollectionUtils.isNotEmpty(searchDTO.getQueryFields())) {
+        Map<String, Float> searchFields =
+            searchDTO
+                .getQueryFields()
+                .stream()
+                .collect(Collectors.<String, String, Float>toMap(s -> s, v -> 1.0f));
+        query.must(sqsb.fields(searchFields));
+      }
+    }
+
+    // apply additional properties
+    if (searchDTO.getAdditionalProperties() != null
+        && searchDTO.getAdditionalProperties().size() > 0) {
+      for (Map.Entry<String, Object> entry : searchDTO.getAdditionalProperties().entrySet()) {
+        addAdditionalProperties(query, entry, constraintsMap);
+      }
+    }
+
+    // do fuzzy search
+    if (MapUtils.isNotEmpty(searchDTO.getFuzzy())) {
+      Map.Entry<String, String> entry = searchDTO.getFuzzy().entrySet().iterator().next();
+      createFuzzyMatchQuery(query, entry.getKey(), entry.getValue());
+    }
+    return query;
+  }
+
   /**
    * This method return SearchRequestBuilder for transport client
    *
@@ -597,6 +746,7 @@ public class ElasticSearchHelper {
     search = getBasicBuiders(search, searchQueryMap);
     search = setOffset(search, searchQueryMap);
     search = getLimits(search, searchQueryMap);
+    search = setCursor(search, searchQueryMap);
     if (searchQueryMap.containsKey(JsonKey.GROUP_QUERY)) {
       search
           .getGroupQuery()
@@ -663,6 +813,32 @@ public class ElasticSearchHelper {
     return search;
   }
 
+  /**
+   * This method switches to cursor pagination if the searchQuery contains a cursor, empty for the
+   * first page
+   *
+   * @param search search which contains the search parameters for elastic search.
+   * @param searchQueryMap searchQueryMap which contains cursor
+   * @return SearchDTO updated searchDTO which contain cursor
+   */
+  private static SearchDTO setCursor(SearchDTO search, Map<String, Object> searchQueryMap) {
+    if (searchQueryMap.containsKey(JsonKey.CURSOR)) {
+      Object cursor = searchQueryMap.get(JsonKey.CURSOR);
+      if (null != cursor && !(cursor instanceof String)) {
+        throw new ProjectCommonException(
+            ResponseCode.dataTypeError,
+            MessageFormat.format(
+                ResponseCode.dataTypeError.getErrorMessage(), JsonKey.CURSOR, "String"),
+            ResponseCode.CLIENT_ERROR.getResponseCode());
+      }
+      search.setCursorPagination(true);
+      if (StringUtils.isNotBlank((String) cursor)) {
+        search.setCursor((String) cursor);
+      }
+    }
+    return search;
+  }
+
   /**
    * This method adds basic query parameter to SearchDTO if any provided
    *
@@ -727,6 +903,13 @@ public class ElasticSearchHelper {
       finalFacetList = getFinalFacetList(response, searchDTO, finalFacetList);
     }
     responseMap.put(JsonKey.CONTENT, esSource);
+    if (searchDTO.isCursorPagination()) {
+      SearchHit[] pageHits = response.getHits().getHits();
+      if (pageHits.length > 0 && pageHits.length == searchDTO.getLimit()) {
+        responseMap.put(
+            JsonKey.NEXT_CURSOR, createCursor(pageHits[pageHits.length - 1].getSortValues()));
+      }
+    }
     if (!(finalFacetList.isEmpty())) {
       responseMap.put(JsonKey.FACETS, finalFacetList);
     }
@@ -734,6 +917,45 @@ public class ElasticSearchHelper {
     return responseMap;
   }
 
+  /**
+   * Method to create the continuation token of a cursor search from the sort values of the last hit
+   * of a page.
+   *
+   * @param sortValues Sort values of the last hit
+   * @return Opaque cursor of the next page
+   */
+  public static String createCursor(Object[] sortValues) {
+    try {
+      return Base64.getUrlEncoder()
+          .withoutPadding()
+          .encodeToString(mapper.writeValueAsBytes(sortValues));
+    } catch (JsonProcessingException e) {
+      logger.error("ElasticSearchHelper:createCursor: unable to create cursor", e);
+      throw new ProjectCommonException(
+          ResponseCode.serverError,
+          ResponseCode.serverError.getErrorMessage(),
+          ResponseCode.SERVER_ERROR.getResponseCode());
+    }
+  }
+
+  /**
+   * Method to read the search_after values from the continuation token of a cursor search.
+   *
+   * @param cursor Cursor returned with the previous page
+   * @return Sort values of the last hit of the previous page
+   */
+  public static Object[] parseCursor(String cursor) {
+    try {
+      return mapper.readValue(Base64.getUrlDecoder().decode(cursor), Object[].class);
+    } catch (IllegalArgumentException | IOException e) {
+      throw new ProjectCommonException(
+          ResponseCode.invalidParameterValue,
+          MessageFormat.format(
+              ResponseCode.invalidParameterValue.getErrorMessage(), cursor, JsonKey.CURSOR),
+          ResponseCode.CLIENT_ERROR.getResponseCode());
+    }
+  }
+
   private static List getFinalFacetList(
       SearchResponse response, SearchDTO searchDTO, List finalFacetList) {
     if (null != searchDTO.getFacets() && !searchDTO.getFacets().isEmpty()) {
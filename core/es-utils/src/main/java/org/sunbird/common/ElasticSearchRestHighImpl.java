@@ -1,15 +1,21 @@
 package org.sunbird.common;
 
+import akka.dispatch.ExecutionContexts;
 import akka.dispatch.Futures;
+import akka.dispatch.Mapper;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.elasticsearch.action.ActionListener;
 import org.elasticsearch.action.DocWriteResponse;
 import org.elasticsearch.action.admin.indices.get.GetIndexRequest;
@@ -20,27 +26,35 @@ import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.delete.DeleteResponse;
 import org.elasticsearch.action.get.GetRequest;
 import org.elasticsearch.action.get.GetResponse;
+import org.elasticsearch.action.get.MultiGetItemResponse;
+import org.elasticsearch.action.get.MultiGetRequest;
+import org.elasticsearch.action.get.MultiGetResponse;
 import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.action.index.IndexResponse;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.action.update.UpdateRequest;
 import org.elasticsearch.action.update.UpdateResponse;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.core.CountRequest;
+import org.elasticsearch.client.core.CountResponse;
 import org.elasticsearch.index.query.*;
 import org.elasticsearch.search.aggregations.AggregationBuilders;
 import org.elasticsearch.search.aggregations.bucket.histogram.DateHistogramInterval;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.fetch.subphase.FetchSourceContext;
 import org.elasticsearch.search.sort.FieldSortBuilder;
 import org.elasticsearch.search.sort.SortMode;
+import org.elasticsearch.search.sort.SortOrder;
 import org.sunbird.common.inf.ElasticSearchService;
 import org.sunbird.dto.SearchDTO;
+import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.exception.ResponseCode;
 import org.sunbird.helper.ConnectionManager;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.logging.LoggerUtil;
 import org.sunbird.request.RequestContext;
 import org.sunbird.util.ProjectUtil;
-import org.sunbird.util.PropertiesCache;
 import scala.concurrent.Future;
 import scala.concurrent.Promise;
 
@@ -51,7 +65,19 @@ import scala.concurrent.Promise;
  */
 public class ElasticSearchRestHighImpl implements ElasticSearchService {
   private static final String ERROR = "ERROR";
+  /** Maximum number of documents read by one multi get request. */
+  static final int MGET_CHUNK_SIZE = 100;
+  /** Share of the search queries logged, as serializing every query is costly. */
+  private static final double DEFAULT_QUERY_LOG_SAMPLE_RATE = 0.01;
+
   private static final LoggerUtil logger = new LoggerUtil(ElasticSearchRestHighImpl.class);
+  private final boolean bulkWriteEnabled = EsBulkWriter.isEnabled();
+  private final boolean multiSearchWindowEnabled = EsMultiSearchBatcher.isWindowEnabled();
+  private final boolean queryTemplatesEnabled = EsQueryTemplates.isEnabled();
+  private final double queryLogSampleRate =
+      NumberUtils.toDouble(
+          ProjectUtil.getConfigValue(JsonKey.SUNBIRD_ES_QUERY_LOG_SAMPLE_RATE),
+          DEFAULT_QUERY_LOG_SAMPLE_RATE);
 
   /**
    * This method will put a new data entry inside Elastic search. identifier value becomes _id
@@ -132,7 +158,12 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
           }
         };
 
-    ConnectionManager.getRestClient().indexAsync(indexRequest, listener);
+    if (bulkWriteEnabled) {
+      EsBulkWriter.getInstance().add(indexRequest, listener);
+    } else {
+      GuardedActionListener.execute(
+          listener, guarded -> ConnectionManager.getRestClient().indexAsync(indexRequest, guarded));
+    }
 
     return promise.future();
   }
@@ -193,7 +224,13 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
               promise.failure(e);
             }
           };
-      ConnectionManager.getRestClient().updateAsync(updateRequest, listener);
+      if (bulkWriteEnabled) {
+        EsBulkWriter.getInstance().add(updateRequest, listener);
+      } else {
+        GuardedActionListener.execute(
+            listener,
+            guarded -> ConnectionManager.getRestClient().updateAsync(updateRequest, guarded));
+      }
 
     } else {
       logger.info(context, "ElasticSearchRestHighImpl:update: Requested data is invalid.");
@@ -259,7 +296,8 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
             }
           };
 
-      ConnectionManager.getRestClient().getAsync(getRequest, listener);
+      GuardedActionListener.execute(
+          listener, guarded -> ConnectionManager.getRestClient().getAsync(getRequest, guarded));
     } else {
       logger.info(
           context,
@@ -314,7 +352,8 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
             }
           };
 
-      ConnectionManager.getRestClient().deleteAsync(delRequest, listener);
+      GuardedActionListener.execute(
+          listener, guarded -> ConnectionManager.getRestClient().deleteAsync(delRequest, guarded));
     } else {
       logger.info(
           context,
@@ -354,30 +393,6 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
     SearchRequest searchRequest = new SearchRequest(index);
     searchRequest.types(_DOC);
 
-    // check mode and set constraints
-    Map<String, Float> constraintsMap = ElasticSearchHelper.getConstraints(searchDTO);
-
-    BoolQueryBuilder query = new BoolQueryBuilder();
-
-    // add channel field as mandatory
-    String channel = PropertiesCache.getInstance().getProperty(JsonKey.SUNBIRD_ES_CHANNEL);
-    if (!(StringUtils.isBlank(channel) || JsonKey.SUNBIRD_ES_CHANNEL.equals(channel))) {
-      query.must(QueryBuilders.matchQuery(JsonKey.CHANNEL, channel));
-    }
-
-    // apply simple query string
-    if (!StringUtils.isBlank(searchDTO.getQuery())) {
-      SimpleQueryStringBuilder sqsb = QueryBuilders.simpleQueryStringQuery(searchDTO.getQuery());
-      query.must(sqsb);
-      if (CollectionUtils.isNotEmpty(searchDTO.getQueryFields())) {
-        Map<String, Float> searchFields =
-            searchDTO
-                .getQueryFields()
-                .stream()
-                .collect(Collectors.<String, String, Float>toMap(s -> s, v -> 1.0f));
-        query.must(sqsb.fields(searchFields));
-      }
-    }
     // apply the sorting
     if (searchDTO.getSortBy() != null && searchDTO.getSortBy().size() > 0) {
       for (Map.Entry<String, Object> entry : searchDTO.getSortBy().entrySet()) {
@@ -410,8 +425,19 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
             ? searchDTO.getExcludedFields().stream().toArray(String[]::new)
             : null);
 
-    // setting the offset
-    if (searchDTO.getOffset() != null) {
+    // setting search_after of the cursor with id as tie-breaker, or the offset
+    if (searchDTO.isCursorPagination()) {
+      searchSourceBuilder.sort(JsonKey.ID + ElasticSearchHelper.RAW_APPEND, SortOrder.ASC);
+      if (StringUtils.isNotBlank(searchDTO.getCursor())) {
+        try {
+          searchSourceBuilder.searchAfter(ElasticSearchHelper.parseCursor(searchDTO.getCursor()));
+        } catch (ProjectCommonException e) {
+          logger.info(
+              context, "ElasticSearchRestHighImpl:search: invalid cursor " + searchDTO.getCursor());
+          return Futures.failed(e);
+        }
+      }
+    } else if (searchDTO.getOffset() != null) {
       searchSourceBuilder.from(searchDTO.getOffset());
     }
 
@@ -419,33 +445,29 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
     if (searchDTO.getLimit() != null) {
       searchSourceBuilder.size(searchDTO.getLimit());
     }
-    // apply additional properties
-    if (searchDTO.getAdditionalProperties() != null
-        && searchDTO.getAdditionalProperties().size() > 0) {
-      for (Map.Entry<String, Object> entry : searchDTO.getAdditionalProperties().entrySet()) {
-        ElasticSearchHelper.addAdditionalProperties(query, entry, constraintsMap);
-      }
-    }
-
-    // do fuzzy search
-    if (MapUtils.isNotEmpty(searchDTO.getFuzzy())) {
-      Map.Entry<String, String> entry = searchDTO.getFuzzy().entrySet().iterator().next();
-      ElasticSearchHelper.createFuzzyMatchQuery(query, entry.getKey(), entry.getValue());
+    // set final query to search request builder, bound on the template of its shape if cached
+    String boundQuery =
+        queryTemplatesEnabled ? EsQueryTemplates.getInstance().getQuery(searchDTO) : null;
+    if (null != boundQuery) {
+      searchSourceBuilder.query(QueryBuilders.wrapperQuery(boundQuery));
+    } else {
+      searchSourceBuilder.query(ElasticSearchHelper.createQuery(searchDTO));
     }
-    // set final query to search request builder
-    searchSourceBuilder.query(query);
 
     List finalFacetList = new ArrayList();
 
     if (null != searchDTO.getFacets() && !searchDTO.getFacets().isEmpty()) {
       searchSourceBuilder = addAggregations(searchSourceBuilder, searchDTO.getFacets());
     }
-    logger.info(
-        context,
-        "ElasticSearchRestHighImpl:search: calling search for index "
-            + index
-            + ", with query = "
-            + searchSourceBuilder.toString());
+    if (isQueryLogSampled()) {
+      logger.info(
+          context,
+          "ElasticSearchRestHighImpl:search: calling search for index "
+              + index
+              + ", with query = "
+              + searchSourceBuilder.toString()
+              + (null != boundQuery ? ", bound query = " + boundQuery : ""));
+    }
 
     searchRequest.source(searchSourceBuilder);
     Promise<Map<String, Object>> promise = Futures.promise();
@@ -490,7 +512,89 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
           }
         };
 
-    ConnectionManager.getRestClient().searchAsync(searchRequest, listener);
+    EsMultiSearchBatcher multiSearchBatcher = EsMultiSearchBatcher.getInstance();
+    GuardedActionListener.execute(
+        listener,
+        guarded -> {
+          if (multiSearchWindowEnabled || multiSearchBatcher.isGroupOpen()) {
+            multiSearchBatcher.add(searchRequest, guarded);
+          } else {
+            ConnectionManager.getRestClient().searchAsync(searchRequest, guarded);
+          }
+        });
+    return promise.future();
+  }
+
+  /**
+   * This method will count the documents matching the searchDTO with the count API.
+   *
+   * @param searchDTO SearchDTO
+   * @param index String
+   * @param context
+   * @return Future<Long> with the number of matching documents
+   */
+  @Override
+  public Future<Long> count(SearchDTO searchDTO, String index, RequestContext context) {
+    return count(searchDTO, index, 0, context);
+  }
+
+  /**
+   * This method will check if a document matches the searchDTO, with a count terminated after the
+   * first match of each shard.
+   *
+   * @param searchDTO SearchDTO
+   * @param index String
+   * @param context
+   * @return Future<Boolean> true if a document matches
+   */
+  @Override
+  public Future<Boolean> exists(SearchDTO searchDTO, String index, RequestContext context) {
+    return count(searchDTO, index, 1, context)
+        .map(
+            new Mapper<Long, Boolean>() {
+              @Override
+              public Boolean apply(Long count) {
+                return count > 0;
+              }
+            },
+            ExecutionContexts.global());
+  }
+
+  private Future<Long> count(
+      SearchDTO searchDTO, String index, int terminateAfter, RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    CountRequest countRequest =
+        new CountRequest(index)
+            .types(_DOC)
+            .source(new SearchSourceBuilder().query(ElasticSearchHelper.createQuery(searchDTO)));
+    if (terminateAfter > 0) {
+      countRequest.terminateAfter(terminateAfter);
+    }
+    Promise<Long> promise = Futures.promise();
+    ActionListener<CountResponse> listener =
+        new ActionListener<CountResponse>() {
+          @Override
+          public void onResponse(CountResponse response) {
+            logger.debug(
+                context,
+                "ElasticSearchRestHighImpl:count: method end for Index "
+                    + index
+                    + " ,Total time elapsed = "
+                    + calculateEndTime(startTime));
+            promise.success(response.getCount());
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            logger.error(context, "ElasticSearchRestHighImpl:count: method Failed with error :", e);
+            promise.failure(e);
+          }
+        };
+    GuardedActionListener.execute(
+        listener,
+        guarded ->
+            ConnectionManager.getRestClient()
+                .countAsync(countRequest, RequestOptions.DEFAULT, guarded));
     return promise.future();
   }
 
@@ -581,7 +685,8 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
             promise.success(false);
           }
         };
-    ConnectionManager.getRestClient().bulkAsync(request, listener);
+    GuardedActionListener.execute(
+        listener, guarded -> ConnectionManager.getRestClient().bulkAsync(request, guarded));
 
     logger.debug(
         context,
@@ -597,6 +702,10 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
     return System.currentTimeMillis() - startTime;
   }
 
+  private boolean isQueryLogSampled() {
+    return queryLogSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < queryLogSampleRate;
+  }
+
   private static SearchSourceBuilder addAggregations(
       SearchSourceBuilder searchSourceBuilder, List<Map<String, String>> facets) {
     long startTime = System.currentTimeMillis();
@@ -687,7 +796,13 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
               promise.failure(e);
             }
           };
-      ConnectionManager.getRestClient().updateAsync(updateRequest, listener);
+      if (bulkWriteEnabled) {
+        EsBulkWriter.getInstance().add(updateRequest, listener);
+      } else {
+        GuardedActionListener.execute(
+            listener,
+            guarded -> ConnectionManager.getRestClient().updateAsync(updateRequest, guarded));
+      }
       return promise.future();
     } else {
       logger.info(context, "ElasticSearchRestHighImpl:upsert: Requested data is invalid.");
@@ -709,32 +824,85 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
   public Future<Map<String, Map<String, Object>>> getEsResultByListOfIds(
       List<String> ids, List<String> fields, String index, RequestContext context) {
     long startTime = System.currentTimeMillis();
-
-    Map<String, Object> filters = new HashMap<>();
-    filters.put(JsonKey.ID, ids);
-
-    SearchDTO searchDTO = new SearchDTO();
-    searchDTO.getAdditionalProperties().put(JsonKey.FILTERS, filters);
-    searchDTO.setFields(fields);
-
-    Future<Map<String, Object>> resultF = search(searchDTO, index, null);
-    Map<String, Object> result =
-        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(resultF);
-    List<Map<String, Object>> esContent = (List<Map<String, Object>>) result.get(JsonKey.CONTENT);
     Promise<Map<String, Map<String, Object>>> promise = Futures.promise();
-    promise.success(
-        esContent
-            .stream()
-            .collect(
-                Collectors.toMap(
-                    obj -> {
-                      return (String) obj.get("id");
-                    },
-                    val -> val)));
-    logger.debug(
-        context,
-        "ElasticSearchRestHighImpl:getEsResultByListOfIds: method ended for index " + index);
+    List<String> distinctIds = ids.stream().distinct().collect(Collectors.toList());
+    if (distinctIds.isEmpty()) {
+      promise.success(new HashMap<>());
+      return promise.future();
+    }
+    FetchSourceContext fetchSourceContext =
+        CollectionUtils.isEmpty(fields)
+            ? FetchSourceContext.FETCH_SOURCE
+            : new FetchSourceContext(true, fields.toArray(new String[0]), null);
+    Map<String, Map<String, Object>> result = new ConcurrentHashMap<>();
+    int chunks = (distinctIds.size() + MGET_CHUNK_SIZE - 1) / MGET_CHUNK_SIZE;
+    AtomicInteger pendingChunks = new AtomicInteger(chunks);
+    ActionListener<MultiGetResponse> listener =
+        new ActionListener<MultiGetResponse>() {
+          @Override
+          public void onResponse(MultiGetResponse multiGetResponse) {
+            for (MultiGetItemResponse item : multiGetResponse.getResponses()) {
+              if (item.isFailed()) {
+                logger.info(
+                    context,
+                    "ElasticSearchRestHighImpl:getEsResultByListOfIds: failed to get "
+                        + item.getId()
+                        + " from index "
+                        + index
+                        + " : "
+                        + item.getFailure().getMessage());
+              } else if (item.getResponse().isExists()) {
+                result.put(item.getId(), item.getResponse().getSourceAsMap());
+              }
+            }
+            if (pendingChunks.decrementAndGet() == 0) {
+              List<String> missingIds =
+                  distinctIds
+                      .stream()
+                      .filter(id -> !result.containsKey(id))
+                      .collect(Collectors.toList());
+              if (!missingIds.isEmpty()) {
+                logger.info(
+                    context,
+                    "ElasticSearchRestHighImpl:getEsResultByListOfIds: "
+                        + missingIds.size()
+                        + " ids not found in index "
+                        + index
+                        + " : "
+                        + missingIds);
+              }
+              logger.debug(
+                  context,
+                  "ElasticSearchRestHighImpl:getEsResultByListOfIds: method end for Index "
+                      + index
+                      + " ,Total time elapsed = "
+                      + calculateEndTime(startTime));
+              promise.trySuccess(new HashMap<>(result));
+            }
+          }
 
+          @Override
+          public void onFailure(Exception e) {
+            logger.error(
+                context,
+                "ElasticSearchRestHighImpl:getEsResultByListOfIds: method Failed with error == ",
+                e);
+            promise.tryFailure(e);
+          }
+        };
+    for (int from = 0; from < distinctIds.size(); from += MGET_CHUNK_SIZE) {
+      MultiGetRequest multiGetRequest = new MultiGetRequest();
+      for (String id :
+          distinctIds.subList(from, Math.min(from + MGET_CHUNK_SIZE, distinctIds.size()))) {
+        multiGetRequest.add(
+            new MultiGetRequest.Item(index, _DOC, id).fetchSourceContext(fetchSourceContext));
+      }
+      GuardedActionListener.execute(
+          listener,
+          guarded ->
+              ConnectionManager.getRestClient()
+                  .mgetAsync(multiGetRequest, RequestOptions.DEFAULT, guarded));
+    }
     return promise.future();
   }
 }
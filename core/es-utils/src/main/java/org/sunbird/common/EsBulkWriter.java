@@ -0,0 +1,226 @@
+package org.sunbird.common;
+
+import akka.dispatch.Futures;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.DocWriteResponse;
+import org.elasticsearch.action.bulk.BackoffPolicy;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkProcessor;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.common.unit.ByteSizeUnit;
+import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.common.unit.TimeValue;
+import org.sunbird.helper.ConnectionManager;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.util.ProjectUtil;
+import scala.concurrent.Future;
+import scala.concurrent.Promise;
+
+/**
+ * Shared pipeline coalescing single document writes into bulk requests. Documents are queued in an
+ * Elasticsearch {@link BulkProcessor}, which sends them when the configured number of actions, size
+ * or flush interval is reached, keeps a bounded number of bulk requests in flight and retries the
+ * rejected items of a bulk with exponential backoff when the cluster answers 429. Every document is
+ * completed individually with its own item of the bulk response.
+ */
+public class EsBulkWriter {
+  private static final LoggerUtil logger = new LoggerUtil(EsBulkWriter.class);
+
+  private static final int DEFAULT_BULK_ACTIONS = 500;
+  private static final long DEFAULT_BULK_SIZE_MB = 5;
+  private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 50;
+  private static final int DEFAULT_CONCURRENT_REQUESTS = 4;
+  private static final long DEFAULT_BACKOFF_DELAY_MILLIS = 50;
+  private static final int DEFAULT_BACKOFF_RETRIES = 8;
+  private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+  private static volatile EsBulkWriter instance;
+
+  private final Map<DocWriteRequest<?>, ActionListener<DocWriteResponse>> listeners =
+      Collections.synchronizedMap(new IdentityHashMap<>());
+  private final BulkProcessor bulkProcessor;
+
+  EsBulkWriter(
+      BiConsumer<BulkRequest, ActionListener<BulkResponse>> consumer,
+      int bulkActions,
+      long bulkSizeMb,
+      long flushIntervalMillis,
+      int concurrentRequests,
+      long backoffDelayMillis,
+      int backoffRetries) {
+    bulkProcessor =
+        BulkProcessor.builder(consumer, new Listener())
+            .setBulkActions(bulkActions)
+            .setBulkSize(new ByteSizeValue(bulkSizeMb, ByteSizeUnit.MB))
+            .setFlushInterval(TimeValue.timeValueMillis(flushIntervalMillis))
+            .setConcurrentRequests(concurrentRequests)
+            .setBackoffPolicy(
+                BackoffPolicy.exponentialBackoff(
+                    TimeValue.timeValueMillis(backoffDelayMillis), backoffRetries))
+            .build();
+  }
+
+  public static EsBulkWriter getInstance() {
+    if (null == instance) {
+      synchronized (EsBulkWriter.class) {
+        if (null == instance) {
+          instance =
+              new EsBulkWriter(
+                  (request, bulkListener) ->
+                      ConnectionManager.getRestClient()
+                          .bulkAsync(request, RequestOptions.DEFAULT, bulkListener),
+                  (int) getConfigValue(JsonKey.SUNBIRD_ES_BULK_ACTIONS, DEFAULT_BULK_ACTIONS),
+                  getConfigValue(JsonKey.SUNBIRD_ES_BULK_SIZE, DEFAULT_BULK_SIZE_MB),
+                  getConfigValue(
+                      JsonKey.SUNBIRD_ES_BULK_FLUSH_INTERVAL, DEFAULT_FLUSH_INTERVAL_MILLIS),
+                  (int)
+                      getConfigValue(
+                          JsonKey.SUNBIRD_ES_BULK_CONCURRENT_REQUESTS, DEFAULT_CONCURRENT_REQUESTS),
+                  getConfigValue(
+                      JsonKey.SUNBIRD_ES_BULK_BACKOFF_DELAY, DEFAULT_BACKOFF_DELAY_MILLIS),
+                  (int)
+                      getConfigValue(
+                          JsonKey.SUNBIRD_ES_BULK_BACKOFF_RETRIES, DEFAULT_BACKOFF_RETRIES));
+        }
+      }
+    }
+    return instance;
+  }
+
+  /** @return true if single document writes should go through the bulk write pipeline */
+  public static boolean isEnabled() {
+    return Boolean.parseBoolean(ProjectUtil.getConfigValue(JsonKey.SUNBIRD_ES_BULK_WRITE_ENABLED));
+  }
+
+  /**
+   * Method to queue a document write for the next bulk request.
+   *
+   * @param request Index, update or delete request of one document
+   * @return Future completed with the response of the document, or failed with its bulk item
+   *     failure
+   */
+  public <T extends DocWriteResponse> Future<T> add(DocWriteRequest<?> request) {
+    Promise<T> promise = Futures.promise();
+    add(
+        request,
+        new ActionListener<T>() {
+          @Override
+          public void onResponse(T response) {
+            promise.success(response);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            promise.failure(e);
+          }
+        });
+    return promise.future();
+  }
+
+  /**
+   * Method to queue a document write for the next bulk request.
+   *
+   * @param request Index, update or delete request of one document
+   * @param listener Listener called with the response of the document, or its bulk item failure
+   */
+  public <T extends DocWriteResponse> void add(
+      DocWriteRequest<?> request, ActionListener<T> listener) {
+    listeners.put(request, (ActionListener<DocWriteResponse>) listener);
+    try {
+      bulkProcessor.add(request);
+    } catch (Exception e) {
+      listeners.remove(request);
+      listener.onFailure(e);
+    }
+  }
+
+  /** Method to send the queued documents without waiting for the flush interval. */
+  public void flush() {
+    bulkProcessor.flush();
+  }
+
+  /** Method to send the queued documents and wait for the bulk requests in flight on shut down. */
+  public static void close() {
+    if (null != instance) {
+      try {
+        instance.bulkProcessor.awaitClose(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private static long getConfigValue(String key, long defaultValue) {
+    return NumberUtils.toLong(ProjectUtil.getConfigValue(key), defaultValue);
+  }
+
+  /**
+   * Completes the listener of every document of a bulk request. Items of a retried bulk are not in
+   * request order, and aliases are resolved to index names, so items are matched by document id;
+   * several writes of the same id in one bulk are answered in order.
+   */
+  private class Listener implements BulkProcessor.Listener {
+
+    @Override
+    public void beforeBulk(long executionId, BulkRequest request) {
+      logger.debug(
+          "EsBulkWriter:beforeBulk: sending "
+              + request.numberOfActions()
+              + " actions, "
+              + request.estimatedSizeInBytes()
+              + " bytes");
+    }
+
+    @Override
+    public void afterBulk(long executionId, BulkRequest request, BulkResponse response) {
+      if (response.hasFailures()) {
+        logger.info("EsBulkWriter:afterBulk: " + response.buildFailureMessage());
+      }
+      Map<String, Queue<BulkItemResponse>> items = new HashMap<>();
+      for (BulkItemResponse item : response.getItems()) {
+        items.computeIfAbsent(item.getId(), id -> new ArrayDeque<>()).add(item);
+      }
+      for (DocWriteRequest<?> docRequest : request.requests()) {
+        ActionListener<DocWriteResponse> listener = listeners.remove(docRequest);
+        if (null == listener) {
+          continue;
+        }
+        Queue<BulkItemResponse> queue = items.get(docRequest.id());
+        BulkItemResponse item = null != queue ? queue.poll() : null;
+        if (null == item) {
+          listener.onFailure(
+              new IllegalStateException("No bulk response for id " + docRequest.id()));
+        } else if (item.isFailed()) {
+          listener.onFailure(item.getFailure().getCause());
+        } else {
+          listener.onResponse(item.getResponse());
+        }
+      }
+    }
+
+    @Override
+    public void afterBulk(long executionId, BulkRequest request, Throwable failure) {
+      logger.error("EsBulkWriter:afterBulk: bulk request failed", failure);
+      Exception e = failure instanceof Exception ? (Exception) failure : new Exception(failure);
+      for (DocWriteRequest<?> docRequest : request.requests()) {
+        ActionListener<DocWriteResponse> listener = listeners.remove(docRequest);
+        if (null != listener) {
+          listener.onFailure(e);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,218 @@
+package org.sunbird.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.search.MultiSearchRequest;
+import org.elasticsearch.action.search.MultiSearchResponse;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.client.RequestOptions;
+import org.sunbird.helper.ConnectionManager;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.util.ProjectUtil;
+
+/**
+ * Sends independent searches together in one multi search request, saving a round trip and a pooled
+ * connection per search. Searches are collected either in a {@link Group} opened by the calling
+ * thread around searches it issues back to back, or, when enabled, in a short time window shared by
+ * all threads. Every search is still completed individually with its own item of the multi search
+ * response.
+ */
+public class EsMultiSearchBatcher {
+  private static final LoggerUtil logger = new LoggerUtil(EsMultiSearchBatcher.class);
+
+  private static final long DEFAULT_WINDOW_MILLIS = 2;
+  private static final int DEFAULT_MAX_BATCH_SIZE = 50;
+
+  private static volatile EsMultiSearchBatcher instance;
+
+  private final BiConsumer<MultiSearchRequest, ActionListener<MultiSearchResponse>> consumer;
+  private final long windowMillis;
+  private final int maxBatchSize;
+  private final ThreadLocal<Group> currentGroup = new ThreadLocal<>();
+  private final ScheduledExecutorService scheduler =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "es-multi-search-batcher");
+            thread.setDaemon(true);
+            return thread;
+          });
+  private List<PendingSearch> window = new ArrayList<>();
+
+  EsMultiSearchBatcher(
+      BiConsumer<MultiSearchRequest, ActionListener<MultiSearchResponse>> consumer,
+      long windowMillis,
+      int maxBatchSize) {
+    this.consumer = consumer;
+    this.windowMillis = windowMillis;
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  public static EsMultiSearchBatcher getInstance() {
+    if (null == instance) {
+      synchronized (EsMultiSearchBatcher.class) {
+        if (null == instance) {
+          instance =
+              new EsMultiSearchBatcher(
+                  (request, listener) ->
+                      ConnectionManager.getRestClient()
+                          .msearchAsync(request, RequestOptions.DEFAULT, listener),
+                  NumberUtils.toLong(
+                      ProjectUtil.getConfigValue(JsonKey.SUNBIRD_ES_MSEARCH_WINDOW),
+                      DEFAULT_WINDOW_MILLIS),
+                  NumberUtils.toInt(
+                      ProjectUtil.getConfigValue(JsonKey.SUNBIRD_ES_MSEARCH_MAX_BATCH),
+                      DEFAULT_MAX_BATCH_SIZE));
+        }
+      }
+    }
+    return instance;
+  }
+
+  /** @return true if searches of all threads should be collected in a time window */
+  public static boolean isWindowEnabled() {
+    return Boolean.parseBoolean(ProjectUtil.getConfigValue(JsonKey.SUNBIRD_ES_MSEARCH_ENABLED));
+  }
+
+  /**
+   * Method to start collecting the searches issued by the calling thread. They are sent in one
+   * multi search request when the group is closed, so the futures of the searches must only be
+   * awaited after closing it. Groups opened inside an open group join it.
+   *
+   * @return Group to close once all its searches are issued
+   */
+  public Group openGroup() {
+    Group group = currentGroup.get();
+    if (null == group) {
+      group = new Group();
+      currentGroup.set(group);
+    }
+    group.depth++;
+    return group;
+  }
+
+  /** @return true if the calling thread has an open group */
+  public boolean isGroupOpen() {
+    return null != currentGroup.get();
+  }
+
+  /**
+   * Method to queue a search in the open group of the calling thread, or else in the current time
+   * window, which is sent after the window elapses or when it holds the maximum batch size.
+   *
+   * @param request Search request
+   * @param listener Listener completed with the response of this search
+   */
+  public void add(SearchRequest request, ActionListener<SearchResponse> listener) {
+    PendingSearch search = new PendingSearch(request, listener);
+    Group group = currentGroup.get();
+    if (null != group) {
+      group.searches.add(search);
+      return;
+    }
+    List<PendingSearch> batch = null;
+    synchronized (this) {
+      window.add(search);
+      if (window.size() >= maxBatchSize) {
+        batch = window;
+        window = new ArrayList<>();
+      } else if (window.size() == 1) {
+        scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+      }
+    }
+    if (null != batch) {
+      send(batch);
+    }
+  }
+
+  private void flush() {
+    List<PendingSearch> batch;
+    synchronized (this) {
+      if (window.isEmpty()) {
+        return;
+      }
+      batch = window;
+      window = new ArrayList<>();
+    }
+    send(batch);
+  }
+
+  private void send(List<PendingSearch> batch) {
+    MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+    for (PendingSearch search : batch) {
+      multiSearchRequest.add(search.request);
+    }
+    logger.debug(
+        "EsMultiSearchBatcher:send: sending " + batch.size() + " searches in one multi search");
+    try {
+      consumer.accept(
+          multiSearchRequest,
+          new ActionListener<MultiSearchResponse>() {
+            @Override
+            public void onResponse(MultiSearchResponse response) {
+              MultiSearchResponse.Item[] items = response.getResponses();
+              for (int i = 0; i < batch.size(); i++) {
+                ActionListener<SearchResponse> listener = batch.get(i).listener;
+                if (items[i].isFailure()) {
+                  listener.onFailure(items[i].getFailure());
+                } else {
+                  listener.onResponse(items[i].getResponse());
+                }
+              }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+              logger.error("EsMultiSearchBatcher:send: multi search failed", e);
+              for (PendingSearch search : batch) {
+                search.listener.onFailure(e);
+              }
+            }
+          });
+    } catch (Exception e) {
+      logger.error("EsMultiSearchBatcher:send: multi search could not be sent", e);
+      for (PendingSearch search : batch) {
+        search.listener.onFailure(e);
+      }
+    }
+  }
+
+  /**
+   * Searches issued by one thread between {@link #openGroup()} and {@link #close()}, sent together
+   * when the outermost open is closed.
+   */
+  public final class Group implements AutoCloseable {
+    private final List<PendingSearch> searches = new ArrayList<>();
+    private int depth;
+
+    private Group() {}
+
+    @Override
+    public void close() {
+      if (--depth > 0) {
+        return;
+      }
+      currentGroup.remove();
+      if (!searches.isEmpty()) {
+        send(searches);
+      }
+    }
+  }
+
+  private static final class PendingSearch {
+    private final SearchRequest request;
+    private final ActionListener<SearchResponse> listener;
+
+    private PendingSearch(SearchRequest request, ActionListener<SearchResponse> listener) {
+      this.request = request;
+      this.listener = listener;
+    }
+  }
+}
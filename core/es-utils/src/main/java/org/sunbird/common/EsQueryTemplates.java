@@ -0,0 +1,296 @@
+package org.sunbird.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.collections.MapUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.elasticsearch.common.Strings;
+import org.sunbird.dto.SearchDTO;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.util.ProjectUtil;
+
+/**
+ * Cache of the search queries built from {@link SearchDTO}, compiled once per shape of the search
+ * and only bound with the values of each request. The shape is the structure of the query, fuzzy
+ * match and additional properties of the search, with the string values of the filters, nested
+ * filters, query and fuzzy match left as parameters. The query of a shape is built once by {@link
+ * ElasticSearchHelper#createQuery(SearchDTO)} with placeholder parameters and kept as JSON
+ * fragments, so binding a search is a concatenation of the fragments and its escaped values.
+ *
+ * <p>Shapes whose query contains a parameter changed otherwise than lower cased, such as the
+ * regular expression of an ends with filter, are not templated and built as before.
+ *
+ * <p>The length of lists and the values other than the parameters are part of the shape, so the
+ * number of shapes is not bounded by the code. The cache keeps the most recently used shapes only
+ * and evicts the others once it holds the configured maximum.
+ */
+public class EsQueryTemplates {
+  private static final LoggerUtil logger = new LoggerUtil(EsQueryTemplates.class);
+  private static final ObjectMapper mapper = new ObjectMapper();
+
+  private static final int DEFAULT_MAX_TEMPLATES = 1000;
+  private static final String PARAM_MARKER = "Qz";
+  private static final QueryTemplate NOT_TEMPLATABLE = new QueryTemplate(null, null, null);
+
+  private static volatile EsQueryTemplates instance;
+
+  private final Cache<String, QueryTemplate> templates;
+
+  EsQueryTemplates(int maxTemplates) {
+    templates = CacheBuilder.newBuilder().maximumSize(maxTemplates).build();
+  }
+
+  public static EsQueryTemplates getInstance() {
+    if (null == instance) {
+      synchronized (EsQueryTemplates.class) {
+        if (null == instance) {
+          instance =
+              new EsQueryTemplates(
+                  NumberUtils.toInt(
+                      ProjectUtil.getConfigValue(JsonKey.SUNBIRD_ES_QUERY_TEMPLATE_MAX),
+                      DEFAULT_MAX_TEMPLATES));
+        }
+      }
+    }
+    return instance;
+  }
+
+  /** @return true if search queries should be bound on cached templates */
+  public static boolean isEnabled() {
+    return Boolean.parseBoolean(
+        ProjectUtil.getConfigValue(JsonKey.SUNBIRD_ES_QUERY_TEMPLATE_ENABLED));
+  }
+
+  /**
+   * Method to get the query of a search bound on the template of its shape, compiling the template
+   * on first use of the shape.
+   *
+   * @param searchDTO Search with query, filters and fuzzy match
+   * @return JSON of the query, or null if the shape can not be templated
+   */
+  public String getQuery(SearchDTO searchDTO) {
+    StringBuilder key = new StringBuilder();
+    List<String> params = new ArrayList<>();
+    describe(searchDTO, key, params);
+    String shape = key.toString();
+    QueryTemplate template = templates.getIfPresent(shape);
+    if (null == template) {
+      // concurrent first uses of a shape may compile it twice, which yields the same template
+      template = compile(searchDTO, params.size());
+      templates.put(shape, template);
+    }
+    return template.bind(params);
+  }
+
+  /** @return Number of shapes cached */
+  long size() {
+    return templates.size();
+  }
+
+  /**
+   * Method to describe the shape of a search and collect its parameters. Keys and baked in values
+   * are written with their length so distinct shapes never get the same description.
+   */
+  private static void describe(SearchDTO searchDTO, StringBuilder key, List<String> params) {
+    if (StringUtils.isNotBlank(searchDTO.getQuery())) {
+      key.append('Q');
+      params.add(searchDTO.getQuery());
+      describe(searchDTO.getQueryFields(), false, key, params);
+    }
+    key.append('A');
+    describe(searchDTO.getAdditionalProperties(), false, key, params);
+    key.append('C');
+    describe(searchDTO.getSoftConstraints(), false, key, params);
+    if (MapUtils.isNotEmpty(searchDTO.getFuzzy())) {
+      Map.Entry<String, String> entry = searchDTO.getFuzzy().entrySet().iterator().next();
+      key.append('F');
+      append(entry.getKey(), key);
+      describe(entry.getValue(), true, key, params);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void describe(
+      Object value, boolean parameter, StringBuilder key, List<String> params) {
+    if (value instanceof Map) {
+      key.append('{');
+      for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+        append(entry.getKey(), key);
+        describe(entry.getValue(), parameter || isParameterized(entry.getKey()), key, params);
+      }
+      key.append('}');
+    } else if (value instanceof List) {
+      key.append('[');
+      for (Object element : (List<Object>) value) {
+        describe(element, parameter, key, params);
+      }
+      key.append(']');
+    } else if (parameter && value instanceof String) {
+      key.append('?');
+      params.add((String) value);
+    } else if (null == value) {
+      key.append('-');
+    } else {
+      key.append(value.getClass().getName());
+      append(value.toString(), key);
+    }
+  }
+
+  private static void append(String value, StringBuilder key) {
+    key.append(value.length()).append(':').append(value);
+  }
+
+  private static boolean isParameterized(String key) {
+    return JsonKey.FILTERS.equalsIgnoreCase(key) || JsonKey.NESTED_KEY_FILTER.equalsIgnoreCase(key);
+  }
+
+  /**
+   * Method to build the query of a shape with placeholders in place of its parameters and split it
+   * into fragments around them. A parameter may occur several times, as is or lower cased, but
+   * never changed otherwise.
+   */
+  private static QueryTemplate compile(SearchDTO searchDTO, int paramCount) {
+    String json;
+    try {
+      json = Strings.toString(ElasticSearchHelper.createQuery(placeholders(searchDTO)));
+    } catch (RuntimeException e) {
+      logger.debug("EsQueryTemplates:compile: shape can not be templated " + e.getMessage());
+      return NOT_TEMPLATABLE;
+    }
+    List<int[]> occurrences = new ArrayList<>();
+    for (int i = 0; i < paramCount; i++) {
+      String placeholder = placeholder(i);
+      int asIs = addOccurrences(json, quote(placeholder), i, false, occurrences);
+      int lowerCased = addOccurrences(json, quote(placeholder.toLowerCase()), i, true, occurrences);
+      if (asIs + lowerCased
+          != StringUtils.countMatches(json, placeholder)
+              + StringUtils.countMatches(json, placeholder.toLowerCase())) {
+        return NOT_TEMPLATABLE;
+      }
+    }
+    occurrences.sort(Comparator.comparingInt(occurrence -> occurrence[0]));
+
+    String[] fragments = new String[occurrences.size() + 1];
+    int[] paramIndexes = new int[occurrences.size()];
+    boolean[] lowerCase = new boolean[occurrences.size()];
+    int start = 0;
+    for (int i = 0; i < occurrences.size(); i++) {
+      int[] occurrence = occurrences.get(i);
+      fragments[i] = json.substring(start, occurrence[0]);
+      paramIndexes[i] = occurrence[2];
+      lowerCase[i] = occurrence[3] == 1;
+      start = occurrence[0] + occurrence[1];
+    }
+    fragments[occurrences.size()] = json.substring(start);
+    return new QueryTemplate(fragments, paramIndexes, lowerCase);
+  }
+
+  /**
+   * Method to add the position, length, parameter index and case of each occurrence of a quoted
+   * placeholder.
+   *
+   * @return Number of occurrences
+   */
+  private static int addOccurrences(
+      String json, String quoted, int paramIndex, boolean lowerCase, List<int[]> occurrences) {
+    int count = 0;
+    for (int position = json.indexOf(quoted);
+        position >= 0;
+        position = json.indexOf(quoted, position + 1)) {
+      occurrences.add(new int[] {position, quoted.length(), paramIndex, lowerCase ? 1 : 0});
+      count++;
+    }
+    return count;
+  }
+
+  /** Method to copy a search with placeholders in place of its parameters, in describe order. */
+  @SuppressWarnings("unchecked")
+  private static SearchDTO placeholders(SearchDTO searchDTO) {
+    int[] counter = new int[1];
+    SearchDTO copy = new SearchDTO();
+    if (StringUtils.isNotBlank(searchDTO.getQuery())) {
+      copy.setQuery(placeholder(counter[0]++));
+      copy.setQueryFields(searchDTO.getQueryFields());
+    }
+    copy.setAdditionalProperties(
+        (Map<String, Object>) placeholders(searchDTO.getAdditionalProperties(), false, counter));
+    copy.setSoftConstraints(searchDTO.getSoftConstraints());
+    if (MapUtils.isNotEmpty(searchDTO.getFuzzy())) {
+      Map.Entry<String, String> entry = searchDTO.getFuzzy().entrySet().iterator().next();
+      Map<String, String> fuzzy = new LinkedHashMap<>();
+      fuzzy.put(entry.getKey(), (String) placeholders(entry.getValue(), true, counter));
+      copy.setFuzzy(fuzzy);
+    }
+    return copy;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Object placeholders(Object value, boolean parameter, int[] counter) {
+    if (value instanceof Map) {
+      Map<String, Object> copy = new LinkedHashMap<>();
+      for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+        copy.put(
+            entry.getKey(),
+            placeholders(entry.getValue(), parameter || isParameterized(entry.getKey()), counter));
+      }
+      return copy;
+    } else if (value instanceof List) {
+      List<Object> copy = new ArrayList<>();
+      for (Object element : (List<Object>) value) {
+        copy.add(placeholders(element, parameter, counter));
+      }
+      return copy;
+    } else if (parameter && value instanceof String) {
+      return placeholder(counter[0]++);
+    }
+    return value;
+  }
+
+  private static String placeholder(int index) {
+    return PARAM_MARKER + index + PARAM_MARKER;
+  }
+
+  private static String quote(String value) {
+    return "\"" + value + "\"";
+  }
+
+  /** Query of a shape as JSON fragments, with parameters bound in between. */
+  private static final class QueryTemplate {
+    private final String[] fragments;
+    private final int[] paramIndexes;
+    private final boolean[] lowerCase;
+
+    private QueryTemplate(String[] fragments, int[] paramIndexes, boolean[] lowerCase) {
+      this.fragments = fragments;
+      this.paramIndexes = paramIndexes;
+      this.lowerCase = lowerCase;
+    }
+
+    private String bind(List<String> params) {
+      if (null == fragments) {
+        return null;
+      }
+      StringBuilder query = new StringBuilder(fragments[0]);
+      try {
+        for (int i = 0; i < paramIndexes.length; i++) {
+          String value = params.get(paramIndexes[i]);
+          query.append(mapper.writeValueAsString(lowerCase[i] ? value.toLowerCase() : value));
+          query.append(fragments[i + 1]);
+        }
+      } catch (JsonProcessingException e) {
+        logger.error("EsQueryTemplates:bind: exception occurred with error message = ", e);
+        return null;
+      }
+      return query.toString();
+    }
+  }
+}
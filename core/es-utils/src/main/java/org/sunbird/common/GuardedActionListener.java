@@ -0,0 +1,100 @@
+package org.sunbird.common;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.elasticsearch.ElasticsearchException;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.client.ResponseException;
+import org.elasticsearch.rest.RestStatus;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.util.BackendGuard;
+
+/**
+ * Listener of an Elasticsearch call made through the {@link BackendGuard} of Elasticsearch, which
+ * gives back the permit of the call and records its outcome before notifying the listener of the
+ * caller. Bad requests do not count as failures of Elasticsearch, only I/O errors and server side
+ * or rejected requests do.
+ */
+final class GuardedActionListener<T> implements ActionListener<T> {
+
+  private final BackendGuard guard;
+  private final long startTime;
+  private final ActionListener<T> listener;
+  private final AtomicBoolean completed = new AtomicBoolean();
+
+  private GuardedActionListener(BackendGuard guard, long startTime, ActionListener<T> listener) {
+    this.guard = guard;
+    this.startTime = startTime;
+    this.listener = listener;
+  }
+
+  /**
+   * Method to make a call to Elasticsearch if the guard permits it, or else fail the listener right
+   * away with SERVICE_UNAVAILABLE.
+   *
+   * @param listener Listener of the call
+   * @param call Call to make, with the listener to notify once it completes
+   */
+  static <T> void execute(ActionListener<T> listener, Consumer<ActionListener<T>> call) {
+    execute(BackendGuard.getInstance(BackendGuard.ES), listener, call);
+  }
+
+  static <T> void execute(
+      BackendGuard guard, ActionListener<T> listener, Consumer<ActionListener<T>> call) {
+    long startTime;
+    try {
+      startTime = guard.acquire();
+    } catch (ProjectCommonException e) {
+      listener.onFailure(e);
+      return;
+    }
+    GuardedActionListener<T> guardedListener =
+        new GuardedActionListener<>(guard, startTime, listener);
+    try {
+      call.accept(guardedListener);
+    } catch (RuntimeException e) {
+      guardedListener.complete(false);
+      throw e;
+    }
+  }
+
+  @Override
+  public void onResponse(T response) {
+    complete(false);
+    listener.onResponse(response);
+  }
+
+  @Override
+  public void onFailure(Exception e) {
+    complete(isBackendFailure(e));
+    listener.onFailure(e);
+  }
+
+  /**
+   * Method to give back the permit of the call once, as the client notifies the failure of a call
+   * whose listener threw on the response, and the call can throw after notifying the listener.
+   *
+   * @param failed true if the call failed because of Elasticsearch
+   */
+  private void complete(boolean failed) {
+    if (completed.compareAndSet(false, true)) {
+      guard.complete(startTime, failed);
+    }
+  }
+
+  static boolean isBackendFailure(Exception e) {
+    if (e instanceof ElasticsearchException) {
+      return isBackendFailure(((ElasticsearchException) e).status().getStatus());
+    }
+    if (e instanceof ResponseException) {
+      return isBackendFailure(
+          ((ResponseException) e).getResponse().getStatusLine().getStatusCode());
+    }
+    return e instanceof IOException;
+  }
+
+  private static boolean isBackendFailure(int status) {
+    return status >= 500 || status == RestStatus.TOO_MANY_REQUESTS.getStatus();
+  }
+}
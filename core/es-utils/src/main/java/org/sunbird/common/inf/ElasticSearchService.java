@@ -59,7 +59,8 @@ public interface ElasticSearchService {
   /**
    * Method to perform the elastic search on the basis of SearchDTO . SearchDTO contains the search
    * criteria like fields, facets, sort by , filters etc. here user can pass single type to search
-   * or multiple type or null
+   * or multiple type or null. When cursor pagination is set on the SearchDTO, pages are read with
+   * search_after and the response contains the cursor of the next page, if any.
    *
    * @param context
    * @return search result as Map.
@@ -67,6 +68,28 @@ public interface ElasticSearchService {
   public Future<Map<String, Object>> search(
       SearchDTO searchDTO, String index, RequestContext context);
 
+  /**
+   * Method to count the documents matching the query, filters and fuzzy match of the SearchDTO,
+   * without reading them.
+   *
+   * @param searchDTO Search criteria
+   * @param index elastic search index in which search should be done
+   * @param context
+   * @return Number of matching documents
+   */
+  public Future<Long> count(SearchDTO searchDTO, String index, RequestContext context);
+
+  /**
+   * Method to check if any document matches the query, filters and fuzzy match of the SearchDTO.
+   * Shards stop searching at the first match and no document is read.
+   *
+   * @param searchDTO Search criteria
+   * @param index elastic search index in which search should be done
+   * @param context
+   * @return true if a document matches
+   */
+  public Future<Boolean> exists(SearchDTO searchDTO, String index, RequestContext context);
+
   /**
    * This method will do the health check of elastic search.
    *
@@ -99,6 +122,9 @@ public interface ElasticSearchService {
       String index, String identifier, Map<String, Object> data, RequestContext context);
 
   /**
+   * Method to read documents by their ids with multi get. Large id lists are read with parallel
+   * requests, ids which are not found are left out of the result.
+   *
    * @param ids List of ids of document
    * @param fields List of fields which needs to captured
    * @param index elastic search index in which search should be done
@@ -26,6 +26,8 @@ public class SearchDTO {
 
   private Integer limit = 250;
   private Integer offset = 0;
+  private boolean cursorPagination = false;
+  private String cursor;
   private boolean fuzzySearch = false;
   // additional properties will hold , filters, exist , not exist
   private Map<String, Object> additionalProperties = new HashMap<>();
@@ -138,6 +140,28 @@ public class SearchDTO {
     this.offset = offset;
   }
 
+  public boolean isCursorPagination() {
+    return cursorPagination;
+  }
+
+  /**
+   * Pages with search_after instead of offset. Results are sorted by id after the requested sort,
+   * and the response carries the cursor of the next page while there may be more results.
+   */
+  public void setCursorPagination(boolean cursorPagination) {
+    this.cursorPagination = cursorPagination;
+  }
+
+  public String getCursor() {
+    return cursor;
+  }
+
+  /** Continuation token of the page to fetch, as returned in the response of the previous page. */
+  public void setCursor(String cursor) {
+    this.cursor = cursor;
+    this.cursorPagination = true;
+  }
+
   public Map<String, Integer> getSoftConstraints() {
     return softConstraints;
   }
@@ -2,13 +2,18 @@
 package org.sunbird.helper;
 
 import java.io.IOException;
-import java.net.UnknownHostException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpHost;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.nio.reactor.IOReactorException;
 import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.RestClientBuilder;
 import org.elasticsearch.client.RestHighLevelClient;
+import org.sunbird.common.EsBulkWriter;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.logging.LoggerUtil;
 
@@ -20,9 +25,11 @@ import org.sunbird.logging.LoggerUtil;
 public class ConnectionManager {
   private static final LoggerUtil logger = new LoggerUtil(ConnectionManager.class);
 
+  private static final int DEFAULT_PORT = 9200;
+
   private static RestHighLevelClient restClient = null;
+  private static InstrumentedConnectionManager connectionPool = null;
   private static List<String> host = new ArrayList<>();
-  private static List<Integer> ports = new ArrayList<>();
 
   static {
     System.setProperty("es.set.netty.runtime.available.processors", "false");
@@ -41,14 +48,11 @@ public class ConnectionManager {
       if (StringUtils.isBlank(hostName) || StringUtils.isBlank(port)) {
         return false;
       }
+      host.clear();
       String[] splitedHost = hostName.split(",");
       for (String val : splitedHost) {
         host.add(val);
       }
-      String[] splitedPort = port.split(",");
-      for (String val : splitedPort) {
-        ports.add(Integer.parseInt(val));
-      }
       response = createRestClient(cluster, host);
       logger.info(
           "ELASTIC SEARCH CONNECTION ESTABLISHED for restClient from EVN with Following Details cluster "
@@ -80,22 +84,80 @@ public class ConnectionManager {
     return restClient;
   }
 
+  /**
+   * This method will provide the usage and lease wait statistics of the connection pool of the rest
+   * client.
+   *
+   * @return Map of pool statistics, empty if the client is not initialised
+   */
+  public static Map<String, Object> getConnectionPoolStats() {
+    if (null == connectionPool) {
+      return new HashMap<>();
+    }
+    return connectionPool.getSnapshot();
+  }
+
   /**
    * This method will create the client instance for elastic search.
    *
    * @param clusterName String
    * @param host List<String>
    * @return boolean
-   * @throws UnknownHostException
+   * @throws IOReactorException
    */
-  private static boolean createRestClient(String clusterName, List<String> host) {
+  private static boolean createRestClient(String clusterName, List<String> host)
+      throws IOReactorException {
+    HttpHost[] httpHost = createHttpHosts(host, System.getenv(JsonKey.SUNBIRD_ES_REST_PORT));
+    RestClientSettings settings = RestClientSettings.fromConfig();
+    connectionPool = new InstrumentedConnectionManager(settings);
+    restClient =
+        new RestHighLevelClient(createRestClientBuilder(httpHost, settings, connectionPool));
+    logger.info("ConnectionManager:createRestClient client initialisation done with " + settings);
+    return true;
+  }
+
+  /**
+   * This method will pair the hosts with the http ports of the rest client. sunbird_es_port is the
+   * port of the transport client, usually 9300, so the rest client reads its ports from
+   * sunbird_es_rest_port and uses 9200 if it is not set. Each host is paired with the port at the
+   * same position, hosts beyond the last port use the last port.
+   *
+   * @param host List of hosts
+   * @param restPort Comma separated http ports, or null
+   * @return Hosts of the rest client
+   */
+  static HttpHost[] createHttpHosts(List<String> host, String restPort) {
+    List<Integer> ports = new ArrayList<>();
+    if (StringUtils.isNotBlank(restPort)) {
+      for (String val : restPort.split(",")) {
+        ports.add(Integer.parseInt(val.trim()));
+      }
+    }
     HttpHost[] httpHost = new HttpHost[host.size()];
     for (int i = 0; i < host.size(); i++) {
-      httpHost[i] = new HttpHost(host.get(i), 9200);
+      int port = ports.isEmpty() ? DEFAULT_PORT : ports.get(Math.min(i, ports.size() - 1));
+      httpHost[i] = new HttpHost(host.get(i), port);
     }
-    restClient = new RestHighLevelClient(RestClient.builder(httpHost));
-    logger.info("ConnectionManager:createRestClient client initialisation done. ");
-    return true;
+    return httpHost;
+  }
+
+  /**
+   * This method will create the builder of the low level rest client, using the given connection
+   * pool and the timeouts of the settings.
+   */
+  static RestClientBuilder createRestClientBuilder(
+      HttpHost[] httpHost,
+      RestClientSettings settings,
+      PoolingNHttpClientConnectionManager connectionPool) {
+    return RestClient.builder(httpHost)
+        .setMaxRetryTimeoutMillis(settings.getSocketTimeout())
+        .setRequestConfigCallback(
+            requestConfigBuilder ->
+                requestConfigBuilder
+                    .setConnectTimeout(settings.getConnectTimeout())
+                    .setSocketTimeout(settings.getSocketTimeout()))
+        .setHttpClientConfigCallback(
+            httpClientBuilder -> httpClientBuilder.setConnectionManager(connectionPool));
   }
 
   /**
@@ -108,6 +170,7 @@ public class ConnectionManager {
     @Override
     public void run() {
       try {
+        EsBulkWriter.close();
         if (null != restClient) {
           restClient.close();
         }
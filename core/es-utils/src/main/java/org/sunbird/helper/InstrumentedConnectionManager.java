@@ -0,0 +1,125 @@
+package org.sunbird.helper;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.NHttpClientConnection;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.pool.PoolStats;
+
+/**
+ * Connection pool of the Elasticsearch REST client which counts connection leases, the requests
+ * waiting for a connection and the time they wait. A growing wait time means requests queue inside
+ * the client because the pool is saturated, before Elasticsearch itself is. Pending is the number
+ * of connections being opened, not of requests waiting for one.
+ */
+class InstrumentedConnectionManager extends PoolingNHttpClientConnectionManager {
+
+  static final String MAX_CONNECTIONS = "maxConnections";
+  static final String LEASED = "leased";
+  static final String PENDING = "pending";
+  static final String WAITING = "waiting";
+  static final String AVAILABLE = "available";
+  static final String LEASE_COUNT = "leaseCount";
+  static final String LEASE_FAILURE_COUNT = "leaseFailureCount";
+  static final String MEAN_LEASE_WAIT = "meanLeaseWaitMillis";
+  static final String MAX_LEASE_WAIT = "maxLeaseWaitMillis";
+
+  private final LongAdder leases = new LongAdder();
+  private final LongAdder waiting = new LongAdder();
+  private final LongAdder leaseFailures = new LongAdder();
+  private final LongAdder leaseWaitNanos = new LongAdder();
+  private final LongAccumulator maxLeaseWaitNanos = new LongAccumulator(Math::max, 0);
+
+  InstrumentedConnectionManager(RestClientSettings settings) throws IOReactorException {
+    super(
+        new DefaultConnectingIOReactor(
+            IOReactorConfig.custom()
+                .setIoThreadCount(settings.getIoThreads())
+                .setConnectTimeout(settings.getConnectTimeout())
+                .setSoTimeout(settings.getSocketTimeout())
+                .build()));
+    setMaxTotal(settings.getMaxConnections());
+    setDefaultMaxPerRoute(settings.getMaxConnectionsPerRoute());
+  }
+
+  @Override
+  public Future<NHttpClientConnection> requestConnection(
+      HttpRoute route,
+      Object state,
+      long connectTimeout,
+      long leaseTimeout,
+      TimeUnit tunit,
+      FutureCallback<NHttpClientConnection> callback) {
+    long startTime = System.nanoTime();
+    waiting.increment();
+    return super.requestConnection(
+        route,
+        state,
+        connectTimeout,
+        leaseTimeout,
+        tunit,
+        new FutureCallback<NHttpClientConnection>() {
+          @Override
+          public void completed(NHttpClientConnection connection) {
+            long waitTime = System.nanoTime() - startTime;
+            waiting.decrement();
+            leases.increment();
+            leaseWaitNanos.add(waitTime);
+            maxLeaseWaitNanos.accumulate(waitTime);
+            if (null != callback) {
+              callback.completed(connection);
+            }
+          }
+
+          @Override
+          public void failed(Exception e) {
+            waiting.decrement();
+            leaseFailures.increment();
+            if (null != callback) {
+              callback.failed(e);
+            }
+          }
+
+          @Override
+          public void cancelled() {
+            waiting.decrement();
+            if (null != callback) {
+              callback.cancelled();
+            }
+          }
+        });
+  }
+
+  /**
+   * Method to get the current usage of the pool, and the number of leases and their wait time since
+   * start up.
+   *
+   * @return Map of pool statistics
+   */
+  Map<String, Object> getSnapshot() {
+    PoolStats stats = getTotalStats();
+    long leaseCount = leases.sum();
+    Map<String, Object> snapshot = new HashMap<>();
+    snapshot.put(MAX_CONNECTIONS, stats.getMax());
+    snapshot.put(LEASED, stats.getLeased());
+    snapshot.put(PENDING, stats.getPending());
+    snapshot.put(WAITING, waiting.sum());
+    snapshot.put(AVAILABLE, stats.getAvailable());
+    snapshot.put(LEASE_COUNT, leaseCount);
+    snapshot.put(LEASE_FAILURE_COUNT, leaseFailures.sum());
+    snapshot.put(
+        MEAN_LEASE_WAIT,
+        leaseCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(leaseWaitNanos.sum() / leaseCount));
+    snapshot.put(MAX_LEASE_WAIT, TimeUnit.NANOSECONDS.toMillis(maxLeaseWaitNanos.get()));
+    return snapshot;
+  }
+}
@@ -0,0 +1,86 @@
+package org.sunbird.helper;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.util.ProjectUtil;
+
+/**
+ * Connection pool, I/O reactor and timeout settings of the Elasticsearch REST client. The client
+ * defaults of 30 connections, 10 per node, are too low for the request rate of this service, so the
+ * pool is sized from configuration.
+ */
+final class RestClientSettings {
+
+  private static final int DEFAULT_MAX_CONNECTIONS = 100;
+  private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 50;
+  private static final int DEFAULT_CONNECT_TIMEOUT_MILLIS = 1000;
+  private static final int DEFAULT_SOCKET_TIMEOUT_MILLIS = 30000;
+
+  private final int maxConnections;
+  private final int maxConnectionsPerRoute;
+  private final int ioThreads;
+  private final int connectTimeout;
+  private final int socketTimeout;
+
+  RestClientSettings(
+      int maxConnections,
+      int maxConnectionsPerRoute,
+      int ioThreads,
+      int connectTimeout,
+      int socketTimeout) {
+    this.maxConnections = maxConnections;
+    this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    this.ioThreads = ioThreads;
+    this.connectTimeout = connectTimeout;
+    this.socketTimeout = socketTimeout;
+  }
+
+  /** @return Settings read from configuration, with defaults for the missing ones */
+  static RestClientSettings fromConfig() {
+    return new RestClientSettings(
+        getConfigValue(JsonKey.SUNBIRD_ES_MAX_CONNECTIONS, DEFAULT_MAX_CONNECTIONS),
+        getConfigValue(
+            JsonKey.SUNBIRD_ES_MAX_CONNECTIONS_PER_ROUTE, DEFAULT_MAX_CONNECTIONS_PER_ROUTE),
+        getConfigValue(JsonKey.SUNBIRD_ES_IO_THREADS, Runtime.getRuntime().availableProcessors()),
+        getConfigValue(JsonKey.SUNBIRD_ES_CONNECT_TIMEOUT, DEFAULT_CONNECT_TIMEOUT_MILLIS),
+        getConfigValue(JsonKey.SUNBIRD_ES_SOCKET_TIMEOUT, DEFAULT_SOCKET_TIMEOUT_MILLIS));
+  }
+
+  int getMaxConnections() {
+    return maxConnections;
+  }
+
+  int getMaxConnectionsPerRoute() {
+    return maxConnectionsPerRoute;
+  }
+
+  int getIoThreads() {
+    return ioThreads;
+  }
+
+  int getConnectTimeout() {
+    return connectTimeout;
+  }
+
+  int getSocketTimeout() {
+    return socketTimeout;
+  }
+
+  @Override
+  public String toString() {
+    return "maxConnections "
+        + maxConnections
+        + " maxConnectionsPerRoute "
+        + maxConnectionsPerRoute
+        + " ioThreads "
+        + ioThreads
+        + " connectTimeout "
+        + connectTimeout
+        + " socketTimeout "
+        + socketTimeout;
+  }
+
+  private static int getConfigValue(String key, int defaultValue) {
+    return NumberUtils.toInt(ProjectUtil.getConfigValue(key), defaultValue);
+  }
+}
@@ -0,0 +1,72 @@
+package org.sunbird.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import akka.dispatch.Futures;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
+import org.sunbird.keys.JsonKey;
+import scala.concurrent.Future;
+
+public class ElasticSearchHelperTest {
+
+  @Test
+  public void testToCompletionStageSuccess() throws Exception {
+    Future<String> future = Futures.successful("001");
+    String result =
+        ElasticSearchHelper.toCompletionStage(future, 1000, "save", null)
+            .toCompletableFuture()
+            .get(1, TimeUnit.SECONDS);
+    assertEquals("001", result);
+  }
+
+  @Test
+  public void testToCompletionStageFailure() {
+    Future<String> future = Futures.failed(new NullPointerException("no client"));
+    ProjectCommonException ex = getFailure(future, 1000);
+    assertEquals(ResponseCode.SERVER_ERROR.getResponseCode(), ex.getErrorResponseCode());
+    assertEquals("no client", ex.getMessage());
+  }
+
+  @Test
+  public void testCreateSearchDTOWithInvalidCursorType() {
+    Map<String, Object> searchQueryMap = new HashMap<>();
+    searchQueryMap.put(JsonKey.CURSOR, 10);
+    try {
+      ElasticSearchHelper.createSearchDTO(searchQueryMap);
+      fail();
+    } catch (ProjectCommonException ex) {
+      assertEquals(ResponseCode.CLIENT_ERROR.getResponseCode(), ex.getErrorResponseCode());
+      assertEquals(ResponseCode.dataTypeError.getErrorCode(), ex.getErrorCode());
+    }
+  }
+
+  @Test
+  public void testToCompletionStageTimeout() {
+    Future<String> future = Futures.<String>promise().future();
+    ProjectCommonException ex = getFailure(future, 10);
+    assertEquals(ResponseCode.SERVICE_UNAVAILABLE.getResponseCode(), ex.getErrorResponseCode());
+  }
+
+  private ProjectCommonException getFailure(Future<String> future, long timeoutMillis) {
+    try {
+      ElasticSearchHelper.toCompletionStage(future, timeoutMillis, "save", null)
+          .toCompletableFuture()
+          .get(1, TimeUnit.SECONDS);
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof ProjectCommonException);
+      return (ProjectCommonException) e.getCause();
+    } catch (Exception e) {
+      fail("Unexpected exception " + e);
+    }
+    fail("Expected the stage to complete exceptionally");
+    return null;
+  }
+}
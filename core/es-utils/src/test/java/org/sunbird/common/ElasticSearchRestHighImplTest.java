@@ -1,12 +1,17 @@
 package org.sunbird.common;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.powermock.api.mockito.PowerMockito.doNothing;
 import static org.powermock.api.mockito.PowerMockito.mock;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -19,14 +24,29 @@ import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.delete.DeleteResponse;
 import org.elasticsearch.action.get.GetRequestBuilder;
 import org.elasticsearch.action.get.GetResponse;
+import org.elasticsearch.action.get.MultiGetItemResponse;
+import org.elasticsearch.action.get.MultiGetRequest;
+import org.elasticsearch.action.get.MultiGetResponse;
 import org.elasticsearch.action.index.IndexResponse;
+import org.elasticsearch.action.search.MultiSearchRequest;
+import org.elasticsearch.action.search.MultiSearchResponse;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.action.support.master.AcknowledgedResponse;
 import org.elasticsearch.action.update.UpdateResponse;
 import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.client.core.CountRequest;
+import org.elasticsearch.client.core.CountResponse;
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.common.text.Text;
 import org.elasticsearch.common.util.concurrent.FutureUtils;
+import org.elasticsearch.index.get.GetResult;
+import org.elasticsearch.search.DocValueFormat;
 import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.SearchHits;
 import org.elasticsearch.search.aggregations.Aggregations;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.sort.FieldSortBuilder;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.FixMethodOrder;
@@ -42,6 +62,7 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.sunbird.common.factory.EsClientFactory;
 import org.sunbird.common.inf.ElasticSearchService;
+import org.sunbird.dto.SearchDTO;
 import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.exception.ResponseCode;
 import org.sunbird.helper.ConnectionManager;
@@ -73,12 +94,14 @@ import scala.concurrent.Future;
   SearchHits.class,
   Aggregations.class,
   ElasticSearchHelper.class,
-  PropertiesCache.class
+  PropertiesCache.class,
+  CountResponse.class
 })
 public class ElasticSearchRestHighImplTest {
 
   private ElasticSearchService esService = EsClientFactory.getInstance(JsonKey.REST);
   private static RestHighLevelClient client = null;
+  private static SearchResponse searchResponse = null;
 
   @Before
   public void initBeforeTest() {
@@ -277,6 +300,158 @@ public class ElasticSearchRestHighImplTest {
     assertEquals(false, res);
   }
 
+  @Test
+  public void testSearchWithCursorReturnsNextCursor() {
+    mockRulesForSearch(new SearchRequest[1], "001", "002");
+    SearchDTO searchDTO = new SearchDTO();
+    searchDTO.setLimit(2);
+    searchDTO.setCursorPagination(true);
+    Future<Map<String, Object>> result = esService.search(searchDTO, "test", null);
+    Map<String, Object> res =
+        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(result);
+    assertEquals(2, ((List) res.get(JsonKey.CONTENT)).size());
+    String cursor = (String) res.get(JsonKey.NEXT_CURSOR);
+    assertEquals("002", ElasticSearchHelper.parseCursor(cursor)[0]);
+  }
+
+  @Test
+  public void testSearchWithCursorUsesSearchAfter() {
+    SearchRequest[] request = new SearchRequest[1];
+    mockRulesForSearch(request, "003");
+    SearchDTO searchDTO = new SearchDTO();
+    searchDTO.setLimit(2);
+    searchDTO.setOffset(4);
+    searchDTO.setCursor(ElasticSearchHelper.createCursor(new Object[] {"002"}));
+    Future<Map<String, Object>> result = esService.search(searchDTO, "test", null);
+    Map<String, Object> res =
+        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(result);
+    assertFalse(res.containsKey(JsonKey.NEXT_CURSOR));
+    SearchSourceBuilder source = request[0].source();
+    assertArrayEquals(new Object[] {"002"}, source.searchAfter());
+    assertEquals(-1, source.from());
+    assertEquals("id.raw", ((FieldSortBuilder) source.sorts().get(0)).getFieldName());
+  }
+
+  @Test
+  public void testSearchWithInvalidCursor() {
+    mockRulesForSearch(new SearchRequest[1], "001");
+    SearchDTO searchDTO = new SearchDTO();
+    searchDTO.setCursor("invalid");
+    Future<Map<String, Object>> result = esService.search(searchDTO, "test", null);
+    assertNull(ElasticSearchHelper.getResponseFromFuture(result));
+  }
+
+  @Test
+  public void testSearchInGroupUsesMultiSearch() {
+    mockRulesForSearch(new SearchRequest[1], "001", "002");
+    List<MultiSearchRequest> requests = new ArrayList<>();
+    doAnswer(
+            new Answer() {
+              @Override
+              public Object answer(InvocationOnMock invocation) throws Throwable {
+                MultiSearchRequest request = (MultiSearchRequest) invocation.getArguments()[0];
+                requests.add(request);
+                ActionListener<MultiSearchResponse> listener =
+                    (ActionListener<MultiSearchResponse>) invocation.getArguments()[2];
+                MultiSearchResponse.Item[] items =
+                    new MultiSearchResponse.Item[request.requests().size()];
+                for (int i = 0; i < items.length; i++) {
+                  items[i] = new MultiSearchResponse.Item(searchResponse, null);
+                }
+                listener.onResponse(new MultiSearchResponse(items));
+                return null;
+              }
+            })
+        .when(client)
+        .msearchAsync(Mockito.any(), Mockito.any(), Mockito.any());
+    Future<Map<String, Object>> first;
+    Future<Map<String, Object>> second;
+    try (EsMultiSearchBatcher.Group group = EsMultiSearchBatcher.getInstance().openGroup()) {
+      first = esService.search(new SearchDTO(), "test", null);
+      second = esService.search(new SearchDTO(), "test", null);
+    }
+
+    Map<String, Object> res =
+        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(first);
+    assertEquals(2, ((List) res.get(JsonKey.CONTENT)).size());
+    assertEquals(
+        2,
+        ((List)
+                ((Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(second))
+                    .get(JsonKey.CONTENT))
+            .size());
+    assertEquals(1, requests.size());
+    assertEquals(2, requests.get(0).requests().size());
+    Mockito.verify(client, Mockito.never()).searchAsync(Mockito.any(), Mockito.any());
+  }
+
+  @Test
+  public void testGetEsResultByListOfIdsInChunks() {
+    List<MultiGetRequest> requests = new ArrayList<>();
+    mockRulesForMget(requests, false);
+    List<String> ids = new ArrayList<>();
+    for (int i = 0; i < ElasticSearchRestHighImpl.MGET_CHUNK_SIZE + 1; i++) {
+      ids.add("id" + i);
+    }
+    ids.add("id0");
+    ids.add("missing");
+    Future<Map<String, Map<String, Object>>> result =
+        esService.getEsResultByListOfIds(ids, Arrays.asList(JsonKey.ID), "test", null);
+    Map<String, Map<String, Object>> res =
+        (Map<String, Map<String, Object>>) ElasticSearchHelper.getResponseFromFuture(result);
+    assertEquals(ElasticSearchRestHighImpl.MGET_CHUNK_SIZE + 1, res.size());
+    assertEquals("id1", res.get("id1").get(JsonKey.ID));
+    assertFalse(res.containsKey("missing"));
+    assertEquals(2, requests.size());
+    assertEquals(ElasticSearchRestHighImpl.MGET_CHUNK_SIZE, requests.get(0).getItems().size());
+    assertEquals(2, requests.get(1).getItems().size());
+    assertArrayEquals(
+        new String[] {JsonKey.ID},
+        requests.get(0).getItems().get(0).fetchSourceContext().includes());
+  }
+
+  @Test
+  public void testGetEsResultByListOfIdsFailure() {
+    mockRulesForMget(new ArrayList<>(), true);
+    Future<Map<String, Map<String, Object>>> result =
+        esService.getEsResultByListOfIds(Arrays.asList("id1"), null, "test", null);
+    assertNull(ElasticSearchHelper.getResponseFromFuture(result));
+  }
+
+  @Test
+  public void testCountSuccess() {
+    List<CountRequest> requests = new ArrayList<>();
+    mockRulesForCount(requests, 5L, false);
+    Future<Long> result = esService.count(createCountSearch(), "test", null);
+    assertEquals(Long.valueOf(5), ElasticSearchHelper.getResponseFromFuture(result));
+    assertEquals(1, requests.size());
+    assertEquals(0, requests.get(0).terminateAfter());
+  }
+
+  @Test
+  public void testCountFailure() {
+    mockRulesForCount(new ArrayList<>(), 0L, true);
+    Future<Long> result = esService.count(createCountSearch(), "test", null);
+    assertNull(ElasticSearchHelper.getResponseFromFuture(result));
+  }
+
+  @Test
+  public void testExistsTerminatesAfterFirstMatch() {
+    List<CountRequest> requests = new ArrayList<>();
+    mockRulesForCount(requests, 1L, false);
+    Future<Boolean> result = esService.exists(createCountSearch(), "test", null);
+    assertTrue((Boolean) ElasticSearchHelper.getResponseFromFuture(result));
+    assertEquals(1, requests.get(0).terminateAfter());
+    Mockito.verify(client, Mockito.never()).searchAsync(Mockito.any(), Mockito.any());
+  }
+
+  @Test
+  public void testExistsWithoutMatch() {
+    mockRulesForCount(new ArrayList<>(), 0L, false);
+    Future<Boolean> result = esService.exists(createCountSearch(), "test", null);
+    assertFalse((Boolean) ElasticSearchHelper.getResponseFromFuture(result));
+  }
+
   private void mockBaseRules() {
     client = mock(RestHighLevelClient.class);
     PowerMockito.mockStatic(ConnectionManager.class);
@@ -469,4 +644,98 @@ public class ElasticSearchRestHighImplTest {
           .deleteAsync(Mockito.any(), Mockito.any());
     }
   }
+
+  private static void mockRulesForSearch(SearchRequest[] request, String... ids) {
+    when(PropertiesCache.getInstance()).thenReturn(mock(PropertiesCache.class));
+    SearchHit[] hits = new SearchHit[ids.length];
+    for (int i = 0; i < ids.length; i++) {
+      hits[i] = new SearchHit(i, ids[i], new Text(ElasticSearchService._DOC), new HashMap<>());
+      hits[i].sourceRef(new BytesArray("{\"id\":\"" + ids[i] + "\"}"));
+      hits[i].sortValues(new Object[] {ids[i]}, new DocValueFormat[] {DocValueFormat.RAW});
+    }
+    SearchResponse response = mock(SearchResponse.class);
+    when(response.getHits()).thenReturn(new SearchHits(hits, ids.length, 1));
+    searchResponse = response;
+    doAnswer(
+            new Answer() {
+              @Override
+              public Object answer(InvocationOnMock invocation) throws Throwable {
+                request[0] = (SearchRequest) invocation.getArguments()[0];
+                ((ActionListener<SearchResponse>) invocation.getArguments()[1])
+                    .onResponse(response);
+                return null;
+              }
+            })
+        .when(client)
+        .searchAsync(Mockito.any(), Mockito.any());
+  }
+
+  private static SearchDTO createCountSearch() {
+    Map<String, Object> filters = new HashMap<>();
+    filters.put(JsonKey.PARENT_ID, "parentId");
+    SearchDTO searchDTO = new SearchDTO();
+    searchDTO.getAdditionalProperties().put(JsonKey.FILTERS, filters);
+    return searchDTO;
+  }
+
+  private static void mockRulesForCount(List<CountRequest> requests, long count, boolean fail) {
+    when(PropertiesCache.getInstance()).thenReturn(mock(PropertiesCache.class));
+    CountResponse response = mock(CountResponse.class);
+    when(response.getCount()).thenReturn(count);
+    doAnswer(
+            new Answer() {
+              @Override
+              public Object answer(InvocationOnMock invocation) throws Throwable {
+                requests.add((CountRequest) invocation.getArguments()[0]);
+                ActionListener<CountResponse> listener =
+                    (ActionListener<CountResponse>) invocation.getArguments()[2];
+                if (fail) {
+                  listener.onFailure(new NullPointerException());
+                } else {
+                  listener.onResponse(response);
+                }
+                return null;
+              }
+            })
+        .when(client)
+        .countAsync(Mockito.any(), Mockito.any(), Mockito.any());
+  }
+
+  private static void mockRulesForMget(List<MultiGetRequest> requests, boolean fail) {
+    doAnswer(
+            new Answer() {
+              @Override
+              public Object answer(InvocationOnMock invocation) throws Throwable {
+                MultiGetRequest request = (MultiGetRequest) invocation.getArguments()[0];
+                requests.add(request);
+                ActionListener<MultiGetResponse> listener =
+                    (ActionListener<MultiGetResponse>) invocation.getArguments()[2];
+                if (fail) {
+                  listener.onFailure(new NullPointerException());
+                  return null;
+                }
+                List<MultiGetItemResponse> items = new ArrayList<>();
+                for (MultiGetRequest.Item item : request.getItems()) {
+                  boolean exists = !"missing".equals(item.id());
+                  GetResult getResult =
+                      new GetResult(
+                          item.index(),
+                          item.type(),
+                          item.id(),
+                          0,
+                          1,
+                          1,
+                          exists,
+                          exists ? new BytesArray("{\"id\":\"" + item.id() + "\"}") : null,
+                          null);
+                  items.add(new MultiGetItemResponse(new GetResponse(getResult), null));
+                }
+                listener.onResponse(
+                    new MultiGetResponse(items.toArray(new MultiGetItemResponse[0])));
+                return null;
+              }
+            })
+        .when(client)
+        .mgetAsync(Mockito.any(), Mockito.any(), Mockito.any());
+  }
 }
@@ -0,0 +1,144 @@
+package org.sunbird.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.index.IndexResponse;
+import org.elasticsearch.common.util.concurrent.EsRejectedExecutionException;
+import org.elasticsearch.index.Index;
+import org.elasticsearch.index.shard.ShardId;
+import org.junit.Test;
+import org.sunbird.common.inf.ElasticSearchService;
+import scala.concurrent.Await;
+import scala.concurrent.Future;
+import scala.concurrent.duration.Duration;
+
+public class EsBulkWriterTest {
+
+  private static final Duration TIMEOUT = Duration.create(5, TimeUnit.SECONDS);
+
+  private final StandInCluster cluster = new StandInCluster();
+
+  @Test
+  public void testAddCoalescesDocumentsIntoOneBulk() throws Exception {
+    EsBulkWriter writer = new EsBulkWriter(cluster, 3, 5, 10000, 1, 10, 3);
+    List<Future<IndexResponse>> futures = new ArrayList<>();
+    for (int i = 1; i <= 3; i++) {
+      futures.add(writer.add(createIndexRequest("id" + i)));
+    }
+
+    for (int i = 1; i <= 3; i++) {
+      assertEquals("id" + i, Await.result(futures.get(i - 1), TIMEOUT).getId());
+    }
+    assertEquals(1, cluster.requests.size());
+    assertEquals(3, cluster.requests.get(0).numberOfActions());
+  }
+
+  @Test
+  public void testAddFlushesAfterInterval() throws Exception {
+    EsBulkWriter writer = new EsBulkWriter(cluster, 500, 5, 50, 1, 10, 3);
+    Future<IndexResponse> future = writer.add(createIndexRequest("id1"));
+
+    assertEquals("id1", Await.result(future, TIMEOUT).getId());
+  }
+
+  @Test
+  public void testAddRetriesRejectedDocuments() throws Exception {
+    cluster.rejectOnce.add("id2");
+    EsBulkWriter writer = new EsBulkWriter(cluster, 3, 5, 10000, 1, 10, 3);
+    List<Future<IndexResponse>> futures = new ArrayList<>();
+    for (int i = 1; i <= 3; i++) {
+      futures.add(writer.add(createIndexRequest("id" + i)));
+    }
+
+    for (int i = 1; i <= 3; i++) {
+      assertEquals("id" + i, Await.result(futures.get(i - 1), TIMEOUT).getId());
+    }
+    assertEquals(2, cluster.requests.size());
+    assertEquals(1, cluster.requests.get(1).numberOfActions());
+  }
+
+  @Test
+  public void testAddFailsOnlyFailedDocument() throws Exception {
+    cluster.fail.add("id1");
+    EsBulkWriter writer = new EsBulkWriter(cluster, 2, 5, 10000, 1, 10, 3);
+    Future<IndexResponse> failed = writer.add(createIndexRequest("id1"));
+    Future<IndexResponse> saved = writer.add(createIndexRequest("id2"));
+
+    assertEquals("id2", Await.result(saved, TIMEOUT).getId());
+    try {
+      Await.result(failed, TIMEOUT);
+    } catch (IllegalArgumentException e) {
+      assertTrue(e.getMessage().contains("id1"));
+      return;
+    }
+    throw new AssertionError("Expected failure of id1");
+  }
+
+  private IndexRequest createIndexRequest(String id) {
+    return new IndexRequest("user_alias", ElasticSearchService._DOC, id)
+        .source(Collections.singletonMap("identifier", id));
+  }
+
+  /**
+   * Stand-in of the bulk API of a cluster, answering each item with the index name behind the alias
+   * as Elasticsearch does. Ids in {@code rejectOnce} are rejected with 429 the first time they are
+   * sent, ids in {@code fail} always fail.
+   */
+  private static class StandInCluster
+      implements BiConsumer<BulkRequest, ActionListener<BulkResponse>> {
+    private final List<BulkRequest> requests = Collections.synchronizedList(new ArrayList<>());
+    private final Set<String> rejectOnce = Collections.synchronizedSet(new HashSet<>());
+    private final Set<String> fail = new HashSet<>();
+
+    @Override
+    public void accept(BulkRequest request, ActionListener<BulkResponse> listener) {
+      requests.add(request);
+      List<BulkItemResponse> items = new ArrayList<>();
+      for (DocWriteRequest<?> docRequest : request.requests()) {
+        String id = docRequest.id();
+        if (rejectOnce.remove(id)) {
+          items.add(createFailure(items.size(), id, new EsRejectedExecutionException("rejected")));
+        } else if (fail.contains(id)) {
+          items.add(createFailure(items.size(), id, new IllegalArgumentException("invalid " + id)));
+        } else {
+          items.add(
+              new BulkItemResponse(
+                  items.size(),
+                  docRequest.opType(),
+                  new IndexResponse(
+                      new ShardId(new Index("user", "uuid"), 0),
+                      ElasticSearchService._DOC,
+                      id,
+                      1,
+                      1,
+                      1,
+                      true)));
+        }
+      }
+      // Answer in reverse order, items are matched by id and not by position.
+      Collections.reverse(items);
+      listener.onResponse(new BulkResponse(items.toArray(new BulkItemResponse[0]), 1));
+    }
+
+    private BulkItemResponse createFailure(int itemId, String id, Exception e) {
+      return new BulkItemResponse(
+          itemId,
+          DocWriteRequest.OpType.INDEX,
+          new BulkItemResponse.Failure("user", ElasticSearchService._DOC, id, e));
+    }
+  }
+}
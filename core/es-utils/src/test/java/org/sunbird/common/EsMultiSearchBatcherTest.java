@@ -0,0 +1,171 @@
+package org.sunbird.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import akka.dispatch.Futures;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.search.MultiSearchRequest;
+import org.elasticsearch.action.search.MultiSearchResponse;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.search.ShardSearchFailure;
+import org.elasticsearch.index.IndexNotFoundException;
+import org.elasticsearch.search.internal.InternalSearchResponse;
+import org.junit.Test;
+import scala.concurrent.Await;
+import scala.concurrent.Future;
+import scala.concurrent.Promise;
+import scala.concurrent.duration.Duration;
+
+public class EsMultiSearchBatcherTest {
+
+  private static final Duration TIMEOUT = Duration.create(5, TimeUnit.SECONDS);
+
+  private final StandInCluster cluster = new StandInCluster();
+
+  @Test
+  public void testGroupSendsSearchesInOneMultiSearch() throws Exception {
+    EsMultiSearchBatcher batcher = new EsMultiSearchBatcher(cluster, 10000, 50);
+    List<Future<Long>> futures = new ArrayList<>();
+    try (EsMultiSearchBatcher.Group group = batcher.openGroup()) {
+      assertTrue(batcher.isGroupOpen());
+      for (int i = 1; i <= 3; i++) {
+        futures.add(search(batcher, "index" + i));
+      }
+      assertTrue(cluster.requests.isEmpty());
+    }
+
+    assertFalse(batcher.isGroupOpen());
+    for (int i = 1; i <= 3; i++) {
+      assertEquals(Long.valueOf(i), Await.result(futures.get(i - 1), TIMEOUT));
+    }
+    assertEquals(1, cluster.requests.size());
+    assertEquals(3, cluster.requests.get(0).requests().size());
+  }
+
+  @Test
+  public void testNestedGroupJoinsOuterGroup() throws Exception {
+    EsMultiSearchBatcher batcher = new EsMultiSearchBatcher(cluster, 10000, 50);
+    Future<Long> first;
+    Future<Long> second;
+    try (EsMultiSearchBatcher.Group group = batcher.openGroup()) {
+      first = search(batcher, "index1");
+      try (EsMultiSearchBatcher.Group inner = batcher.openGroup()) {
+        second = search(batcher, "index2");
+      }
+      assertTrue(cluster.requests.isEmpty());
+    }
+
+    assertEquals(Long.valueOf(1), Await.result(first, TIMEOUT));
+    assertEquals(Long.valueOf(2), Await.result(second, TIMEOUT));
+    assertEquals(1, cluster.requests.size());
+  }
+
+  @Test
+  public void testWindowSendsSearchesAfterInterval() throws Exception {
+    EsMultiSearchBatcher batcher = new EsMultiSearchBatcher(cluster, 50, 50);
+    Future<Long> first = search(batcher, "index1");
+    Future<Long> second = search(batcher, "index2");
+
+    assertEquals(Long.valueOf(1), Await.result(first, TIMEOUT));
+    assertEquals(Long.valueOf(2), Await.result(second, TIMEOUT));
+    assertEquals(1, cluster.requests.size());
+  }
+
+  @Test
+  public void testWindowSendsFullBatchImmediately() throws Exception {
+    EsMultiSearchBatcher batcher = new EsMultiSearchBatcher(cluster, 10000, 2);
+    Future<Long> first = search(batcher, "index1");
+    Future<Long> second = search(batcher, "index2");
+
+    assertEquals(1, cluster.requests.size());
+    assertEquals(Long.valueOf(1), Await.result(first, TIMEOUT));
+    assertEquals(Long.valueOf(2), Await.result(second, TIMEOUT));
+  }
+
+  @Test
+  public void testFailureOfOneSearchFailsOnlyItsCaller() throws Exception {
+    cluster.missing.add("index2");
+    EsMultiSearchBatcher batcher = new EsMultiSearchBatcher(cluster, 10000, 50);
+    Future<Long> found;
+    Future<Long> missing;
+    try (EsMultiSearchBatcher.Group group = batcher.openGroup()) {
+      found = search(batcher, "index1");
+      missing = search(batcher, "index2");
+    }
+
+    assertEquals(Long.valueOf(1), Await.result(found, TIMEOUT));
+    try {
+      Await.result(missing, TIMEOUT);
+    } catch (IndexNotFoundException e) {
+      return;
+    }
+    throw new AssertionError("Expected failure of index2");
+  }
+
+  /** Issues a search and completes its future with the took time answered by the stand-in. */
+  private Future<Long> search(EsMultiSearchBatcher batcher, String index) {
+    Promise<Long> promise = Futures.promise();
+    batcher.add(
+        new SearchRequest(index),
+        new ActionListener<SearchResponse>() {
+          @Override
+          public void onResponse(SearchResponse response) {
+            promise.success(response.getTook().millis());
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            promise.failure(e);
+          }
+        });
+    return promise.future();
+  }
+
+  /**
+   * Stand-in of the multi search API of a cluster, answering each search on index "indexN" with a
+   * took time of N milliseconds, so callers can tell their response apart. Indices in {@code
+   * missing} do not exist.
+   */
+  private static class StandInCluster
+      implements BiConsumer<MultiSearchRequest, ActionListener<MultiSearchResponse>> {
+    private final List<MultiSearchRequest> requests =
+        Collections.synchronizedList(new ArrayList<>());
+    private final Set<String> missing = new HashSet<>();
+
+    @Override
+    public void accept(MultiSearchRequest request, ActionListener<MultiSearchResponse> listener) {
+      requests.add(request);
+      List<MultiSearchResponse.Item> items = new ArrayList<>();
+      for (SearchRequest searchRequest : request.requests()) {
+        String index = searchRequest.indices()[0];
+        if (missing.contains(index)) {
+          items.add(new MultiSearchResponse.Item(null, new IndexNotFoundException(index)));
+        } else {
+          items.add(
+              new MultiSearchResponse.Item(
+                  new SearchResponse(
+                      InternalSearchResponse.empty(),
+                      null,
+                      1,
+                      1,
+                      0,
+                      Long.parseLong(index.substring("index".length())),
+                      ShardSearchFailure.EMPTY_ARRAY,
+                      SearchResponse.Clusters.EMPTY),
+                  null));
+        }
+      }
+      listener.onResponse(new MultiSearchResponse(items.toArray(new MultiSearchResponse.Item[0])));
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package org.sunbird.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.elasticsearch.common.Strings;
+import org.junit.Test;
+import org.sunbird.dto.SearchDTO;
+import org.sunbird.keys.JsonKey;
+
+public class EsQueryTemplatesTest {
+
+  private static final ObjectMapper mapper = new ObjectMapper();
+
+  @Test
+  public void testBoundQueryMatchesBuiltQuery() throws Exception {
+    EsQueryTemplates templates = new EsQueryTemplates(10);
+
+    assertQueryEquals(createSearch("Org One", "ORG_ONE", "Name"), templates);
+  }
+
+  @Test
+  public void testShapeIsCompiledOnceAndBoundPerSearch() throws Exception {
+    EsQueryTemplates templates = new EsQueryTemplates(10);
+
+    assertQueryEquals(createSearch("Org One", "ORG_ONE", "Name"), templates);
+    assertQueryEquals(createSearch("\"quoted\" \\ text", "Org\nTwo", "Ünïcode"), templates);
+    assertEquals(1L, templates.size());
+  }
+
+  @Test
+  public void testEndsWithFilterIsNotTemplated() {
+    EsQueryTemplates templates = new EsQueryTemplates(10);
+    SearchDTO searchDTO = createSearch("Org One", "ORG_ONE", "Name");
+    Map<String, Object> endsWith = new HashMap<>();
+    endsWith.put(ElasticSearchHelper.ENDS_WITH, "one");
+    getFilters(searchDTO).put(JsonKey.ORG_NAME, endsWith);
+
+    assertNull(templates.getQuery(searchDTO));
+    assertNull(templates.getQuery(searchDTO));
+    assertEquals(1L, templates.size());
+  }
+
+  @Test
+  public void testLeastRecentlyUsedShapeIsEvictedWhenCacheIsFull() throws Exception {
+    EsQueryTemplates templates = new EsQueryTemplates(1);
+    assertQueryEquals(createSearch("Org One", "ORG_ONE", "Name"), templates);
+    SearchDTO searchDTO = createSearch("Org One", "ORG_ONE", "Name");
+    getFilters(searchDTO).put(JsonKey.IS_DELETED, false);
+
+    assertQueryEquals(searchDTO, templates);
+    assertEquals(1L, templates.size());
+    assertQueryEquals(createSearch("Org Two", "ORG_TWO", "Name"), templates);
+    assertEquals(1L, templates.size());
+  }
+
+  private void assertQueryEquals(SearchDTO searchDTO, EsQueryTemplates templates) throws Exception {
+    String bound = templates.getQuery(searchDTO);
+    String built = Strings.toString(ElasticSearchHelper.createQuery(searchDTO));
+    assertEquals(mapper.readTree(built), mapper.readTree(bound));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> getFilters(SearchDTO searchDTO) {
+    return (Map<String, Object>) searchDTO.getAdditionalProperties().get(JsonKey.FILTERS);
+  }
+
+  private SearchDTO createSearch(String query, String channel, String fuzzyName) {
+    SearchDTO searchDTO = new SearchDTO();
+    searchDTO.setQuery(query);
+    searchDTO.setQueryFields(Arrays.asList(JsonKey.ORG_NAME, JsonKey.DESCRIPTION));
+
+    Map<String, Object> filters = new HashMap<>();
+    filters.put(JsonKey.CHANNEL, channel);
+    filters.put(JsonKey.STATUS, 1);
+    filters.put(JsonKey.ID, new ArrayList<>(Arrays.asList("Id1", channel)));
+    filters.put(JsonKey.ROLES, new ArrayList<>(Arrays.asList(1, 2)));
+    Map<String, Object> range = new HashMap<>();
+    range.put(ElasticSearchHelper.GTE, "2020-01-01");
+    range.put(ElasticSearchHelper.LT, 100);
+    filters.put(JsonKey.CREATED_DATE, range);
+    Map<String, Object> startsWith = new HashMap<>();
+    startsWith.put(ElasticSearchHelper.STARTS_WITH, channel);
+    filters.put(JsonKey.ORG_NAME, startsWith);
+    Map<String, Object> or = new HashMap<>();
+    or.put(JsonKey.EMAIL, channel);
+    or.put(JsonKey.PHONE, query);
+    filters.put(JsonKey.ES_OR_OPERATION, or);
+    Map<String, Object> nestedFilters = new HashMap<>();
+    nestedFilters.put("organisations.orgId", new ArrayList<>(Arrays.asList(channel)));
+
+    Map<String, Object> additionalProperties = new HashMap<>();
+    additionalProperties.put(JsonKey.FILTERS, filters);
+    additionalProperties.put(JsonKey.NESTED_KEY_FILTER, nestedFilters);
+    additionalProperties.put(JsonKey.EXISTS, Arrays.asList(JsonKey.EMAIL));
+    searchDTO.setAdditionalProperties(additionalProperties);
+
+    Map<String, Integer> softConstraints = new HashMap<>();
+    softConstraints.put(JsonKey.CHANNEL, 2);
+    searchDTO.setSoftConstraints(softConstraints);
+    Map<String, String> fuzzy = new HashMap<>();
+    fuzzy.put(JsonKey.FIRST_NAME, fuzzyName);
+    searchDTO.setFuzzy(fuzzy);
+    return searchDTO;
+  }
+}
@@ -0,0 +1,90 @@
+package org.sunbird.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.net.ConnectException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.elasticsearch.ElasticsearchStatusException;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.index.IndexNotFoundException;
+import org.elasticsearch.rest.RestStatus;
+import org.junit.Test;
+import org.sunbird.util.BackendGuard;
+import org.sunbird.util.PropertiesCache;
+
+public class GuardedActionListenerTest {
+
+  @Test
+  public void testBackendFailures() {
+    assertTrue(GuardedActionListener.isBackendFailure(new ConnectException("refused")));
+    assertTrue(
+        GuardedActionListener.isBackendFailure(
+            new ElasticsearchStatusException("rejected", RestStatus.TOO_MANY_REQUESTS)));
+    assertTrue(
+        GuardedActionListener.isBackendFailure(
+            new ElasticsearchStatusException("unavailable", RestStatus.SERVICE_UNAVAILABLE)));
+  }
+
+  @Test
+  public void testBadRequestsAreNotBackendFailures() {
+    assertFalse(GuardedActionListener.isBackendFailure(new IndexNotFoundException("user")));
+    assertFalse(
+        GuardedActionListener.isBackendFailure(
+            new ElasticsearchStatusException("bad query", RestStatus.BAD_REQUEST)));
+    assertFalse(GuardedActionListener.isBackendFailure(new NullPointerException()));
+  }
+
+  @Test
+  public void testExecuteNotifiesListener() {
+    AtomicReference<String> result = new AtomicReference<>();
+    GuardedActionListener.execute(
+        ActionListener.<String>wrap(result::set, e -> result.set(e.getMessage())),
+        listener -> listener.onResponse("001"));
+
+    assertEquals("001", result.get());
+  }
+
+  @Test
+  public void testPermitIsGivenBackOnceWhenListenerThrows() {
+    PropertiesCache.getInstance()
+        .saveConfigProperty("sunbird_esListenerTest_guard_enabled", "true");
+    BackendGuard guard = BackendGuard.getInstance("esListenerTest");
+    AtomicReference<Exception> failure = new AtomicReference<>();
+    ActionListener<String> listener =
+        new ActionListener<String>() {
+          @Override
+          public void onResponse(String response) {
+            throw new IllegalStateException(response);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            failure.set(e);
+          }
+        };
+
+    try {
+      GuardedActionListener.execute(
+          guard,
+          listener,
+          guardedListener -> {
+            // the client notifies the failure of a listener which throws on the response
+            try {
+              guardedListener.onResponse("001");
+            } catch (Exception e) {
+              guardedListener.onFailure(e);
+            }
+            throw new IllegalStateException("call failed after notifying the listener");
+          });
+      fail("Expected the call to throw");
+    } catch (IllegalStateException e) {
+      // thrown by the call
+    }
+
+    assertEquals("001", failure.get().getMessage());
+    assertEquals(0, guard.getSnapshot().get("inFlight"));
+  }
+}
@@ -1,5 +1,7 @@
 package org.sunbird.helper;
 
+import java.util.Arrays;
+import org.apache.http.HttpHost;
 import org.elasticsearch.action.bulk.BulkProcessor;
 import org.elasticsearch.action.get.GetRequestBuilder;
 import org.elasticsearch.action.support.master.AcknowledgedResponse;
@@ -10,6 +12,7 @@ import org.elasticsearch.search.SearchHits;
 import org.elasticsearch.search.aggregations.Aggregations;
 import org.junit.Assert;
 import org.junit.FixMethodOrder;
+import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.MethodSorters;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
@@ -42,4 +45,21 @@ public class ConnectionManagerTest {
     RestHighLevelClient client = ConnectionManager.getRestClient();
     Assert.assertNull(client);
   }
+
+  @Test
+  public void testRestClientUsesDefaultHttpPort() {
+    HttpHost[] hosts = ConnectionManager.createHttpHosts(Arrays.asList("es1", "es2"), null);
+    Assert.assertEquals(9200, hosts[0].getPort());
+    Assert.assertEquals(9200, hosts[1].getPort());
+  }
+
+  @Test
+  public void testRestClientUsesRestPortOfEachHost() {
+    HttpHost[] hosts =
+        ConnectionManager.createHttpHosts(Arrays.asList("es1", "es2", "es3"), "9201,9202");
+    Assert.assertEquals("es1", hosts[0].getHostName());
+    Assert.assertEquals(9201, hosts[0].getPort());
+    Assert.assertEquals(9202, hosts[1].getPort());
+    Assert.assertEquals(9202, hosts[2].getPort());
+  }
 }
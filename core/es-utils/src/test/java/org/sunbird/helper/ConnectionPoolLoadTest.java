@@ -0,0 +1,160 @@
+package org.sunbird.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
+import org.elasticsearch.client.RestClient;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Load test of the rest client against a local stand-in of Elasticsearch which holds every request
+ * until it is released. Concurrent requests beyond the size of the pool wait for a connection, so a
+ * larger pool moves the saturation point. The pool is inspected while the stand-in holds the
+ * requests, so the assertions are on the lease and pending counters and not on latencies.
+ */
+public class ConnectionPoolLoadTest {
+
+  private static final int CONCURRENT_REQUESTS = 40;
+  private static final long TIMEOUT_MILLIS = 30000;
+
+  private final AtomicInteger received = new AtomicInteger();
+  private volatile CountDownLatch release;
+  private HttpServer server;
+  private ExecutorService serverExecutor;
+
+  @Before
+  public void startServer() throws Exception {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), CONCURRENT_REQUESTS);
+    serverExecutor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+    server.setExecutor(serverExecutor);
+    server.createContext(
+        "/",
+        exchange -> {
+          exchange.getRequestBody().close();
+          received.incrementAndGet();
+          try {
+            release.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          byte[] response = "{}".getBytes(StandardCharsets.UTF_8);
+          exchange.getResponseHeaders().add("Content-Type", "application/json");
+          exchange.sendResponseHeaders(200, response.length);
+          try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+          }
+        });
+    server.start();
+  }
+
+  @After
+  public void stopServer() {
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  public void testLargerPoolMovesSaturationPoint() throws Exception {
+    LoadResult smallPool = runLoad(new RestClientSettings(4, 2, 1, 1000, 30000), 2);
+    LoadResult largePool = runLoad(new RestClientSettings(40, 40, 1, 1000, 30000), 40);
+
+    // 2 connections serve 2 requests at a time and the other 38 wait for a connection
+    assertEquals(2, smallPool.saturated.get(InstrumentedConnectionManager.LEASED));
+    assertEquals(
+        (long) CONCURRENT_REQUESTS - 2,
+        smallPool.saturated.get(InstrumentedConnectionManager.WAITING));
+    // 40 connections serve every request at once
+    assertEquals(
+        CONCURRENT_REQUESTS, largePool.saturated.get(InstrumentedConnectionManager.LEASED));
+    assertEquals(0L, largePool.saturated.get(InstrumentedConnectionManager.WAITING));
+
+    for (LoadResult result : new LoadResult[] {smallPool, largePool}) {
+      assertEquals(CONCURRENT_REQUESTS, result.succeeded);
+      assertEquals(
+          (long) CONCURRENT_REQUESTS,
+          result.completed.get(InstrumentedConnectionManager.LEASE_COUNT));
+      assertEquals(0L, result.completed.get(InstrumentedConnectionManager.LEASE_FAILURE_COUNT));
+      assertEquals(0, result.completed.get(InstrumentedConnectionManager.LEASED));
+      assertEquals(0L, result.completed.get(InstrumentedConnectionManager.WAITING));
+      assertEquals(0, result.completed.get(InstrumentedConnectionManager.PENDING));
+    }
+  }
+
+  private LoadResult runLoad(RestClientSettings settings, int expectedLeased) throws Exception {
+    received.set(0);
+    release = new CountDownLatch(1);
+    InstrumentedConnectionManager pool = new InstrumentedConnectionManager(settings);
+    try (RestClient client = createClient(settings, pool)) {
+      CountDownLatch latch = new CountDownLatch(CONCURRENT_REQUESTS);
+      AtomicInteger succeeded = new AtomicInteger();
+      for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+        client.performRequestAsync(
+            new Request("GET", "/user/_doc/" + i),
+            new ResponseListener() {
+              @Override
+              public void onSuccess(Response response) {
+                succeeded.incrementAndGet();
+                latch.countDown();
+              }
+
+              @Override
+              public void onFailure(Exception exception) {
+                latch.countDown();
+              }
+            });
+      }
+      LoadResult result = new LoadResult();
+      result.saturated = awaitSaturation(pool, expectedLeased);
+      release.countDown();
+      assertTrue(latch.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+      result.succeeded = succeeded.get();
+      result.completed = pool.getSnapshot();
+      return result;
+    }
+  }
+
+  /**
+   * Waits until the stand-in holds a request on every connection of the pool and the remaining
+   * requests are queued for a connection.
+   */
+  private Map<String, Object> awaitSaturation(InstrumentedConnectionManager pool, int leased)
+      throws InterruptedException {
+    long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+    Map<String, Object> snapshot = pool.getSnapshot();
+    while (System.currentTimeMillis() < deadline
+        && (received.get() < leased
+            || (long) snapshot.get(InstrumentedConnectionManager.WAITING)
+                < CONCURRENT_REQUESTS - leased)) {
+      Thread.sleep(10);
+      snapshot = pool.getSnapshot();
+    }
+    return snapshot;
+  }
+
+  private RestClient createClient(RestClientSettings settings, InstrumentedConnectionManager pool) {
+    HttpHost host = new HttpHost("localhost", server.getAddress().getPort());
+    return ConnectionManager.createRestClientBuilder(new HttpHost[] {host}, settings, pool).build();
+  }
+
+  private static final class LoadResult {
+    private int succeeded;
+    private Map<String, Object> saturated;
+    private Map<String, Object> completed;
+  }
+}
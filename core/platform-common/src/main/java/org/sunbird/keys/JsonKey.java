@@ -13,6 +13,8 @@ public final class JsonKey {
   public static final String UNAUTHORIZED = "Unauthorized";
   public static final String ACCOUNT_KEY = "sunbird_account_key";
   public static final String ACCOUNT_NAME = "sunbird_account_name";
+  public static final String ACTOR = "actor";
+  public static final String ACTOR_METRICS = "actorMetrics";
   public static final String DOWNLOAD_LINK_EXPIRY_TIMEOUT = "download_link_expiry_timeout";
   public static final String ACTION_GROUP = "action_group";
   public static final String ACTION_GROUPS = "actionGroups";
@@ -32,6 +34,7 @@ public final class JsonKey {
   public static final String ATTEMPTED_COUNT = "attemptedCount";
   public static final String AUTH_WITH_MASTER_KEY = "authWithMasterKey";
   public static final String AUTHORIZATION = "Authorization";
+  public static final String BACKEND_GUARD = "backendGuard";
   public static final String BEARER = "Bearer ";
   public static final String BODY = "body";
   public static final String BULK_OP_DB = "BulkOpDb";
@@ -39,9 +42,13 @@ public final class JsonKey {
   public static final String BULK_UPLOAD_USER_DATA_SIZE = "sunbird_user_bulk_upload_size";
   public static final String BULK_USER_UPLOAD = "bulkUserUpload";
   public static final String BULK_LOCATION_UPLOAD = "bulkLocationUpload";
+  public static final String CACHE_CONTROL = "cache-control";
+  public static final String CALLBACK_EXECUTOR = "callbackExecutor";
+  public static final String CASSANDRA_CIRCUIT_BREAKER = "Cassandra circuit breaker";
   public static final String CASSANDRA_SERVICE = "Cassandra service";
   public static final String CATEGORIES = "categories";
   public static final String CHANNEL = "channel";
+  public static final String CHECKPOINT = "checkpoint";
   public static final String CHECKS = "checks";
   public static final String CLASS = "class";
   public static final String CODE = "code";
@@ -61,7 +68,10 @@ public final class JsonKey {
   public static final String CREATED_BY = "createdBy";
   public static final String CREATED_DATE = "createdDate";
   public static final String CURRENT_STATE = "CURRENT_STATE";
+  public static final String CURSOR = "cursor";
   public static final String DATA = "data";
+  public static final String DISPATCHER = "dispatcher";
+  public static final String IN_FLIGHT = "inFlight";
   public static final String KEY = "key";
   public static final String KEYS = "keys";
   public static final String DATE_HISTOGRAM = "DATE_HISTOGRAM";
@@ -96,6 +106,7 @@ public final class JsonKey {
   public static final String ERROR = "err";
   public static final String ERROR_MSG = "err_msg";
   public static final String ERRORMSG = "errmsg";
+  public static final String ES_CIRCUIT_BREAKER = "Elastic search circuit breaker";
   public static final String ES_SERVICE = "Elastic search service";
   public static final String EXISTS = "exists";
   public static final String EXTERNAL_ID = "externalId";
@@ -142,21 +153,27 @@ public final class JsonKey {
   public static final String LOG_LEVEL = "logLevel";
   public static final String LOG_TYPE = "logType";
   public static final String LOGIN_ID = "loginId";
+  public static final String MAILBOX_TIME = "mailboxTime";
   public static final String MAIL_NOTE = "mail_note";
   public static final String MANDATORY_FIELDS = "mandatoryFields";
   public static final String MAP = "map";
+  public static final String MAX_MICROS = "maxMicros";
+  public static final String MAX_MILLIS = "maxMillis";
   public static final String MASKED_EMAIL = "maskedEmail";
   public static final String MASKED_PHONE = "maskedPhone";
   public static final String MESSAGE = "message";
   public static final String MESSAGE_ID = "X-msgId";
   public static final String METHOD = "method";
+  public static final String METRICS = "metrics";
   public static final String MISSING_FIELDS = "missingFields";
   public static final String MOBILE = "mobile";
   public static final String NAME = "name";
+  public static final String NEXT_CURSOR = "nextCursor";
   public static final String NOT_EXISTS = "not_exists";
   public static final String NOTE = "note";
   public static final String NOTE_ID = "noteId";
   public static final String NOTIFICATION = "notification";
+  public static final String NR_OF_INSTANCES = "nrOfInstances";
   public static final String OBJECT_IDS = "objectIds";
   public static final String OBJECT_TYPE = "objectType";
   public static final String OFFSET = "offset";
@@ -182,6 +199,12 @@ public final class JsonKey {
   public static final String OTP_PHONE_RESET_PASSWORD_TEMPLATE = "otpPhoneResetPasswordTemplate";
   public static final String VERIFY_PHONE_OTP_TEMPLATE = "verifyPhoneOtpTemplate";
   public static final String PARAMS = "params";
+  public static final String PARALLELISM = "parallelism";
+  public static final String PROCESSING_TIME = "processingTime";
+  public static final String P50_MICROS = "p50Micros";
+  public static final String P99_MICROS = "p99Micros";
+  public static final String P50_MILLIS = "p50Millis";
+  public static final String P99_MILLIS = "p99Millis";
   public static final String PASSWORD = "password";
 
   public static final String PHONE = "phone";
@@ -199,6 +222,7 @@ public final class JsonKey {
   public static final String PDATA_VERSION = "telemetry_pdata_ver";
   public static final String PROFILE_SUMMARY = "profileSummary";
   public static final String PROFILE_VISIBILITY = "profileVisibility";
+  public static final String PROJECTION = "projection";
   public static final String PROPS = "props";
   public static final String PROVIDER = "provider";
   public static final String PUBLIC = "public";
@@ -218,6 +242,8 @@ public final class JsonKey {
   public static final String ROLE = "role";
   public static final String ROLE_GROUP = "role_group";
   public static final String ROLES = "roles";
+  public static final String ROUTER = "router";
+  public static final String ROUTER_POOLS = "routerPools";
   public static final String ROLLUP = "rollup";
   public static final String ROOT_ORG = "rootOrg";
   public static final String ROOT_ORG_ID = "rootOrgId";
@@ -237,6 +263,7 @@ public final class JsonKey {
   public static final String SSO_USERNAME = "sso.username";
   public static final String STACKTRACE = "stacktrace";
   public static final String STACKTRACE_CHAR_LENGTH = "stacktrace_char_length";
+  public static final String STAGE = "stage";
   public static final String START_DATE = "startDate";
   public static final String START_TIME = "startTime";
   public static final String STATE = "state";
@@ -250,11 +277,39 @@ public final class JsonKey {
   public static final String SUNBIRD_CASSANDRA_IP = "sunbird_cassandra_host";
   public static final String SUNBIRD_ENCRYPTION = "sunbird_encryption";
   public static final String SUNBIRD_ENV_LOGO_URL = "sunbird_env_logo_url";
+  public static final String SUNBIRD_ES_BULK_ACTIONS = "sunbird_es_bulk_actions";
+  public static final String SUNBIRD_ES_BULK_BACKOFF_DELAY = "sunbird_es_bulk_backoff_delay_millis";
+  public static final String SUNBIRD_ES_BULK_BACKOFF_RETRIES = "sunbird_es_bulk_backoff_retries";
+  public static final String SUNBIRD_ES_BULK_CONCURRENT_REQUESTS =
+      "sunbird_es_bulk_concurrent_requests";
+  public static final String SUNBIRD_ES_BULK_FLUSH_INTERVAL =
+      "sunbird_es_bulk_flush_interval_millis";
+  public static final String SUNBIRD_ES_BULK_SIZE = "sunbird_es_bulk_size_mb";
+  public static final String SUNBIRD_ES_BULK_WRITE_ENABLED = "sunbird_es_bulk_write_enabled";
+  public static final String SUNBIRD_ES_CALL_TIMEOUT = "sunbird_es_call_timeout_millis";
   public static final String SUNBIRD_ES_CHANNEL = "es.channel.name";
   public static final String SUNBIRD_ES_CLUSTER = "sunbird_es_cluster";
+  public static final String SUNBIRD_ES_CONNECT_TIMEOUT = "sunbird_es_connect_timeout_millis";
+  public static final String SUNBIRD_ES_IO_THREADS = "sunbird_es_io_threads";
   public static final String SUNBIRD_ES_IP = "sunbird_es_host";
+  public static final String SUNBIRD_ES_MAX_CONNECTIONS = "sunbird_es_max_connections";
+  public static final String SUNBIRD_ES_MAX_CONNECTIONS_PER_ROUTE =
+      "sunbird_es_max_connections_per_route";
+  public static final String SUNBIRD_ES_MSEARCH_ENABLED = "sunbird_es_msearch_enabled";
+  public static final String SUNBIRD_ES_MSEARCH_MAX_BATCH = "sunbird_es_msearch_max_batch";
+  public static final String SUNBIRD_ES_MSEARCH_WINDOW = "sunbird_es_msearch_window_millis";
   public static final String SUNBIRD_ES_PORT = "sunbird_es_port";
+  public static final String SUNBIRD_ES_QUERY_LOG_SAMPLE_RATE = "sunbird_es_query_log_sample_rate";
+  public static final String SUNBIRD_ES_QUERY_TEMPLATE_ENABLED =
+      "sunbird_es_query_template_enabled";
+  public static final String SUNBIRD_ES_QUERY_TEMPLATE_MAX = "sunbird_es_query_template_max";
+  public static final String SUNBIRD_ES_REST_PORT = "sunbird_es_rest_port";
+  public static final String SUNBIRD_ES_SOCKET_TIMEOUT = "sunbird_es_socket_timeout_millis";
   public static final String SUNBIRD_INSTALLATION = "sunbird_installation";
+  public static final String SEARCH_RESULT_CACHE = "searchResultCache";
+  public static final String SUNBIRD_SEARCH_CACHE_ENABLED = "sunbird_search_cache_enabled";
+  public static final String SUNBIRD_SEARCH_CACHE_SIZE = "sunbird_search_cache_size";
+  public static final String SUNBIRD_SEARCH_CACHE_TTL = "sunbird_search_cache_ttl_seconds";
   public static final String SUNBIRD_SSO_CLIENT_ID = "sunbird_sso_client_id";
   public static final String SUNBIRD_SSO_CLIENT_SECRET = "sunbird_sso_client_secret";
   public static final String SUNBIRD_SSO_PASSWORD = "sunbird_sso_password";
@@ -263,6 +318,17 @@ public final class JsonKey {
   public static final String SUNBIRD_SSO_USERNAME = "sunbird_sso_username";
   public static final String SUNBIRD_FRAMEWORK_READ_API = "sunbird_framework_read_api";
   public static final String SUNBIRD_USERNAME_NUM_DIGITS = "sunbird_username_num_digits";
+  public static final String SUNBIRD_USER_PROFILE_CACHE_ENABLED =
+      "sunbird_user_profile_cache_enabled";
+  public static final String SUNBIRD_USER_PROFILE_CACHE_SIZE = "sunbird_user_profile_cache_size";
+  public static final String SUNBIRD_USER_PROFILE_CACHE_TTL =
+      "sunbird_user_profile_cache_ttl_seconds";
+  public static final String SUNBIRD_USER_PROFILE_READ_POOL_SIZE =
+      "sunbird_user_profile_read_pool_size";
+  public static final String SUNBIRD_USER_PROFILE_READ_QUEUE_SIZE =
+      "sunbird_user_profile_read_queue_size";
+  public static final String USER_PROFILE_CACHE = "userProfileCache";
+  public static final String USER_PROFILE_READ_STAGES = "userProfileReadStages";
   public static final String SYSTEM = "system";
   public static final String SYSTEM_SETTINGS_DB = "system_settings";
   public static final String TAGS = "tags";
@@ -636,5 +702,6 @@ public final class JsonKey {
   public static final String PASSWORD_RESET_LOGIN_PAGE_URL =
       "sunbird_password_reset_login_page_url";
   public static final String CLOUD_SERVICE_PROVIDER = "sunbird_cloud_service_provider";
+
   private JsonKey() {}
 }
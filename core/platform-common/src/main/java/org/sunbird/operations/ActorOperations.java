@@ -107,6 +107,8 @@ public enum ActorOperations {
   USER_SEARCH_V3("userSearchV3", "USRSER"),
   ORG_SEARCH("orgSearch", "ORGSER"),
   ORG_SEARCH_V2("orgSearchV2", "ORGSER"),
+  USER_EXPORT("userExport", "USREXP"),
+  ORG_EXPORT("orgExport", "ORGEXP"),
   USER_LOOKUP("userLookup", "USRLKP"),
   GET_USER_CONSENT("getUserConsent", "UCNSTRED"),
   GET_USER_ROLES_BY_ID("getUserRolesById", "UROLERED"),
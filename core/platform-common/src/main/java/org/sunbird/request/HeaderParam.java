@@ -36,6 +36,7 @@ public enum HeaderParam {
   X_APP_VERSION("x-app-ver"),
   X_APP_VERSION_PORTAL("x-app-version"),
   X_SOURCE("x-source"),
+  CACHE_CONTROL("cache-control"),
   X_Response_Length("x-response-length");
   /** name of the parameter */
   private String name;
@@ -0,0 +1,294 @@
+package org.sunbird.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
+import org.sunbird.logging.LoggerUtil;
+
+/**
+ * Circuit breaker, bulkhead and adaptive timeout of the calls to a backend such as Elasticsearch or
+ * Cassandra, one instance per backend.
+ *
+ * <p>The breaker opens when the share of failed or too slow calls among the recent calls crosses
+ * the threshold, and calls then fail fast with SERVICE_UNAVAILABLE instead of waiting on a backend
+ * which is down. After the open duration a few trial calls are let through, and the breaker closes
+ * again once they succeed. The bulkhead limits the calls in flight, so a slow backend can not hold
+ * every thread of the service. The timeout follows the recent 99th percentile latency of the
+ * backend, bounded by the configured minimum and maximum.
+ */
+public final class BackendGuard {
+  private static final LoggerUtil logger = new LoggerUtil(BackendGuard.class);
+
+  public static final String ES = "es";
+  public static final String CASSANDRA = "cassandra";
+
+  static final String STATE = "state";
+  static final String IN_FLIGHT = "inFlight";
+  static final String MAX_CONCURRENT_CALLS = "maxConcurrentCalls";
+  static final String FAILURE_RATE = "failureRate";
+  static final String OPEN_COUNT = "openCount";
+  static final String BREAKER_REJECTED_COUNT = "breakerRejectedCount";
+  static final String BULKHEAD_REJECTED_COUNT = "bulkheadRejectedCount";
+  static final String P99_LATENCY = "p99LatencyMillis";
+  static final String TIMEOUT = "timeoutMillis";
+
+  private static final int LATENCY_SAMPLES = 256;
+  private static final int TIMEOUT_UPDATE_INTERVAL = 32;
+  private static final double PERCENTILE = 0.99;
+
+  private static final Map<String, BackendGuard> guards = new ConcurrentHashMap<>();
+
+  /** States of the circuit breaker. */
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final String name;
+  private final BackendGuardSettings settings;
+  private final Semaphore permits;
+  private final LongAdder openCount = new LongAdder();
+  private final LongAdder breakerRejections = new LongAdder();
+  private final LongAdder bulkheadRejections = new LongAdder();
+
+  // breaker state and recent outcomes, guarded by this
+  private State state = State.CLOSED;
+  private long openedAt;
+  private final boolean[] failures;
+  private int outcomeIndex;
+  private int outcomeCount;
+  private int failureCount;
+  private int halfOpenAdmitted;
+  private int halfOpenSucceeded;
+
+  // recent latencies, guarded by this
+  private final long[] latencies = new long[LATENCY_SAMPLES];
+  private int latencyIndex;
+  private int latencyCount;
+  private long p99Latency;
+  private volatile long timeoutMillis;
+
+  BackendGuard(String name, BackendGuardSettings settings) {
+    this.name = name;
+    this.settings = settings;
+    permits = new Semaphore(settings.getMaxConcurrentCalls());
+    failures = new boolean[settings.getWindowSize()];
+    timeoutMillis = settings.getMaxTimeoutMillis();
+  }
+
+  /**
+   * Method to get the guard of a backend, created with the settings of the backend on first use.
+   *
+   * @param backend Name of the backend, for example {@link #ES} or {@link #CASSANDRA}
+   * @return Guard of the backend
+   */
+  public static BackendGuard getInstance(String backend) {
+    return guards.computeIfAbsent(
+        backend,
+        key -> {
+          BackendGuardSettings settings = BackendGuardSettings.fromConfig(key);
+          logger.info("BackendGuard: " + key + " " + settings);
+          return new BackendGuard(key, settings);
+        });
+  }
+
+  /**
+   * Method to get the state and statistics of the guard of each backend used so far.
+   *
+   * @return Map of statistics by backend name
+   */
+  public static Map<String, Object> getSnapshots() {
+    Map<String, Object> snapshots = new HashMap<>();
+    guards.forEach((backend, guard) -> snapshots.put(backend, guard.getSnapshot()));
+    return snapshots;
+  }
+
+  /**
+   * Method to take a permit for a call to the backend, which must be given back with {@link
+   * #complete(long, boolean)} once the call completes.
+   *
+   * @return Start time of the call, to pass to {@link #complete(long, boolean)}
+   * @throws ProjectCommonException with SERVICE_UNAVAILABLE if the breaker is open or too many
+   *     calls are in flight
+   */
+  public long acquire() {
+    if (!settings.isEnabled()) {
+      return System.nanoTime();
+    }
+    // the permit is taken first, as a trial call of a half open breaker is only given back by
+    // complete, which is not called for a call the bulkhead rejects
+    if (!permits.tryAcquire()) {
+      bulkheadRejections.increment();
+      throw createUnavailableException(name + " has too many calls in flight");
+    }
+    if (!isCallPermitted()) {
+      permits.release();
+      breakerRejections.increment();
+      throw createUnavailableException(name + " circuit breaker is open");
+    }
+    return System.nanoTime();
+  }
+
+  /**
+   * Method to give back the permit of a completed call and record its outcome and latency.
+   *
+   * @param startTime Start time returned by {@link #acquire()}
+   * @param failed true if the call failed because of the backend, as opposed to a bad request
+   */
+  public void complete(long startTime, boolean failed) {
+    if (!settings.isEnabled()) {
+      return;
+    }
+    permits.release();
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    recordOutcome(failed || elapsedMillis > settings.getMaxTimeoutMillis());
+    recordLatency(elapsedMillis);
+  }
+
+  /** @return Time to wait for a call, from the recent latencies of the backend */
+  public long getTimeoutMillis() {
+    return timeoutMillis;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public synchronized State getState() {
+    if (State.OPEN == state
+        && System.currentTimeMillis() - openedAt >= settings.getOpenDurationMillis()) {
+      state = State.HALF_OPEN;
+      halfOpenAdmitted = 0;
+      halfOpenSucceeded = 0;
+      logger.info("BackendGuard: " + name + " circuit breaker is half open");
+    }
+    return state;
+  }
+
+  /** @return true if calls to the backend currently fail fast */
+  public boolean isOpen() {
+    return State.OPEN == getState();
+  }
+
+  /**
+   * Method to get the state of the breaker, the calls in flight and rejected, and the latency and
+   * timeout of the backend.
+   *
+   * @return Map of guard statistics
+   */
+  public Map<String, Object> getSnapshot() {
+    Map<String, Object> snapshot = new HashMap<>();
+    synchronized (this) {
+      snapshot.put(STATE, getState().name());
+      snapshot.put(FAILURE_RATE, outcomeCount == 0 ? 0 : failureCount * 100 / outcomeCount);
+      snapshot.put(P99_LATENCY, p99Latency);
+    }
+    snapshot.put(IN_FLIGHT, settings.getMaxConcurrentCalls() - permits.availablePermits());
+    snapshot.put(MAX_CONCURRENT_CALLS, settings.getMaxConcurrentCalls());
+    snapshot.put(OPEN_COUNT, openCount.sum());
+    snapshot.put(BREAKER_REJECTED_COUNT, breakerRejections.sum());
+    snapshot.put(BULKHEAD_REJECTED_COUNT, bulkheadRejections.sum());
+    snapshot.put(TIMEOUT, timeoutMillis);
+    return snapshot;
+  }
+
+  private synchronized boolean isCallPermitted() {
+    switch (getState()) {
+      case OPEN:
+        return false;
+      case HALF_OPEN:
+        if (halfOpenAdmitted >= settings.getHalfOpenCalls()) {
+          return false;
+        }
+        halfOpenAdmitted++;
+        return true;
+      default:
+        return true;
+    }
+  }
+
+  private synchronized void recordOutcome(boolean failed) {
+    if (State.HALF_OPEN == state) {
+      if (failed) {
+        open();
+      } else if (++halfOpenSucceeded >= settings.getHalfOpenCalls()) {
+        close();
+      }
+      return;
+    }
+    if (State.OPEN == state) {
+      return;
+    }
+    if (outcomeCount == failures.length) {
+      if (failures[outcomeIndex]) {
+        failureCount--;
+      }
+    } else {
+      outcomeCount++;
+    }
+    failures[outcomeIndex] = failed;
+    if (failed) {
+      failureCount++;
+    }
+    outcomeIndex = (outcomeIndex + 1) % failures.length;
+    if (outcomeCount >= settings.getMinimumCalls()
+        && failureCount * 100 >= settings.getFailureRateThreshold() * outcomeCount) {
+      open();
+    }
+  }
+
+  private void open() {
+    logger.info(
+        "BackendGuard: "
+            + name
+            + " circuit breaker is open, "
+            + failureCount
+            + " of the last "
+            + outcomeCount
+            + " calls failed");
+    state = State.OPEN;
+    openedAt = System.currentTimeMillis();
+    openCount.increment();
+  }
+
+  private void close() {
+    logger.info("BackendGuard: " + name + " circuit breaker is closed");
+    state = State.CLOSED;
+    Arrays.fill(failures, false);
+    outcomeIndex = 0;
+    outcomeCount = 0;
+    failureCount = 0;
+  }
+
+  private synchronized void recordLatency(long elapsedMillis) {
+    latencies[latencyIndex] = elapsedMillis;
+    latencyIndex = (latencyIndex + 1) % LATENCY_SAMPLES;
+    if (latencyCount < LATENCY_SAMPLES) {
+      latencyCount++;
+    }
+    if (latencyIndex % TIMEOUT_UPDATE_INTERVAL == 0) {
+      long[] samples = Arrays.copyOf(latencies, latencyCount);
+      Arrays.sort(samples);
+      p99Latency = samples[(int) Math.ceil(PERCENTILE * latencyCount) - 1];
+      timeoutMillis =
+          Math.max(
+              settings.getMinTimeoutMillis(),
+              Math.min(
+                  settings.getMaxTimeoutMillis(), p99Latency * settings.getTimeoutMultiplier()));
+    }
+  }
+
+  private static ProjectCommonException createUnavailableException(String message) {
+    return new ProjectCommonException(
+        ResponseCode.serviceUnAvailable,
+        message,
+        ResponseCode.SERVICE_UNAVAILABLE.getResponseCode());
+  }
+}
@@ -0,0 +1,161 @@
+package org.sunbird.util;
+
+import org.apache.commons.lang3.math.NumberUtils;
+
+/**
+ * Circuit breaker, bulkhead and timeout settings of a {@link BackendGuard}. Settings are read from
+ * configuration keys prefixed with sunbird_ and the name of the backend, for example
+ * sunbird_es_max_concurrent_calls, so each backend can be tuned on its own. A guard is disabled
+ * unless its backend sets the _guard_enabled key to true.
+ */
+public final class BackendGuardSettings {
+
+  static final String ENABLED = "_guard_enabled";
+  static final String MAX_CONCURRENT_CALLS = "_max_concurrent_calls";
+  static final String FAILURE_RATE_THRESHOLD = "_breaker_failure_rate_threshold";
+  static final String WINDOW_SIZE = "_breaker_window_size";
+  static final String MINIMUM_CALLS = "_breaker_minimum_calls";
+  static final String OPEN_DURATION = "_breaker_open_duration_millis";
+  static final String HALF_OPEN_CALLS = "_breaker_half_open_calls";
+  static final String MIN_TIMEOUT = "_call_min_timeout_millis";
+  static final String MAX_TIMEOUT = "_call_timeout_millis";
+  static final String TIMEOUT_MULTIPLIER = "_call_timeout_multiplier";
+
+  private static final int DEFAULT_MAX_CONCURRENT_CALLS = 200;
+  private static final int DEFAULT_FAILURE_RATE_THRESHOLD = 50;
+  private static final int DEFAULT_WINDOW_SIZE = 100;
+  private static final int DEFAULT_MINIMUM_CALLS = 20;
+  private static final long DEFAULT_OPEN_DURATION_MILLIS = 10000;
+  private static final int DEFAULT_HALF_OPEN_CALLS = 5;
+  private static final long DEFAULT_MIN_TIMEOUT_MILLIS = 1000;
+  private static final long DEFAULT_MAX_TIMEOUT_MILLIS = 5000;
+  private static final int DEFAULT_TIMEOUT_MULTIPLIER = 4;
+
+  private final boolean enabled;
+  private final int maxConcurrentCalls;
+  private final int failureRateThreshold;
+  private final int windowSize;
+  private final int minimumCalls;
+  private final long openDurationMillis;
+  private final int halfOpenCalls;
+  private final long minTimeoutMillis;
+  private final long maxTimeoutMillis;
+  private final int timeoutMultiplier;
+
+  BackendGuardSettings(
+      boolean enabled,
+      int maxConcurrentCalls,
+      int failureRateThreshold,
+      int windowSize,
+      int minimumCalls,
+      long openDurationMillis,
+      int halfOpenCalls,
+      long minTimeoutMillis,
+      long maxTimeoutMillis,
+      int timeoutMultiplier) {
+    this.enabled = enabled;
+    this.maxConcurrentCalls = maxConcurrentCalls;
+    this.failureRateThreshold = failureRateThreshold;
+    this.windowSize = windowSize;
+    this.minimumCalls = Math.min(minimumCalls, windowSize);
+    this.openDurationMillis = openDurationMillis;
+    this.halfOpenCalls = halfOpenCalls;
+    this.minTimeoutMillis = Math.min(minTimeoutMillis, maxTimeoutMillis);
+    this.maxTimeoutMillis = maxTimeoutMillis;
+    this.timeoutMultiplier = timeoutMultiplier;
+  }
+
+  /**
+   * Method to read the settings of a backend from configuration, with defaults for the missing
+   * ones. The guard is disabled if it is not enabled explicitly.
+   *
+   * @param backend Name of the backend, for example es or cassandra
+   * @return Settings of the backend
+   */
+  public static BackendGuardSettings fromConfig(String backend) {
+    String prefix = "sunbird_" + backend;
+    return new BackendGuardSettings(
+        Boolean.parseBoolean(ProjectUtil.getConfigValue(prefix + ENABLED)),
+        getConfigValue(prefix + MAX_CONCURRENT_CALLS, DEFAULT_MAX_CONCURRENT_CALLS),
+        getConfigValue(prefix + FAILURE_RATE_THRESHOLD, DEFAULT_FAILURE_RATE_THRESHOLD),
+        getConfigValue(prefix + WINDOW_SIZE, DEFAULT_WINDOW_SIZE),
+        getConfigValue(prefix + MINIMUM_CALLS, DEFAULT_MINIMUM_CALLS),
+        getConfigValue(prefix + OPEN_DURATION, DEFAULT_OPEN_DURATION_MILLIS),
+        getConfigValue(prefix + HALF_OPEN_CALLS, DEFAULT_HALF_OPEN_CALLS),
+        getConfigValue(prefix + MIN_TIMEOUT, DEFAULT_MIN_TIMEOUT_MILLIS),
+        getConfigValue(prefix + MAX_TIMEOUT, DEFAULT_MAX_TIMEOUT_MILLIS),
+        getConfigValue(prefix + TIMEOUT_MULTIPLIER, DEFAULT_TIMEOUT_MULTIPLIER));
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public int getMaxConcurrentCalls() {
+    return maxConcurrentCalls;
+  }
+
+  public int getFailureRateThreshold() {
+    return failureRateThreshold;
+  }
+
+  public int getWindowSize() {
+    return windowSize;
+  }
+
+  public int getMinimumCalls() {
+    return minimumCalls;
+  }
+
+  public long getOpenDurationMillis() {
+    return openDurationMillis;
+  }
+
+  public int getHalfOpenCalls() {
+    return halfOpenCalls;
+  }
+
+  public long getMinTimeoutMillis() {
+    return minTimeoutMillis;
+  }
+
+  public long getMaxTimeoutMillis() {
+    return maxTimeoutMillis;
+  }
+
+  public int getTimeoutMultiplier() {
+    return timeoutMultiplier;
+  }
+
+  @Override
+  public String toString() {
+    return "enabled "
+        + enabled
+        + " maxConcurrentCalls "
+        + maxConcurrentCalls
+        + " failureRateThreshold "
+        + failureRateThreshold
+        + " windowSize "
+        + windowSize
+        + " minimumCalls "
+        + minimumCalls
+        + " openDurationMillis "
+        + openDurationMillis
+        + " halfOpenCalls "
+        + halfOpenCalls
+        + " minTimeoutMillis "
+        + minTimeoutMillis
+        + " maxTimeoutMillis "
+        + maxTimeoutMillis
+        + " timeoutMultiplier "
+        + timeoutMultiplier;
+  }
+
+  private static int getConfigValue(String key, int defaultValue) {
+    return NumberUtils.toInt(ProjectUtil.getConfigValue(key), defaultValue);
+  }
+
+  private static long getConfigValue(String key, long defaultValue) {
+    return NumberUtils.toLong(ProjectUtil.getConfigValue(key), defaultValue);
+  }
+}
@@ -214,6 +214,18 @@ public class BaseRequestValidator {
     }
     validateSearchRequestFiltersValues(request);
     validateSearchRequestFieldsValues(request);
+    validateSearchRequestCursor(request);
+  }
+
+  private void validateSearchRequestCursor(Request request) {
+    Object cursor = request.getRequest().get(JsonKey.CURSOR);
+    if (null != cursor && !(cursor instanceof String)) {
+      throw new ProjectCommonException(
+          ResponseCode.dataTypeError,
+          MessageFormat.format(
+              ResponseCode.dataTypeError.getErrorMessage(), JsonKey.CURSOR, "String"),
+          ResponseCode.CLIENT_ERROR.getResponseCode());
+    }
   }
 
   private void validateSearchRequestFieldsValues(Request request) {
@@ -0,0 +1,152 @@
+package org.sunbird.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
+
+public class BackendGuardTest {
+
+  @Test
+  public void testBreakerOpensWhenFailureRateCrossesThreshold() {
+    BackendGuard guard = new BackendGuard("test", createSettings(10, 60000));
+
+    for (int i = 0; i < 5; i++) {
+      guard.complete(guard.acquire(), false);
+    }
+    assertEquals(BackendGuard.State.CLOSED, guard.getState());
+    for (int i = 0; i < 2; i++) {
+      guard.complete(guard.acquire(), true);
+    }
+
+    assertTrue(guard.isOpen());
+    assertUnavailable(guard);
+    assertEquals(1L, guard.getSnapshot().get(BackendGuard.BREAKER_REJECTED_COUNT));
+  }
+
+  @Test
+  public void testBadRequestsDoNotOpenBreaker() {
+    BackendGuard guard = new BackendGuard("test", createSettings(10, 60000));
+
+    for (int i = 0; i < 20; i++) {
+      guard.complete(guard.acquire(), false);
+    }
+
+    assertEquals(BackendGuard.State.CLOSED, guard.getState());
+  }
+
+  @Test
+  public void testBreakerClosesAfterSuccessfulTrialCalls() {
+    BackendGuard guard = new BackendGuard("test", createSettings(10, 0));
+    for (int i = 0; i < 4; i++) {
+      guard.complete(guard.acquire(), true);
+    }
+
+    assertEquals(BackendGuard.State.HALF_OPEN, guard.getState());
+    long first = guard.acquire();
+    long second = guard.acquire();
+    assertUnavailable(guard);
+    guard.complete(first, false);
+    guard.complete(second, false);
+
+    assertEquals(BackendGuard.State.CLOSED, guard.getState());
+  }
+
+  @Test
+  public void testBreakerOpensAgainWhenTrialCallFails() {
+    BackendGuard guard = new BackendGuard("test", createSettings(10, 0));
+    for (int i = 0; i < 4; i++) {
+      guard.complete(guard.acquire(), true);
+    }
+
+    guard.complete(guard.acquire(), true);
+
+    assertEquals(2L, guard.getSnapshot().get(BackendGuard.OPEN_COUNT));
+  }
+
+  @Test
+  public void testBulkheadRejectionsDoNotUseTrialCalls() {
+    BackendGuard guard = new BackendGuard("test", createSettings(3, 0));
+    // calls still in flight from before the breaker opened
+    guard.acquire();
+    guard.acquire();
+    for (int i = 0; i < 4; i++) {
+      guard.complete(guard.acquire(), true);
+    }
+
+    assertEquals(BackendGuard.State.HALF_OPEN, guard.getState());
+    long first = guard.acquire();
+    for (int i = 0; i < 3; i++) {
+      assertUnavailable(guard);
+    }
+    guard.complete(first, false);
+    guard.complete(guard.acquire(), false);
+
+    assertEquals(BackendGuard.State.CLOSED, guard.getState());
+    assertEquals(3L, guard.getSnapshot().get(BackendGuard.BULKHEAD_REJECTED_COUNT));
+  }
+
+  @Test
+  public void testBulkheadRejectsCallsOverLimit() {
+    BackendGuard guard = new BackendGuard("test", createSettings(2, 60000));
+    long first = guard.acquire();
+    guard.acquire();
+
+    assertUnavailable(guard);
+    guard.complete(first, false);
+    guard.acquire();
+
+    assertEquals(2, guard.getSnapshot().get(BackendGuard.IN_FLIGHT));
+    assertEquals(1L, guard.getSnapshot().get(BackendGuard.BULKHEAD_REJECTED_COUNT));
+  }
+
+  @Test
+  public void testTimeoutFollowsRecentLatency() {
+    BackendGuard guard = new BackendGuard("test", createSettings(10, 60000));
+    assertEquals(5000, guard.getTimeoutMillis());
+
+    for (int i = 0; i < 32; i++) {
+      guard.complete(guard.acquire(), false);
+    }
+
+    assertEquals(100, guard.getTimeoutMillis());
+  }
+
+  @Test
+  public void testDisabledGuardPermitsEveryCall() {
+    BackendGuardSettings settings =
+        new BackendGuardSettings(false, 1, 50, 4, 4, 60000, 2, 100, 5000, 4);
+    BackendGuard guard = new BackendGuard("test", settings);
+
+    for (int i = 0; i < 10; i++) {
+      guard.complete(guard.acquire(), true);
+    }
+
+    assertFalse(guard.isOpen());
+  }
+
+  @Test
+  public void testGuardIsDisabledUnlessEnabledInConfig() {
+    assertFalse(BackendGuardSettings.fromConfig("es").isEnabled());
+    assertFalse(BackendGuardSettings.fromConfig("cassandra").isEnabled());
+    assertFalse(BackendGuardSettings.fromConfig("unconfigured").isEnabled());
+  }
+
+  private BackendGuardSettings createSettings(int maxConcurrentCalls, long openDurationMillis) {
+    return new BackendGuardSettings(
+        true, maxConcurrentCalls, 50, 4, 4, openDurationMillis, 2, 100, 5000, 4);
+  }
+
+  private void assertUnavailable(BackendGuard guard) {
+    try {
+      guard.acquire();
+      fail("Expected the call to be rejected");
+    } catch (ProjectCommonException e) {
+      assertEquals(ResponseCode.SERVICE_UNAVAILABLE.getResponseCode(), e.getErrorResponseCode());
+    }
+  }
+}
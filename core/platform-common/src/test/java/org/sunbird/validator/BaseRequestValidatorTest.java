@@ -1,6 +1,7 @@
 package org.sunbird.validator;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 import java.text.MessageFormat;
 import java.util.*;
@@ -32,6 +33,26 @@ public class BaseRequestValidatorTest {
     }
   }
 
+  @Test
+  public void testValidateSearchRequestFailureWithInvalidCursorType() {
+    Request request = new Request();
+    Map<String, Object> requestObj = new HashMap<>();
+    requestObj.put(JsonKey.FILTERS, new HashMap<>());
+    requestObj.put(JsonKey.CURSOR, 10);
+    request.setRequest(requestObj);
+    try {
+      baseRequestValidator.validateSearchRequest(request);
+      fail();
+    } catch (ProjectCommonException e) {
+      assertEquals(ResponseCode.CLIENT_ERROR.getResponseCode(), e.getErrorResponseCode());
+      assertEquals(ResponseCode.dataTypeError.getErrorCode(), e.getErrorCode());
+      assertEquals(
+          MessageFormat.format(
+              ResponseCode.dataTypeError.getErrorMessage(), JsonKey.CURSOR, "String"),
+          e.getMessage());
+    }
+  }
+
   @Test
   public void testCheckMandatoryFieldsPresent() {
     Map<String, Object> request = new HashMap<>();
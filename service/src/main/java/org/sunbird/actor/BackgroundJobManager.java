@@ -3,8 +3,10 @@ package org.sunbird.actor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.sunbird.actor.core.ActorPatterns;
 import org.sunbird.actor.core.BaseActor;
 import org.sunbird.common.ElasticSearchHelper;
 import org.sunbird.common.factory.EsClientFactory;
@@ -38,43 +40,57 @@ public class BackgroundJobManager extends BaseActor {
 
   private void updateUserOrgInfoToEs(Request actorMessage) {
     Map<String, Object> orgMap = (Map<String, Object>) actorMessage.getRequest().get(JsonKey.USER);
+    RequestContext context = actorMessage.getRequestContext();
     Future<Map<String, Object>> resultF =
         esService.getDataByIdentifier(
-            ProjectUtil.EsType.user.getTypeName(),
-            (String) orgMap.get(JsonKey.USER_ID),
-            actorMessage.getRequestContext());
-    Map<String, Object> result =
-        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(resultF);
-    if (result.containsKey(JsonKey.ORGANISATIONS) && null != result.get(JsonKey.ORGANISATIONS)) {
-      List<Map<String, Object>> orgMapList =
-          (List<Map<String, Object>>) result.get(JsonKey.ORGANISATIONS);
-      orgMapList.add(orgMap);
-    } else {
-      List<Map<String, Object>> mapList = new ArrayList<>();
-      mapList.add(orgMap);
-      result.put(JsonKey.ORGANISATIONS, mapList);
-    }
-    updateDataToElastic(
-        ProjectUtil.EsIndex.sunbird.getIndexName(),
-        ProjectUtil.EsType.user.getTypeName(),
-        (String) result.get(JsonKey.IDENTIFIER),
-        result,
-        actorMessage.getRequestContext());
+            ProjectUtil.EsType.user.getTypeName(), (String) orgMap.get(JsonKey.USER_ID), context);
+    ElasticSearchHelper.toCompletionStage(resultF, "updateUserOrgInfoToEs", context)
+        .thenCompose(
+            result -> {
+              if (result.containsKey(JsonKey.ORGANISATIONS)
+                  && null != result.get(JsonKey.ORGANISATIONS)) {
+                List<Map<String, Object>> orgMapList =
+                    (List<Map<String, Object>>) result.get(JsonKey.ORGANISATIONS);
+                orgMapList.add(orgMap);
+              } else {
+                List<Map<String, Object>> mapList = new ArrayList<>();
+                mapList.add(orgMap);
+                result.put(JsonKey.ORGANISATIONS, mapList);
+              }
+              return updateDataToElastic(
+                  ProjectUtil.EsIndex.sunbird.getIndexName(),
+                  ProjectUtil.EsType.user.getTypeName(),
+                  (String) result.get(JsonKey.IDENTIFIER),
+                  result,
+                  context);
+            })
+        .exceptionally(
+            error -> {
+              logger.error(
+                  context,
+                  "BackgroundJobManager:updateUserOrgInfoToEs: unable to read user "
+                      + orgMap.get(JsonKey.USER_ID),
+                  ActorPatterns.unwrap(error));
+              return false;
+            });
   }
 
-  private boolean updateDataToElastic(
+  private CompletionStage<Boolean> updateDataToElastic(
       String indexName,
       String typeName,
       String identifier,
       Map<String, Object> data,
       RequestContext context) {
     Future<Boolean> responseF = esService.update(typeName, identifier, data, context);
-    boolean response = (boolean) ElasticSearchHelper.getResponseFromFuture(responseF);
-    if (response) {
-      return true;
-    }
-    logger.info(context, "unable to save the data to ES with identifier " + identifier);
-    return false;
+    return ElasticSearchHelper.toCompletionStage(responseF, "updateDataToElastic", context)
+        .handle(
+            (response, error) -> {
+              if (null == error && Boolean.TRUE.equals(response)) {
+                return true;
+              }
+              logger.info(context, "unable to save the data to ES with identifier " + identifier);
+              return false;
+            });
   }
 
   private void updateUserInfoToEs(Request actorMessage) {
@@ -104,7 +120,7 @@ public class BackgroundJobManager extends BaseActor {
    * @param data Map<String,Object>
    * @return boolean
    */
-  private boolean insertDataToElastic(
+  private CompletionStage<Boolean> insertDataToElastic(
       String index,
       String type,
       String identifier,
@@ -114,16 +130,25 @@ public class BackgroundJobManager extends BaseActor {
         context,
         "BackgroundJobManager:insertDataToElastic: type = " + type + " identifier = " + identifier);
     Future<String> responseF = esService.save(type, identifier, data, context);
-    String response = (String) ElasticSearchHelper.getResponseFromFuture(responseF);
-    logger.info(
-        context,
-        "ES save response for type , identifier == " + type + "  " + identifier + "  " + response);
-    if (!StringUtils.isBlank(response)) {
-      logger.info(context, "Data saved successfully to ES ." + type + "  " + identifier);
-      return true;
-    }
-    logger.info(context, "unable to save the data inside ES with identifier " + identifier);
-    return false;
+    return ElasticSearchHelper.toCompletionStage(responseF, "insertDataToElastic", context)
+        .handle(
+            (response, error) -> {
+              logger.info(
+                  context,
+                  "ES save response for type , identifier == "
+                      + type
+                      + "  "
+                      + identifier
+                      + "  "
+                      + response);
+              if (null == error && !StringUtils.isBlank(response)) {
+                logger.info(context, "Data saved successfully to ES ." + type + "  " + identifier);
+                return true;
+              }
+              logger.info(
+                  context, "unable to save the data inside ES with identifier " + identifier);
+              return false;
+            });
   }
 
   private void mergeUserDetailsToEs(Request mergeRequest) {
@@ -131,13 +156,15 @@ public class BackgroundJobManager extends BaseActor {
     Map<String, Object> mergeeMap =
         (Map<String, Object>) mergeRequest.get(JsonKey.USER_MERGEE_ACCOUNT);
     updateDataToElastic(
-        ProjectUtil.EsIndex.sunbird.getIndexName(),
-        ProjectUtil.EsType.user.getTypeName(),
-        mergeeId,
-        mergeeMap,
-        mergeRequest.getRequestContext());
-    logger.info(
-        mergeRequest.getRequestContext(),
-        "user details updated for user in ES with id:" + mergeeId);
+            ProjectUtil.EsIndex.sunbird.getIndexName(),
+            ProjectUtil.EsType.user.getTypeName(),
+            mergeeId,
+            mergeeMap,
+            mergeRequest.getRequestContext())
+        .thenRun(
+            () ->
+                logger.info(
+                    mergeRequest.getRequestContext(),
+                    "user details updated for user in ES with id:" + mergeeId));
   }
 }
@@ -1,17 +1,17 @@
 package org.sunbird.actor.bulkupload;
 
 import akka.actor.ActorRef;
-import akka.pattern.Patterns;
-import akka.util.Timeout;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 import org.apache.commons.lang3.StringUtils;
+import org.sunbird.actor.core.ActorPatterns;
 import org.sunbird.common.Constants;
 import org.sunbird.dao.bulkupload.BulkUploadProcessDao;
 import org.sunbird.dao.bulkupload.BulkUploadProcessTaskDao;
@@ -27,9 +27,6 @@ import org.sunbird.request.Request;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
 import org.sunbird.util.ProjectUtil;
-import scala.concurrent.Await;
-import scala.concurrent.Future;
-import scala.concurrent.duration.Duration;
 
 public abstract class BaseBulkUploadBackgroundJobActor extends BaseBulkUploadActor {
 
@@ -64,7 +61,8 @@ public abstract class BaseBulkUploadBackgroundJobActor extends BaseBulkUploadAct
     }
   }
 
-  public void handleBulkUploadBackground(Request request, Function function) {
+  public void handleBulkUploadBackground(
+      Request request, Function<BulkUploadProcess, CompletionStage<?>> function) {
     String processId = (String) request.get(JsonKey.PROCESS_ID);
     BulkUploadProcessDao bulkUploadDao = BulkUploadProcessDaoImpl.getInstance();
     String logMessagePrefix =
@@ -80,87 +78,122 @@ public abstract class BaseBulkUploadBackgroundJobActor extends BaseBulkUploadAct
       return;
     }
 
+    CompletionStage<?> processF = CompletableFuture.completedFuture(null);
     int status = bulkUploadProcess.getStatus();
     if (!(ProjectUtil.BulkProcessStatus.COMPLETED.getValue() == status)
         || ProjectUtil.BulkProcessStatus.INTERRUPT.getValue() == status) {
       try {
-        function.apply(bulkUploadProcess);
+        processF = function.apply(bulkUploadProcess);
       } catch (Exception e) {
-        bulkUploadProcess.setStatus(ProjectUtil.BulkProcessStatus.FAILED.getValue());
-        bulkUploadProcess.setFailureResult(e.getMessage());
-        bulkUploadDao.update(bulkUploadProcess, null);
-        logger.error(
-            request.getRequestContext(),
-            logMessagePrefix + "Exception occurred with error message = " + e.getMessage(),
-            e);
+        processF = CompletableFuture.failedFuture(e);
       }
+      processF =
+          processF.exceptionally(
+              error -> {
+                Throwable cause = ActorPatterns.unwrap(error);
+                bulkUploadProcess.setStatus(ProjectUtil.BulkProcessStatus.FAILED.getValue());
+                bulkUploadProcess.setFailureResult(cause.getMessage());
+                bulkUploadDao.update(bulkUploadProcess, null);
+                logger.error(
+                    request.getRequestContext(),
+                    logMessagePrefix
+                        + "Exception occurred with error message = "
+                        + cause.getMessage(),
+                    cause);
+                return null;
+              });
     }
 
-    bulkUploadProcess.setStatus(ProjectUtil.BulkProcessStatus.COMPLETED.getValue());
-    Response response = bulkUploadDao.update(bulkUploadProcess, request.getRequestContext());
-    sender().tell(response, self());
+    CompletionStage<Response> responseF =
+        processF.thenApply(
+            result -> {
+              bulkUploadProcess.setStatus(ProjectUtil.BulkProcessStatus.COMPLETED.getValue());
+              return bulkUploadDao.update(bulkUploadProcess, request.getRequestContext());
+            });
+    pipeToSender(responseF, request);
+  }
+
+  /**
+   * Processes the tasks of a job batch by batch. A batch is read once the tasks of the batch before
+   * it are processed, so the function is given one batch at a time and rows stay in order.
+   */
+  public CompletionStage<Void> processBulkUpload(
+      BulkUploadProcess bulkUploadProcess,
+      Function<List<BulkUploadProcessTask>, CompletionStage<?>> function,
+      RequestContext context) {
+    List<Map<String, Object>> successList = new LinkedList<>();
+    List<Map<String, Object>> failureList = new LinkedList<>();
+    return processBatches(bulkUploadProcess, 0, function, successList, failureList, context)
+        .thenRun(() -> setCompletionStatus(bulkUploadProcess, successList, failureList, context));
   }
 
-  public void processBulkUpload(
-      BulkUploadProcess bulkUploadProcess, Function function, RequestContext context) {
+  private CompletionStage<Void> processBatches(
+      BulkUploadProcess bulkUploadProcess,
+      Integer sequence,
+      Function<List<BulkUploadProcessTask>, CompletionStage<?>> function,
+      List<Map<String, Object>> successList,
+      List<Map<String, Object>> failureList,
+      RequestContext context) {
     BulkUploadProcessTaskDao bulkUploadProcessTaskDao = BulkUploadProcessTaskDaoImpl.getInstance();
     String logMessagePrefix =
         MessageFormat.format(
             "BaseBulkUploadBackGroundJobActor:processBulkUpload:{0}: ", bulkUploadProcess.getId());
-    Integer sequence = 0;
     Integer taskCount = bulkUploadProcess.getTaskCount();
-    List<Map<String, Object>> successList = new LinkedList<>();
-    List<Map<String, Object>> failureList = new LinkedList<>();
-    while (sequence < taskCount) {
-      Integer nextSequence = sequence + getBatchSize(JsonKey.CASSANDRA_WRITE_BATCH_SIZE);
-      Map<String, Object> queryMap = new HashMap<>();
-      queryMap.put(JsonKey.PROCESS_ID, bulkUploadProcess.getId());
-      Map<String, Object> sequenceRange = new HashMap<>();
-      sequenceRange.put(Constants.GT, sequence);
-      sequenceRange.put(Constants.LTE, nextSequence);
-      queryMap.put(BulkUploadJsonKey.SEQUENCE_ID, sequenceRange);
-      List<BulkUploadProcessTask> tasks =
-          bulkUploadProcessTaskDao.readByPrimaryKeys(queryMap, context);
-      if (tasks == null) {
-        logger.info(
-            context,
-            logMessagePrefix
-                + "No bulkUploadProcessTask found for process id: "
-                + bulkUploadProcess.getId()
-                + " and range "
-                + sequence
-                + ":"
-                + nextSequence);
-        sequence = nextSequence;
-        continue;
-      }
-      function.apply(tasks);
+    if (sequence >= taskCount) {
+      return CompletableFuture.completedFuture(null);
+    }
+    Integer nextSequence = sequence + getBatchSize(JsonKey.CASSANDRA_WRITE_BATCH_SIZE);
+    Map<String, Object> queryMap = new HashMap<>();
+    queryMap.put(JsonKey.PROCESS_ID, bulkUploadProcess.getId());
+    Map<String, Object> sequenceRange = new HashMap<>();
+    sequenceRange.put(Constants.GT, sequence);
+    sequenceRange.put(Constants.LTE, nextSequence);
+    queryMap.put(BulkUploadJsonKey.SEQUENCE_ID, sequenceRange);
+    List<BulkUploadProcessTask> tasks =
+        bulkUploadProcessTaskDao.readByPrimaryKeys(queryMap, context);
+    if (tasks == null) {
+      logger.info(
+          context,
+          logMessagePrefix
+              + "No bulkUploadProcessTask found for process id: "
+              + bulkUploadProcess.getId()
+              + " and range "
+              + sequence
+              + ":"
+              + nextSequence);
+      return processBatches(
+          bulkUploadProcess, nextSequence, function, successList, failureList, context);
+    }
+    return function
+        .apply(tasks)
+        .thenCompose(
+            result -> {
+              try {
+                ObjectMapper mapper = new ObjectMapper();
+                for (BulkUploadProcessTask task : tasks) {
 
-      try {
-        ObjectMapper mapper = new ObjectMapper();
-        for (BulkUploadProcessTask task : tasks) {
-
-          if (task.getStatus().equals(ProjectUtil.BulkProcessStatus.FAILED.getValue())) {
-            failureList.add(
-                mapper.readValue(
-                    task.getFailureResult(), new TypeReference<Map<String, Object>>() {}));
-          } else if (task.getStatus().equals(ProjectUtil.BulkProcessStatus.COMPLETED.getValue())) {
-            successList.add(
-                mapper.readValue(
-                    task.getSuccessResult(), new TypeReference<Map<String, Object>>() {}));
-          }
-        }
+                  if (task.getStatus().equals(ProjectUtil.BulkProcessStatus.FAILED.getValue())) {
+                    failureList.add(
+                        mapper.readValue(
+                            task.getFailureResult(), new TypeReference<Map<String, Object>>() {}));
+                  } else if (task.getStatus()
+                      .equals(ProjectUtil.BulkProcessStatus.COMPLETED.getValue())) {
+                    successList.add(
+                        mapper.readValue(
+                            task.getSuccessResult(), new TypeReference<Map<String, Object>>() {}));
+                  }
+                }
 
-      } catch (IOException e) {
-        logger.error(
-            context,
-            logMessagePrefix + "Exception occurred with error message = " + e.getMessage(),
-            e);
-      }
-      performBatchUpdate(tasks, context);
-      sequence = nextSequence;
-    }
-    setCompletionStatus(bulkUploadProcess, successList, failureList, context);
+              } catch (IOException e) {
+                logger.error(
+                    context,
+                    logMessagePrefix + "Exception occurred with error message = " + e.getMessage(),
+                    e);
+              }
+              performBatchUpdate(tasks, context);
+              return processBatches(
+                  bulkUploadProcess, nextSequence, function, successList, failureList, context);
+            });
   }
 
   private void setCompletionStatus(
@@ -201,34 +234,24 @@ public abstract class BaseBulkUploadBackgroundJobActor extends BaseBulkUploadAct
 
   public abstract void preProcessResult(Map<String, Object> result);
 
-  public Object actorCall(ActorRef actorRef, Request request, RequestContext context) {
-    Object obj = null;
-    try {
-      Timeout t = new Timeout(Duration.create(10, TimeUnit.SECONDS));
-      Future<Object> future = Patterns.ask(actorRef, request, t);
-      obj = Await.result(future, t.duration());
-    } catch (ProjectCommonException pce) {
-      throw pce;
-    } catch (Exception e) {
-      logger.error(
-          context,
-          "Unable to communicate with actor: Exception occurred with error message = "
-              + e.getMessage(),
-          e);
-      ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR);
-    }
-    checkResponseForException(obj);
-    return obj;
-  }
-
-  private void checkResponseForException(Object obj) {
-    if (obj instanceof ProjectCommonException) {
-      throw (ProjectCommonException) obj;
-    } else if (obj instanceof Exception) {
-      throw new ProjectCommonException(
-          ResponseCode.serverError,
-          ResponseCode.serverError.getErrorMessage(),
-          ResponseCode.SERVER_ERROR.getResponseCode());
-    }
+  /**
+   * Calls an actor for a row of the job. Rows are processed in order and the processing of a row
+   * may depend on the rows before it, so callers compose the next row on the returned stage instead
+   * of asking for it right away. The stage fails with the exception the actor replied with, or with
+   * a server error for any other failure.
+   */
+  public CompletionStage<Object> actorCall(ActorRef actorRef, Request request) {
+    return ActorPatterns.ask(actorRef, request)
+        .exceptionally(
+            error -> {
+              Throwable cause = ActorPatterns.unwrap(error);
+              if (cause instanceof ProjectCommonException) {
+                throw (ProjectCommonException) cause;
+              }
+              throw new ProjectCommonException(
+                  ResponseCode.serverError,
+                  ResponseCode.serverError.getErrorMessage(),
+                  ResponseCode.SERVER_ERROR.getResponseCode());
+            });
   }
 }
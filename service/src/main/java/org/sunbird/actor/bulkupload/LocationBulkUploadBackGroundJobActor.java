@@ -8,14 +8,17 @@ import java.sql.Timestamp;
 import java.text.MessageFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import javax.inject.Inject;
 import javax.inject.Named;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.sunbird.actor.core.ActorPatterns;
 import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.exception.ResponseCode;
 import org.sunbird.keys.JsonKey;
-import org.sunbird.model.bulkupload.BulkUploadProcess;
 import org.sunbird.model.bulkupload.BulkUploadProcessTask;
 import org.sunbird.model.location.Location;
 import org.sunbird.operations.ActorOperations;
@@ -46,23 +49,19 @@ public class LocationBulkUploadBackGroundJobActor extends BaseBulkUploadBackgrou
       case "locationBulkUploadBackground":
         handleBulkUploadBackground(
             request,
-            (bulkUploadProcess) -> {
-              processBulkUpload(
-                  (BulkUploadProcess) bulkUploadProcess,
-                  (tasks) -> {
-                    processTasks((List<BulkUploadProcessTask>) tasks, request.getRequestContext());
-                    return null;
-                  },
-                  request.getRequestContext());
-              return null;
-            });
+            (bulkUploadProcess) ->
+                processBulkUpload(
+                    bulkUploadProcess,
+                    (tasks) -> processTasks(tasks, request.getRequestContext()),
+                    request.getRequestContext()));
         break;
       default:
         logger.info(operation + ": unsupported message");
     }
   }
 
-  private void processLocation(BulkUploadProcessTask task, RequestContext context) {
+  private CompletionStage<Void> processLocation(
+      BulkUploadProcessTask task, RequestContext context) {
     ObjectMapper mapper = new ObjectMapper();
     logger.info(context, "LocationBulkUploadBackGroundJobActor: processLocation called");
     String data = task.getData();
@@ -82,9 +81,9 @@ public class LocationBulkUploadBackGroundJobActor extends BaseBulkUploadBackgrou
           setTaskStatus(task, ProjectUtil.BulkProcessStatus.FAILED, ex.getMessage(), row, null);
         }
         if (null == location) {
-          callCreateLocation(row, task, context);
+          return callCreateLocation(row, task, context);
         } else {
-          callUpdateLocation(row, mapper.convertValue(location, Map.class), task, context);
+          return callUpdateLocation(row, mapper.convertValue(location, Map.class), task, context);
         }
       } else {
         setTaskStatus(
@@ -99,6 +98,7 @@ public class LocationBulkUploadBackGroundJobActor extends BaseBulkUploadBackgrou
       ProjectCommonException.throwClientErrorException(
           ResponseCode.SERVER_ERROR, ResponseCode.serverError.getErrorMessage());
     }
+    return CompletableFuture.completedFuture(null);
   }
 
   private boolean checkMandatoryFields(Map<String, Object> row, String... fields) {
@@ -113,7 +113,7 @@ public class LocationBulkUploadBackGroundJobActor extends BaseBulkUploadBackgrou
     return flag;
   }
 
-  private void callUpdateLocation(
+  private CompletionStage<Void> callUpdateLocation(
       Map<String, Object> row,
       Map<String, Object> response,
       BulkUploadProcessTask task,
@@ -135,76 +135,104 @@ public class LocationBulkUploadBackGroundJobActor extends BaseBulkUploadBackgrou
               ResponseCode.unupdatableField.getErrorMessage(), JsonKey.LOCATION_TYPE),
           row,
           JsonKey.UPDATE);
-      return;
+      return CompletableFuture.completedFuture(null);
     }
     ObjectMapper mapper = new ObjectMapper();
-    try {
-      logger.info(context, "callUpdateLocation ");
-      upsertLocation(locationActor, row, ActorOperations.UPDATE_LOCATION.getValue(), context);
-    } catch (Exception ex) {
-      logger.error(
-          context,
-          "LocationBulkUploadBackGroundJobActor : callUpdateLocation - got exception "
-              + ex.getMessage(),
-          ex);
-      row.put(JsonKey.ERROR_MSG, ex.getMessage());
-      setTaskStatus(
-          task, ProjectUtil.BulkProcessStatus.FAILED, ex.getMessage(), row, JsonKey.UPDATE);
-    }
+    logger.info(context, "callUpdateLocation ");
+    return upsertLocation(locationActor, row, ActorOperations.UPDATE_LOCATION.getValue(), context)
+        .handle(
+            (locationId, error) -> {
+              try {
+                if (null != error) {
+                  Throwable ex = ActorPatterns.unwrap(error);
+                  logger.error(
+                      context,
+                      "LocationBulkUploadBackGroundJobActor : callUpdateLocation - got exception "
+                          + ex.getMessage(),
+                      ex);
+                  row.put(JsonKey.ERROR_MSG, ex.getMessage());
+                  setTaskStatus(
+                      task,
+                      ProjectUtil.BulkProcessStatus.FAILED,
+                      ex.getMessage(),
+                      row,
+                      JsonKey.UPDATE);
+                }
 
-    row.put(JsonKey.LOCATION_TYPE, locationType);
-    task.setData(mapper.writeValueAsString(row));
-    setSuccessTaskStatus(task, ProjectUtil.BulkProcessStatus.COMPLETED, row, JsonKey.UPDATE);
+                row.put(JsonKey.LOCATION_TYPE, locationType);
+                task.setData(mapper.writeValueAsString(row));
+                setSuccessTaskStatus(
+                    task, ProjectUtil.BulkProcessStatus.COMPLETED, row, JsonKey.UPDATE);
+              } catch (JsonProcessingException e) {
+                throw new CompletionException(e);
+              }
+              return null;
+            });
   }
 
   private Boolean areLocationTypesEqual(String locationType, String responseType) {
     return (locationType.equalsIgnoreCase(responseType));
   }
 
-  private void callCreateLocation(
-      Map<String, Object> row, BulkUploadProcessTask task, RequestContext context)
-      throws JsonProcessingException {
-    String locationId = "";
-    try {
-      logger.info(context, "callCreateLocation ");
-      locationId =
-          upsertLocation(locationActor, row, ActorOperations.CREATE_LOCATION.getValue(), context);
-    } catch (Exception ex) {
-      logger.error(
-          context,
-          "LocationBulkUploadBackGroundJobActor : callCreateLocation - got exception "
-              + ex.getMessage(),
-          ex);
-      setTaskStatus(
-          task, ProjectUtil.BulkProcessStatus.FAILED, ex.getMessage(), row, JsonKey.CREATE);
-      return;
-    }
-
-    if (StringUtils.isEmpty(locationId)) {
-      logger.info(
-          context,
-          "LocationBulkUploadBackGroundJobActor : Null receive from interservice communication");
-      setTaskStatus(
-          task,
-          ProjectUtil.BulkProcessStatus.FAILED,
-          ResponseCode.serverError.getErrorMessage(),
-          row,
-          JsonKey.CREATE);
-    } else {
-      row.put(JsonKey.ID, locationId);
-      setSuccessTaskStatus(task, ProjectUtil.BulkProcessStatus.COMPLETED, row, JsonKey.CREATE);
-    }
+  private CompletionStage<Void> callCreateLocation(
+      Map<String, Object> row, BulkUploadProcessTask task, RequestContext context) {
+    logger.info(context, "callCreateLocation ");
+    return upsertLocation(locationActor, row, ActorOperations.CREATE_LOCATION.getValue(), context)
+        .handle(
+            (locationId, error) -> {
+              try {
+                if (null != error) {
+                  Throwable ex = ActorPatterns.unwrap(error);
+                  logger.error(
+                      context,
+                      "LocationBulkUploadBackGroundJobActor : callCreateLocation - got exception "
+                          + ex.getMessage(),
+                      ex);
+                  setTaskStatus(
+                      task,
+                      ProjectUtil.BulkProcessStatus.FAILED,
+                      ex.getMessage(),
+                      row,
+                      JsonKey.CREATE);
+                } else if (StringUtils.isEmpty(locationId)) {
+                  logger.info(
+                      context,
+                      "LocationBulkUploadBackGroundJobActor : Null receive from interservice communication");
+                  setTaskStatus(
+                      task,
+                      ProjectUtil.BulkProcessStatus.FAILED,
+                      ResponseCode.serverError.getErrorMessage(),
+                      row,
+                      JsonKey.CREATE);
+                } else {
+                  row.put(JsonKey.ID, locationId);
+                  setSuccessTaskStatus(
+                      task, ProjectUtil.BulkProcessStatus.COMPLETED, row, JsonKey.CREATE);
+                }
+              } catch (JsonProcessingException e) {
+                throw new CompletionException(e);
+              }
+              return null;
+            });
   }
 
-  private void processTasks(List<BulkUploadProcessTask> tasks, RequestContext context) {
+  private CompletionStage<Void> processTasks(
+      List<BulkUploadProcessTask> tasks, RequestContext context) {
+    CompletionStage<Void> tasksF = CompletableFuture.completedFuture(null);
     for (BulkUploadProcessTask task : tasks) {
       if (task.getStatus() != null
           && task.getStatus() != ProjectUtil.BulkProcessStatus.COMPLETED.getValue()) {
-        processLocation(task, context);
-        task.setLastUpdatedOn(new Timestamp(System.currentTimeMillis()));
-        task.setIterationId(task.getIterationId() + 1);
+        tasksF =
+            tasksF
+                .thenCompose(result -> processLocation(task, context))
+                .thenRun(
+                    () -> {
+                      task.setLastUpdatedOn(new Timestamp(System.currentTimeMillis()));
+                      task.setIterationId(task.getIterationId() + 1);
+                    });
       }
     }
+    return tasksF;
   }
 
   @Override
@@ -212,26 +240,27 @@ public class LocationBulkUploadBackGroundJobActor extends BaseBulkUploadBackgrou
     // Do nothing
   }
 
-  private String upsertLocation(
+  private CompletionStage<String> upsertLocation(
       ActorRef actorRef,
       Map<String, Object> locationMap,
       String operation,
       RequestContext context) {
-    String locId = null;
-
     Request request = new Request();
     request.setRequestContext(context);
     request.setRequest(locationMap);
     request.setOperation(operation);
     request.getContext().put(JsonKey.CALLER_ID, JsonKey.BULK_LOCATION_UPLOAD);
-    Object obj = actorCall(actorRef, request, context);
-
-    if (obj instanceof Response) {
-      Response response = (Response) obj;
-      if (response.get(JsonKey.ID) != null) {
-        locId = (String) response.get(JsonKey.ID);
-      }
-    }
-    return locId;
+    return actorCall(actorRef, request)
+        .thenApply(
+            obj -> {
+              String locId = null;
+              if (obj instanceof Response) {
+                Response response = (Response) obj;
+                if (response.get(JsonKey.ID) != null) {
+                  locId = (String) response.get(JsonKey.ID);
+                }
+              }
+              return locId;
+            });
   }
 }
@@ -11,14 +11,17 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import javax.inject.Inject;
 import javax.inject.Named;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.sunbird.actor.core.ActorPatterns;
 import org.sunbird.actor.organisation.validator.OrgTypeValidator;
 import org.sunbird.exception.ResponseCode;
 import org.sunbird.keys.JsonKey;
-import org.sunbird.model.bulkupload.BulkUploadProcess;
 import org.sunbird.model.bulkupload.BulkUploadProcessTask;
 import org.sunbird.model.location.Location;
 import org.sunbird.model.organisation.Organisation;
@@ -53,35 +56,37 @@ public class OrgBulkUploadBackgroundJobActor extends BaseBulkUploadBackgroundJob
     if (operation.equalsIgnoreCase("orgBulkUploadBackground")) {
       handleBulkUploadBackground(
           request,
-          (baseBulkUpload) -> {
-            processBulkUpload(
-                (BulkUploadProcess) baseBulkUpload,
-                (tasks) -> {
-                  processTasks((List<BulkUploadProcessTask>) tasks, request.getRequestContext());
-                  return null;
-                },
-                request.getRequestContext());
-            return null;
-          });
+          (baseBulkUpload) ->
+              processBulkUpload(
+                  baseBulkUpload,
+                  (tasks) -> processTasks(tasks, request.getRequestContext()),
+                  request.getRequestContext()));
     } else {
       onReceiveUnsupportedOperation();
     }
   }
 
-  private void processTasks(
+  private CompletionStage<Void> processTasks(
       List<BulkUploadProcessTask> bulkUploadProcessTasks, RequestContext context) {
     Map<String, Location> locationCache = new HashMap<>();
+    CompletionStage<Void> tasksF = CompletableFuture.completedFuture(null);
     for (BulkUploadProcessTask task : bulkUploadProcessTasks) {
       if (task.getStatus() != null
           && task.getStatus() != ProjectUtil.BulkProcessStatus.COMPLETED.getValue()) {
-        processOrg(task, locationCache, context);
-        task.setLastUpdatedOn(new Timestamp(System.currentTimeMillis()));
-        task.setIterationId(task.getIterationId() + 1);
+        tasksF =
+            tasksF
+                .thenCompose(result -> processOrg(task, locationCache, context))
+                .thenRun(
+                    () -> {
+                      task.setLastUpdatedOn(new Timestamp(System.currentTimeMillis()));
+                      task.setIterationId(task.getIterationId() + 1);
+                    });
       }
     }
+    return tasksF;
   }
 
-  private void processOrg(
+  private CompletionStage<Void> processOrg(
       BulkUploadProcessTask task, Map<String, Location> locationCache, RequestContext context) {
     logger.info(context, "OrgBulkUploadBackgroundJobActor: processOrg called");
     String data = task.getData();
@@ -106,11 +111,12 @@ public class OrgBulkUploadBackgroundJobActor extends BaseBulkUploadBackgroundJob
                 JsonKey.ORGANISATION + JsonKey.STATUS));
         task.setFailureResult(mapper.writeValueAsString(orgMap));
         task.setStatus(ProjectUtil.BulkProcessStatus.FAILED.getValue());
-        return;
+        return CompletableFuture.completedFuture(null);
       }
 
-      List<String> locationCodes = new ArrayList<>();
+      List<String> locationCodes;
       if (orgMap.get(JsonKey.LOCATION_CODE) instanceof String) {
+        locationCodes = new ArrayList<>();
         locationCodes.add((String) orgMap.get(JsonKey.LOCATION_CODE));
       } else {
         locationCodes = (List<String>) orgMap.get(JsonKey.LOCATION_CODE);
@@ -129,21 +135,40 @@ public class OrgBulkUploadBackgroundJobActor extends BaseBulkUploadBackgroundJob
       organisation.setStatus(status);
       organisation.setId((String) orgMap.get(JsonKey.ORGANISATION_ID));
 
+      CompletionStage<Void> upsertF;
       if (StringUtils.isEmpty(organisation.getId())) {
-        callCreateOrg(organisation, task, locationCodes, context);
+        upsertF = callCreateOrg(organisation, task, locationCodes, context);
       } else {
-        callUpdateOrg(organisation, task, locationCodes, context);
+        upsertF = callUpdateOrg(organisation, task, locationCodes, context);
       }
-      setLocationInformation(task, locationCache, locationCodes, context);
+      return upsertF
+          .thenRun(
+              () -> {
+                try {
+                  setLocationInformation(task, locationCache, locationCodes, context);
+                } catch (IOException e) {
+                  throw new CompletionException(e);
+                }
+              })
+          .exceptionally(
+              error -> {
+                logProcessOrgError(ActorPatterns.unwrap(error), context);
+                return null;
+              });
     } catch (Exception e) {
-      logger.error(
-          context,
-          "OrgBulkUploadBackgroundJobActor:callCreateOrg: Exception occurred with error message = "
-              + e.getMessage(),
-          e);
+      logProcessOrgError(e, context);
+      return CompletableFuture.completedFuture(null);
     }
   }
 
+  private void logProcessOrgError(Throwable e, RequestContext context) {
+    logger.error(
+        context,
+        "OrgBulkUploadBackgroundJobActor:callCreateOrg: Exception occurred with error message = "
+            + e.getMessage(),
+        e);
+  }
+
   private void setLocationInformation(
       BulkUploadProcessTask task,
       Map<String, Location> locationCache,
@@ -192,16 +217,14 @@ public class OrgBulkUploadBackgroundJobActor extends BaseBulkUploadBackgroundJob
     return status;
   }
 
-  private void callCreateOrg(
+  private CompletionStage<Void> callCreateOrg(
       Organisation org,
       BulkUploadProcessTask task,
       List<String> locationCodes,
-      RequestContext context)
-      throws JsonProcessingException {
+      RequestContext context) {
     ObjectMapper mapper = new ObjectMapper();
     Map<String, Object> row = mapper.convertValue(org, Map.class);
     row.put(JsonKey.LOCATION_CODE, locationCodes);
-    String orgId;
     row.put(
         JsonKey.ORG_TYPE, OrgTypeValidator.getInstance().getTypeByValue(org.getOrganisationType()));
     if (org.getOrganisationSubType() != null) {
@@ -209,41 +232,50 @@ public class OrgBulkUploadBackgroundJobActor extends BaseBulkUploadBackgroundJob
           JsonKey.ORG_SUB_TYPE,
           OrgTypeValidator.getInstance().getTypeByValue(org.getOrganisationSubType()));
     }
-    try {
-      orgId =
-          upsertOrg(
-              organisationManagementActor, row, ActorOperations.CREATE_ORG.getValue(), context);
-    } catch (Exception ex) {
-      logger.error(
-          context,
-          "OrgBulkUploadBackgroundJobActor:callCreateOrg: Exception occurred with error message = "
-              + ex.getMessage(),
-          ex);
-      setTaskStatus(
-          task, ProjectUtil.BulkProcessStatus.FAILED, ex.getMessage(), row, JsonKey.CREATE);
-      return;
-    }
-
-    if (StringUtils.isEmpty(orgId)) {
-      logger.info(context, "OrgBulkUploadBackgroundJobActor:callCreateOrg: Org ID is null !");
-      setTaskStatus(
-          task,
-          ProjectUtil.BulkProcessStatus.FAILED,
-          ResponseCode.serverError.getErrorMessage(),
-          row,
-          JsonKey.CREATE);
-    } else {
-      row.put(JsonKey.ORGANISATION_ID, orgId);
-      setSuccessTaskStatus(task, ProjectUtil.BulkProcessStatus.COMPLETED, row, JsonKey.CREATE);
-    }
+    return upsertOrg(
+            organisationManagementActor, row, ActorOperations.CREATE_ORG.getValue(), context)
+        .handle(
+            (orgId, error) -> {
+              try {
+                if (null != error) {
+                  Throwable ex = ActorPatterns.unwrap(error);
+                  logger.error(
+                      context,
+                      "OrgBulkUploadBackgroundJobActor:callCreateOrg: Exception occurred with error message = "
+                          + ex.getMessage(),
+                      ex);
+                  setTaskStatus(
+                      task,
+                      ProjectUtil.BulkProcessStatus.FAILED,
+                      ex.getMessage(),
+                      row,
+                      JsonKey.CREATE);
+                } else if (StringUtils.isEmpty(orgId)) {
+                  logger.info(
+                      context, "OrgBulkUploadBackgroundJobActor:callCreateOrg: Org ID is null !");
+                  setTaskStatus(
+                      task,
+                      ProjectUtil.BulkProcessStatus.FAILED,
+                      ResponseCode.serverError.getErrorMessage(),
+                      row,
+                      JsonKey.CREATE);
+                } else {
+                  row.put(JsonKey.ORGANISATION_ID, orgId);
+                  setSuccessTaskStatus(
+                      task, ProjectUtil.BulkProcessStatus.COMPLETED, row, JsonKey.CREATE);
+                }
+              } catch (JsonProcessingException e) {
+                throw new CompletionException(e);
+              }
+              return null;
+            });
   }
 
-  private void callUpdateOrg(
+  private CompletionStage<Void> callUpdateOrg(
       Organisation org,
       BulkUploadProcessTask task,
       List<String> locationCodes,
-      RequestContext context)
-      throws JsonProcessingException {
+      RequestContext context) {
     ObjectMapper mapper = new ObjectMapper();
     Map<String, Object> row = mapper.convertValue(org, Map.class);
     row.put(JsonKey.LOCATION_CODE, locationCodes);
@@ -254,23 +286,37 @@ public class OrgBulkUploadBackgroundJobActor extends BaseBulkUploadBackgroundJob
           JsonKey.ORG_SUB_TYPE,
           OrgTypeValidator.getInstance().getTypeByValue(org.getOrganisationSubType()));
     }
-    try {
-      row.put(JsonKey.ORGANISATION_ID, org.getId());
-      upsertOrg(organisationManagementActor, row, ActorOperations.UPDATE_ORG.getValue(), context);
-    } catch (Exception ex) {
-      logger.error(
-          context,
-          "OrgBulkUploadBackgroundJobActor:callUpdateOrg: Exception occurred with error message = "
-              + ex.getMessage(),
-          ex);
-      row.put(JsonKey.ERROR_MSG, ex.getMessage());
-      setTaskStatus(
-          task, ProjectUtil.BulkProcessStatus.FAILED, ex.getMessage(), row, JsonKey.UPDATE);
-    }
-    if (task.getStatus() != ProjectUtil.BulkProcessStatus.FAILED.getValue()) {
-      task.setData(mapper.writeValueAsString(row));
-      setSuccessTaskStatus(task, ProjectUtil.BulkProcessStatus.COMPLETED, row, JsonKey.UPDATE);
-    }
+    row.put(JsonKey.ORGANISATION_ID, org.getId());
+    return upsertOrg(
+            organisationManagementActor, row, ActorOperations.UPDATE_ORG.getValue(), context)
+        .handle(
+            (orgId, error) -> {
+              try {
+                if (null != error) {
+                  Throwable ex = ActorPatterns.unwrap(error);
+                  logger.error(
+                      context,
+                      "OrgBulkUploadBackgroundJobActor:callUpdateOrg: Exception occurred with error message = "
+                          + ex.getMessage(),
+                      ex);
+                  row.put(JsonKey.ERROR_MSG, ex.getMessage());
+                  setTaskStatus(
+                      task,
+                      ProjectUtil.BulkProcessStatus.FAILED,
+                      ex.getMessage(),
+                      row,
+                      JsonKey.UPDATE);
+                }
+                if (task.getStatus() != ProjectUtil.BulkProcessStatus.FAILED.getValue()) {
+                  task.setData(mapper.writeValueAsString(row));
+                  setSuccessTaskStatus(
+                      task, ProjectUtil.BulkProcessStatus.COMPLETED, row, JsonKey.UPDATE);
+                }
+              } catch (JsonProcessingException e) {
+                throw new CompletionException(e);
+              }
+              return null;
+            });
   }
 
   @Override
@@ -278,23 +324,24 @@ public class OrgBulkUploadBackgroundJobActor extends BaseBulkUploadBackgroundJob
     // Do nothing
   }
 
-  private String upsertOrg(
+  private CompletionStage<String> upsertOrg(
       ActorRef actorRef, Map<String, Object> orgMap, String operation, RequestContext context) {
-    String orgId = null;
-
     Request request = new Request();
     request.setRequestContext(context);
     request.setRequest(orgMap);
     request.setOperation(operation);
     request.getContext().put(JsonKey.CALLER_ID, JsonKey.BULK_ORG_UPLOAD);
-    Object obj = actorCall(actorRef, request, context);
-
-    if (obj instanceof Response) {
-      Response response = (Response) obj;
-      if (response.get(JsonKey.ORGANISATION_ID) != null) {
-        orgId = (String) response.get(JsonKey.ORGANISATION_ID);
-      }
-    }
-    return orgId;
+    return actorCall(actorRef, request)
+        .thenApply(
+            obj -> {
+              String orgId = null;
+              if (obj instanceof Response) {
+                Response response = (Response) obj;
+                if (response.get(JsonKey.ORGANISATION_ID) != null) {
+                  orgId = (String) response.get(JsonKey.ORGANISATION_ID);
+                }
+              }
+              return orgId;
+            });
   }
 }
@@ -7,11 +7,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.sql.Timestamp;
 import java.text.MessageFormat;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import javax.inject.Inject;
 import javax.inject.Named;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.sunbird.actor.core.ActorPatterns;
 import org.sunbird.actor.user.validator.UserRequestValidator;
 import org.sunbird.exception.ResponseCode;
 import org.sunbird.keys.JsonKey;
@@ -56,49 +60,50 @@ public class UserBulkUploadBackgroundJobActor extends BaseBulkUploadBackgroundJo
     if (operation.equalsIgnoreCase("userBulkUploadBackground")) {
       handleBulkUploadBackground(
           request,
-          (baseBulkUpload) -> {
-            processBulkUpload(
-                (BulkUploadProcess) baseBulkUpload,
-                (tasks) -> {
-                  processTasks(
-                      (List<BulkUploadProcessTask>) tasks,
-                      ((BulkUploadProcess) baseBulkUpload),
-                      request.getRequestContext());
-                  return null;
-                },
-                request.getRequestContext());
-            return null;
-          });
+          (baseBulkUpload) ->
+              processBulkUpload(
+                  baseBulkUpload,
+                  (tasks) -> processTasks(tasks, baseBulkUpload, request.getRequestContext()),
+                  request.getRequestContext()));
     } else {
       onReceiveUnsupportedOperation();
     }
   }
 
-  private void processTasks(
+  private CompletionStage<Void> processTasks(
       List<BulkUploadProcessTask> bulkUploadProcessTasks,
       BulkUploadProcess bulkUploadProcess,
       RequestContext context) {
+    CompletionStage<Void> tasksF = CompletableFuture.completedFuture(null);
     for (BulkUploadProcessTask task : bulkUploadProcessTasks) {
-      try {
-        if (task.getStatus() != null
-            && task.getStatus() != ProjectUtil.BulkProcessStatus.COMPLETED.getValue()) {
-          processUser(
-              task,
-              bulkUploadProcess.getOrganisationId(),
-              bulkUploadProcess.getUploadedBy(),
-              context);
-          task.setLastUpdatedOn(new Timestamp(System.currentTimeMillis()));
-          task.setIterationId(task.getIterationId() + 1);
-        }
-      } catch (Exception ex) {
-        logger.error(context, "Error in processTasks", ex);
-        task.setStatus(ProjectUtil.BulkProcessStatus.FAILED.getValue());
+      if (task.getStatus() != null
+          && task.getStatus() != ProjectUtil.BulkProcessStatus.COMPLETED.getValue()) {
+        tasksF =
+            tasksF.thenCompose(
+                result ->
+                    processUser(
+                            task,
+                            bulkUploadProcess.getOrganisationId(),
+                            bulkUploadProcess.getUploadedBy(),
+                            context)
+                        .thenRun(
+                            () -> {
+                              task.setLastUpdatedOn(new Timestamp(System.currentTimeMillis()));
+                              task.setIterationId(task.getIterationId() + 1);
+                            })
+                        .exceptionally(
+                            ex -> {
+                              logger.error(context, "Error in processTasks", ex);
+                              task.setStatus(ProjectUtil.BulkProcessStatus.FAILED.getValue());
+                              return null;
+                            }));
       }
     }
+    return tasksF;
   }
 
   @SuppressWarnings("unchecked")
-  private void processUser(
+  private CompletionStage<Void> processUser(
       BulkUploadProcessTask task,
       String organisationId,
       String uploadedBy,
@@ -143,7 +148,7 @@ public class UserBulkUploadBackgroundJobActor extends BaseBulkUploadBackgroundJo
         logger.error(context, ex.getMessage(), ex);
         setTaskStatus(
             task, ProjectUtil.BulkProcessStatus.FAILED, ex.getMessage(), userMap, JsonKey.CREATE);
-        return;
+        return CompletableFuture.completedFuture(null);
       }
       String orgId = (String) userMap.get(JsonKey.ORG_ID);
       String orgExternalId = (String) userMap.get(JsonKey.ORG_EXTERNAL_ID);
@@ -163,7 +168,7 @@ public class UserBulkUploadBackgroundJobActor extends BaseBulkUploadBackgroundJo
                   JsonKey.ORGANISATION + JsonKey.ID),
               userMap,
               JsonKey.CREATE);
-          return;
+          return CompletableFuture.completedFuture(null);
         } else {
           if (StringUtils.isNotBlank(orgId) // orgId is csv orgId
               && StringUtils.isNotBlank(orgExternalId)
@@ -182,7 +187,7 @@ public class UserBulkUploadBackgroundJobActor extends BaseBulkUploadBackgroundJo
                     orgExternalId);
             setTaskStatus(
                 task, ProjectUtil.BulkProcessStatus.FAILED, message, userMap, JsonKey.CREATE);
-            return;
+            return CompletableFuture.completedFuture(null);
 
           } else {
             if (StringUtils.isNotBlank(orgExternalId)) {
@@ -204,7 +209,7 @@ public class UserBulkUploadBackgroundJobActor extends BaseBulkUploadBackgroundJo
             ResponseCode.errorConflictingRootOrgId.getErrorMessage(),
             userMap,
             JsonKey.CREATE);
-        return;
+        return CompletableFuture.completedFuture(null);
       }
 
       if (organisation != null
@@ -217,7 +222,7 @@ public class UserBulkUploadBackgroundJobActor extends BaseBulkUploadBackgroundJo
                 JsonKey.ORGANISATION + JsonKey.STATUS),
             userMap,
             JsonKey.CREATE);
-        return;
+        return CompletableFuture.completedFuture(null);
       }
 
       String orgName = "";
@@ -229,99 +234,137 @@ public class UserBulkUploadBackgroundJobActor extends BaseBulkUploadBackgroundJo
       if (StringUtils.isEmpty(userId)) {
         userMap.put(JsonKey.CREATED_BY, uploadedBy);
         userMap.put(JsonKey.ROOT_ORG_ID, organisationId);
-        callCreateUser(userMap, task, orgName, context);
+        return callCreateUser(userMap, task, orgName, context)
+            .exceptionally(error -> setProcessUserFailed(task, data, error, context));
       } else {
         userMap.put(JsonKey.UPDATED_BY, uploadedBy);
         Map<String, Object> newUserReqMap = SerializationUtils.clone(new HashMap<>(userMap));
         newUserReqMap.put(JsonKey.ORG_NAME, orgName);
         newUserReqMap.remove(JsonKey.CHANNEL);
-        callUpdateUser(
-            userUpdateActor,
-            ActorOperations.UPDATE_USER.getValue(),
-            JsonKey.UPDATE,
-            newUserReqMap,
-            task,
-            context);
-        if (userMap.containsKey(JsonKey.ROLES)) {
-          callUpdateUser(
-              userRoleActor,
-              ActorOperations.ASSIGN_ROLES.getValue(),
-              ActorOperations.ASSIGN_ROLES.getValue(),
-              userMap,
-              task,
-              context);
-        }
+        // roles are assigned after the update of the user, also when the update failed
+        return callUpdateUser(
+                userUpdateActor,
+                ActorOperations.UPDATE_USER.getValue(),
+                JsonKey.UPDATE,
+                newUserReqMap,
+                task,
+                context)
+            .thenCompose(
+                result -> {
+                  if (userMap.containsKey(JsonKey.ROLES)) {
+                    return callUpdateUser(
+                        userRoleActor,
+                        ActorOperations.ASSIGN_ROLES.getValue(),
+                        ActorOperations.ASSIGN_ROLES.getValue(),
+                        userMap,
+                        task,
+                        context);
+                  }
+                  return CompletableFuture.completedFuture(null);
+                })
+            .exceptionally(error -> setProcessUserFailed(task, data, error, context));
       }
     } catch (Exception e) {
-      logger.error(context, "Error in process user" + data, e);
-      task.setStatus(ProjectUtil.BulkProcessStatus.FAILED.getValue());
+      return CompletableFuture.completedFuture(setProcessUserFailed(task, data, e, context));
     }
   }
 
+  private Void setProcessUserFailed(
+      BulkUploadProcessTask task, String data, Throwable error, RequestContext context) {
+    logger.error(context, "Error in process user" + data, ActorPatterns.unwrap(error));
+    task.setStatus(ProjectUtil.BulkProcessStatus.FAILED.getValue());
+    return null;
+  }
+
   @SuppressWarnings("unchecked")
-  private void callCreateUser(
-      Map<String, Object> user, BulkUploadProcessTask task, String orgName, RequestContext context)
-      throws JsonProcessingException {
+  private CompletionStage<Void> callCreateUser(
+      Map<String, Object> user,
+      BulkUploadProcessTask task,
+      String orgName,
+      RequestContext context) {
     logger.info(context, "UserBulkUploadBackgroundJobActor: callCreateUser called");
-    String userId;
-    try {
-      userId =
-          upsertUser(ssoUserCreateActor, user, ActorOperations.CREATE_USER.getValue(), context);
-    } catch (Exception ex) {
-      logger.error(
-          context,
-          "UserBulkUploadBackgroundJobActor:callCreateUser: Exception occurred with error message = "
-              + ex.getMessage(),
-          ex);
-      user.put(JsonKey.ERROR_MSG, ex.getMessage());
-      setTaskStatus(
-          task, ProjectUtil.BulkProcessStatus.FAILED, ex.getMessage(), user, JsonKey.CREATE);
-      return;
-    }
-
-    if (StringUtils.isEmpty(userId)) {
-      logger.info(context, "UserBulkUploadBackgroundJobActor:callCreateUser: User ID is null !");
-      setTaskStatus(
-          task,
-          ProjectUtil.BulkProcessStatus.FAILED,
-          ResponseCode.serverError.getErrorMessage(),
-          user,
-          JsonKey.CREATE);
-    } else {
-      user.put(JsonKey.ID, userId);
-      user.put(JsonKey.ORG_NAME, orgName);
-      setSuccessTaskStatus(task, ProjectUtil.BulkProcessStatus.COMPLETED, user, JsonKey.CREATE);
-    }
+    return upsertUser(ssoUserCreateActor, user, ActorOperations.CREATE_USER.getValue(), context)
+        .handle(
+            (userId, error) -> {
+              try {
+                if (null != error) {
+                  Throwable ex = ActorPatterns.unwrap(error);
+                  logger.error(
+                      context,
+                      "UserBulkUploadBackgroundJobActor:callCreateUser: Exception occurred with error message = "
+                          + ex.getMessage(),
+                      ex);
+                  user.put(JsonKey.ERROR_MSG, ex.getMessage());
+                  setTaskStatus(
+                      task,
+                      ProjectUtil.BulkProcessStatus.FAILED,
+                      ex.getMessage(),
+                      user,
+                      JsonKey.CREATE);
+                } else if (StringUtils.isEmpty(userId)) {
+                  logger.info(
+                      context,
+                      "UserBulkUploadBackgroundJobActor:callCreateUser: User ID is null !");
+                  setTaskStatus(
+                      task,
+                      ProjectUtil.BulkProcessStatus.FAILED,
+                      ResponseCode.serverError.getErrorMessage(),
+                      user,
+                      JsonKey.CREATE);
+                } else {
+                  user.put(JsonKey.ID, userId);
+                  user.put(JsonKey.ORG_NAME, orgName);
+                  setSuccessTaskStatus(
+                      task, ProjectUtil.BulkProcessStatus.COMPLETED, user, JsonKey.CREATE);
+                }
+              } catch (JsonProcessingException e) {
+                throw new CompletionException(e);
+              }
+              return null;
+            });
   }
 
   @SuppressWarnings("unchecked")
-  private void callUpdateUser(
+  private CompletionStage<Void> callUpdateUser(
       ActorRef actorRef,
       String operation,
       String taskAction,
       Map<String, Object> user,
       BulkUploadProcessTask task,
-      RequestContext context)
-      throws JsonProcessingException {
+      RequestContext context) {
     logger.info(context, "UserBulkUploadBackgroundJobActor: " + operation + " called");
-    try {
-      upsertUser(actorRef, user, operation, context);
-    } catch (Exception ex) {
-      logger.error(
-          context,
-          "UserBulkUploadBackgroundJobActor:"
-              + operation
-              + ": Exception occurred with error message = "
-              + ex.getMessage(),
-          ex);
-      user.put(JsonKey.ERROR_MSG, ex.getMessage());
-      setTaskStatus(task, ProjectUtil.BulkProcessStatus.FAILED, ex.getMessage(), user, taskAction);
-    }
-    if (task.getStatus() != ProjectUtil.BulkProcessStatus.FAILED.getValue()) {
-      ObjectMapper mapper = new ObjectMapper();
-      task.setData(mapper.writeValueAsString(user));
-      setSuccessTaskStatus(task, ProjectUtil.BulkProcessStatus.COMPLETED, user, taskAction);
-    }
+    return upsertUser(actorRef, user, operation, context)
+        .handle(
+            (userId, error) -> {
+              try {
+                if (null != error) {
+                  Throwable ex = ActorPatterns.unwrap(error);
+                  logger.error(
+                      context,
+                      "UserBulkUploadBackgroundJobActor:"
+                          + operation
+                          + ": Exception occurred with error message = "
+                          + ex.getMessage(),
+                      ex);
+                  user.put(JsonKey.ERROR_MSG, ex.getMessage());
+                  setTaskStatus(
+                      task,
+                      ProjectUtil.BulkProcessStatus.FAILED,
+                      ex.getMessage(),
+                      user,
+                      taskAction);
+                }
+                if (task.getStatus() != ProjectUtil.BulkProcessStatus.FAILED.getValue()) {
+                  ObjectMapper mapper = new ObjectMapper();
+                  task.setData(mapper.writeValueAsString(user));
+                  setSuccessTaskStatus(
+                      task, ProjectUtil.BulkProcessStatus.COMPLETED, user, taskAction);
+                }
+              } catch (JsonProcessingException e) {
+                throw new CompletionException(e);
+              }
+              return null;
+            });
   }
 
   private Organisation getOrgDetails(Map<String, Object> userMap, RequestContext context) {
@@ -347,10 +390,8 @@ public class UserBulkUploadBackgroundJobActor extends BaseBulkUploadBackgroundJo
     Util.addMaskEmailAndPhone(result);
   }
 
-  private String upsertUser(
+  private CompletionStage<String> upsertUser(
       ActorRef actorRef, Map<String, Object> userMap, String operation, RequestContext context) {
-    String userId = null;
-
     Request request = new Request();
     request.setRequestContext(context);
     request.setRequest(userMap);
@@ -359,14 +400,17 @@ public class UserBulkUploadBackgroundJobActor extends BaseBulkUploadBackgroundJo
     request.getContext().put(JsonKey.VERSION, JsonKey.VERSION_2);
     request.getContext().put(JsonKey.ROOT_ORG_ID, userMap.get(JsonKey.ROOT_ORG_ID));
     userMap.remove(JsonKey.ROOT_ORG_ID);
-    Object obj = actorCall(actorRef, request, context);
-
-    if (obj instanceof Response) {
-      Response response = (Response) obj;
-      if (response.get(JsonKey.USER_ID) != null) {
-        userId = (String) response.get(JsonKey.USER_ID);
-      }
-    }
-    return userId;
+    return actorCall(actorRef, request)
+        .thenApply(
+            obj -> {
+              String userId = null;
+              if (obj instanceof Response) {
+                Response response = (Response) obj;
+                if (response.get(JsonKey.USER_ID) != null) {
+                  userId = (String) response.get(JsonKey.USER_ID);
+                }
+              }
+              return userId;
+            });
   }
 }
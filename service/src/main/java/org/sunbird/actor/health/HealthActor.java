@@ -5,19 +5,31 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import org.sunbird.actor.core.ActorMetrics;
 import org.sunbird.actor.core.BaseActor;
+import org.sunbird.actor.core.RouterPools;
 import org.sunbird.cassandra.CassandraOperation;
+import org.sunbird.common.CassandraMetrics;
 import org.sunbird.common.ElasticSearchHelper;
 import org.sunbird.common.factory.EsClientFactory;
 import org.sunbird.common.inf.ElasticSearchService;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
+import org.sunbird.helper.CassandraConnectionManagerImpl;
+import org.sunbird.helper.ConnectionManager;
 import org.sunbird.helper.ServiceFactory;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.operations.ActorOperations;
 import org.sunbird.request.Request;
 import org.sunbird.response.Response;
 import org.sunbird.telemetry.dto.TelemetryEnvKey;
+import org.sunbird.util.BackendGuard;
 import org.sunbird.util.ProjectUtil;
 import org.sunbird.util.Util;
+import org.sunbird.util.search.SearchResultCache;
+import org.sunbird.util.user.UserProfileCache;
+import org.sunbird.util.user.UserProfileReadMetrics;
 import scala.concurrent.Future;
 
 public class HealthActor extends BaseActor {
@@ -32,7 +44,7 @@ public class HealthActor extends BaseActor {
       } else if (actorMessage.getOperation().equalsIgnoreCase(ActorOperations.ACTOR.getValue())) {
         actorhealthCheck();
       } else if (actorMessage.getOperation().equalsIgnoreCase(ActorOperations.ES.getValue())) {
-        esHealthCheck();
+        esHealthCheck(actorMessage);
       } else if (actorMessage
           .getOperation()
           .equalsIgnoreCase(ActorOperations.CASSANDRA.getValue())) {
@@ -44,25 +56,38 @@ public class HealthActor extends BaseActor {
   }
 
   /** */
-  private void esHealthCheck() {
-    // check the elastic search
+  private void esHealthCheck(Request request) {
+    // check the elastic search without blocking the actor
+    Future<Boolean> esResponseF = getEsConnection().healthCheck();
+    CompletionStage<Response> responseF =
+        ElasticSearchHelper.toCompletionStage(esResponseF, "esHealthCheck", null)
+            .handle(this::createEsHealthResponse);
+    pipeToSender(responseF, request);
+  }
+
+  private Response createEsHealthResponse(Boolean esResponse, Throwable e) {
     boolean isallHealthy = true;
     Map<String, Object> finalResponseMap = new HashMap<>();
     List<Map<String, Object>> responseList = new ArrayList<>();
     responseList.add(ProjectUtil.createCheckResponse(JsonKey.ACTOR_SERVICE, false, null));
-    try {
-      Future<Boolean> esResponseF = getEsConnection().healthCheck();
-      boolean esResponse = (boolean) ElasticSearchHelper.getResponseFromFuture(esResponseF);
-
+    if (null == e) {
       responseList.add(ProjectUtil.createCheckResponse(JsonKey.ES_SERVICE, esResponse, null));
       isallHealthy = esResponse;
-    } catch (Exception e) {
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.ES_SERVICE, true, e));
+    } else {
+      responseList.add(ProjectUtil.createCheckResponse(JsonKey.ES_SERVICE, true, (Exception) e));
       isallHealthy = false;
       logger.error("Elastic search health Error == ", e);
     }
+    if (isBreakerOpen(responseList, BackendGuard.ES, JsonKey.ES_CIRCUIT_BREAKER)) {
+      isallHealthy = false;
+    }
     finalResponseMap.put(JsonKey.CHECKS, responseList);
     finalResponseMap.put(JsonKey.NAME, "ES health check api");
+    Map<String, Object> metrics = new HashMap<>(ConnectionManager.getConnectionPoolStats());
+    metrics.put(JsonKey.SEARCH_RESULT_CACHE, SearchResultCache.getInstance().getStats());
+    finalResponseMap.put(JsonKey.METRICS, metrics);
+    finalResponseMap.put(
+        JsonKey.BACKEND_GUARD, BackendGuard.getInstance(BackendGuard.ES).getSnapshot());
     if (isallHealthy) {
       finalResponseMap.put(JsonKey.Healthy, true);
     } else {
@@ -70,7 +95,7 @@ public class HealthActor extends BaseActor {
     }
     Response response = new Response();
     response.getResult().put(JsonKey.RESPONSE, finalResponseMap);
-    sender().tell(response, self());
+    return response;
   }
 
   /** */
@@ -89,8 +114,16 @@ public class HealthActor extends BaseActor {
       responseList.add(ProjectUtil.createCheckResponse(JsonKey.CASSANDRA_SERVICE, true, e));
       isallHealthy = false;
     }
+    if (isBreakerOpen(responseList, BackendGuard.CASSANDRA, JsonKey.CASSANDRA_CIRCUIT_BREAKER)) {
+      isallHealthy = false;
+    }
     finalResponseMap.put(JsonKey.CHECKS, responseList);
     finalResponseMap.put(JsonKey.NAME, "cassandra health check api");
+    finalResponseMap.put(JsonKey.METRICS, CassandraMetrics.getInstance().getSnapshot());
+    finalResponseMap.put(
+        JsonKey.CALLBACK_EXECUTOR, CassandraConnectionManagerImpl.getCallbackExecutorStats());
+    finalResponseMap.put(
+        JsonKey.BACKEND_GUARD, BackendGuard.getInstance(BackendGuard.CASSANDRA).getSnapshot());
     if (isallHealthy) {
       finalResponseMap.put(JsonKey.Healthy, true);
     } else {
@@ -141,8 +174,25 @@ public class HealthActor extends BaseActor {
       responseList.add(ProjectUtil.createCheckResponse(JsonKey.ES_SERVICE, true, e));
       isallHealthy = false;
     }
+    // the result of this check is the health of the service, which fails every api but the health
+    // check while it is unhealthy. Every api reads Cassandra, so an open Cassandra breaker makes
+    // the
+    // service unhealthy. An open Elasticsearch breaker only fails the apis which search, and they
+    // fail fast on their own, so it is reported without failing the apis which only use Cassandra.
+    if (isBreakerOpen(responseList, BackendGuard.CASSANDRA, JsonKey.CASSANDRA_CIRCUIT_BREAKER)) {
+      isallHealthy = false;
+    }
+    isBreakerOpen(responseList, BackendGuard.ES, JsonKey.ES_CIRCUIT_BREAKER);
     finalResponseMap.put(JsonKey.CHECKS, responseList);
     finalResponseMap.put(JsonKey.NAME, "Complete health check api");
+    finalResponseMap.put(JsonKey.BACKEND_GUARD, BackendGuard.getSnapshots());
+    finalResponseMap.put(
+        JsonKey.USER_PROFILE_READ_STAGES, UserProfileReadMetrics.getInstance().getSnapshot());
+    finalResponseMap.put(JsonKey.USER_PROFILE_CACHE, UserProfileCache.getInstance().getStats());
+    finalResponseMap.put(JsonKey.ACTOR_METRICS, ActorMetrics.getInstance().getSnapshot());
+    finalResponseMap.put(
+        JsonKey.ROUTER_POOLS,
+        RouterPools.getSnapshot(getContext().getSystem().settings().config()));
     if (isallHealthy) {
       finalResponseMap.put(JsonKey.Healthy, true);
     } else {
@@ -153,6 +203,29 @@ public class HealthActor extends BaseActor {
     sender().tell(response, self());
   }
 
+  /**
+   * Method to add the state of the circuit breaker of a backend to the checks.
+   *
+   * @param responseList Checks of the health check
+   * @param backend Name of the backend
+   * @param checkName Name of the check
+   * @return true if the breaker is open
+   */
+  private boolean isBreakerOpen(
+      List<Map<String, Object>> responseList, String backend, String checkName) {
+    boolean isOpen = BackendGuard.getInstance(backend).isOpen();
+    ProjectCommonException exception = null;
+    if (isOpen) {
+      exception =
+          new ProjectCommonException(
+              ResponseCode.serviceUnAvailable,
+              backend + " circuit breaker is open",
+              ResponseCode.SERVICE_UNAVAILABLE.getResponseCode());
+    }
+    responseList.add(ProjectUtil.createCheckResponse(checkName, isOpen, exception));
+    return isOpen;
+  }
+
   public CassandraOperation getCassandraOperation() {
     return ServiceFactory.getInstance();
   }
@@ -3,6 +3,7 @@ package org.sunbird.actor.location;
 import akka.actor.ActorRef;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.*;
+import java.util.concurrent.CompletionStage;
 import javax.inject.Inject;
 import javax.inject.Named;
 import org.apache.commons.lang3.StringUtils;
@@ -21,6 +22,7 @@ import org.sunbird.service.location.LocationServiceImpl;
 import org.sunbird.telemetry.dto.TelemetryEnvKey;
 import org.sunbird.util.ProjectUtil;
 import org.sunbird.util.Util;
+import org.sunbird.util.cache.CacheUtil;
 
 public class LocationActor extends BaseLocationActor {
 
@@ -111,17 +113,19 @@ public class LocationActor extends BaseLocationActor {
   }
 
   private void searchLocation(Request request) {
-    try {
-      Response response =
-          locationService.searchLocation(request.getRequest(), request.getRequestContext());
-      sender().tell(response, self());
-      SearchDTO searchDto = ElasticSearchHelper.createSearchDTO(request.getRequest());
-      String[] types = {ProjectUtil.EsType.location.getTypeName()};
-      generateSearchTelemetryEvent(searchDto, types, response.getResult(), request.getContext());
-    } catch (Exception ex) {
-      logger.error(request.getRequestContext(), ex.getMessage(), ex);
-      sender().tell(ex, self());
-    }
+    CompletionStage<Response> responseF =
+        locationService.searchLocationWithCacheAsync(
+            request.getRequest(),
+            CacheUtil.isBypassed(request.getContext()),
+            request.getRequestContext());
+    pipeToSender(responseF, request);
+    responseF.thenAccept(
+        response -> {
+          SearchDTO searchDto = ElasticSearchHelper.createSearchDTO(request.getRequest());
+          String[] types = {ProjectUtil.EsType.location.getTypeName()};
+          generateSearchTelemetryEvent(
+              searchDto, types, response.getResult(), request.getContext());
+        });
   }
 
   private void deleteLocation(Request request) {
@@ -6,6 +6,8 @@ import org.sunbird.common.inf.ElasticSearchService;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.request.Request;
 import org.sunbird.util.ProjectUtil;
+import org.sunbird.util.search.SearchResultCache;
+import scala.concurrent.Future;
 
 public class LocationBackgroundActor extends BaseLocationActor {
 
@@ -29,15 +31,16 @@ public class LocationBackgroundActor extends BaseLocationActor {
 
   private void deleteLocationDataFromES(Request request) {
     String locationId = (String) request.get(JsonKey.LOCATION_ID);
-    esService.delete(ProjectUtil.EsType.location.getTypeName(), locationId, null);
+    String type = ProjectUtil.EsType.location.getTypeName();
+    Future<Boolean> deleteF = esService.delete(type, locationId, null);
+    SearchResultCache.getInstance().invalidate(type, deleteF);
   }
 
   private void upsertLocationDataToES(Request request) {
     Map<String, Object> location = (Map<String, Object>) request.getRequest().get(JsonKey.LOCATION);
-    esService.upsert(
-        ProjectUtil.EsType.location.getTypeName(),
-        (String) location.get(JsonKey.ID),
-        location,
-        null);
+    String type = ProjectUtil.EsType.location.getTypeName();
+    Future<Boolean> upsertF =
+        esService.upsert(type, (String) location.get(JsonKey.ID), location, null);
+    SearchResultCache.getInstance().invalidate(type, upsertF);
   }
 }
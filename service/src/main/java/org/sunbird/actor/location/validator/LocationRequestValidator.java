@@ -7,6 +7,7 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.common.ElasticSearchHelper;
+import org.sunbird.common.EsMultiSearchBatcher;
 import org.sunbird.common.factory.EsClientFactory;
 import org.sunbird.common.inf.ElasticSearchService;
 import org.sunbird.dto.SearchDTO;
@@ -130,10 +131,21 @@ public class LocationRequestValidator extends BaseLocationRequestValidator {
         locationRequest.setParentId(null);
       }
     }
-    if (StringUtils.isNotEmpty(locationRequest.getCode())) {
-      isValidLocationCode(locationRequest, opType, context);
+    // the searches of the code and of the parent code are independent, send them together
+    Future<Map<String, Object>> locationF = null;
+    Future<Map<String, Object>> parentLocationF = null;
+    try (EsMultiSearchBatcher.Group group = EsMultiSearchBatcher.getInstance().openGroup()) {
+      if (StringUtils.isNotEmpty(locationRequest.getCode())) {
+        locationF = searchLocationByCode(locationRequest.getCode(), context);
+      }
+      if (StringUtils.isNotEmpty(locationRequest.getParentCode())) {
+        parentLocationF = searchLocationByCode(locationRequest.getParentCode(), context);
+      }
     }
-    validateParentIDAndParentCode(locationRequest, opType, context);
+    if (null != locationF) {
+      validateLocationCode(locationRequest, opType, getContent(locationF));
+    }
+    validateParentIDAndParentCode(locationRequest, opType, parentLocationF, context);
     return true;
   }
 
@@ -147,11 +159,14 @@ public class LocationRequestValidator extends BaseLocationRequestValidator {
   }
 
   private void validateParentIDAndParentCode(
-      UpsertLocationRequest locationRequest, String opType, RequestContext context) {
+      UpsertLocationRequest locationRequest,
+      String opType,
+      Future<Map<String, Object>> parentLocationF,
+      RequestContext context) {
     String parentCode = locationRequest.getParentCode();
     String parentId = locationRequest.getParentId();
     if (StringUtils.isNotEmpty(parentCode)) {
-      Map<String, Object> map = getLocation(parentCode, context);
+      Map<String, Object> map = getLocation(getContent(parentLocationF));
       parentId = (String) map.get(JsonKey.ID);
       locationRequest.setParentId((String) map.get(JsonKey.ID));
     }
@@ -240,18 +255,13 @@ public class LocationRequestValidator extends BaseLocationRequestValidator {
   }
 
   /**
-   * This method will validate location code and if code is valid will return location .
+   * This method will validate the search result of a location code and if code is valid will return
+   * location .
    *
-   * @param code Value of location code we are looking for.
+   * @param locationMapList Locations found with the code we are looking for.
    * @return location details Map<String, Object>
    */
-  private Map<String, Object> getLocation(String code, RequestContext context) {
-    Map<String, Object> filters = new HashMap<>();
-    filters.put(GeoLocationJsonKey.CODE, code);
-    Map<String, Object> map = new HashMap<>();
-    map.put(JsonKey.FILTERS, filters);
-    List<Map<String, Object>> locationMapList =
-        getESSearchResult(map, ProjectUtil.EsType.location.getTypeName(), context);
+  private Map<String, Object> getLocation(List<Map<String, Object>> locationMapList) {
     if (CollectionUtils.isNotEmpty(locationMapList)) {
       return locationMapList.get(0);
     } else {
@@ -285,9 +295,18 @@ public class LocationRequestValidator extends BaseLocationRequestValidator {
       filters.put(GeoLocationJsonKey.PARENT_ID, location.get(JsonKey.ID));
       Map<String, Object> map = new HashMap<>();
       map.put(JsonKey.FILTERS, filters);
-      List<Map<String, Object>> locationMapList =
-          getESSearchResult(map, ProjectUtil.EsType.location.getTypeName(), context);
-      if (CollectionUtils.isNotEmpty(locationMapList)) {
+      SearchDTO searchDto = ElasticSearchHelper.createSearchDTO(map);
+      Future<Boolean> hasChildF =
+          esUtil.exists(searchDto, ProjectUtil.EsType.location.getTypeName(), context);
+      Boolean hasChild = (Boolean) ElasticSearchHelper.getResponseFromFuture(hasChildF);
+      if (null == hasChild) {
+        // the check failed, so the location may have children and must not be deleted
+        throw new ProjectCommonException(
+            ResponseCode.serverError,
+            ResponseCode.serverError.getErrorMessage(),
+            ResponseCode.SERVER_ERROR.getResponseCode());
+      }
+      if (hasChild) {
         throw new ProjectCommonException(
             ResponseCode.invalidLocationDeleteRequest,
             ResponseCode.invalidLocationDeleteRequest.getErrorMessage(),
@@ -300,7 +319,19 @@ public class LocationRequestValidator extends BaseLocationRequestValidator {
   public List<Map<String, Object>> getESSearchResult(
       Map<String, Object> searchQueryMap, String esType, RequestContext context) {
     SearchDTO searchDto = ElasticSearchHelper.createSearchDTO(searchQueryMap);
-    Future<Map<String, Object>> resultF = esUtil.search(searchDto, esType, context);
+    return getContent(esUtil.search(searchDto, esType, context));
+  }
+
+  private Future<Map<String, Object>> searchLocationByCode(String code, RequestContext context) {
+    Map<String, Object> filters = new HashMap<>();
+    filters.put(GeoLocationJsonKey.CODE, code);
+    Map<String, Object> map = new HashMap<>();
+    map.put(JsonKey.FILTERS, filters);
+    SearchDTO searchDto = ElasticSearchHelper.createSearchDTO(map);
+    return esUtil.search(searchDto, ProjectUtil.EsType.location.getTypeName(), context);
+  }
+
+  private List<Map<String, Object>> getContent(Future<Map<String, Object>> resultF) {
     Map<String, Object> result =
         (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(resultF);
     return (List<Map<String, Object>>) result.get(JsonKey.CONTENT);
@@ -308,12 +339,16 @@ public class LocationRequestValidator extends BaseLocationRequestValidator {
 
   public boolean isValidLocationCode(
       UpsertLocationRequest locationRequest, String opType, RequestContext context) {
-    Map<String, Object> filters = new HashMap<>();
-    filters.put(GeoLocationJsonKey.CODE, locationRequest.getCode());
-    Map<String, Object> map = new HashMap<>();
-    map.put(JsonKey.FILTERS, filters);
-    List<Map<String, Object>> locationMapList =
-        getESSearchResult(map, ProjectUtil.EsType.location.getTypeName(), context);
+    return validateLocationCode(
+        locationRequest,
+        opType,
+        getContent(searchLocationByCode(locationRequest.getCode(), context)));
+  }
+
+  private boolean validateLocationCode(
+      UpsertLocationRequest locationRequest,
+      String opType,
+      List<Map<String, Object>> locationMapList) {
     if (!locationMapList.isEmpty()) {
       if (opType.equalsIgnoreCase(JsonKey.CREATE)) {
         throw new ProjectCommonException(
@@ -17,6 +17,8 @@ import org.sunbird.request.Request;
 import org.sunbird.request.RequestContext;
 import org.sunbird.util.ProjectUtil;
 import org.sunbird.util.PropertiesCache;
+import org.sunbird.util.search.SearchResultCache;
+import scala.concurrent.Future;
 
 public class OrganisationBackgroundActor extends BaseActor {
   private final ElasticSearchService esService = EsClientFactory.getInstance(JsonKey.REST);
@@ -61,11 +63,10 @@ public class OrganisationBackgroundActor extends BaseActor {
     }
     OrgTypeValidator.getInstance().updateOrganisationTypeFlags(organisation);
 
-    esService.upsert(
-        ProjectUtil.EsType.organisation.getTypeName(),
-        (String) organisation.get(JsonKey.ID),
-        organisation,
-        null);
+    String type = ProjectUtil.EsType.organisation.getTypeName();
+    Future<Boolean> upsertF =
+        esService.upsert(type, (String) organisation.get(JsonKey.ID), organisation, null);
+    SearchResultCache.getInstance().invalidate(type, upsertF);
   }
 
   private String registerTag(
@@ -26,6 +26,7 @@ import org.sunbird.telemetry.dto.TelemetryEnvKey;
 import org.sunbird.util.DataCacheHandler;
 import org.sunbird.util.PropertiesCache;
 import org.sunbird.util.Util;
+import org.sunbird.util.user.UserProfileCache;
 
 public class UserRoleActor extends UserBaseActor {
 
@@ -90,6 +91,7 @@ public class UserRoleActor extends UserBaseActor {
     Response response = new Response();
     response.put(JsonKey.RESPONSE, JsonKey.SUCCESS);
 
+    UserProfileCache.getInstance().invalidate((String) requestMap.get(JsonKey.USER_ID));
     sender().tell(response, self());
     userRolesList = userRoleService.getUserRoles((String) requestMap.get(JsonKey.USER_ID), null, actorMessage.getRequestContext());
     ObjectMapper mapper = new ObjectMapper();
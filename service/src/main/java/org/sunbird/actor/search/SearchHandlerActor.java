@@ -2,8 +2,8 @@ package org.sunbird.actor.search;
 
 import akka.actor.ActorRef;
 import akka.dispatch.Mapper;
-import akka.pattern.Patterns;
 import java.util.*;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -33,7 +33,10 @@ import org.sunbird.util.ProjectUtil;
 import org.sunbird.util.PropertiesCache;
 import org.sunbird.util.UserUtility;
 import org.sunbird.util.Util;
+import org.sunbird.util.cache.CacheUtil;
 import org.sunbird.util.search.FuzzySearchManager;
+import org.sunbird.util.search.SearchResultCache;
+import scala.compat.java8.FutureConverters;
 import scala.concurrent.Future;
 
 public class SearchHandlerActor extends BaseActor {
@@ -119,7 +122,23 @@ public class SearchHandlerActor extends BaseActor {
     modifySearchQueryReqForNewRoleStructure(searchQueryMap);
     SearchDTO searchDto = ElasticSearchHelper.createSearchDTO(searchQueryMap);
     searchDto.setExcludedFields(Arrays.asList(ProjectUtil.excludes));
-    Map<String, Object> result = userService.searchUser(searchDto, request.getRequestContext());
+    CompletionStage<Response> responseF =
+        userService
+            .searchUserAsync(searchDto, request.getRequestContext())
+            .thenApply(result -> getUserSearchResponse(request, searchQueryMap, result));
+    pipeToSender(responseF, request);
+    responseF.thenAccept(
+        response ->
+            generateSearchTelemetryEvent(
+                searchDto,
+                ProjectUtil.EsType.user.getTypeName(),
+                (Map<String, Object>) response.get(JsonKey.RESPONSE),
+                request.getContext()));
+  }
+
+  private Response getUserSearchResponse(
+      Request request, Map<String, Object> searchQueryMap, Map<String, Object> result) {
+    String searchVersion = request.getOperation();
     Response response = new Response();
     // this fuzzy search Logic
     if (((List<Map<String, Object>>) result.get(JsonKey.CONTENT)).size() != 0
@@ -185,9 +204,7 @@ public class SearchHandlerActor extends BaseActor {
     String requestedFields = (String) request.getContext().get(JsonKey.FIELDS);
     updateUserDetailsWithOrgName(requestedFields, userMapList, request.getRequestContext());
     response.put(JsonKey.RESPONSE, result);
-    sender().tell(response, self());
-    generateSearchTelemetryEvent(
-        searchDto, ProjectUtil.EsType.user.getTypeName(), result, request.getContext());
+    return response;
   }
 
   private void updateUserSearchResponseWithOrgLevelRole(
@@ -257,7 +274,12 @@ public class SearchHandlerActor extends BaseActor {
     }
     SearchDTO searchDto = ElasticSearchHelper.createSearchDTO(searchQueryMap);
     Future<Map<String, Object>> futureResponse =
-        orgService.searchOrg(searchDto, request.getRequestContext());
+        SearchResultCache.getInstance()
+            .search(
+                ProjectUtil.EsType.organisation.getTypeName(),
+                searchDto,
+                CacheUtil.isBypassed(request.getContext()),
+                () -> orgService.searchOrg(searchDto, request.getRequestContext()));
     Future<Response> response =
         futureResponse.map(
             new Mapper<>() {
@@ -297,7 +319,8 @@ public class SearchHandlerActor extends BaseActor {
                             int orgType = (int) org.get(JsonKey.ORGANISATION_TYPE);
                             boolean isSchool =
                                 (orgType
-                                        == OrgTypeValidator.getInstance().getValueByType(JsonKey.ORG_TYPE_SCHOOL))
+                                        == OrgTypeValidator.getInstance()
+                                            .getValueByType(JsonKey.ORG_TYPE_SCHOOL))
                                     ? true
                                     : false;
                             org.put(JsonKey.IS_SCHOOL, isSchool);
@@ -308,7 +331,7 @@ public class SearchHandlerActor extends BaseActor {
               }
             },
             getContext().dispatcher());
-    Patterns.pipe(response, getContext().dispatcher()).to(sender());
+    pipeToSender(FutureConverters.toJava(response), request);
     Request telemetryReq = new Request();
     telemetryReq.getRequest().put("context", request.getContext());
     telemetryReq.getRequest().put("searchFResponse", response);
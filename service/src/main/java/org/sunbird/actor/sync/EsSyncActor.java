@@ -1,13 +1,12 @@
 package org.sunbird.actor.sync;
 
 import akka.actor.ActorRef;
-import akka.pattern.Patterns;
-import akka.util.Timeout;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 import javax.inject.Inject;
 import javax.inject.Named;
 import org.apache.commons.lang3.StringUtils;
+import org.sunbird.actor.core.ActorPatterns;
 import org.sunbird.actor.core.BaseActor;
 import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.exception.ResponseCode;
@@ -15,9 +14,6 @@ import org.sunbird.keys.JsonKey;
 import org.sunbird.operations.ActorOperations;
 import org.sunbird.request.Request;
 import org.sunbird.response.Response;
-import scala.concurrent.Await;
-import scala.concurrent.Future;
-import scala.concurrent.duration.Duration;
 
 public class EsSyncActor extends BaseActor {
 
@@ -45,26 +41,48 @@ public class EsSyncActor extends BaseActor {
     backgroundSyncRequest.setOperation(ActorOperations.BACKGROUND_SYNC.getValue());
     backgroundSyncRequest.getRequest().put(JsonKey.DATA, dataMap);
 
-    try {
-      if (StringUtils.isBlank(operationType)) {
+    if (StringUtils.isBlank(operationType)) {
+      try {
         Response response = new Response();
         response.put(JsonKey.RESPONSE, JsonKey.SUCCESS);
         sender().tell(response, self());
         esSyncBackgroundActor.tell(backgroundSyncRequest, self());
-      } else {
-        Timeout t = new Timeout(Duration.create(10, TimeUnit.SECONDS));
-        Future<Object> future = Patterns.ask(esSyncBackgroundActor, backgroundSyncRequest, t);
-        Response response = (Response) Await.result(future, t.duration());
-        response.put(JsonKey.RESPONSE, JsonKey.SUCCESS);
-        sender().tell(response, self());
+      } catch (Exception e) {
+        logError(request, e);
+        ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR);
       }
-    } catch (Exception e) {
-      logger.error(
-          request.getRequestContext(),
-          "EsSyncActor:triggerBackgroundSync: Exception occurred with error message = "
-              + e.getMessage(),
-          e);
-      ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR);
+    } else {
+      // a failure of the sync is replied as a server error
+      CompletableFuture<Response> responseF = new CompletableFuture<>();
+      ActorPatterns.ask(esSyncBackgroundActor, backgroundSyncRequest)
+          .thenApply(
+              result -> {
+                Response response = (Response) result;
+                response.put(JsonKey.RESPONSE, JsonKey.SUCCESS);
+                return response;
+              })
+          .whenComplete(
+              (response, e) -> {
+                if (null == e) {
+                  responseF.complete(response);
+                } else {
+                  logError(request, ActorPatterns.unwrap(e));
+                  responseF.completeExceptionally(
+                      new ProjectCommonException(
+                          ResponseCode.SERVER_ERROR,
+                          ResponseCode.SERVER_ERROR.getErrorMessage(),
+                          ResponseCode.SERVER_ERROR.getResponseCode()));
+                }
+              });
+      pipeToSender(responseF, request);
     }
   }
+
+  private void logError(Request request, Throwable e) {
+    logger.error(
+        request.getRequestContext(),
+        "EsSyncActor:triggerBackgroundSync: Exception occurred with error message = "
+            + e.getMessage(),
+        e);
+  }
 }
@@ -3,6 +3,8 @@ package org.sunbird.actor.user;
 import java.util.List;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.actor.core.BaseActor;
 import org.sunbird.datasecurity.EncryptionService;
@@ -37,16 +39,14 @@ public class CheckUserExistActor extends BaseActor {
   }
 
   private void checkUserExistence(Request request) {
-    Response userResponse = checkUserExists(request, true);
-    sender().tell(userResponse, self());
+    pipeToSender(checkUserExists(request, true), request);
   }
 
   private void checkUserExistenceV2(Request request) {
-    Response userResponse = checkUserExists(request, false);
-    sender().tell(userResponse, self());
+    pipeToSender(checkUserExists(request, false), request);
   }
 
-  private Response checkUserExists(Request request, boolean isV1) {
+  private CompletionStage<Response> checkUserExists(Request request, boolean isV1) {
     Response resp = new Response();
     String key = (String) request.get(JsonKey.KEY);
     if (JsonKey.PHONE.equalsIgnoreCase(key)
@@ -58,7 +58,7 @@ public class CheckUserExistActor extends BaseActor {
               key.toLowerCase(), StringUtils.lowerCase(value), request.getRequestContext());
       if (StringUtils.isBlank(userId)) {
         resp.put(JsonKey.EXISTS, false);
-        return resp;
+        return CompletableFuture.completedFuture(resp);
       }
       resp.put(JsonKey.EXISTS, true);
       if (!isV1) {
@@ -70,27 +70,30 @@ public class CheckUserExistActor extends BaseActor {
         }
         resp.put(JsonKey.NAME, name);
       }
-    } else {
-      Map<String, Object> responseMap = searchUser(request);
-      List<Map<String, Object>> respList = (List) responseMap.get(JsonKey.CONTENT);
-      long size = respList.size();
-      boolean isExists = (size > 0);
-      resp.put(JsonKey.EXISTS, isExists);
-      if (isExists && !isV1) {
-        Map<String, Object> response = respList.get(0);
-        resp.put(JsonKey.EXISTS, true);
-        resp.put(JsonKey.ID, response.get(JsonKey.USER_ID));
-        String name = (String) response.get(JsonKey.FIRST_NAME);
-        if (StringUtils.isNotEmpty((String) response.get(JsonKey.LAST_NAME))) {
-          name += " " + response.get(JsonKey.LAST_NAME);
-        }
-        resp.put(JsonKey.NAME, name);
-      }
+      return CompletableFuture.completedFuture(resp);
     }
-    return resp;
+    return searchUser(request)
+        .thenApply(
+            responseMap -> {
+              List<Map<String, Object>> respList = (List) responseMap.get(JsonKey.CONTENT);
+              long size = respList.size();
+              boolean isExists = (size > 0);
+              resp.put(JsonKey.EXISTS, isExists);
+              if (isExists && !isV1) {
+                Map<String, Object> response = respList.get(0);
+                resp.put(JsonKey.EXISTS, true);
+                resp.put(JsonKey.ID, response.get(JsonKey.USER_ID));
+                String name = (String) response.get(JsonKey.FIRST_NAME);
+                if (StringUtils.isNotEmpty((String) response.get(JsonKey.LAST_NAME))) {
+                  name += " " + response.get(JsonKey.LAST_NAME);
+                }
+                resp.put(JsonKey.NAME, name);
+              }
+              return resp;
+            });
   }
 
-  private Map<String, Object> searchUser(Request request) {
+  private CompletionStage<Map<String, Object>> searchUser(Request request) {
     Map<String, Object> searchMap = new WeakHashMap<>();
     String value = (String) request.get(JsonKey.VALUE);
     EncryptionService encryptionService =
@@ -100,6 +103,6 @@ public class CheckUserExistActor extends BaseActor {
     searchMap.put((String) request.get(JsonKey.KEY), encryptedValue);
     SearchDTO searchDTO = new SearchDTO();
     searchDTO.getAdditionalProperties().put(JsonKey.FILTERS, searchMap);
-    return userService.searchUser(searchDTO, request.getRequestContext());
+    return userService.searchUserAsync(searchDTO, request.getRequestContext());
   }
 }
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
@@ -203,8 +204,18 @@ public class ManagedUserActor extends UserBaseActor {
       searchRequestMap.put(JsonKey.SORT_BY, sortBy);
     }
     SearchDTO searchDTO = ElasticSearchHelper.createSearchDTO(searchRequestMap);
-    Map<String, Object> searchResult =
-        userService.searchUser(searchDTO, request.getRequestContext());
+    // the token call of admin utils blocks, so the result is handled on the actor dispatcher
+    CompletionStage<Response> result =
+        userService
+            .searchUserAsync(searchDTO, request.getRequestContext())
+            .thenApplyAsync(
+                searchResult -> createManagedUsersResponse(uuid, withTokens, searchResult, request),
+                getContext().dispatcher());
+    pipeToSender(result, request);
+  }
+
+  private Response createManagedUsersResponse(
+      String uuid, boolean withTokens, Map<String, Object> searchResult, Request request) {
     List<Map<String, Object>> userList = (List) searchResult.get(JsonKey.CONTENT);
 
     List<Map<String, Object>> activeUserList = null;
@@ -233,6 +244,6 @@ public class ManagedUserActor extends UserBaseActor {
     }
     Response response = new Response();
     response.put(JsonKey.RESPONSE, responseMap);
-    sender().tell(response, self());
+    return response;
   }
 }
@@ -6,10 +6,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import javax.inject.Inject;
 import javax.inject.Named;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.sunbird.actor.core.ActorPatterns;
 import org.sunbird.actor.user.validator.UserRequestValidator;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.model.user.User;
@@ -123,7 +127,7 @@ public class SSOUserCreateActor extends UserBaseActor {
           userRoleService.updateUserRole(requestMap, request.getRequestContext());
       requestMap.put(JsonKey.ROLES, formattedRoles);
     }
-    Response resp = null;
+    CompletionStage<Response> respF = CompletableFuture.completedFuture(null);
     if (((String) response.get(JsonKey.RESPONSE)).equalsIgnoreCase(JsonKey.SUCCESS)) {
       Map<String, Object> userRequest = new HashMap<>();
       userRequest.putAll(userMap);
@@ -133,41 +137,66 @@ public class SSOUserCreateActor extends UserBaseActor {
       if (StringUtils.isNotBlank(callerId) && callerId.equalsIgnoreCase(JsonKey.BULK_USER_UPLOAD)) {
         userRequest.put(JsonKey.ASSOCIATION_TYPE, AssociationMechanism.SYSTEM_UPLOAD);
       }
-      resp =
-          userService.saveUserAttributes(
+      respF =
+          userService.saveUserAttributesAsync(
               userRequest, userProfileUpdateActor, request.getRequestContext());
     } else {
       logger.info(
           request.getRequestContext(), "SSOUserCreateActor:processSSOUser: User creation failure");
     }
-    Map<String, Object> esResponse = new HashMap<>();
-    if (null != resp) {
-      esResponse.putAll((Map<String, Object>) resp.getResult().get(JsonKey.RESPONSE));
-      esResponse.putAll(requestMap);
-      response.put(
-          JsonKey.ERRORS,
-          ((Map<String, Object>) resp.getResult().get(JsonKey.RESPONSE)).get(JsonKey.ERRORS));
-    }
-    Response syncResponse = new Response();
-    syncResponse.putAll(response.getResult());
+    // The user attributes are saved by another actor, the rest of the creation continues once
+    // they are saved without holding this actor meanwhile
+    Executor dispatcher = getContext().dispatcher();
+    CompletionStage<Response> responseF =
+        respF.thenApplyAsync(
+            resp -> {
+              Map<String, Object> esResponse = new HashMap<>();
+              if (null != resp) {
+                esResponse.putAll((Map<String, Object>) resp.getResult().get(JsonKey.RESPONSE));
+                esResponse.putAll(requestMap);
+                response.put(
+                    JsonKey.ERRORS,
+                    ((Map<String, Object>) resp.getResult().get(JsonKey.RESPONSE))
+                        .get(JsonKey.ERRORS));
+              }
+              Response syncResponse = new Response();
+              syncResponse.putAll(response.getResult());
 
-    if (null != resp && userMap.containsKey("sync") && (boolean) userMap.get("sync")) {
-      Map<String, Object> userDetails =
-          userService.getUserDetailsForES(userId, request.getRequestContext());
-      userService.saveUserToES(
-          (String) userDetails.get(JsonKey.USER_ID), userDetails, request.getRequestContext());
-      sender().tell(syncResponse, sender());
-    } else {
-      if (null != resp) {
-        saveUserDetailsToEs(esResponse, request.getRequestContext());
-      }
-      sender().tell(response, self());
-    }
-    requestMap.put(JsonKey.PASSWORD, userMap.get(JsonKey.PASSWORD));
-    if (StringUtils.isNotBlank(callerId)) {
-      sendEmailAndSms(requestMap, request.getRequestContext());
-    }
-    generateUserTelemetry(userMap, request, userId, JsonKey.CREATE);
+              if (null != resp && userMap.containsKey("sync") && (boolean) userMap.get("sync")) {
+                Map<String, Object> userDetails =
+                    userService.getUserDetailsForES(userId, request.getRequestContext());
+                userService.saveUserToES(
+                    (String) userDetails.get(JsonKey.USER_ID),
+                    userDetails,
+                    request.getRequestContext());
+                return syncResponse;
+              }
+              if (null != resp) {
+                saveUserDetailsToEs(esResponse, request.getRequestContext());
+              }
+              return response;
+            },
+            dispatcher);
+    pipeToSender(responseF, request);
+    responseF
+        .thenAcceptAsync(
+            createResponse -> {
+              requestMap.put(JsonKey.PASSWORD, userMap.get(JsonKey.PASSWORD));
+              if (StringUtils.isNotBlank(callerId)) {
+                sendEmailAndSms(requestMap, request.getRequestContext());
+              }
+              generateUserTelemetry(userMap, request, userId, JsonKey.CREATE);
+            },
+            dispatcher)
+        .whenComplete(
+            (done, error) -> {
+              if (null != error) {
+                logger.error(
+                    request.getRequestContext(),
+                    "SSOUserCreateActor:processSSOUser: Exception occurred after user creation",
+                    ActorPatterns.unwrap(error));
+              }
+            });
   }
 
   private void setStateValidation(
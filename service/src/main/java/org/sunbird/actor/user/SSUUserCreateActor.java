@@ -2,7 +2,6 @@ package org.sunbird.actor.user;
 
 import akka.dispatch.Futures;
 import akka.dispatch.Mapper;
-import akka.pattern.Patterns;
 import java.util.HashMap;
 import java.util.Map;
 import org.sunbird.exception.ResponseMessage;
@@ -26,6 +25,7 @@ import org.sunbird.util.UserUtility;
 import org.sunbird.util.Util;
 import org.sunbird.util.user.UserUtil;
 import scala.Tuple2;
+import scala.compat.java8.FutureConverters;
 import scala.concurrent.Future;
 
 public class SSUUserCreateActor extends UserBaseActor {
@@ -102,6 +102,8 @@ public class SSUUserCreateActor extends UserBaseActor {
           actorMessage.getRequestContext(),
           "SSUUserCreateActor:processSSUUser: User creation failure");
     }
+    // generated before the response is sent, so that a failure is the only reply
+    generateUserTelemetry(userMap, actorMessage, userId, JsonKey.CREATE);
     if ("kafka".equalsIgnoreCase(ProjectUtil.getConfigValue("sunbird_user_create_sync_type"))) {
       writeDataToKafka(esResponse);
       sender().tell(response, self());
@@ -147,9 +149,8 @@ public class SSUUserCreateActor extends UserBaseActor {
                     }
                   },
                   getContext().dispatcher());
-      Patterns.pipe(future, getContext().dispatcher()).to(sender());
+      pipeToSender(FutureConverters.toJava(future), actorMessage);
     }
-    generateUserTelemetry(userMap, actorMessage, userId, JsonKey.CREATE);
   }
 
   private void saveUserOrgInfo(Map<String, Object> userMap, RequestContext context) {
@@ -1,16 +1,17 @@
 package org.sunbird.actor.user;
 
 import akka.actor.ActorRef;
-import akka.pattern.Patterns;
-import akka.util.Timeout;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import javax.inject.Inject;
 import javax.inject.Named;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.sunbird.actor.core.ActorPatterns;
 import org.sunbird.actor.core.BaseActor;
 import org.sunbird.datasecurity.DataMaskingService;
 import org.sunbird.datasecurity.DecryptionService;
@@ -38,9 +39,6 @@ import org.sunbird.util.SMSTemplateProvider;
 import org.sunbird.util.UserFlagEnum;
 import org.sunbird.util.Util;
 import org.sunbird.util.user.UserUtil;
-import scala.concurrent.Await;
-import scala.concurrent.Future;
-import scala.concurrent.duration.Duration;
 
 public class TenantMigrationActor extends BaseActor {
 
@@ -77,7 +75,7 @@ public class TenantMigrationActor extends BaseActor {
     String operation = request.getOperation();
     switch (operation) {
       case "userTenantMigrate":
-        migrateUser(request, true);
+        pipeToSender(migrateUser(request, true), request);
         break;
       case "userSelfDeclaredTenantMigrate":
         migrateSelfDeclaredUser(request);
@@ -102,8 +100,9 @@ public class TenantMigrationActor extends BaseActor {
           ResponseCode.declaredUserValidatedStatusNotUpdated);
     } else {
       // First migrating user, if migration success, then status gets updated as VALIDATED.
+      CompletionStage<Response> migrateResponseF = null;
       try {
-        migrateUser(request, true);
+        migrateResponseF = migrateUser(request, true);
       } catch (ProjectCommonException pce) {
         logger.error(
             request.getRequestContext(), "TenantMigrationActor:migrateUser user failed.", pce);
@@ -113,28 +112,31 @@ public class TenantMigrationActor extends BaseActor {
             request.getRequestContext(), "TenantMigrationActor:migrateUser user failed.", e);
         ProjectCommonException.throwServerErrorException(ResponseCode.errorUserMigrationFailed);
       }
+      pipeToSender(migrateResponseF, request);
       // Update the status to VALIDATED in user_self_declaration table
-      Map<String, Object> responseMap = responseList.get(0);
-      responseMap.put(JsonKey.STATUS, JsonKey.VALIDATED);
-      Map attrMap = new HashMap<String, Object>();
-      attrMap.put(JsonKey.STATUS, JsonKey.VALIDATED);
-      Map compositeKeyMap = new HashMap<String, Object>();
-      compositeKeyMap.put(JsonKey.USER_ID, userId);
-      compositeKeyMap.put(JsonKey.ORG_ID, responseMap.get(JsonKey.ORG_ID));
-      compositeKeyMap.put(JsonKey.PERSONA, responseMap.get(JsonKey.PERSONA));
-      Response response =
-          userSelfDeclarationService.updateSelfDeclaration(
-              attrMap, compositeKeyMap, request.getRequestContext());
-      sender().tell(response, self());
+      migrateResponseF
+          .thenAcceptAsync(
+              migrateResponse -> {
+                Map<String, Object> responseMap = responseList.get(0);
+                responseMap.put(JsonKey.STATUS, JsonKey.VALIDATED);
+                Map attrMap = new HashMap<String, Object>();
+                attrMap.put(JsonKey.STATUS, JsonKey.VALIDATED);
+                Map compositeKeyMap = new HashMap<String, Object>();
+                compositeKeyMap.put(JsonKey.USER_ID, userId);
+                compositeKeyMap.put(JsonKey.ORG_ID, responseMap.get(JsonKey.ORG_ID));
+                compositeKeyMap.put(JsonKey.PERSONA, responseMap.get(JsonKey.PERSONA));
+                userSelfDeclarationService.updateSelfDeclaration(
+                    attrMap, compositeKeyMap, request.getRequestContext());
+              },
+              getContext().dispatcher())
+          .whenComplete((done, error) -> logError(request, "migrateSelfDeclaredUser", error));
     }
   }
 
   @SuppressWarnings("unchecked")
-  private void migrateUser(Request request, boolean notify) {
+  private CompletionStage<Response> migrateUser(Request request, boolean notify) {
     logger.info(request.getRequestContext(), "TenantMigrationActor:migrateUser called.");
     Map<String, Object> reqMap = new HashMap<>(request.getRequest());
-    Map<String, Object> targetObject = null;
-    List<Map<String, Object>> correlatedObject = new ArrayList<>();
     Map<String, Object> userDetails =
         userService.getUserDetailsForES(
             (String) request.getRequest().get(JsonKey.USER_ID), request.getRequestContext());
@@ -173,57 +175,90 @@ public class TenantMigrationActor extends BaseActor {
     }
     logger.info(
         request.getRequestContext(), "TenantMigrationActor:migrateUser user record got updated.");
-    // Update user externalIds
-    Response userExternalIdsResponse = updateUserExternalIds(request);
-    // Update user org details
-    Response userOrgResponse =
-        tenantServiceImpl.updateUserOrg(
-            request, (List<Map<String, Object>>) userDetails.get(JsonKey.ORGANISATIONS));
+    // Update user externalIds, the rest of the migration continues once they are updated by
+    // another actor without holding this actor meanwhile
+    Executor dispatcher = getContext().dispatcher();
+    CompletionStage<Response> responseF =
+        updateUserExternalIds(request, dispatcher)
+            .thenApplyAsync(
+                userExternalIdsResponse -> {
+                  // Update user org details
+                  Response userOrgResponse =
+                      tenantServiceImpl.updateUserOrg(
+                          request,
+                          (List<Map<String, Object>>) userDetails.get(JsonKey.ORGANISATIONS));
 
-    // Revoke org consent
-    Map<String, Object> consentReqMap = new HashMap<>();
-    consentReqMap.put(JsonKey.USER_ID, (String) request.getRequest().get(JsonKey.USER_ID));
-    consentReqMap.put(JsonKey.CONSENT_CONSUMERID, request.getRequest().get(JsonKey.ROOT_ORG_ID));
-    consentReqMap.put(JsonKey.CONSENT_OBJECTID, request.getRequest().get(JsonKey.ROOT_ORG_ID));
-    consentReqMap.put(JsonKey.CONSENT_OBJECTTYPE, JsonKey.CONSENT_OBJECTTYPE_ORG);
-    consentReqMap.put(JsonKey.STATUS, JsonKey.CONSENT_STATUS_DELETED);
-    Response consentRes =
-        userConsentService.updateConsent(consentReqMap, request.getRequestContext());
+                  // Revoke org consent
+                  Map<String, Object> consentReqMap = new HashMap<>();
+                  consentReqMap.put(
+                      JsonKey.USER_ID, (String) request.getRequest().get(JsonKey.USER_ID));
+                  consentReqMap.put(
+                      JsonKey.CONSENT_CONSUMERID, request.getRequest().get(JsonKey.ROOT_ORG_ID));
+                  consentReqMap.put(
+                      JsonKey.CONSENT_OBJECTID, request.getRequest().get(JsonKey.ROOT_ORG_ID));
+                  consentReqMap.put(JsonKey.CONSENT_OBJECTTYPE, JsonKey.CONSENT_OBJECTTYPE_ORG);
+                  consentReqMap.put(JsonKey.STATUS, JsonKey.CONSENT_STATUS_DELETED);
+                  Response consentRes =
+                      userConsentService.updateConsent(consentReqMap, request.getRequestContext());
 
-    // Collect all the error message
-    List<Map<String, Object>> userOrgErrMsgList = new ArrayList<>();
-    if (MapUtils.isNotEmpty(userOrgResponse.getResult())
-        && CollectionUtils.isNotEmpty(
-            (List<Map<String, Object>>) userOrgResponse.getResult().get(JsonKey.ERRORS))) {
-      userOrgErrMsgList =
-          (List<Map<String, Object>>) userOrgResponse.getResult().get(JsonKey.ERRORS);
-    }
-    List<Map<String, Object>> userExtIdErrMsgList = new ArrayList<>();
-    if (MapUtils.isNotEmpty(userExternalIdsResponse.getResult())
-        && CollectionUtils.isNotEmpty(
-            (List<Map<String, Object>>) userExternalIdsResponse.getResult().get(JsonKey.ERRORS))) {
-      userExtIdErrMsgList =
-          (List<Map<String, Object>>) userExternalIdsResponse.getResult().get(JsonKey.ERRORS);
-    }
-    userOrgErrMsgList.addAll(userExtIdErrMsgList);
-    response.getResult().put(JsonKey.ERRORS, userOrgErrMsgList);
-    // send the response
-    sender().tell(response, self());
-    // save user data to ES
-    saveUserDetailsToEs(
-        (String) request.getRequest().get(JsonKey.USER_ID), request.getRequestContext());
-    if (null != request.getRequest().get(JsonKey.NOTIFY_USER_MIGRATION)) {
-      notify = (boolean) request.getRequest().get(JsonKey.NOTIFY_USER_MIGRATION);
-    }
-    if (notify) {
-      notify(userDetails, request.getRequestContext());
+                  // Collect all the error message
+                  List<Map<String, Object>> userOrgErrMsgList = new ArrayList<>();
+                  if (MapUtils.isNotEmpty(userOrgResponse.getResult())
+                      && CollectionUtils.isNotEmpty(
+                          (List<Map<String, Object>>)
+                              userOrgResponse.getResult().get(JsonKey.ERRORS))) {
+                    userOrgErrMsgList =
+                        (List<Map<String, Object>>) userOrgResponse.getResult().get(JsonKey.ERRORS);
+                  }
+                  List<Map<String, Object>> userExtIdErrMsgList = new ArrayList<>();
+                  if (MapUtils.isNotEmpty(userExternalIdsResponse.getResult())
+                      && CollectionUtils.isNotEmpty(
+                          (List<Map<String, Object>>)
+                              userExternalIdsResponse.getResult().get(JsonKey.ERRORS))) {
+                    userExtIdErrMsgList =
+                        (List<Map<String, Object>>)
+                            userExternalIdsResponse.getResult().get(JsonKey.ERRORS);
+                  }
+                  userOrgErrMsgList.addAll(userExtIdErrMsgList);
+                  response.getResult().put(JsonKey.ERRORS, userOrgErrMsgList);
+                  return response;
+                },
+                dispatcher);
+    boolean notifyUser =
+        null != request.getRequest().get(JsonKey.NOTIFY_USER_MIGRATION)
+            ? (boolean) request.getRequest().get(JsonKey.NOTIFY_USER_MIGRATION)
+            : notify;
+    responseF
+        .thenAcceptAsync(
+            migrateResponse -> {
+              // save user data to ES
+              saveUserDetailsToEs(
+                  (String) request.getRequest().get(JsonKey.USER_ID), request.getRequestContext());
+              if (notifyUser) {
+                notify(userDetails, request.getRequestContext());
+              }
+              Map<String, Object> targetObject =
+                  TelemetryUtil.generateTargetObject(
+                      (String) reqMap.get(JsonKey.USER_ID),
+                      TelemetryEnvKey.USER,
+                      JsonKey.UPDATE,
+                      null);
+              reqMap.put(JsonKey.TYPE, JsonKey.MIGRATE_USER);
+              TelemetryUtil.telemetryProcessingCall(
+                  reqMap, targetObject, new ArrayList<>(), request.getContext());
+            },
+            dispatcher)
+        .whenComplete((done, error) -> logError(request, "migrateUser", error));
+    return responseF;
+  }
+
+  private void logError(Request request, String method, Throwable error) {
+    if (null != error) {
+      logger.error(
+          request.getRequestContext(),
+          "TenantMigrationActor:" + method + ": Exception occurred after user migration.",
+          ActorPatterns.unwrap(error));
     }
-    targetObject =
-        TelemetryUtil.generateTargetObject(
-            (String) reqMap.get(JsonKey.USER_ID), TelemetryEnvKey.USER, JsonKey.UPDATE, null);
-    reqMap.put(JsonKey.TYPE, JsonKey.MIGRATE_USER);
-    TelemetryUtil.telemetryProcessingCall(
-        reqMap, targetObject, correlatedObject, request.getContext());
   }
 
   private void notify(Map<String, Object> userDetail, RequestContext context) {
@@ -294,16 +329,15 @@ public class TenantMigrationActor extends BaseActor {
     }
   }
 
-  private Response updateUserExternalIds(Request request) {
+  private CompletionStage<Response> updateUserExternalIds(Request request, Executor dispatcher) {
     logger.debug(request.getRequestContext(), "TenantMigrationActor:updateUserExternalIds called.");
-    Response response = new Response();
     Map<String, Object> userExtIdsReq = new HashMap<>();
     userExtIdsReq.put(JsonKey.ID, request.getRequest().get(JsonKey.USER_ID));
     userExtIdsReq.put(JsonKey.USER_ID, request.getRequest().get(JsonKey.USER_ID));
     userExtIdsReq.put(JsonKey.EXTERNAL_IDS, request.getRequest().get(JsonKey.EXTERNAL_IDS));
+    CompletionStage<Object> responseF;
     try {
       ObjectMapper mapper = new ObjectMapper();
-      Timeout t = new Timeout(Duration.create(10, TimeUnit.SECONDS));
       // Update channel to orgId  for provider field in usr_external_identiy table
       UserUtil.updateExternalIdsProviderWithOrgId(userExtIdsReq, request.getRequestContext());
       User user = mapper.convertValue(userExtIdsReq, User.class);
@@ -314,28 +348,45 @@ public class TenantMigrationActor extends BaseActor {
       userExtIdsReq.put(JsonKey.OPERATION_TYPE, JsonKey.CREATE);
       userRequest.getRequest().putAll(userExtIdsReq);
 
-      if (null != userExternalIdManagementActor) {
-        Future<Object> future = Patterns.ask(userExternalIdManagementActor, userRequest, t);
-        response = (Response) Await.result(future, t.duration());
-      }
-      userLookUpService.insertExternalIdIntoUserLookup(
-          (List) userExtIdsReq.get(JsonKey.EXTERNAL_IDS),
-          (String) request.getRequest().get(JsonKey.USER_ID),
-          request.getRequestContext());
-      logger.info(
-          request.getRequestContext(),
-          "TenantMigrationActor:updateUserExternalIds user externalIds got updated.");
+      responseF =
+          null != userExternalIdManagementActor
+              ? ActorPatterns.ask(userExternalIdManagementActor, userRequest)
+              : CompletableFuture.completedFuture(new Response());
     } catch (Exception ex) {
-      logger.error(
-          request.getRequestContext(),
-          "TenantMigrationActor:updateUserExternalIds:Exception occurred while updating user externalIds.",
-          ex);
-      List<Map<String, Object>> errMsgList = new ArrayList<>();
-      Map<String, Object> map = new HashMap<>();
-      map.put(JsonKey.ERROR_MSG, ex.getMessage());
-      errMsgList.add(map);
-      response.getResult().put(JsonKey.ERRORS, errMsgList);
+      return CompletableFuture.completedFuture(addExternalIdsError(request, new Response(), ex));
     }
+    return responseF.handleAsync(
+        (result, error) -> {
+          if (null != error) {
+            return addExternalIdsError(request, new Response(), ActorPatterns.unwrap(error));
+          }
+          Response response = (Response) result;
+          try {
+            userLookUpService.insertExternalIdIntoUserLookup(
+                (List) userExtIdsReq.get(JsonKey.EXTERNAL_IDS),
+                (String) request.getRequest().get(JsonKey.USER_ID),
+                request.getRequestContext());
+            logger.info(
+                request.getRequestContext(),
+                "TenantMigrationActor:updateUserExternalIds user externalIds got updated.");
+          } catch (Exception ex) {
+            return addExternalIdsError(request, response, ex);
+          }
+          return response;
+        },
+        dispatcher);
+  }
+
+  private Response addExternalIdsError(Request request, Response response, Throwable ex) {
+    logger.error(
+        request.getRequestContext(),
+        "TenantMigrationActor:updateUserExternalIds:Exception occurred while updating user externalIds.",
+        ex);
+    List<Map<String, Object>> errMsgList = new ArrayList<>();
+    Map<String, Object> map = new HashMap<>();
+    map.put(JsonKey.ERROR_MSG, ex.getMessage());
+    errMsgList.add(map);
+    response.getResult().put(JsonKey.ERRORS, errMsgList);
     return response;
   }
 
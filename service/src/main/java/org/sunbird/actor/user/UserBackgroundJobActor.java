@@ -12,6 +12,7 @@ import org.sunbird.model.user.User;
 import org.sunbird.request.Request;
 import org.sunbird.request.RequestContext;
 import org.sunbird.util.ProjectUtil;
+import org.sunbird.util.user.UserProfileCache;
 import org.sunbird.util.user.UserUtil;
 import scala.concurrent.Future;
 
@@ -67,6 +68,7 @@ public class UserBackgroundJobActor extends BaseActor {
 
   private void upsertDataToElastic(
       String typeName, String id, Map<String, Object> userDetails, RequestContext context) {
+    UserProfileCache.getInstance().invalidate(id);
 
     Future<Boolean> bool = esUtil.upsert(typeName, id, userDetails, context);
 
@@ -22,6 +22,7 @@ import org.sunbird.request.Request;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
 import org.sunbird.util.ProjectUtil;
+import org.sunbird.util.user.UserProfileCache;
 
 public class UserExternalIdManagementActor extends BaseActor {
 
@@ -179,6 +180,7 @@ public class UserExternalIdManagementActor extends BaseActor {
     map.remove(JsonKey.ORIGINAL_PROVIDER);
     // map.remove(JsonKey.STATUS);
     cassandraOperation.deleteRecord(JsonKey.SUNBIRD, JsonKey.USR_EXT_IDNT_TABLE, map, context);
+    UserProfileCache.getInstance().invalidate(map.get(JsonKey.USER_ID));
   }
 
   private void throwExternalIDNotFoundException(String externalId, String idType, String provider) {
@@ -211,6 +213,7 @@ public class UserExternalIdManagementActor extends BaseActor {
       map.put(JsonKey.LAST_UPDATED_ON, new Timestamp(Calendar.getInstance().getTime().getTime()));
     }
     cassandraOperation.upsertRecord(JsonKey.SUNBIRD, JsonKey.USR_EXT_IDNT_TABLE, map, context);
+    UserProfileCache.getInstance().invalidate((String) map.get(JsonKey.USER_ID));
     return map;
   }
 }
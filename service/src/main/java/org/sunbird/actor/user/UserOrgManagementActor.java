@@ -13,6 +13,7 @@ import org.sunbird.response.Response;
 import org.sunbird.service.user.AssociationMechanism;
 import org.sunbird.service.user.UserOrgService;
 import org.sunbird.service.user.impl.UserOrgServiceImpl;
+import org.sunbird.util.user.UserProfileCache;
 import org.sunbird.util.user.UserUtil;
 
 public class UserOrgManagementActor extends BaseActor {
@@ -56,6 +57,7 @@ public class UserOrgManagementActor extends BaseActor {
       requestMap.put(JsonKey.HASHTAGID, requestMap.get(JsonKey.ORGANISATION_ID));
       userOrgService.registerUserToOrg(requestMap, request.getRequestContext());
     }
+    UserProfileCache.getInstance().invalidate((String) requestMap.get(JsonKey.ID));
     Response response = new Response();
     response.put(JsonKey.RESPONSE, JsonKey.SUCCESS);
     sender().tell(response, self());
@@ -86,6 +88,7 @@ public class UserOrgManagementActor extends BaseActor {
       requestMap.put(JsonKey.ASSOCIATION_TYPE, getAssociationType(userOrg, callerId, requestMap));
       userOrgService.upsertUserOrgData(requestMap, request.getRequestContext());
     }
+    UserProfileCache.getInstance().invalidate((String) requestMap.get(JsonKey.ID));
     Response response = new Response();
     response.put(JsonKey.RESPONSE, JsonKey.SUCCESS);
     sender().tell(response, self());
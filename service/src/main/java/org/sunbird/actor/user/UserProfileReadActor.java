@@ -4,6 +4,8 @@ import java.text.MessageFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.actor.core.BaseActor;
@@ -62,19 +64,23 @@ public class UserProfileReadActor extends BaseActor {
 
   private void getUserByKey(Request actorMessage) {
     String key = (String) actorMessage.getRequest().get(JsonKey.KEY);
-    String value = (String) actorMessage.getRequest().get(JsonKey.VALUE);
-    if (JsonKey.LOGIN_ID.equalsIgnoreCase(key)
-        || JsonKey.EMAIL.equalsIgnoreCase(key)
-        || JsonKey.USERNAME.equalsIgnoreCase(key)) {
-      value = value.toLowerCase();
-    }
-    String userId = null;
+    String requestValue = (String) actorMessage.getRequest().get(JsonKey.VALUE);
+    String value =
+        JsonKey.LOGIN_ID.equalsIgnoreCase(key)
+                || JsonKey.EMAIL.equalsIgnoreCase(key)
+                || JsonKey.USERNAME.equalsIgnoreCase(key)
+            ? requestValue.toLowerCase()
+            : requestValue;
+    CompletionStage<String> userIdF;
     if (JsonKey.PHONE.equalsIgnoreCase(key)
         || JsonKey.EMAIL.equalsIgnoreCase(key)
         || JsonKey.USERNAME.equalsIgnoreCase(key)) {
-      userId =
-          userService.getUserIdByUserLookUp(
-              key.toLowerCase(), StringUtils.lowerCase(value), actorMessage.getRequestContext());
+      userIdF =
+          CompletableFuture.completedFuture(
+              userService.getUserIdByUserLookUp(
+                  key.toLowerCase(),
+                  StringUtils.lowerCase(value),
+                  actorMessage.getRequestContext()));
     } else {
       String encryptedValue =
           encryptionService.encryptData(value, actorMessage.getRequestContext());
@@ -82,24 +88,32 @@ public class UserProfileReadActor extends BaseActor {
       searchMap.put(key, encryptedValue);
       SearchDTO searchDTO = new SearchDTO();
       searchDTO.getAdditionalProperties().put(JsonKey.FILTERS, searchMap);
-      Map<String, Object> esResponse =
-          userService.searchUser(searchDTO, actorMessage.getRequestContext());
-      List<Map<String, Object>> userList =
-          (List<Map<String, Object>>) esResponse.get(JsonKey.CONTENT);
-      if (CollectionUtils.isNotEmpty(userList)) {
-        userId = (String) userList.get(0).get(JsonKey.USER_ID);
-      }
-    }
-    if (StringUtils.isNotBlank(userId)) {
-      actorMessage.put(JsonKey.USER_ID, userId);
-      actorMessage.setOperation(ActorOperations.GET_USER_PROFILE_V5.getValue());
-      actorMessage.getContext().put(JsonKey.PRIVATE, false);
-      Response response = profileReadService.getUserProfileData(actorMessage);
-      sender().tell(response, self());
-    } else {
-      ProjectCommonException.throwResourceNotFoundException(
-          ResponseCode.resourceNotFound,
-          MessageFormat.format(ResponseCode.resourceNotFound.getErrorMessage(), value));
+      userIdF =
+          userService
+              .searchUserAsync(searchDTO, actorMessage.getRequestContext())
+              .thenApply(
+                  esResponse -> {
+                    List<Map<String, Object>> userList =
+                        (List<Map<String, Object>>) esResponse.get(JsonKey.CONTENT);
+                    if (CollectionUtils.isNotEmpty(userList)) {
+                      return (String) userList.get(0).get(JsonKey.USER_ID);
+                    }
+                    return null;
+                  });
     }
+    CompletionStage<Response> responseF =
+        userIdF.thenApply(
+            userId -> {
+              if (StringUtils.isBlank(userId)) {
+                ProjectCommonException.throwResourceNotFoundException(
+                    ResponseCode.resourceNotFound,
+                    MessageFormat.format(ResponseCode.resourceNotFound.getErrorMessage(), value));
+              }
+              actorMessage.put(JsonKey.USER_ID, userId);
+              actorMessage.setOperation(ActorOperations.GET_USER_PROFILE_V5.getValue());
+              actorMessage.getContext().put(JsonKey.PRIVATE, false);
+              return profileReadService.getUserProfileData(actorMessage);
+            });
+    pipeToSender(responseF, actorMessage);
   }
 }
@@ -1,19 +1,18 @@
 package org.sunbird.actor.user;
 
 import akka.actor.ActorRef;
-import akka.dispatch.Futures;
-import akka.dispatch.Mapper;
-import akka.pattern.Patterns;
-import akka.util.Timeout;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 import javax.inject.Inject;
 import javax.inject.Named;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.sunbird.actor.core.ActorPatterns;
 import org.sunbird.actor.core.BaseActor;
 import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.keys.JsonKey;
@@ -23,8 +22,6 @@ import org.sunbird.request.Request;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
 import org.sunbird.util.user.UserUtil;
-import scala.concurrent.Future;
-import scala.concurrent.duration.Duration;
 
 public class UserProfileUpdateActor extends BaseActor {
 
@@ -52,56 +49,56 @@ public class UserProfileUpdateActor extends BaseActor {
   private void saveUserAttributes(Request request) {
     Map<String, Object> userMap = request.getRequest();
     String operationType = (String) userMap.remove(JsonKey.OPERATION_TYPE);
-    List<Future<Object>> futures = getFutures(userMap, operationType, request.getRequestContext());
-    Future<Iterable<Object>> futuresSequence = Futures.sequence(futures, getContext().dispatcher());
-    Future<Response> consolidatedFutureResponse = getConsolidatedFutureResponse(futuresSequence);
-    Patterns.pipe(consolidatedFutureResponse, getContext().dispatcher()).to(sender());
+    List<CompletableFuture<Object>> futures =
+        getFutures(userMap, operationType, request.getRequestContext());
+    CompletionStage<Response> consolidatedFutureResponse =
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+            .thenApply(
+                done ->
+                    getConsolidatedResponse(
+                        futures
+                            .stream()
+                            .map(CompletableFuture::join)
+                            .collect(Collectors.toList())));
+    pipeToSender(consolidatedFutureResponse, request);
   }
 
-  private Future<Response> getConsolidatedFutureResponse(Future<Iterable<Object>> futuresSequence) {
-    return futuresSequence.map(
-        new Mapper<>() {
-          Map<String, Object> map = new HashMap<>();
-          List<Object> errorList = new ArrayList<>();
-
-          @Override
-          public Response apply(Iterable<Object> futureResult) {
-            for (Object object : futureResult) {
-              if (object instanceof Response) {
-                Response response = (Response) object;
-                Map<String, Object> result = response.getResult();
-                String key = (String) result.get(JsonKey.KEY);
-                if (StringUtils.isNotBlank(key)) {
-                  map.put(key, result.get(key));
-                }
-                @SuppressWarnings("unchecked")
-                List<String> errMsgList = (List<String>) result.get(JsonKey.ERROR_MSG);
-                if (CollectionUtils.isNotEmpty(errMsgList)) {
-                  for (String err : errMsgList) {
-                    Map<String, Object> map = new HashMap<>();
-                    map.put(JsonKey.ATTRIBUTE, key);
-                    map.put(JsonKey.MESSAGE, err);
-                    errorList.add(map);
-                  }
-                }
-              } else if (object instanceof ProjectCommonException) {
-                errorList.add(((ProjectCommonException) object).getMessage());
-              } else if (object instanceof Exception) {
-                errorList.add(((Exception) object).getMessage());
-              }
-            }
-            map.put(JsonKey.ERRORS, errorList);
-            Response response = new Response();
-            response.put(JsonKey.RESPONSE, map);
-            return response;
+  private Response getConsolidatedResponse(List<Object> futureResult) {
+    Map<String, Object> map = new HashMap<>();
+    List<Object> errorList = new ArrayList<>();
+    for (Object object : futureResult) {
+      if (object instanceof Response) {
+        Response response = (Response) object;
+        Map<String, Object> result = response.getResult();
+        String key = (String) result.get(JsonKey.KEY);
+        if (StringUtils.isNotBlank(key)) {
+          map.put(key, result.get(key));
+        }
+        @SuppressWarnings("unchecked")
+        List<String> errMsgList = (List<String>) result.get(JsonKey.ERROR_MSG);
+        if (CollectionUtils.isNotEmpty(errMsgList)) {
+          for (String err : errMsgList) {
+            Map<String, Object> errorMap = new HashMap<>();
+            errorMap.put(JsonKey.ATTRIBUTE, key);
+            errorMap.put(JsonKey.MESSAGE, err);
+            errorList.add(errorMap);
           }
-        },
-        getContext().dispatcher());
+        }
+      } else if (object instanceof ProjectCommonException) {
+        errorList.add(((ProjectCommonException) object).getMessage());
+      } else if (object instanceof Exception) {
+        errorList.add(((Exception) object).getMessage());
+      }
+    }
+    map.put(JsonKey.ERRORS, errorList);
+    Response response = new Response();
+    response.put(JsonKey.RESPONSE, map);
+    return response;
   }
 
-  private List<Future<Object>> getFutures(
+  private List<CompletableFuture<Object>> getFutures(
       Map<String, Object> userMap, String operationType, RequestContext context) {
-    List<Future<Object>> futures = new ArrayList<>();
+    List<CompletableFuture<Object>> futures = new ArrayList<>();
     String callerId = (String) userMap.remove(JsonKey.CALLER_ID);
     if (CollectionUtils.isNotEmpty((List<Map<String, String>>) userMap.get(JsonKey.EXTERNAL_IDS))) {
       List<Map<String, String>> externalIds =
@@ -132,7 +129,7 @@ public class UserProfileUpdateActor extends BaseActor {
     return futures;
   }
 
-  private Future<Object> saveUserSelfDeclareExternalIds(
+  private CompletableFuture<Object> saveUserSelfDeclareExternalIds(
       Map<String, Object> userMap, List<Map<String, String>> externalIds, RequestContext context) {
     List<UserDeclareEntity> selfDeclaredFields =
         UserUtil.transformExternalIdsToSelfDeclaredRequest(externalIds, userMap);
@@ -144,7 +141,7 @@ public class UserProfileUpdateActor extends BaseActor {
         context);
   }
 
-  private Future<Object> saveUserExternalIds(
+  private CompletableFuture<Object> saveUserExternalIds(
       Map<String, Object> userMap, List<Map<String, String>> externalIds, RequestContext context) {
     userMap.put(JsonKey.EXTERNAL_IDS, externalIds);
     return saveUserAttributes(
@@ -154,7 +151,7 @@ public class UserProfileUpdateActor extends BaseActor {
         context);
   }
 
-  private Future<Object> saveUserOrgDetails(
+  private CompletableFuture<Object> saveUserOrgDetails(
       Map<String, Object> userMap, String callerId, String operationType, RequestContext context) {
     String actorOperation = ActorOperations.UPDATE_USER_ORG_DETAILS.getValue();
 
@@ -166,25 +163,18 @@ public class UserProfileUpdateActor extends BaseActor {
     return saveUserAttributes(reqMap, userOrgManagementActor, actorOperation, context);
   }
 
-  private Future<Object> saveUserAttributes(
+  private CompletableFuture<Object> saveUserAttributes(
       Map<String, Object> userMap,
       ActorRef actorRef,
       String actorOperation,
       RequestContext context) {
-    try {
-      Request request = new Request();
-      request.setRequestContext(context);
-      request.getRequest().putAll(userMap);
-      request.setOperation(actorOperation);
-      Timeout t = new Timeout(Duration.create(10, TimeUnit.SECONDS));
-      return Patterns.ask(actorRef, request, t);
-    } catch (Exception ex) {
-      logger.error(
-          context,
-          "UserProfileUpdateActor:saveUserAttributes: Exception occurred with error message = "
-              + ex.getMessage(),
-          ex);
-    }
-    return null;
+    Request request = new Request();
+    request.setRequestContext(context);
+    request.getRequest().putAll(userMap);
+    request.setOperation(actorOperation);
+    // A failed save is reported in the errors of the response, along with the other saves
+    return ActorPatterns.ask(actorRef, request)
+        .handle((result, error) -> null == error ? result : ActorPatterns.unwrap(error))
+        .toCompletableFuture();
   }
 }
@@ -10,6 +10,7 @@ import org.sunbird.service.user.UserStatusService;
 import org.sunbird.service.user.impl.UserServiceImpl;
 import org.sunbird.telemetry.dto.TelemetryEnvKey;
 import org.sunbird.util.Util;
+import org.sunbird.util.user.UserProfileCache;
 
 public class UserStatusActor extends UserBaseActor {
 
@@ -41,6 +42,7 @@ public class UserStatusActor extends UserBaseActor {
     Map<String, Object> userMap = userStatusService.getUserMap(userId, requestedBy, blockUser);
     Response response =
         userStatusService.updateUserStatus(userMap, operation, request.getRequestContext());
+    UserProfileCache.getInstance().invalidate(userId);
     sender().tell(response, self());
 
     if (((String) response.get(JsonKey.RESPONSE)).equalsIgnoreCase(JsonKey.SUCCESS)) {
@@ -18,6 +18,7 @@ import org.sunbird.response.Response;
 import org.sunbird.service.user.UserTncService;
 import org.sunbird.util.ProjectUtil;
 import org.sunbird.util.Util;
+import org.sunbird.util.user.UserProfileCache;
 import org.sunbird.util.user.UserTncUtil;
 
 public class UserTnCActor extends BaseActor {
@@ -112,6 +113,7 @@ public class UserTnCActor extends BaseActor {
         ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR);
       }
       response = tncService.updateUser(userMap, requestContext);
+      UserProfileCache.getInstance().invalidate((String) user.get(JsonKey.ID));
       sender().tell(response, self());
       if (((String) response.get(JsonKey.RESPONSE)).equalsIgnoreCase(JsonKey.SUCCESS)) {
         // In ES this field is getting stored as Map<String, Map<String,String>>
@@ -154,6 +156,7 @@ public class UserTnCActor extends BaseActor {
       if (((String) response.get(JsonKey.RESPONSE)).equalsIgnoreCase(JsonKey.SUCCESS)) {
         tncService.syncUserDetails(userMap, requestContext);
       }
+      UserProfileCache.getInstance().invalidate((String) user.get(JsonKey.ID));
       sender().tell(response, self());
     } else {
       response.getResult().put(JsonKey.RESPONSE, JsonKey.SUCCESS);
@@ -5,7 +5,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.sql.Timestamp;
 import java.text.MessageFormat;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -14,6 +17,7 @@ import javax.inject.Named;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.sunbird.actor.core.ActorPatterns;
 import org.sunbird.actor.user.validator.UserCreateRequestValidator;
 import org.sunbird.actor.user.validator.UserRequestValidator;
 import org.sunbird.dao.user.UserOrgDao;
@@ -41,6 +45,7 @@ import org.sunbird.service.user.impl.UserServiceImpl;
 import org.sunbird.telemetry.dto.TelemetryEnvKey;
 import org.sunbird.util.*;
 import org.sunbird.util.user.ProfileUtil;
+import org.sunbird.util.user.UserProfileCache;
 import org.sunbird.util.user.UserUtil;
 
 public class UserUpdateActor extends UserBaseActor {
@@ -225,7 +230,7 @@ public class UserUpdateActor extends UserBaseActor {
     if (StringUtils.isNotBlank(callerId)) {
       userMap.put(JsonKey.ROOT_ORG_ID, actorMessage.getContext().get(JsonKey.ROOT_ORG_ID));
     }
-    Response resp = null;
+    CompletionStage<Response> respF = CompletableFuture.completedFuture(null);
     if (((String) response.get(JsonKey.RESPONSE)).equalsIgnoreCase(JsonKey.SUCCESS)) {
       List<Map<String, Object>> orgList = new ArrayList();
       if (StringUtils.isNotEmpty((String) userMap.get(JsonKey.ORG_EXTERNAL_ID))
@@ -285,29 +290,56 @@ public class UserUpdateActor extends UserBaseActor {
       userRequest.put(JsonKey.OPERATION_TYPE, JsonKey.UPDATE);
       userRequest.put(JsonKey.CALLER_ID, callerId);
 
-      resp =
-          userService.saveUserAttributes(
+      respF =
+          userService.saveUserAttributesAsync(
               userRequest, userProfileUpdateActor, actorMessage.getRequestContext());
     } else {
       logger.info(
           actorMessage.getRequestContext(), "UserUpdateActor:updateUser: User update failure");
     }
-    if (null != resp) {
-      response.put(
-          JsonKey.ERRORS,
-          ((Map<String, Object>) resp.getResult().get(JsonKey.RESPONSE)).get(JsonKey.ERRORS));
-    }
-    sender().tell(response, self());
-    if (resetPasswordLink) {
-      sendResetPasswordLink(requestMap, actorMessage.getRequestContext());
-    }
-    if (null != resp) {
-      Map<String, Object> completeUserDetails = new HashMap<>(userDbRecord);
-      completeUserDetails.putAll(requestMap);
-      saveUserDetailsToEs(completeUserDetails, actorMessage.getRequestContext());
-    }
-    generateUserTelemetry(
-        userMap, actorMessage, (String) userMap.get(JsonKey.USER_ID), JsonKey.UPDATE);
+    // The user attributes are saved by another actor, the rest of the update continues once they
+    // are saved without holding this actor meanwhile
+    Executor dispatcher = getContext().dispatcher();
+    CompletionStage<Response> responseF =
+        respF.thenApplyAsync(
+            resp -> {
+              if (null != resp) {
+                response.put(
+                    JsonKey.ERRORS,
+                    ((Map<String, Object>) resp.getResult().get(JsonKey.RESPONSE))
+                        .get(JsonKey.ERRORS));
+              }
+              UserProfileCache.getInstance().invalidate((String) userDbRecord.get(JsonKey.ID));
+              return response;
+            },
+            dispatcher);
+    pipeToSender(responseF, actorMessage);
+    boolean sendResetPasswordLink = resetPasswordLink;
+    responseF
+        .thenAcceptBothAsync(
+            respF,
+            (updateResponse, resp) -> {
+              if (sendResetPasswordLink) {
+                sendResetPasswordLink(requestMap, actorMessage.getRequestContext());
+              }
+              if (null != resp) {
+                Map<String, Object> completeUserDetails = new HashMap<>(userDbRecord);
+                completeUserDetails.putAll(requestMap);
+                saveUserDetailsToEs(completeUserDetails, actorMessage.getRequestContext());
+              }
+              generateUserTelemetry(
+                  userMap, actorMessage, (String) userMap.get(JsonKey.USER_ID), JsonKey.UPDATE);
+            },
+            dispatcher)
+        .whenComplete(
+            (done, error) -> {
+              if (null != error) {
+                logger.error(
+                    actorMessage.getRequestContext(),
+                    "UserUpdateActor:updateUser: Exception occurred after user update",
+                    ActorPatterns.unwrap(error));
+              }
+            });
   }
 
   private <T> Predicate<T> distinctByValue(Function<? super T, ?> keyExtractor) {
@@ -2,6 +2,7 @@ package org.sunbird.dao.location;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import org.sunbird.model.location.Location;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
@@ -36,6 +37,18 @@ public interface LocationDao {
    */
   Response search(Map<String, Object> searchQueryMap, RequestContext context);
 
+  /**
+   * Search of ES answered from the search result cache unless bypassed. The returned stage
+   * completes exceptionally with ProjectCommonException if the search fails.
+   *
+   * @param searchQueryMap Map<String,Object> it contains the filters to search Location from ES
+   * @param bypassCache true to search ES without using the search result cache
+   * @param context
+   * @return CompletionStage of Response
+   */
+  CompletionStage<Response> searchWithCacheAsync(
+      Map<String, Object> searchQueryMap, boolean bypassCache, RequestContext context);
+
   /**
    * @param locationId
    * @param context
@@ -43,9 +56,25 @@ public interface LocationDao {
    */
   Response read(String locationId, RequestContext context);
 
+  /**
+   * @param locationId
+   * @param context
+   * @return location Location, null if not found
+   */
+  Location getLocationById(String locationId, RequestContext context);
+
   Response getLocationsByIds(
       List<String> locationIds, List<String> locationFields, RequestContext context);
 
+  /**
+   * @param locationIds list of location ids
+   * @param locationFields list of fields to fetch, all fields are fetched if empty
+   * @param context
+   * @return CompletionStage of Response
+   */
+  CompletionStage<Response> getLocationsByIdsAsync(
+      List<String> locationIds, List<String> locationFields, RequestContext context);
+
   /**
    * @param queryMap
    * @param context
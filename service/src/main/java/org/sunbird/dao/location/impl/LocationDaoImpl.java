@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import org.apache.commons.collections.MapUtils;
 import org.sunbird.cassandra.CassandraOperation;
 import org.sunbird.common.ElasticSearchHelper;
@@ -18,6 +19,7 @@ import org.sunbird.model.location.Location;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
 import org.sunbird.util.ProjectUtil;
+import org.sunbird.util.search.SearchResultCache;
 import scala.concurrent.Future;
 
 /** @author Amit Kumar */
@@ -56,8 +58,24 @@ public class LocationDaoImpl implements LocationDao {
     addSortBy(searchDto);
     String type = ProjectUtil.EsType.location.getTypeName();
     Future<Map<String, Object>> resultF = esUtil.search(searchDto, type, context);
-    Map<String, Object> result =
-        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(resultF);
+    return createSearchResponse(
+        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(resultF));
+  }
+
+  @Override
+  public CompletionStage<Response> searchWithCacheAsync(
+      Map<String, Object> searchQueryMap, boolean bypassCache, RequestContext context) {
+    SearchDTO searchDto = ElasticSearchHelper.createSearchDTO(searchQueryMap);
+    addSortBy(searchDto);
+    String type = ProjectUtil.EsType.location.getTypeName();
+    Future<Map<String, Object>> resultF =
+        SearchResultCache.getInstance()
+            .search(type, searchDto, bypassCache, () -> esUtil.search(searchDto, type, context));
+    return ElasticSearchHelper.toCompletionStage(resultF, "searchWithCacheAsync", context)
+        .thenApply(this::createSearchResponse);
+  }
+
+  private Response createSearchResponse(Map<String, Object> result) {
     Response response = new Response();
     if (result != null) {
       response.put(JsonKey.COUNT, result.get(JsonKey.COUNT));
@@ -76,10 +94,23 @@ public class LocationDaoImpl implements LocationDao {
         KEYSPACE_NAME, LOCATION_TABLE_NAME, locationId, context);
   }
 
+  @Override
+  public Location getLocationById(String locationId, RequestContext context) {
+    return cassandraOperation.getRecordObjById(
+        KEYSPACE_NAME, LOCATION_TABLE_NAME, locationId, Location.class, context);
+  }
+
   @Override
   public Response getLocationsByIds(
       List<String> locationIds, List<String> locationFields, RequestContext context) {
-    return cassandraOperation.getPropertiesValueById(
+    return cassandraOperation.getRecordsByIdsWithSpecifiedColumns(
+        KEYSPACE_NAME, LOCATION_TABLE_NAME, locationFields, locationIds, context);
+  }
+
+  @Override
+  public CompletionStage<Response> getLocationsByIdsAsync(
+      List<String> locationIds, List<String> locationFields, RequestContext context) {
+    return cassandraOperation.getPropertiesValueByIdAsync(
         KEYSPACE_NAME, LOCATION_TABLE_NAME, locationIds, locationFields, context);
   }
 
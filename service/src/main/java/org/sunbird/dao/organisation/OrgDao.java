@@ -2,6 +2,7 @@ package org.sunbird.dao.organisation;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import org.sunbird.dto.SearchDTO;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
@@ -11,11 +12,13 @@ public interface OrgDao {
 
   Map<String, Object> getOrgById(String orgId, RequestContext context);
 
+  CompletionStage<Map<String, Object>> getOrgByIdAsync(String orgId, RequestContext context);
+
   Response create(Map<String, Object> orgMap, RequestContext context);
 
   Response update(Map<String, Object> orgMap, RequestContext context);
 
-  Response search(Map<String, Object> searchQueryMap, RequestContext context);
+  CompletionStage<Response> search(Map<String, Object> searchQueryMap, RequestContext context);
 
   Future<Map<String, Object>> search(SearchDTO searchDTO, RequestContext context);
 
@@ -24,5 +27,5 @@ public interface OrgDao {
   List<Map<String, Object>> getOrgByIds(
       List<String> orgIds, List<String> fields, RequestContext context);
 
-  String saveOrgToEs(String id, Map<String, Object> data, RequestContext context);
+  CompletionStage<String> saveOrgToEs(String id, Map<String, Object> data, RequestContext context);
 }
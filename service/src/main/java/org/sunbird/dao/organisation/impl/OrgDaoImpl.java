@@ -6,6 +6,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.cassandra.CassandraOperation;
@@ -57,6 +59,27 @@ public class OrgDaoImpl implements OrgDao {
     return Collections.emptyMap();
   }
 
+  @Override
+  public CompletionStage<Map<String, Object>> getOrgByIdAsync(
+      String orgId, RequestContext context) {
+    if (StringUtils.isBlank(orgId)) {
+      return CompletableFuture.completedFuture(Collections.emptyMap());
+    }
+    return cassandraOperation
+        .getRecordByIdAsync(KEYSPACE_NAME, ORG_TABLE_NAME, orgId, null, context)
+        .thenApply(
+            response -> {
+              List<Map<String, Object>> responseList =
+                  (List<Map<String, Object>>) response.get(JsonKey.RESPONSE);
+              if (CollectionUtils.isNotEmpty(responseList)) {
+                Map<String, Object> orgMap = responseList.get(0);
+                enrichOrgDetails(orgMap, context);
+                return orgMap;
+              }
+              return Collections.emptyMap();
+            });
+  }
+
   @Override
   public List<Map<String, Object>> getOrgByIds(List<String> orgIds, RequestContext context) {
     return getOrgByIds(orgIds, Collections.emptyList(), context);
@@ -67,8 +90,8 @@ public class OrgDaoImpl implements OrgDao {
       List<String> orgIds, List<String> fields, RequestContext context) {
     if (CollectionUtils.isNotEmpty(orgIds)) {
       Response response =
-          cassandraOperation.getPropertiesValueById(
-              KEYSPACE_NAME, ORG_TABLE_NAME, orgIds, fields, context);
+          cassandraOperation.getRecordsByIdsWithSpecifiedColumns(
+              KEYSPACE_NAME, ORG_TABLE_NAME, fields, orgIds, context);
       List<Map<String, Object>> responseList =
           (List<Map<String, Object>>) response.get(JsonKey.RESPONSE);
       if (CollectionUtils.isNotEmpty(responseList)) {
@@ -80,10 +103,11 @@ public class OrgDaoImpl implements OrgDao {
   }
 
   @Override
-  public String saveOrgToEs(String id, Map<String, Object> data, RequestContext context) {
+  public CompletionStage<String> saveOrgToEs(
+      String id, Map<String, Object> data, RequestContext context) {
     String type = ProjectUtil.EsType.organisation.getTypeName();
     Future<String> responseF = esService.save(type, id, data, context);
-    return (String) ElasticSearchHelper.getResponseFromFuture(responseF);
+    return ElasticSearchHelper.toCompletionStage(responseF, "saveOrgToEs", context);
   }
 
   private void enrichOrgDetails(Map<String, Object> orgMap, RequestContext context) {
@@ -133,20 +157,23 @@ public class OrgDaoImpl implements OrgDao {
   }
 
   @Override
-  public Response search(Map<String, Object> searchQueryMap, RequestContext context) {
+  public CompletionStage<Response> search(
+      Map<String, Object> searchQueryMap, RequestContext context) {
     SearchDTO searchDto = ElasticSearchHelper.createSearchDTO(searchQueryMap);
-    Map<String, Object> result =
-        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(search(searchDto, context));
-    Response response = new Response();
-    if (result != null) {
-      response.put(JsonKey.COUNT, result.get(JsonKey.COUNT));
-      response.put(JsonKey.RESPONSE, result.get(JsonKey.CONTENT));
-    } else {
-      List<Map<String, Object>> list = new ArrayList<>();
-      response.put(JsonKey.COUNT, list.size());
-      response.put(JsonKey.RESPONSE, list);
-    }
-    return response;
+    return ElasticSearchHelper.toCompletionStage(search(searchDto, context), "search", context)
+        .thenApply(
+            result -> {
+              Response response = new Response();
+              if (result != null) {
+                response.put(JsonKey.COUNT, result.get(JsonKey.COUNT));
+                response.put(JsonKey.RESPONSE, result.get(JsonKey.CONTENT));
+              } else {
+                List<Map<String, Object>> list = new ArrayList<>();
+                response.put(JsonKey.COUNT, list.size());
+                response.put(JsonKey.RESPONSE, list);
+              }
+              return response;
+            });
   }
 
   @Override
@@ -2,6 +2,7 @@ package org.sunbird.dao.user;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import org.sunbird.dto.SearchDTO;
 import org.sunbird.model.user.User;
 import org.sunbird.request.RequestContext;
@@ -61,6 +62,17 @@ public interface UserDao {
    */
   Map<String, Object> getUserDetailsById(String userId, RequestContext context);
 
+  /**
+   * This method will read user based on userId without blocking the calling thread. The returned
+   * stage completes with null if user is not found.
+   *
+   * @param userId User id.
+   * @param context
+   * @return CompletionStage of user details.
+   */
+  CompletionStage<Map<String, Object>> getUserDetailsByIdAsync(
+      String userId, RequestContext context);
+
   /**
    * This method will user based on userId and return user if found else throw
    * ProjectCommonException.
@@ -73,9 +85,34 @@ public interface UserDao {
   Response getUserPropertiesById(
       List<String> userId, List<String> properties, RequestContext context);
 
-  Map<String, Object> search(SearchDTO searchDTO, RequestContext context);
+  /**
+   * This method will search users without blocking the calling thread. The returned stage completes
+   * exceptionally with ProjectCommonException if the search fails.
+   *
+   * @param searchDTO search criteria
+   * @param context
+   * @return CompletionStage of the search result with count and content
+   */
+  CompletionStage<Map<String, Object>> searchAsync(SearchDTO searchDTO, RequestContext context);
+
+  /**
+   * Count the users matching the search without reading them.
+   *
+   * @param searchDTO search criteria
+   * @param context
+   * @return CompletionStage of the number of matching users
+   */
+  CompletionStage<Long> count(SearchDTO searchDTO, RequestContext context);
 
-  Map<String, Object> getEsUserById(String userId, RequestContext context);
+  /**
+   * This method will read a user from elastic search. The returned stage completes exceptionally
+   * with ProjectCommonException if the user is not found.
+   *
+   * @param userId User id.
+   * @param context
+   * @return CompletionStage of user details.
+   */
+  CompletionStage<Map<String, Object>> getEsUserById(String userId, RequestContext context);
 
   boolean updateUserDataToES(String identifier, Map<String, Object> data, RequestContext context);
 
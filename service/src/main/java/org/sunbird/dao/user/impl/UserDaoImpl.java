@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.text.MessageFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.sunbird.cassandra.CassandraOperation;
@@ -21,6 +22,7 @@ import org.sunbird.model.user.User;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
 import org.sunbird.util.ProjectUtil;
+import org.sunbird.util.user.UserProfileCache;
 import scala.concurrent.Future;
 
 /**
@@ -53,21 +55,24 @@ public class UserDaoImpl implements UserDao {
   @Override
   public Response updateUser(User user, RequestContext context) {
     Map<String, Object> map = mapper.convertValue(user, Map.class);
-    return cassandraOperation.updateRecord(KEY_SPACE_NAME, TABLE_NAME, map, context);
+    Response response = cassandraOperation.updateRecord(KEY_SPACE_NAME, TABLE_NAME, map, context);
+    UserProfileCache.getInstance().invalidate(user.getId());
+    return response;
   }
 
   @Override
   public Response updateUser(Map<String, Object> userMap, RequestContext context) {
-    return cassandraOperation.updateRecord(KEY_SPACE_NAME, TABLE_NAME, userMap, context);
+    Response response =
+        cassandraOperation.updateRecord(KEY_SPACE_NAME, TABLE_NAME, userMap, context);
+    // every change of a user goes through here: updates, merges, deletions and blocks
+    UserProfileCache.getInstance().invalidate((String) userMap.get(JsonKey.ID));
+    return response;
   }
 
   @Override
   public User getUserById(String userId, RequestContext context) {
-    Map<String, Object> user = getUserDetailsById(userId, context);
-    if (MapUtils.isNotEmpty(user)) {
-      return mapper.convertValue(user, User.class);
-    }
-    return null;
+    return cassandraOperation.getRecordObjById(
+        KEY_SPACE_NAME, TABLE_NAME, userId, User.class, context);
   }
 
   @Override
@@ -82,6 +87,22 @@ public class UserDaoImpl implements UserDao {
     return null;
   }
 
+  @Override
+  public CompletionStage<Map<String, Object>> getUserDetailsByIdAsync(
+      String userId, RequestContext context) {
+    return cassandraOperation
+        .getRecordByIdAsync(KEY_SPACE_NAME, TABLE_NAME, userId, null, context)
+        .thenApply(
+            response -> {
+              List<Map<String, Object>> responseList =
+                  (List<Map<String, Object>>) response.get(JsonKey.RESPONSE);
+              if (CollectionUtils.isNotEmpty(responseList)) {
+                return responseList.get(0);
+              }
+              return null;
+            });
+  }
+
   @Override
   public Response getUserPropertiesById(
       List<String> userIds, List<String> properties, RequestContext context) {
@@ -90,25 +111,46 @@ public class UserDaoImpl implements UserDao {
   }
 
   @Override
-  public Map<String, Object> search(SearchDTO searchDTO, RequestContext context) {
+  public CompletionStage<Map<String, Object>> searchAsync(
+      SearchDTO searchDTO, RequestContext context) {
     Future<Map<String, Object>> esResultF =
         esService.search(searchDTO, ProjectUtil.EsType.user.getTypeName(), context);
-    return (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(esResultF);
+    return ElasticSearchHelper.toCompletionStage(esResultF, "searchAsync", context);
   }
 
   @Override
-  public Map<String, Object> getEsUserById(String userId, RequestContext context) {
+  public CompletionStage<Long> count(SearchDTO searchDTO, RequestContext context) {
+    Future<Long> countF =
+        esService.count(searchDTO, ProjectUtil.EsType.user.getTypeName(), context);
+    return ElasticSearchHelper.toCompletionStage(countF, "count", context)
+        .thenApply(
+            count -> {
+              if (null == count) {
+                throw new ProjectCommonException(
+                    ResponseCode.serverError,
+                    ResponseCode.serverError.getErrorMessage(),
+                    ResponseCode.SERVER_ERROR.getResponseCode());
+              }
+              return count;
+            });
+  }
+
+  @Override
+  public CompletionStage<Map<String, Object>> getEsUserById(String userId, RequestContext context) {
     Future<Map<String, Object>> esResultF =
         esService.getDataByIdentifier(ProjectUtil.EsType.user.getTypeName(), userId, context);
-    Map<String, Object> esResult =
-        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(esResultF);
-    if (MapUtils.isEmpty(esResult)) {
-      throw new ProjectCommonException(
-          ResponseCode.resourceNotFound,
-          MessageFormat.format(ResponseCode.resourceNotFound.getErrorMessage(), JsonKey.USER),
-          ResponseCode.RESOURCE_NOT_FOUND.getResponseCode());
-    }
-    return esResult;
+    return ElasticSearchHelper.toCompletionStage(esResultF, "getEsUserById", context)
+        .thenApply(
+            esResult -> {
+              if (MapUtils.isEmpty(esResult)) {
+                throw new ProjectCommonException(
+                    ResponseCode.resourceNotFound,
+                    MessageFormat.format(
+                        ResponseCode.resourceNotFound.getErrorMessage(), JsonKey.USER),
+                    ResponseCode.RESOURCE_NOT_FOUND.getResponseCode());
+              }
+              return esResult;
+            });
   }
 
   @Override
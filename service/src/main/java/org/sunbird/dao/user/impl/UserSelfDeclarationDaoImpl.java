@@ -14,6 +14,7 @@ import org.sunbird.keys.JsonKey;
 import org.sunbird.model.user.UserDeclareEntity;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
+import org.sunbird.util.user.UserProfileCache;
 
 public class UserSelfDeclarationDaoImpl implements UserSelfDeclarationDao {
   private final CassandraOperation cassandraOperation = ServiceFactory.getInstance();
@@ -30,6 +31,7 @@ public class UserSelfDeclarationDaoImpl implements UserSelfDeclarationDao {
 
     cassandraOperation.insertRecord(
         JsonKey.SUNBIRD, JsonKey.USER_DECLARATION_DB, extIdMap, context);
+    UserProfileCache.getInstance().invalidate((String) extIdMap.get(JsonKey.USER_ID));
   }
 
   public List<Map<String, Object>> getUserSelfDeclaredFields(
@@ -65,6 +67,7 @@ public class UserSelfDeclarationDaoImpl implements UserSelfDeclarationDao {
         JsonKey.UPDATED_ON, new Timestamp(Calendar.getInstance().getTime().getTime()));
     cassandraOperation.updateRecord(
         JsonKey.SUNBIRD, JsonKey.USER_DECLARATION_DB, updateFieldsMap, compositeKey, context);
+    UserProfileCache.getInstance().invalidate(userDeclareEntity.getUserId());
     return userDeclareEntity;
   }
 
@@ -90,13 +93,17 @@ public class UserSelfDeclarationDaoImpl implements UserSelfDeclarationDao {
     properties.put(JsonKey.PERSONA, persona);
     cassandraOperation.deleteRecord(
         JsonKey.SUNBIRD, JsonKey.USER_DECLARATION_DB, properties, context);
+    UserProfileCache.getInstance().invalidate(userId);
   }
 
   public Response updateUserSelfDeclaredFields(
       Map<String, Object> updateFieldsMap,
       Map<String, Object> compositeKey,
       RequestContext context) {
-    return cassandraOperation.updateRecord(
-        JsonKey.SUNBIRD, JsonKey.USER_DECLARATION_DB, updateFieldsMap, compositeKey, context);
+    Response response =
+        cassandraOperation.updateRecord(
+            JsonKey.SUNBIRD, JsonKey.USER_DECLARATION_DB, updateFieldsMap, compositeKey, context);
+    UserProfileCache.getInstance().invalidate((String) compositeKey.get(JsonKey.USER_ID));
+    return response;
   }
 }
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import java.io.Serializable;
+import org.sunbird.cassandraannotation.PartitioningKey;
 
 /**
  * @desc POJO class for Location
@@ -15,7 +16,7 @@ public class Location implements Serializable {
 
   private static final long serialVersionUID = -7967252522327069670L;
 
-  private String id;
+  @PartitioningKey() private String id;
   private String code;
   private String name;
   private String type;
@@ -7,6 +7,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
+import org.sunbird.cassandraannotation.PartitioningKey;
 
 /**
  * @desc POJO class for Organisation
@@ -17,7 +18,7 @@ import java.util.Map;
 public class Organisation implements Serializable {
 
   private static final long serialVersionUID = 3617862727235741692L;
-  private String id;
+  @PartitioningKey() private String id;
   private String channel;
   private String contactDetail;
   private String createdBy;
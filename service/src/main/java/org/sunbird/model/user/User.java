@@ -9,6 +9,7 @@ import java.sql.Timestamp;
 import java.util.List;
 import java.util.Map;
 import org.codehaus.jackson.map.ObjectMapper;
+import org.sunbird.cassandraannotation.PartitioningKey;
 
 /**
  * @desc POJO class for User
@@ -20,7 +21,7 @@ public class User implements Serializable {
 
   private static final long serialVersionUID = 7529802960267784945L;
 
-  private String id;
+  @PartitioningKey() private String id;
   private String countryCode;
   private String createdBy;
   private String createdDate;
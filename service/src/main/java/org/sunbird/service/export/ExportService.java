@@ -0,0 +1,31 @@
+package org.sunbird.service.export;
+
+import java.util.List;
+import java.util.Map;
+import org.sunbird.request.RequestContext;
+import org.sunbird.util.ProjectUtil;
+import scala.concurrent.Future;
+
+public interface ExportService {
+
+  /**
+   * Method to read the next page of an export. Documents are read in the order of their id with
+   * search_after, so every page costs the same and an interrupted export can resume from the id of
+   * the last document it received. User documents are decrypted.
+   *
+   * @param type Index to export, user or organisation
+   * @param filters Search filters
+   * @param fields Fields to export, id is always exported. All fields when empty.
+   * @param checkpoint Id of the last document already exported, null to start from the beginning
+   * @param limit Number of documents in the page
+   * @param context
+   * @return Future of the documents of the page, empty once the export is complete
+   */
+  Future<List<Map<String, Object>>> readPage(
+      ProjectUtil.EsType type,
+      Map<String, Object> filters,
+      List<String> fields,
+      String checkpoint,
+      int limit,
+      RequestContext context);
+}
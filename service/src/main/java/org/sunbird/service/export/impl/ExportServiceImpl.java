@@ -0,0 +1,93 @@
+package org.sunbird.service.export.impl;
+
+import akka.dispatch.ExecutionContexts;
+import akka.dispatch.Mapper;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.common.ElasticSearchHelper;
+import org.sunbird.common.factory.EsClientFactory;
+import org.sunbird.common.inf.ElasticSearchService;
+import org.sunbird.dto.SearchDTO;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.request.RequestContext;
+import org.sunbird.service.export.ExportService;
+import org.sunbird.util.ProjectUtil;
+import org.sunbird.util.UserUtility;
+import scala.concurrent.Future;
+
+public class ExportServiceImpl implements ExportService {
+
+  private final LoggerUtil logger = new LoggerUtil(this.getClass());
+  private final ElasticSearchService esService = EsClientFactory.getInstance(JsonKey.REST);
+  private static ExportService exportService;
+
+  public static ExportService getInstance() {
+    if (exportService == null) {
+      exportService = new ExportServiceImpl();
+    }
+    return exportService;
+  }
+
+  @Override
+  public Future<List<Map<String, Object>>> readPage(
+      ProjectUtil.EsType type,
+      Map<String, Object> filters,
+      List<String> fields,
+      String checkpoint,
+      int limit,
+      RequestContext context) {
+    boolean isUser = ProjectUtil.EsType.user == type;
+    Map<String, Object> searchQueryMap = new HashMap<>();
+    searchQueryMap.put(JsonKey.FILTERS, new HashMap<>(filters));
+    if (isUser) {
+      UserUtility.encryptUserSearchFilterQueryData(searchQueryMap);
+    }
+    SearchDTO searchDTO = ElasticSearchHelper.createSearchDTO(searchQueryMap);
+    if (CollectionUtils.isNotEmpty(fields)) {
+      List<String> projection = new ArrayList<>(fields);
+      if (!projection.contains(JsonKey.ID)) {
+        projection.add(JsonKey.ID);
+      }
+      searchDTO.setFields(projection);
+    }
+    if (isUser) {
+      searchDTO.setExcludedFields(Arrays.asList(ProjectUtil.excludes));
+    }
+    searchDTO.setLimit(limit);
+    if (StringUtils.isBlank(checkpoint)) {
+      searchDTO.setCursorPagination(true);
+    } else {
+      // id.raw is sorted on its lower cased term
+      searchDTO.setCursor(
+          ElasticSearchHelper.createCursor(new Object[] {checkpoint.toLowerCase()}));
+    }
+    logger.debug(
+        context,
+        "ExportServiceImpl:readPage: reading " + limit + " " + type + " after " + checkpoint);
+    return esService
+        .search(searchDTO, type.getTypeName(), context)
+        .map(
+            new Mapper<Map<String, Object>, List<Map<String, Object>>>() {
+              @Override
+              public List<Map<String, Object>> apply(Map<String, Object> result) {
+                List<Map<String, Object>> content =
+                    (List<Map<String, Object>>) result.get(JsonKey.CONTENT);
+                if (isUser) {
+                  for (Map<String, Object> userMap : content) {
+                    UserUtility.decryptUserDataFrmES(userMap);
+                    userMap.remove(JsonKey.ENC_EMAIL);
+                    userMap.remove(JsonKey.ENC_PHONE);
+                  }
+                }
+                return content;
+              }
+            },
+            ExecutionContexts.global());
+  }
+}
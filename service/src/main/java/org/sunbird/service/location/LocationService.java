@@ -2,6 +2,7 @@ package org.sunbird.service.location;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import org.sunbird.model.location.Location;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
@@ -15,6 +16,14 @@ public interface LocationService {
 
   Response searchLocation(Map<String, Object> searchQueryMap, RequestContext context);
 
+  /**
+   * Search of the public location search API, answered from the search result cache unless
+   * bypassed. The returned stage completes exceptionally with ProjectCommonException if the search
+   * fails.
+   */
+  CompletionStage<Response> searchLocationWithCacheAsync(
+      Map<String, Object> searchQueryMap, boolean bypassCache, RequestContext context);
+
   List<Map<String, String>> getValidatedRelatedLocationIdAndType(
       List<String> codeList, RequestContext context);
 
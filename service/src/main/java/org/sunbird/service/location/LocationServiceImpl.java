@@ -2,6 +2,7 @@ package org.sunbird.service.location;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.*;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -15,6 +16,7 @@ import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
 import org.sunbird.util.DataCacheHandler;
 import org.sunbird.util.ProjectUtil;
+import org.sunbird.util.search.SearchResultCache;
 
 public class LocationServiceImpl implements LocationService {
   public static LocationService locationService = null;
@@ -45,6 +47,12 @@ public class LocationServiceImpl implements LocationService {
     return locationDao.search(searchQueryMap, context);
   }
 
+  @Override
+  public CompletionStage<Response> searchLocationWithCacheAsync(
+      Map<String, Object> searchQueryMap, boolean bypassCache, RequestContext context) {
+    return locationDao.searchWithCacheAsync(searchQueryMap, bypassCache, context);
+  }
+
   @Override
   public List<Map<String, String>> getValidatedRelatedLocationIdAndType(
       List<String> codeList, RequestContext context) {
@@ -183,14 +191,7 @@ public class LocationServiceImpl implements LocationService {
   }
 
   public Location getLocationById(String locationId, RequestContext context) {
-    Response response = locationDao.read(locationId, context);
-    List<Map<String, Object>> responseList =
-        (List<Map<String, Object>>) response.getResult().get(JsonKey.RESPONSE);
-    if (CollectionUtils.isNotEmpty(responseList)) {
-      ObjectMapper mapper = new ObjectMapper();
-      return mapper.convertValue(responseList.get(0), Location.class);
-    }
-    return null;
+    return locationDao.getLocationById(locationId, context);
   }
 
   @Override
@@ -202,6 +203,8 @@ public class LocationServiceImpl implements LocationService {
 
   @Override
   public String saveLocationToEs(String id, Map<String, Object> data, RequestContext context) {
-    return locationDao.saveLocationToEs(id, data, context);
+    String response = locationDao.saveLocationToEs(id, data, context);
+    SearchResultCache.getInstance().invalidate(ProjectUtil.EsType.location.getTypeName());
+    return response;
   }
 }
@@ -5,6 +5,7 @@ import java.util.*;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.sunbird.actor.core.ActorPatterns;
 import org.sunbird.common.ElasticSearchHelper;
 import org.sunbird.dao.organisation.OrgDao;
 import org.sunbird.dao.organisation.impl.OrgDaoImpl;
@@ -21,6 +22,7 @@ import org.sunbird.service.organisation.OrgExternalService;
 import org.sunbird.service.organisation.OrgService;
 import org.sunbird.util.ProjectUtil;
 import org.sunbird.util.PropertiesCache;
+import org.sunbird.util.search.SearchResultCache;
 import scala.concurrent.Future;
 
 public class OrgServiceImpl implements OrgService {
@@ -93,7 +95,8 @@ public class OrgServiceImpl implements OrgService {
       Map<String, Object> filters, RequestContext context) {
     Map<String, Object> searchRequestMap = new HashMap<>();
     searchRequestMap.put(JsonKey.FILTERS, filters);
-    Response response = orgDao.search(searchRequestMap, context);
+    // callers validate a request or process a bulk upload row with the result
+    Response response = ActorPatterns.join(orgDao.search(searchRequestMap, context));
 
     List<Map<String, Object>> orgResponseList = new ArrayList<>();
     if (response != null) {
@@ -292,7 +295,9 @@ public class OrgServiceImpl implements OrgService {
 
   @Override
   public String saveOrgToEs(String id, Map<String, Object> data, RequestContext context) {
-    return orgDao.saveOrgToEs(id, data, context);
+    String response = ActorPatterns.join(orgDao.saveOrgToEs(id, data, context));
+    SearchResultCache.getInstance().invalidate(ProjectUtil.EsType.organisation.getTypeName());
+    return response;
   }
 
   /**
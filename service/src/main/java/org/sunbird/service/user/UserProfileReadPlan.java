@@ -0,0 +1,79 @@
+package org.sunbird.service.user;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.operations.ActorOperations;
+import org.sunbird.util.Util;
+
+/**
+ * Plan of the lookups made by a user profile read. By default the requested fields are added to the
+ * full profile, so every lookup is made. When a projection is requested, only the requested fields
+ * are returned and the lookups which produce none of them are skipped, e.g. a read of
+ * firstName,roles reads neither the orgs nor the locations of the user.
+ */
+final class UserProfileReadPlan {
+
+  private static final Set<String> ALWAYS_RETURNED_FIELDS =
+      new HashSet<>(Arrays.asList(JsonKey.ID, JsonKey.IDENTIFIER, JsonKey.MANAGED_TOKEN));
+
+  private final boolean projection;
+  private final boolean readV5;
+  private final Set<String> fields;
+
+  UserProfileReadPlan(String readVersion, String requestFields, boolean projection) {
+    this.fields =
+        StringUtils.isBlank(requestFields)
+            ? Collections.emptySet()
+            : Arrays.stream(requestFields.split(","))
+                .map(String::trim)
+                .filter(StringUtils::isNotEmpty)
+                .collect(Collectors.toSet());
+    // Without fields there is nothing to project on, the full profile is read
+    this.projection = projection && !fields.isEmpty();
+    this.readV5 = ActorOperations.GET_USER_PROFILE_V5.getValue().equalsIgnoreCase(readVersion);
+  }
+
+  boolean isProjection() {
+    return projection;
+  }
+
+  /**
+   * The root org is returned as is, and whether it is found also decides which default user fields
+   * are returned.
+   */
+  boolean needsRootOrg() {
+    return !projection
+        || fields.contains(JsonKey.ROOT_ORG)
+        || !Collections.disjoint(fields, Util.getUserDefaultValue().keySet());
+  }
+
+  /** Roles are returned as is by v5 reads and within the organisations by older reads. */
+  boolean needsRoles() {
+    return !projection
+        || (readV5 ? fields.contains(JsonKey.ROLES) : fields.contains(JsonKey.ORGANISATIONS));
+  }
+
+  boolean needsOrganisations() {
+    return !projection || fields.contains(JsonKey.ORGANISATIONS);
+  }
+
+  /**
+   * Method to remove the fields which are not requested from a profile, if a projection is
+   * requested.
+   *
+   * @param profile User profile
+   */
+  void project(Map<String, Object> profile) {
+    if (projection) {
+      profile
+          .keySet()
+          .removeIf(field -> !fields.contains(field) && !ALWAYS_RETURNED_FIELDS.contains(field));
+    }
+  }
+}
@@ -2,13 +2,22 @@ package org.sunbird.service.user;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.text.MessageFormat;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.sunbird.actor.organisation.validator.OrgTypeValidator;
 import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.exception.ResponseCode;
@@ -25,11 +34,18 @@ import org.sunbird.service.organisation.OrgService;
 import org.sunbird.service.organisation.impl.OrgServiceImpl;
 import org.sunbird.service.user.impl.*;
 import org.sunbird.util.*;
+import org.sunbird.util.cache.CacheUtil;
+import org.sunbird.util.user.UserProfileCache;
+import org.sunbird.util.user.UserProfileReadMetrics;
 import org.sunbird.util.user.UserTncUtil;
 import org.sunbird.util.user.UserUtil;
 
 public class UserProfileReadService {
 
+  private static final int DEFAULT_POOL_SIZE = 32;
+  private static final int DEFAULT_QUEUE_SIZE = 1000;
+  private static final ThreadPoolExecutor executor = createExecutor();
+
   private final LoggerUtil logger = new LoggerUtil(UserProfileReadService.class);
   private final UserService userService = UserServiceImpl.getInstance();
   private final OrgService orgService = OrgServiceImpl.getInstance();
@@ -39,82 +55,59 @@ public class UserProfileReadService {
   private final UserSelfDeclarationService userSelfDeclarationService =
       UserSelfDeclarationServiceImpl.getInstance();
   private final UserExternalIdentityService userExternalIdentityService =
-    UserExternalIdentityServiceImpl.getInstance();
+      UserExternalIdentityServiceImpl.getInstance();
   private final ObjectMapper mapper = new ObjectMapper();
+  private final UserProfileCache profileCache = UserProfileCache.getInstance();
 
   public Response getUserProfileData(Request actorMessage) {
+    long startTime = System.currentTimeMillis();
     String id = (String) actorMessage.getRequest().get(JsonKey.USER_ID);
     String idType = (String) actorMessage.getContext().get(JsonKey.ID_TYPE);
     String provider = (String) actorMessage.getContext().get(JsonKey.PROVIDER);
     boolean isPrivate = (boolean) actorMessage.getContext().get(JsonKey.PRIVATE);
     String readVersion = actorMessage.getOperation();
-    String userId;
+    RequestContext context = actorMessage.getRequestContext();
     // Check whether its normal read by id call or read by externalId call
     validateProviderAndIdType(provider, idType);
-    if (StringUtils.isNotBlank(provider)) {
-      userId = getUserIdByExternalId(actorMessage, id, idType, provider);
-    } else {
-      userId = id;
-    }
-    Map<String, Object> result =
-        validateUserIdAndGetUserDetails(userId, actorMessage.getRequestContext());
-    appendUserTypeAndLocation(result, actorMessage);
-    Map<String, Object> rootOrg =
-        orgService.getOrgById(
-            (String) result.get(JsonKey.ROOT_ORG_ID), actorMessage.getRequestContext());
-    if (MapUtils.isNotEmpty(rootOrg)
-        && (readVersion.equalsIgnoreCase(ActorOperations.GET_USER_PROFILE_V4.getValue())
-            || readVersion.equalsIgnoreCase(ActorOperations.GET_USER_PROFILE_V5.getValue()))) {
-      Util.getOrgDefaultValue().keySet().forEach(rootOrg::remove);
-      Util.getUserDefaultValue().keySet().forEach(result::remove);
-    } else {
-      result.putAll(Util.getUserDefaultValue());
-    }
-
-    OrgTypeValidator.getInstance().updateOrganisationTypeFlags(rootOrg);
-    result.put(JsonKey.ROOT_ORG, rootOrg);
-    Map<String, List<String>> userOrgRoles = null;
-    List<Map<String, Object>> userRolesList =
-        userRoleService.getUserRoles(userId, actorMessage.getRequestContext());
-    if (readVersion.equalsIgnoreCase(ActorOperations.GET_USER_PROFILE_V5.getValue())) {
-      result.put(JsonKey.ROLES, userRolesList);
-    } else {
-      result.remove(JsonKey.ROLES);
-      userOrgRoles = getUserOrgRoles(userRolesList);
-    }
-    result.put(
-        JsonKey.ORGANISATIONS,
-        fetchUserOrgList(
-            (String) result.get(JsonKey.ID), userOrgRoles, actorMessage.getRequestContext()));
+    String userId =
+        StringUtils.isNotBlank(provider)
+            ? getUserIdByExternalId(actorMessage, id, idType, provider)
+            : id;
     String requestedById =
         (String) actorMessage.getContext().getOrDefault(JsonKey.REQUESTED_BY, "");
     String managedForId = (String) actorMessage.getContext().getOrDefault(JsonKey.MANAGED_FOR, "");
-    String managedBy = (String) result.get(JsonKey.MANAGED_BY);
-    logger.debug(
-        actorMessage.getRequestContext(),
-        "requested By and requested user id == "
-            + requestedById
-            + "  "
-            + userId
-            + " managedForId= "
-            + managedForId
-            + " managedBy "
-            + managedBy);
-    if (!isPrivate && StringUtils.isNotEmpty(managedBy) && !managedBy.equals(requestedById)) {
-      ProjectCommonException.throwUnauthorizedErrorException();
-    }
-    getManagedToken(actorMessage, userId, result, managedBy);
     String requestFields = (String) actorMessage.getContext().get(JsonKey.FIELDS);
-    if (StringUtils.isNotBlank(userId)
-        && (userId.equalsIgnoreCase(requestedById) || userId.equalsIgnoreCase(managedForId))
-        && StringUtils.isBlank(requestFields)) {
-      result.put(
-          JsonKey.EXTERNAL_IDS,
-          fetchUserExternalIdentity(userId, result, true, actorMessage.getRequestContext()));
-    }
-    if (StringUtils.isNotBlank((String) actorMessage.getContext().get(JsonKey.FIELDS))) {
-      addExtraFieldsInUserProfileResponse(result, requestFields, actorMessage.getRequestContext());
+    boolean withExternalIds =
+        StringUtils.isNotBlank(userId)
+            && (userId.equalsIgnoreCase(requestedById) || userId.equalsIgnoreCase(managedForId))
+            && StringUtils.isBlank(requestFields);
+    UserProfileReadPlan plan =
+        new UserProfileReadPlan(
+            readVersion,
+            requestFields,
+            Boolean.parseBoolean((String) actorMessage.getContext().get(JsonKey.PROJECTION)));
+    String variant =
+        UserProfileCache.getVariant(
+            readVersion, requestFields, plan.isProjection(), withExternalIds);
+    Map<String, Long> stageTimes = new ConcurrentHashMap<>();
+    // Cached profiles are not decrypted yet, the steps below are made on every read
+    Map<String, Object> result =
+        profileCache.get(userId, variant, CacheUtil.isBypassed(actorMessage.getContext()));
+    if (null == result) {
+      long generation = profileCache.getGeneration(userId);
+      result =
+          readUserProfile(
+              actorMessage, userId, requestedById, managedForId, withExternalIds, plan, stageTimes);
+      profileCache.put(userId, variant, result, generation);
+    } else {
+      validateManagedBy(isPrivate, (String) result.get(JsonKey.MANAGED_BY), requestedById);
     }
+    String managedBy = (String) result.get(JsonKey.MANAGED_BY);
+    appendManagedToken(
+        actorMessage,
+        result,
+        managedBy,
+        fetchEncryptedToken(actorMessage, userId, result, managedBy, stageTimes));
     String encEmail = (String) result.get(JsonKey.EMAIL);
     String encPhone = (String) result.get(JsonKey.PHONE);
 
@@ -135,12 +128,245 @@ public class UserProfileReadService {
     appendMinorFlag(result);
     // For Backward compatibility , In ES we were sending identifier field
     result.put(JsonKey.IDENTIFIER, userId);
+    plan.project(result);
 
+    long elapsedTime = System.currentTimeMillis() - startTime;
+    UserProfileReadMetrics.getInstance().recordLatency(UserProfileReadMetrics.TOTAL, elapsedTime);
+    logger.debug(
+        context,
+        "UserProfileReadService:getUserProfileData: total time = "
+            + elapsedTime
+            + " stage times = "
+            + stageTimes);
     Response response = new Response();
     response.put(JsonKey.RESPONSE, result);
     return response;
   }
 
+  /**
+   * Reads the profile of a user as it is cached: the user and its orgs, roles, locations and
+   * requested fields, without the managed token and before the personal data is decrypted. The
+   * lookups which are not needed by the plan of the read are not made.
+   */
+  private Map<String, Object> readUserProfile(
+      Request actorMessage,
+      String userId,
+      String requestedById,
+      String managedForId,
+      boolean withExternalIds,
+      UserProfileReadPlan plan,
+      Map<String, Long> stageTimes) {
+    boolean isPrivate = (boolean) actorMessage.getContext().get(JsonKey.PRIVATE);
+    String readVersion = actorMessage.getOperation();
+    String requestFields = (String) actorMessage.getContext().get(JsonKey.FIELDS);
+    RequestContext context = actorMessage.getRequestContext();
+    Map<String, Object> result =
+        timed(
+            UserProfileReadMetrics.USER,
+            stageTimes,
+            () -> validateUserIdAndGetUserDetails(userId, context));
+    appendUserTypeAndLocation(result, actorMessage);
+    String managedBy = (String) result.get(JsonKey.MANAGED_BY);
+    logger.debug(
+        context,
+        "requested By and requested user id == "
+            + requestedById
+            + "  "
+            + userId
+            + " managedForId= "
+            + managedForId
+            + " managedBy "
+            + managedBy);
+    validateManagedBy(isPrivate, managedBy, requestedById);
+
+    // Once the user is known, the remaining lookups do not depend on each other and are made
+    // concurrently. They get the fields of the user they need as locals, since the user map is
+    // updated by this thread while they run.
+    String id = (String) result.get(JsonKey.ID);
+    String rootOrgId = (String) result.get(JsonKey.ROOT_ORG_ID);
+    String channel = (String) result.get(JsonKey.CHANNEL);
+    CompletableFuture<Map<String, Object>> rootOrgF = null;
+    if (plan.needsRootOrg()) {
+      rootOrgF =
+          supplyAsync(
+              UserProfileReadMetrics.ROOT_ORG,
+              stageTimes,
+              () -> orgService.getOrgById(rootOrgId, context));
+    }
+    CompletableFuture<List<Map<String, Object>>> userRolesF = null;
+    if (plan.needsRoles()) {
+      userRolesF =
+          supplyAsync(
+              UserProfileReadMetrics.ROLES,
+              stageTimes,
+              () -> userRoleService.getUserRoles(userId, context));
+    }
+    CompletableFuture<List<Map<String, Object>>> userOrgsF = null;
+    if (plan.needsOrganisations()) {
+      userOrgsF =
+          supplyAsync(
+              UserProfileReadMetrics.ORGANISATIONS,
+              stageTimes,
+              () -> fetchUserOrgList(id, context));
+    }
+    CompletableFuture<List<Map<String, String>>> externalIdsF = null;
+    if (withExternalIds) {
+      externalIdsF =
+          supplyAsync(
+              UserProfileReadMetrics.EXTERNAL_IDS,
+              stageTimes,
+              () -> fetchUserExternalIdentity(userId, rootOrgId, channel, true, context));
+    }
+    CompletableFuture<List<Map<String, Object>>> userLocationsF = null;
+    CompletableFuture<List<Map<String, Object>>> declarationsF = null;
+    if (StringUtils.isNotBlank(requestFields)) {
+      if (null != userOrgsF && requestFields.contains(JsonKey.ORGANISATIONS)) {
+        userOrgsF =
+            userOrgsF.thenApplyAsync(
+                userOrgs ->
+                    timed(
+                        UserProfileReadMetrics.ORGANISATION_DETAILS,
+                        stageTimes,
+                        () -> {
+                          updateUserOrgInfo(userOrgs, context);
+                          return userOrgs;
+                        }),
+                executor);
+      }
+      List<Map<String, String>> userLocList =
+          (List<Map<String, String>>) result.get(JsonKey.PROFILE_LOCATION);
+      if (requestFields.contains(JsonKey.LOCATIONS) && CollectionUtils.isNotEmpty(userLocList)) {
+        List<String> locationIds =
+            userLocList.stream().map(m -> m.get(JsonKey.ID)).collect(Collectors.toList());
+        userLocationsF =
+            supplyAsync(
+                UserProfileReadMetrics.LOCATIONS,
+                stageTimes,
+                () -> getUserLocations(locationIds, context));
+      }
+      if (requestFields.contains(JsonKey.DECLARATIONS)) {
+        declarationsF =
+            supplyAsync(
+                UserProfileReadMetrics.DECLARATIONS,
+                stageTimes,
+                () -> userSelfDeclarationService.fetchUserDeclarations(id, context));
+      }
+      if (CollectionUtils.isEmpty((List<Map<String, String>>) result.get(JsonKey.EXTERNAL_IDS))
+          && requestFields.contains(JsonKey.EXTERNAL_IDS)) {
+        externalIdsF =
+            supplyAsync(
+                UserProfileReadMetrics.EXTERNAL_IDS,
+                stageTimes,
+                () -> fetchUserExternalIdentity(id, rootOrgId, channel, false, context));
+      }
+    }
+
+    if (null != rootOrgF) {
+      Map<String, Object> rootOrg = join(rootOrgF);
+      if (MapUtils.isNotEmpty(rootOrg)
+          && (readVersion.equalsIgnoreCase(ActorOperations.GET_USER_PROFILE_V4.getValue())
+              || readVersion.equalsIgnoreCase(ActorOperations.GET_USER_PROFILE_V5.getValue()))) {
+        Util.getOrgDefaultValue().keySet().forEach(rootOrg::remove);
+        Util.getUserDefaultValue().keySet().forEach(result::remove);
+      } else {
+        result.putAll(Util.getUserDefaultValue());
+      }
+
+      OrgTypeValidator.getInstance().updateOrganisationTypeFlags(rootOrg);
+      result.put(JsonKey.ROOT_ORG, rootOrg);
+    }
+    Map<String, List<String>> userOrgRoles = null;
+    if (readVersion.equalsIgnoreCase(ActorOperations.GET_USER_PROFILE_V5.getValue())) {
+      if (null != userRolesF) {
+        result.put(JsonKey.ROLES, join(userRolesF));
+      }
+    } else {
+      result.remove(JsonKey.ROLES);
+      if (null != userRolesF) {
+        userOrgRoles = getUserOrgRoles(join(userRolesF));
+      }
+    }
+    if (null != userOrgsF) {
+      result.put(JsonKey.ORGANISATIONS, addUserOrgRoles(join(userOrgsF), userOrgRoles));
+    }
+    if (StringUtils.isNotBlank(requestFields)) {
+      addExtraFieldsInUserProfileResponse(
+          result, requestFields, userLocationsF, declarationsF, context);
+    }
+    if (null != externalIdsF) {
+      result.put(JsonKey.EXTERNAL_IDS, join(externalIdsF));
+    }
+    return result;
+  }
+
+  private void validateManagedBy(boolean isPrivate, String managedBy, String requestedById) {
+    if (!isPrivate && StringUtils.isNotEmpty(managedBy) && !managedBy.equals(requestedById)) {
+      ProjectCommonException.throwUnauthorizedErrorException();
+    }
+  }
+
+  /**
+   * Runs a lookup of the profile read on the executor of profile reads, timing it as the given
+   * stage.
+   */
+  private <T> CompletableFuture<T> supplyAsync(
+      String stage, Map<String, Long> stageTimes, Supplier<T> supplier) {
+    return CompletableFuture.supplyAsync(() -> timed(stage, stageTimes, supplier), executor);
+  }
+
+  private static <T> T timed(String stage, Map<String, Long> stageTimes, Supplier<T> supplier) {
+    long startTime = System.currentTimeMillis();
+    try {
+      return supplier.get();
+    } finally {
+      long elapsedTime = System.currentTimeMillis() - startTime;
+      stageTimes.put(stage, elapsedTime);
+      UserProfileReadMetrics.getInstance().recordLatency(stage, elapsedTime);
+    }
+  }
+
+  /** Waits for a lookup, throwing the exception it failed with as it would have been thrown. */
+  private static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Creates the bounded executor on which the lookups of profile reads are made. Lookups are made
+   * by the caller when the queue is full, so a busy service falls back to sequential reads instead
+   * of failing them.
+   */
+  private static ThreadPoolExecutor createExecutor() {
+    int poolSize =
+        NumberUtils.toInt(
+            ProjectUtil.getConfigValue(JsonKey.SUNBIRD_USER_PROFILE_READ_POOL_SIZE),
+            DEFAULT_POOL_SIZE);
+    int queueSize =
+        NumberUtils.toInt(
+            ProjectUtil.getConfigValue(JsonKey.SUNBIRD_USER_PROFILE_READ_QUEUE_SIZE),
+            DEFAULT_QUEUE_SIZE);
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(queueSize),
+            new ThreadFactoryBuilder()
+                .setNameFormat("user-profile-read-%d")
+                .setDaemon(true)
+                .build(),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
   private Map<String, List<String>> getUserOrgRoles(List<Map<String, Object>> userRolesList) {
     Map<String, List<String>> userOrgRoles = new HashMap<>();
     for (Map userRole : userRolesList) {
@@ -249,35 +475,48 @@ public class UserProfileReadService {
     userDetails.putAll(userFlagMap);
   }
 
-  private Map<String, Object> getManagedToken(
-      Request actorMessage, String userId, Map<String, Object> result, String managedBy) {
+  private CompletableFuture<Map<String, Object>> fetchEncryptedToken(
+      Request actorMessage,
+      String userId,
+      Map<String, Object> result,
+      String managedBy,
+      Map<String, Long> stageTimes) {
     boolean withTokens =
         Boolean.parseBoolean((String) actorMessage.getContext().get(JsonKey.WITH_TOKENS));
+    String managedToken = (String) actorMessage.getContext().get(JsonKey.MANAGED_TOKEN);
+    if (!withTokens || StringUtils.isEmpty(managedBy) || StringUtils.isNotEmpty(managedToken)) {
+      return null;
+    }
+    logger.debug(
+        actorMessage.getRequestContext(),
+        "UserProfileReadService: getUserProfileData: calling token generation for: " + userId);
+    // Fetch encrypted token from admin utils
+    return supplyAsync(
+        UserProfileReadMetrics.MANAGED_TOKEN,
+        stageTimes,
+        () ->
+            userService.fetchEncryptedToken(
+                managedBy, Collections.singletonList(result), actorMessage.getRequestContext()));
+  }
 
-    if (withTokens && StringUtils.isNotEmpty(managedBy)) {
-      String managedToken = (String) actorMessage.getContext().get(JsonKey.MANAGED_TOKEN);
-      if (StringUtils.isEmpty(managedToken)) {
-        logger.debug(
-            actorMessage.getRequestContext(),
-            "UserProfileReadService: getUserProfileData: calling token generation for: " + userId);
-        List<Map<String, Object>> userList = new ArrayList<>();
-        userList.add(result);
-        // Fetch encrypted token from admin utils
-        Map<String, Object> encryptedTokenList =
-            userService.fetchEncryptedToken(managedBy, userList, actorMessage.getRequestContext());
-        // encrypted token for each managedUser in respList
-        userService.appendEncryptedToken(
-            encryptedTokenList, userList, actorMessage.getRequestContext());
-        result = userList.get(0);
-      } else {
-        result.put(JsonKey.MANAGED_TOKEN, managedToken);
-      }
+  private void appendManagedToken(
+      Request actorMessage,
+      Map<String, Object> result,
+      String managedBy,
+      CompletableFuture<Map<String, Object>> encryptedTokenF) {
+    if (null != encryptedTokenF) {
+      List<Map<String, Object>> userList = new ArrayList<>();
+      userList.add(result);
+      // encrypted token for each managedUser in respList
+      userService.appendEncryptedToken(
+          join(encryptedTokenF), userList, actorMessage.getRequestContext());
+    } else if (Boolean.parseBoolean((String) actorMessage.getContext().get(JsonKey.WITH_TOKENS))
+        && StringUtils.isNotEmpty(managedBy)) {
+      result.put(JsonKey.MANAGED_TOKEN, actorMessage.getContext().get(JsonKey.MANAGED_TOKEN));
     }
-    return result;
   }
 
-  private List<Map<String, Object>> fetchUserOrgList(
-      String userId, Map<String, List<String>> userOrgRoles, RequestContext requestContext) {
+  private List<Map<String, Object>> fetchUserOrgList(String userId, RequestContext requestContext) {
     List<Map<String, Object>> usrOrgList = new ArrayList<>();
     List<Map<String, Object>> userOrgList =
         userOrgService.getUserOrgListByUserId(userId, requestContext);
@@ -286,14 +525,23 @@ public class UserProfileReadService {
       if (null == isDeleted || (!isDeleted.booleanValue())) {
         updateAssociationMechanism(userOrg);
         userOrg.remove(JsonKey.ROLES);
+        usrOrgList.add(userOrg);
+      }
+    }
+    return usrOrgList;
+  }
+
+  private List<Map<String, Object>> addUserOrgRoles(
+      List<Map<String, Object>> userOrgList, Map<String, List<String>> userOrgRoles) {
+    if (MapUtils.isNotEmpty(userOrgRoles)) {
+      for (Map<String, Object> userOrg : userOrgList) {
         String organisationId = (String) userOrg.get(JsonKey.ORGANISATION_ID);
-        if (MapUtils.isNotEmpty(userOrgRoles) && userOrgRoles.containsKey(organisationId)) {
+        if (userOrgRoles.containsKey(organisationId)) {
           userOrg.put(JsonKey.ROLES, userOrgRoles.get(organisationId));
         }
-        usrOrgList.add(userOrg);
       }
     }
-    return usrOrgList;
+    return userOrgList;
   }
 
   private void updateAssociationMechanism(Map<String, Object> userOrg) {
@@ -395,12 +643,24 @@ public class UserProfileReadService {
 
   public List<Map<String, String>> fetchUserExternalIdentity(
       String userId, Map<String, Object> user, boolean mergeDeclarations, RequestContext context) {
+    return fetchUserExternalIdentity(
+        userId,
+        (String) user.get(JsonKey.ROOT_ORG_ID),
+        (String) user.get(JsonKey.CHANNEL),
+        mergeDeclarations,
+        context);
+  }
+
+  private List<Map<String, String>> fetchUserExternalIdentity(
+      String userId,
+      String rootOrgId,
+      String provider,
+      boolean mergeDeclarations,
+      RequestContext context) {
     try {
       List<Map<String, String>> dbResExternalIds =
           userExternalIdentityService.getExternalIds(userId, mergeDeclarations, context);
       // update orgId to provider in externalIds
-      String rootOrgId = (String) user.get(JsonKey.ROOT_ORG_ID);
-      String provider = (String) user.get(JsonKey.CHANNEL);
       updateExternalIdsOrgIdWithProvider(dbResExternalIds, rootOrgId, provider, context);
       return dbResExternalIds;
     } catch (Exception ex) {
@@ -433,54 +693,38 @@ public class UserProfileReadService {
     }
   }
 
-  public void addExtraFieldsInUserProfileResponse(
-      Map<String, Object> result, String fields, RequestContext context) {
-    if (!StringUtils.isBlank(fields)) {
-      result.put(JsonKey.LAST_LOGIN_TIME, Long.parseLong("0"));
-      if (fields.contains(JsonKey.TOPIC)) {
-        result.put(JsonKey.TOPICS, new HashSet<>());
-      }
-      if (fields.contains(JsonKey.ROLES)) {
-        result.put(JsonKey.ROLE_LIST, DataCacheHandler.getUserReadRoleList());
-      }
-      if (fields.contains(JsonKey.ORGANISATIONS)) {
-        updateUserOrgInfo((List) result.get(JsonKey.ORGANISATIONS), context);
-      }
-      if (fields.contains(JsonKey.LOCATIONS)) {
-        List<Map<String, String>> userLocList =
-            (List<Map<String, String>>) result.get(JsonKey.PROFILE_LOCATION);
-        if (CollectionUtils.isNotEmpty(userLocList)) {
-          List<String> locationIds =
-              userLocList.stream().map(m -> m.get(JsonKey.ID)).collect(Collectors.toList());
-          List<Map<String, Object>> userLocations = getUserLocations(locationIds, context);
-          if (CollectionUtils.isNotEmpty(userLocations)) {
-            result.put(JsonKey.USER_LOCATIONS, userLocations);
-            // For adding school, request need to have fields=locations,organisations, as externalid
-            // id is populated with this request only
-            if (fields.contains(JsonKey.ORGANISATIONS)) {
-              try {
-                addSchoolLocation(result, context);
-              } catch (Exception e) {
-                logger.error("Not able to fetch school details in user read - user location", e);
-              }
-            }
-            result.remove(JsonKey.LOCATION_IDS);
-            result.remove(JsonKey.PROFILE_LOCATION);
+  private void addExtraFieldsInUserProfileResponse(
+      Map<String, Object> result,
+      String fields,
+      CompletableFuture<List<Map<String, Object>>> userLocationsF,
+      CompletableFuture<List<Map<String, Object>>> declarationsF,
+      RequestContext context) {
+    result.put(JsonKey.LAST_LOGIN_TIME, Long.parseLong("0"));
+    if (fields.contains(JsonKey.TOPIC)) {
+      result.put(JsonKey.TOPICS, new HashSet<>());
+    }
+    if (fields.contains(JsonKey.ROLES)) {
+      result.put(JsonKey.ROLE_LIST, DataCacheHandler.getUserReadRoleList());
+    }
+    if (null != userLocationsF) {
+      List<Map<String, Object>> userLocations = join(userLocationsF);
+      if (CollectionUtils.isNotEmpty(userLocations)) {
+        result.put(JsonKey.USER_LOCATIONS, userLocations);
+        // For adding school, request need to have fields=locations,organisations, as externalid
+        // id is populated with this request only
+        if (fields.contains(JsonKey.ORGANISATIONS)) {
+          try {
+            addSchoolLocation(result, context);
+          } catch (Exception e) {
+            logger.error("Not able to fetch school details in user read - user location", e);
           }
         }
+        result.remove(JsonKey.LOCATION_IDS);
+        result.remove(JsonKey.PROFILE_LOCATION);
       }
-      if (fields.contains(JsonKey.DECLARATIONS)) {
-        List<Map<String, Object>> declarations =
-            userSelfDeclarationService.fetchUserDeclarations(
-                (String) result.get(JsonKey.ID), context);
-        result.put(JsonKey.DECLARATIONS, declarations);
-      }
-      if (CollectionUtils.isEmpty((List<Map<String, String>>) result.get(JsonKey.EXTERNAL_IDS))
-          && fields.contains(JsonKey.EXTERNAL_IDS)) {
-        List<Map<String, String>> resExternalIds =
-            fetchUserExternalIdentity((String) result.get(JsonKey.ID), result, false, context);
-        result.put(JsonKey.EXTERNAL_IDS, resExternalIds);
-      }
+    }
+    if (null != declarationsF) {
+      result.put(JsonKey.DECLARATIONS, join(declarationsF));
     }
   }
 
@@ -611,7 +855,9 @@ public class UserProfileReadService {
         if (null != orgInfo.get(JsonKey.ORGANISATION_TYPE)) {
           int orgType = (int) orgInfo.get(JsonKey.ORGANISATION_TYPE);
           boolean isSchool =
-              (orgType == OrgTypeValidator.getInstance().getValueByType(JsonKey.ORG_TYPE_SCHOOL)) ? true : false;
+              (orgType == OrgTypeValidator.getInstance().getValueByType(JsonKey.ORG_TYPE_SCHOOL))
+                  ? true
+                  : false;
           usrOrg.put(JsonKey.IS_SCHOOL, isSchool);
         }
         if (MapUtils.isNotEmpty(locationInfoMap)) {
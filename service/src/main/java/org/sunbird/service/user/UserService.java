@@ -3,6 +3,7 @@ package org.sunbird.service.user;
 import akka.actor.ActorRef;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import org.sunbird.dto.SearchDTO;
 import org.sunbird.model.user.User;
 import org.sunbird.request.Request;
@@ -23,7 +24,8 @@ public interface UserService {
 
   void validateUploader(Request request, RequestContext context);
 
-  Map<String, Object> esGetPublicUserProfileById(String userId, RequestContext context);
+  CompletionStage<Map<String, Object>> esGetPublicUserProfileById(
+      String userId, RequestContext context);
 
   List<String> generateUsernames(
       String name, List<String> excludedUsernames, RequestContext context);
@@ -45,7 +47,7 @@ public interface UserService {
 
   String getUserIdByUserLookUp(String key, String value, RequestContext context);
 
-  Response saveUserAttributes(
+  CompletionStage<Response> saveUserAttributesAsync(
       Map<String, Object> userMap, ActorRef actorRef, RequestContext context);
 
   String getDecryptedEmailPhoneByUserId(String userId, String type, RequestContext context);
@@ -56,7 +58,9 @@ public interface UserService {
   List<Map<String, Object>> getUserEmailsBySearchQuery(
       Map<String, Object> searchQuery, RequestContext context);
 
-  Map<String, Object> searchUser(SearchDTO searchDTO, RequestContext context);
+  CompletionStage<Map<String, Object>> searchUserAsync(SearchDTO searchDTO, RequestContext context);
+
+  long countUser(SearchDTO searchDTO, RequestContext context);
 
   boolean updateUserDataToES(String identifier, Map<String, Object> data, RequestContext context);
 
@@ -1,17 +1,16 @@
 package org.sunbird.service.user.impl;
 
 import akka.actor.ActorRef;
-import akka.pattern.Patterns;
-import akka.util.Timeout;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.text.MessageFormat;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.sunbird.actor.core.ActorPatterns;
 import org.sunbird.common.ElasticSearchHelper;
 import org.sunbird.dao.user.UserDao;
 import org.sunbird.dao.user.UserLookupDao;
@@ -37,11 +36,9 @@ import org.sunbird.service.user.UserRoleService;
 import org.sunbird.service.user.UserService;
 import org.sunbird.util.*;
 import org.sunbird.util.user.ProfileUtil;
+import org.sunbird.util.user.UserProfileCache;
 import org.sunbird.util.user.UserTncUtil;
 import org.sunbird.util.user.UserUtil;
-import scala.concurrent.Await;
-import scala.concurrent.Future;
-import scala.concurrent.duration.Duration;
 
 public class UserServiceImpl implements UserService {
 
@@ -92,8 +89,12 @@ public class UserServiceImpl implements UserService {
           MessageFormat.format(ResponseCode.resourceNotFound.getErrorMessage(), JsonKey.USER));
     }
     if (user.get(JsonKey.PROFILE_DETAILS) != null) {
-      logger.debug(context, "getUserDetailsById :: read Profile details String is :: " + user.get(JsonKey.PROFILE_DETAILS).toString());
-      user.put(JsonKey.PROFILE_DETAILS, ProfileUtil.toMap(user.get(JsonKey.PROFILE_DETAILS).toString()));
+      logger.debug(
+          context,
+          "getUserDetailsById :: read Profile details String is :: "
+              + user.get(JsonKey.PROFILE_DETAILS).toString());
+      user.put(
+          JsonKey.PROFILE_DETAILS, ProfileUtil.toMap(user.get(JsonKey.PROFILE_DETAILS).toString()));
     }
     user.putAll(Util.getUserDefaultValue());
     return user;
@@ -132,7 +133,8 @@ public class UserServiceImpl implements UserService {
   }
 
   @Override
-  public Map<String, Object> esGetPublicUserProfileById(String userId, RequestContext context) {
+  public CompletionStage<Map<String, Object>> esGetPublicUserProfileById(
+      String userId, RequestContext context) {
     return userDao.getEsUserById(userId, context);
   }
 
@@ -312,21 +314,23 @@ public class UserServiceImpl implements UserService {
         .collect(Collectors.toList());
   }
 
-  public Response saveUserAttributes(
+  public CompletionStage<Response> saveUserAttributesAsync(
       Map<String, Object> userMap, ActorRef actorRef, RequestContext context) {
     Request request = new Request();
     request.setRequestContext(context);
     request.setOperation(ActorOperations.SAVE_USER_ATTRIBUTES.getValue());
     request.getRequest().putAll(userMap);
     logger.info(context, "saveUserAttributes");
-    try {
-      Timeout t = new Timeout(Duration.create(10, TimeUnit.SECONDS));
-      Future<Object> future = Patterns.ask(actorRef, request, t);
-      return (Response) Await.result(future, t.duration());
-    } catch (Exception e) {
-      logger.error(context, e.getMessage(), e);
-    }
-    return null;
+    return ActorPatterns.ask(actorRef, request)
+        .handle(
+            (result, error) -> {
+              if (null != error) {
+                Throwable cause = ActorPatterns.unwrap(error);
+                logger.error(context, cause.getMessage(), cause);
+                return null;
+              }
+              return (Response) result;
+            });
   }
 
   /**
@@ -389,8 +393,10 @@ public class UserServiceImpl implements UserService {
   public List<Map<String, Object>> getUserEmailsBySearchQuery(
       Map<String, Object> searchQuery, RequestContext context) {
     List<Map<String, Object>> usersList = new ArrayList<>();
+    // the notification is sent to the users found, so they are needed before going on
     Map<String, Object> esResult =
-        searchUser(ElasticSearchHelper.createSearchDTO(searchQuery), context);
+        ActorPatterns.join(
+            searchUserAsync(ElasticSearchHelper.createSearchDTO(searchQuery), context));
     if (MapUtils.isNotEmpty(esResult)
         && CollectionUtils.isNotEmpty((List) esResult.get(JsonKey.CONTENT))) {
       usersList = (List<Map<String, Object>>) esResult.get(JsonKey.CONTENT);
@@ -413,18 +419,27 @@ public class UserServiceImpl implements UserService {
   }
 
   @Override
-  public Map<String, Object> searchUser(SearchDTO searchDTO, RequestContext context) {
-    return userDao.search(searchDTO, context);
+  public CompletionStage<Map<String, Object>> searchUserAsync(
+      SearchDTO searchDTO, RequestContext context) {
+    return userDao.searchAsync(searchDTO, context);
+  }
+
+  @Override
+  public long countUser(SearchDTO searchDTO, RequestContext context) {
+    // callers validate a request with the count before going on with it
+    return ActorPatterns.join(userDao.count(searchDTO, context));
   }
 
   @Override
   public boolean updateUserDataToES(
       String identifier, Map<String, Object> data, RequestContext context) {
+    UserProfileCache.getInstance().invalidate(identifier);
     return userDao.updateUserDataToES(identifier, data, context);
   }
 
   @Override
   public String saveUserToES(String identifier, Map<String, Object> data, RequestContext context) {
+    UserProfileCache.getInstance().invalidate(identifier);
     return userDao.saveUserToES(identifier, data, context);
   }
 
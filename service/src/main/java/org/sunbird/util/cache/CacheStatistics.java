@@ -0,0 +1,65 @@
+package org.sunbird.util.cache;
+
+import com.google.common.cache.Cache;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts of the uses of a cache since start up, reported by the health API. Hits and misses are
+ * counted by the owner of the cache, as one entry of the cache may hold several cached values.
+ */
+public final class CacheStatistics {
+
+  public static final String ENABLED = "enabled";
+  public static final String SIZE = "size";
+  public static final String HIT_COUNT = "hitCount";
+  public static final String MISS_COUNT = "missCount";
+  public static final String HIT_RATE = "hitRate";
+  public static final String EVICTION_COUNT = "evictionCount";
+  public static final String BYPASS_COUNT = "bypassCount";
+  public static final String INVALIDATION_COUNT = "invalidationCount";
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder bypasses = new LongAdder();
+  private final LongAdder invalidations = new LongAdder();
+
+  public void recordHit() {
+    hits.increment();
+  }
+
+  public void recordMiss() {
+    misses.increment();
+  }
+
+  public void recordBypass() {
+    bypasses.increment();
+  }
+
+  public void recordInvalidation() {
+    invalidations.increment();
+  }
+
+  /**
+   * Method to get the size of a cache, its hits and misses, and the uses which bypassed it.
+   *
+   * @param enabled true if the cache is used
+   * @param cache Cache, built by {@link CacheUtil#newCache}
+   * @return Map of cache statistics
+   */
+  public Map<String, Object> getSnapshot(boolean enabled, Cache<?, ?> cache) {
+    long hitCount = hits.sum();
+    long requestCount = hitCount + misses.sum();
+    Map<String, Object> snapshot = new HashMap<>();
+    snapshot.put(ENABLED, enabled);
+    snapshot.put(SIZE, cache.size());
+    snapshot.put(HIT_COUNT, hitCount);
+    snapshot.put(MISS_COUNT, requestCount - hitCount);
+    snapshot.put(HIT_RATE, 0 == requestCount ? 1.0 : (double) hitCount / requestCount);
+    snapshot.put(EVICTION_COUNT, cache.stats().evictionCount());
+    snapshot.put(BYPASS_COUNT, bypasses.sum());
+    snapshot.put(INVALIDATION_COUNT, invalidations.sum());
+    return snapshot;
+  }
+}
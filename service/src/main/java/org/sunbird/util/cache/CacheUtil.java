@@ -0,0 +1,83 @@
+package org.sunbird.util.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.logging.LoggerUtil;
+
+/**
+ * Helpers shared by the in memory caches of the service. Cached values are kept in this instance
+ * only, so saves through other instances are seen once the values expire, and callers asking for a
+ * fresh value with header cache-control no-cache bypass the caches.
+ */
+public final class CacheUtil {
+  private static final LoggerUtil logger = new LoggerUtil(CacheUtil.class);
+  private static final String NO_CACHE = "no-cache";
+
+  private CacheUtil() {}
+
+  /**
+   * Method to check if the caller asked for a fresh result with header cache-control no-cache.
+   *
+   * @param context Context of the request
+   * @return true if the caches should be bypassed
+   */
+  public static boolean isBypassed(Map<String, Object> context) {
+    return null != context
+        && StringUtils.containsIgnoreCase((String) context.get(JsonKey.CACHE_CONTROL), NO_CACHE);
+  }
+
+  /**
+   * Method to build a size bounded cache expiring entries a time after they are written, recording
+   * the evictions for {@link CacheStatistics}.
+   *
+   * @param name Name of the cache, for the log
+   * @param enabled true if the cache is used
+   * @param maxSize Maximum count of entries
+   * @param ttlSeconds Time to live of the entries in seconds
+   * @return Cache
+   */
+  public static <K, V> Cache<K, V> newCache(
+      String name, boolean enabled, int maxSize, long ttlSeconds) {
+    logger.info(
+        name
+            + ": enabled = "
+            + enabled
+            + " maximum size = "
+            + maxSize
+            + " ttl seconds = "
+            + ttlSeconds);
+    return CacheBuilder.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Method to copy the maps and lists of a cached value, so that neither the caller nor the cache
+   * sees the changes of the other.
+   *
+   * @param value Value to copy
+   * @return Copy of the value
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> T copy(T value) {
+    if (value instanceof Map) {
+      Map<String, Object> copy = new HashMap<>();
+      ((Map<String, Object>) value).forEach((key, element) -> copy.put(key, copy(element)));
+      return (T) copy;
+    } else if (value instanceof List) {
+      List<Object> copy = new ArrayList<>();
+      ((List<Object>) value).forEach(element -> copy.add(copy(element)));
+      return (T) copy;
+    }
+    return value;
+  }
+}
@@ -0,0 +1,197 @@
+package org.sunbird.util.search;
+
+import akka.dispatch.ExecutionContexts;
+import akka.dispatch.Futures;
+import akka.dispatch.Mapper;
+import akka.dispatch.OnComplete;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.cache.Cache;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.sunbird.dto.SearchDTO;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.util.ProjectUtil;
+import org.sunbird.util.cache.CacheStatistics;
+import org.sunbird.util.cache.CacheUtil;
+import scala.concurrent.Future;
+
+/**
+ * Size bounded cache of the results of the public organisation and location search APIs, expiring
+ * entries after a short time to live. Portals search again and again with the same filters, so
+ * results are reused by index and canonical form of the search instead of searching each time.
+ *
+ * <p>Saving a document of an index through this instance, by the services or the background actors
+ * of organisations and locations, invalidates the cached results of the index, and results of
+ * searches started until the index is refreshed are not cached.
+ */
+public final class SearchResultCache {
+  private static final LoggerUtil logger = new LoggerUtil(SearchResultCache.class);
+  private static final ObjectMapper mapper =
+      new ObjectMapper().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+  private static final int DEFAULT_MAX_SIZE = 1000;
+  private static final long DEFAULT_TTL_SECONDS = 30;
+  private static final String KEY_SEPARATOR = "|";
+  /** Default refresh interval of Elasticsearch, after which saved documents are searchable. */
+  private static final long REFRESH_INTERVAL_MILLIS = 1000;
+
+  private static volatile SearchResultCache instance;
+
+  private final boolean enabled;
+  private final Cache<String, Map<String, Object>> cache;
+  private final Map<String, IndexState> indexStates = new ConcurrentHashMap<>();
+  private final CacheStatistics statistics = new CacheStatistics();
+
+  SearchResultCache(boolean enabled, int maxSize, long ttlSeconds) {
+    this.enabled = enabled;
+    cache = CacheUtil.newCache("SearchResultCache", enabled, maxSize, ttlSeconds);
+  }
+
+  public static SearchResultCache getInstance() {
+    if (null == instance) {
+      synchronized (SearchResultCache.class) {
+        if (null == instance) {
+          boolean enabled =
+              Boolean.parseBoolean(
+                  ProjectUtil.getConfigValue(JsonKey.SUNBIRD_SEARCH_CACHE_ENABLED));
+          int maxSize =
+              NumberUtils.toInt(
+                  ProjectUtil.getConfigValue(JsonKey.SUNBIRD_SEARCH_CACHE_SIZE), DEFAULT_MAX_SIZE);
+          long ttlSeconds =
+              NumberUtils.toLong(
+                  ProjectUtil.getConfigValue(JsonKey.SUNBIRD_SEARCH_CACHE_TTL),
+                  DEFAULT_TTL_SECONDS);
+          instance = new SearchResultCache(enabled, maxSize, ttlSeconds);
+        }
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * Method to get the result of a search from the cache, or else search and cache its result. The
+   * result is a copy the caller may change.
+   *
+   * @param index Index searched
+   * @param searchDTO Search
+   * @param bypass true to search without using the cache
+   * @param search Search of the index, called on a miss
+   * @return Future of the search result
+   */
+  public Future<Map<String, Object>> search(
+      String index,
+      SearchDTO searchDTO,
+      boolean bypass,
+      Supplier<Future<Map<String, Object>>> search) {
+    if (!enabled || bypass) {
+      statistics.recordBypass();
+      return search.get();
+    }
+    String key = getKey(index, searchDTO);
+    if (null == key) {
+      return search.get();
+    }
+    Map<String, Object> cached = cache.getIfPresent(key);
+    if (null != cached) {
+      statistics.recordHit();
+      return Futures.successful(CacheUtil.copy(cached));
+    }
+    statistics.recordMiss();
+    IndexState indexState = getIndexState(index);
+    long searchedGeneration = indexState.generation.get();
+    if (System.currentTimeMillis() - indexState.invalidatedAt < REFRESH_INTERVAL_MILLIS) {
+      return search.get();
+    }
+    return search
+        .get()
+        .map(
+            new Mapper<Map<String, Object>, Map<String, Object>>() {
+              @Override
+              public Map<String, Object> apply(Map<String, Object> result) {
+                if (null != result) {
+                  cache.put(key, CacheUtil.copy(result));
+                  // A save during the search may not be part of the result
+                  if (indexState.generation.get() != searchedGeneration) {
+                    cache.invalidate(key);
+                  }
+                }
+                return result;
+              }
+            },
+            ExecutionContexts.global());
+  }
+
+  /**
+   * Method to remove the cached results of an index, called when one of its documents is saved.
+   *
+   * @param index Index saved
+   */
+  public void invalidate(String index) {
+    if (!enabled) {
+      return;
+    }
+    IndexState indexState = getIndexState(index);
+    indexState.invalidatedAt = System.currentTimeMillis();
+    indexState.generation.incrementAndGet();
+    statistics.recordInvalidation();
+    String prefix = index + KEY_SEPARATOR;
+    cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+  }
+
+  /**
+   * Method to remove the cached results of an index when a save of one of its documents starts, and
+   * again when it completes, for saves the caller does not wait for.
+   *
+   * @param index Index saved
+   * @param save Future of the save
+   */
+  public <T> void invalidate(String index, Future<T> save) {
+    invalidate(index);
+    if (!enabled || null == save) {
+      return;
+    }
+    save.onComplete(
+        new OnComplete<T>() {
+          @Override
+          public void onComplete(Throwable failure, T success) {
+            invalidate(index);
+          }
+        },
+        ExecutionContexts.global());
+  }
+
+  /**
+   * Method to get the size of the cache, its hits and misses since start up, and the searches which
+   * bypassed it.
+   *
+   * @return Map of cache statistics
+   */
+  public Map<String, Object> getStats() {
+    return statistics.getSnapshot(enabled, cache);
+  }
+
+  private IndexState getIndexState(String index) {
+    return indexStates.computeIfAbsent(index, key -> new IndexState());
+  }
+
+  private static String getKey(String index, SearchDTO searchDTO) {
+    try {
+      return index + KEY_SEPARATOR + mapper.writeValueAsString(searchDTO);
+    } catch (JsonProcessingException e) {
+      logger.error("SearchResultCache:getKey: search can not be cached " + e.getMessage(), e);
+      return null;
+    }
+  }
+
+  /** Saves of an index, to tell results of searches concurrent with a save apart. */
+  private static final class IndexState {
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long invalidatedAt;
+  }
+}
@@ -0,0 +1,177 @@
+package org.sunbird.util.user;
+
+import com.google.common.cache.Cache;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.logging.LoggerUtil;
+import org.sunbird.util.ProjectUtil;
+import org.sunbird.util.cache.CacheStatistics;
+import org.sunbird.util.cache.CacheUtil;
+
+/**
+ * Size bounded cache of assembled user profiles, as read by the user read APIs before the personal
+ * data is decrypted, so cached profiles stay encrypted. Portals read the same profiles again and
+ * again while they rarely change, so the user, org, role and location lookups of a read are reused
+ * until the user is saved or the profile expires.
+ *
+ * <p>Profiles are kept per user and variant of the read (version, requested fields), so saving a
+ * user through this instance removes all of its profiles at once, and profiles of reads concurrent
+ * with a save are not cached.
+ */
+public final class UserProfileCache {
+  private static final LoggerUtil logger = new LoggerUtil(UserProfileCache.class);
+
+  private static final int DEFAULT_MAX_SIZE = 10000;
+  private static final long DEFAULT_TTL_SECONDS = 60;
+  private static final String KEY_SEPARATOR = "|";
+  /** Saves are counted per stripe of user ids, to tell reads concurrent with a save apart. */
+  private static final int GENERATION_STRIPES = 1024;
+
+  private static volatile UserProfileCache instance;
+
+  private final boolean enabled;
+  private final Cache<String, ConcurrentMap<String, Map<String, Object>>> cache;
+  private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+  private final CacheStatistics statistics = new CacheStatistics();
+
+  UserProfileCache(boolean enabled, int maxSize, long ttlSeconds) {
+    this.enabled = enabled;
+    cache = CacheUtil.newCache("UserProfileCache", enabled, maxSize, ttlSeconds);
+  }
+
+  public static UserProfileCache getInstance() {
+    if (null == instance) {
+      synchronized (UserProfileCache.class) {
+        if (null == instance) {
+          boolean enabled =
+              Boolean.parseBoolean(
+                  ProjectUtil.getConfigValue(JsonKey.SUNBIRD_USER_PROFILE_CACHE_ENABLED));
+          int maxSize =
+              NumberUtils.toInt(
+                  ProjectUtil.getConfigValue(JsonKey.SUNBIRD_USER_PROFILE_CACHE_SIZE),
+                  DEFAULT_MAX_SIZE);
+          long ttlSeconds =
+              NumberUtils.toLong(
+                  ProjectUtil.getConfigValue(JsonKey.SUNBIRD_USER_PROFILE_CACHE_TTL),
+                  DEFAULT_TTL_SECONDS);
+          instance = new UserProfileCache(enabled, maxSize, ttlSeconds);
+        }
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * Method to get the key of a variant of the profile of a user.
+   *
+   * @param readVersion Operation of the read
+   * @param fields Fields requested, may be blank
+   * @param projection true if only the requested fields are read
+   * @param withExternalIds true if the external ids of the user are read
+   * @return Key of the variant
+   */
+  public static String getVariant(
+      String readVersion, String fields, boolean projection, boolean withExternalIds) {
+    return readVersion
+        + KEY_SEPARATOR
+        + StringUtils.defaultString(fields)
+        + KEY_SEPARATOR
+        + projection
+        + KEY_SEPARATOR
+        + withExternalIds;
+  }
+
+  /**
+   * Method to get a cached profile. The profile is a copy the caller may change.
+   *
+   * @param userId Id of the user
+   * @param variant Variant of the profile
+   * @param bypass true to read the profile without using the cache
+   * @return Copy of the cached profile, or null if it is not cached
+   */
+  public Map<String, Object> get(String userId, String variant, boolean bypass) {
+    if (!enabled || bypass) {
+      statistics.recordBypass();
+      return null;
+    }
+    ConcurrentMap<String, Map<String, Object>> profiles = cache.getIfPresent(userId);
+    Map<String, Object> profile = null == profiles ? null : profiles.get(variant);
+    if (null == profile) {
+      statistics.recordMiss();
+      return null;
+    }
+    statistics.recordHit();
+    return CacheUtil.copy(profile);
+  }
+
+  /**
+   * Method to get the count of saves of a user, to be taken before reading its profile and passed
+   * to {@link #put}.
+   *
+   * @param userId Id of the user
+   * @return Count of saves
+   */
+  public long getGeneration(String userId) {
+    return generations.get(getStripe(userId));
+  }
+
+  /**
+   * Method to cache a profile read from the database, unless the user was saved while it was read.
+   *
+   * @param userId Id of the user
+   * @param variant Variant of the profile
+   * @param profile Profile read, copied into the cache
+   * @param generation Count of saves of the user before the profile was read
+   */
+  public void put(String userId, String variant, Map<String, Object> profile, long generation) {
+    if (!enabled || StringUtils.isBlank(userId)) {
+      return;
+    }
+    try {
+      ConcurrentMap<String, Map<String, Object>> profiles =
+          cache.get(userId, ConcurrentHashMap::new);
+      profiles.put(variant, CacheUtil.copy(profile));
+      // A save during the read may not be part of the profile
+      if (getGeneration(userId) != generation) {
+        profiles.remove(variant);
+      }
+    } catch (ExecutionException e) {
+      logger.error("UserProfileCache:put: profile can not be cached " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Method to remove the cached profiles of a user, called when the user or its orgs, roles,
+   * declarations, external ids or terms and conditions are saved.
+   *
+   * @param userId Id of the user
+   */
+  public void invalidate(String userId) {
+    if (!enabled || StringUtils.isBlank(userId)) {
+      return;
+    }
+    generations.incrementAndGet(getStripe(userId));
+    statistics.recordInvalidation();
+    cache.invalidate(userId);
+  }
+
+  /**
+   * Method to get the count of cached users, the hits and misses of profiles since start up, and
+   * the reads which bypassed the cache.
+   *
+   * @return Map of cache statistics
+   */
+  public Map<String, Object> getStats() {
+    return statistics.getSnapshot(enabled, cache);
+  }
+
+  private static int getStripe(String userId) {
+    return (StringUtils.defaultString(userId).hashCode() & Integer.MAX_VALUE) % GENERATION_STRIPES;
+  }
+}
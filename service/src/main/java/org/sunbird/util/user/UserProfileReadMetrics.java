@@ -0,0 +1,93 @@
+package org.sunbird.util.user;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.sunbird.keys.JsonKey;
+
+/**
+ * Latency histograms of the stages of a user profile read, kept per stage name. As the lookups of a
+ * profile read run concurrently, the latency of the whole read should follow its slowest stage
+ * rather than the sum of all of them, which these histograms make visible.
+ */
+public final class UserProfileReadMetrics {
+
+  public static final String USER = "user";
+  public static final String ROOT_ORG = "rootOrg";
+  public static final String ROLES = "roles";
+  public static final String ORGANISATIONS = "organisations";
+  public static final String ORGANISATION_DETAILS = "organisationDetails";
+  public static final String LOCATIONS = "locations";
+  public static final String DECLARATIONS = "declarations";
+  public static final String EXTERNAL_IDS = "externalIds";
+  public static final String MANAGED_TOKEN = "managedToken";
+  public static final String TOTAL = "total";
+
+  private static final long HIGHEST_TRACKABLE_MILLIS = TimeUnit.MINUTES.toMillis(10);
+  private static final int SIGNIFICANT_DIGITS = 2;
+  private static final UserProfileReadMetrics instance = new UserProfileReadMetrics();
+
+  private final ConcurrentMap<String, StageMetrics> metrics = new ConcurrentHashMap<>();
+
+  private UserProfileReadMetrics() {}
+
+  public static UserProfileReadMetrics getInstance() {
+    return instance;
+  }
+
+  /**
+   * Method to record the elapsed time of a stage.
+   *
+   * @param stage Stage name
+   * @param elapsedTime Elapsed time in milliseconds
+   */
+  public void recordLatency(String stage, long elapsedTime) {
+    metrics
+        .computeIfAbsent(stage, StageMetrics::new)
+        .recorder
+        .recordValue(Math.max(0, Math.min(elapsedTime, HIGHEST_TRACKABLE_MILLIS)));
+  }
+
+  /**
+   * Method to get the count and latency percentiles in milliseconds of every recorded stage since
+   * start up.
+   *
+   * @return List of metrics, one map per stage
+   */
+  public List<Map<String, Object>> getSnapshot() {
+    List<Map<String, Object>> snapshot = new ArrayList<>();
+    for (StageMetrics stageMetrics : metrics.values()) {
+      snapshot.add(stageMetrics.snapshot());
+    }
+    return snapshot;
+  }
+
+  private static final class StageMetrics {
+    private final String stage;
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MILLIS, SIGNIFICANT_DIGITS);
+    private final Histogram total = new Histogram(HIGHEST_TRACKABLE_MILLIS, SIGNIFICANT_DIGITS);
+    private Histogram interval;
+
+    private StageMetrics(String stage) {
+      this.stage = stage;
+    }
+
+    private synchronized Map<String, Object> snapshot() {
+      interval = recorder.getIntervalHistogram(interval);
+      total.add(interval);
+      Map<String, Object> snapshot = new HashMap<>();
+      snapshot.put(JsonKey.STAGE, stage);
+      snapshot.put(JsonKey.COUNT, total.getTotalCount());
+      snapshot.put(JsonKey.P50_MILLIS, total.getValueAtPercentile(50));
+      snapshot.put(JsonKey.P99_MILLIS, total.getValueAtPercentile(99));
+      snapshot.put(JsonKey.MAX_MILLIS, total.getMaxValue());
+      return snapshot;
+    }
+  }
+}
@@ -614,11 +614,9 @@ public class UserUtil {
       Map<String, Object> searchRequestMap = new HashMap<>();
       searchRequestMap.put(JsonKey.FILTERS, searchQueryMap);
       SearchDTO searchDTO = ElasticSearchHelper.createSearchDTO(searchRequestMap);
-      Map<String, Object> searchResult = userService.searchUser(searchDTO, context);
-      List<Map<String, Object>> managedUserList =
-          (List<Map<String, Object>>) searchResult.get(JsonKey.CONTENT);
-      if (CollectionUtils.isNotEmpty(managedUserList)
-          && managedUserList.size()
+      long managedUserCount = userService.countUser(searchDTO, context);
+      if (managedUserCount > 0
+          && managedUserCount
               >= Integer.valueOf(ProjectUtil.getConfigValue(JsonKey.MANAGED_USER_LIMIT))) {
         throw new ProjectCommonException(
             ResponseCode.managedUserLimitExceeded,
@@ -0,0 +1,208 @@
+package org.sunbird.actor.bulkupload;
+
+import static akka.testkit.JavaTestKit.duration;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.powermock.api.mockito.PowerMockito.*;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.testkit.javadsl.TestKit;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.sunbird.actor.core.ActorPatterns;
+import org.sunbird.dao.bulkupload.impl.BulkUploadProcessDaoImpl;
+import org.sunbird.dao.bulkupload.impl.BulkUploadProcessTaskDaoImpl;
+import org.sunbird.exception.ResponseCode;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.model.bulkupload.BulkUploadProcess;
+import org.sunbird.model.bulkupload.BulkUploadProcessTask;
+import org.sunbird.request.Request;
+import org.sunbird.response.Response;
+import org.sunbird.util.ProjectUtil;
+
+@PrepareForTest({BulkUploadProcessDaoImpl.class, BulkUploadProcessTaskDaoImpl.class})
+@RunWith(PowerMockRunner.class)
+@PowerMockIgnore({
+  "javax.management.*",
+  "javax.net.ssl.*",
+  "javax.security.*",
+  "jdk.internal.reflect.*",
+  "javax.crypto.*"
+})
+public class BaseBulkUploadBackgroundJobActorTest {
+
+  private static final String ROW_OPERATION = "upsertRow";
+  private static final String PING_OPERATION = "ping";
+
+  private ActorSystem system;
+  private BulkUploadProcessDaoImpl bulkUploadProcessDao;
+  private BulkUploadProcess bulkUploadProcess;
+
+  @Before
+  public void setUp() {
+    system = ActorSystem.create("system");
+    PowerMockito.mockStatic(BulkUploadProcessDaoImpl.class);
+    bulkUploadProcessDao = mock(BulkUploadProcessDaoImpl.class);
+    when(BulkUploadProcessDaoImpl.getInstance()).thenReturn(bulkUploadProcessDao);
+    PowerMockito.mockStatic(BulkUploadProcessTaskDaoImpl.class);
+    BulkUploadProcessTaskDaoImpl bulkUploadProcessTaskDao =
+        mock(BulkUploadProcessTaskDaoImpl.class);
+    when(BulkUploadProcessTaskDaoImpl.getInstance()).thenReturn(bulkUploadProcessTaskDao);
+
+    bulkUploadProcess = new BulkUploadProcess();
+    bulkUploadProcess.setId("processId");
+    bulkUploadProcess.setCreatedOn(new Timestamp(Calendar.getInstance().getTime().getTime()));
+    bulkUploadProcess.setTaskCount(2);
+    bulkUploadProcess.setStatus(ProjectUtil.BulkProcessStatus.IN_PROGRESS.getValue());
+    when(bulkUploadProcessDao.read(nullable(String.class), Mockito.any()))
+        .thenReturn(bulkUploadProcess);
+    when(bulkUploadProcessDao.update(Mockito.any(), Mockito.any())).thenReturn(new Response());
+    when(bulkUploadProcessTaskDao.readByPrimaryKeys(Mockito.anyMap(), Mockito.any()))
+        .thenReturn(createBulkUploadProcessTasks());
+    when(bulkUploadProcessTaskDao.updateBatchRecord(Mockito.anyList(), Mockito.any()))
+        .thenReturn("updated");
+  }
+
+  @Test
+  public void testRowsAreAskedInOrderWithoutBlockingTheActor() {
+    TestKit rowProbe = new TestKit(system);
+    TestKit probe = new TestKit(system);
+    ActorRef subject = system.actorOf(Props.create(RowActor.class, rowProbe.getRef()));
+
+    subject.tell(createRequest("background"), probe.getRef());
+    Request firstRow = rowProbe.expectMsgClass(duration("10 second"), Request.class);
+    Assert.assertEquals("1", firstRow.get(JsonKey.ID));
+
+    // the actor serves other requests while the row is pending
+    TestKit pingProbe = new TestKit(system);
+    subject.tell(createRequest(PING_OPERATION), pingProbe.getRef());
+    pingProbe.expectMsgClass(duration("10 second"), Response.class);
+
+    rowProbe.expectNoMessage(duration("200 milliseconds"));
+    probe.expectNoMessage(duration("200 milliseconds"));
+    rowProbe.reply(new Response());
+    Request secondRow = rowProbe.expectMsgClass(duration("10 second"), Request.class);
+    Assert.assertEquals("2", secondRow.get(JsonKey.ID));
+    rowProbe.reply(new Response());
+
+    Response res = probe.expectMsgClass(duration("10 second"), Response.class);
+    Assert.assertEquals(ResponseCode.OK.getResponseCode(), res.getResponseCode().getResponseCode());
+    Assert.assertEquals(
+        ProjectUtil.BulkProcessStatus.COMPLETED.getValue(),
+        bulkUploadProcess.getStatus().intValue());
+    Assert.assertTrue(bulkUploadProcess.getSuccessResult().contains("\"id\":\"2\""));
+  }
+
+  @Test
+  public void testFailedRowIsRecordedAndNextRowIsAsked() {
+    TestKit rowProbe = new TestKit(system);
+    TestKit probe = new TestKit(system);
+    ActorRef subject = system.actorOf(Props.create(RowActor.class, rowProbe.getRef()));
+
+    subject.tell(createRequest("background"), probe.getRef());
+    rowProbe.expectMsgClass(duration("10 second"), Request.class);
+    rowProbe.reply(new RuntimeException("row failed"));
+    rowProbe.expectMsgClass(duration("10 second"), Request.class);
+    rowProbe.reply(new Response());
+
+    probe.expectMsgClass(duration("10 second"), Response.class);
+    Assert.assertTrue(
+        bulkUploadProcess.getFailureResult().contains(ResponseCode.serverError.getErrorMessage()));
+  }
+
+  private static Request createRequest(String operation) {
+    Request request = new Request();
+    request.setOperation(operation);
+    request.getRequest().put(JsonKey.PROCESS_ID, "processId");
+    return request;
+  }
+
+  private static List<BulkUploadProcessTask> createBulkUploadProcessTasks() {
+    List<BulkUploadProcessTask> tasks = new ArrayList<>();
+    for (int sequence = 1; sequence <= 2; sequence++) {
+      BulkUploadProcessTask task = new BulkUploadProcessTask();
+      task.setSequenceId(sequence);
+      task.setData(String.valueOf(sequence));
+      task.setStatus(ProjectUtil.BulkProcessStatus.IN_PROGRESS.getValue());
+      tasks.add(task);
+    }
+    return tasks;
+  }
+
+  public static class RowActor extends BaseBulkUploadBackgroundJobActor {
+
+    private final ActorRef rowActor;
+
+    public RowActor(ActorRef rowActor) {
+      this.rowActor = rowActor;
+    }
+
+    @Override
+    public void onReceive(Request request) throws Throwable {
+      if (PING_OPERATION.equals(request.getOperation())) {
+        sender().tell(new Response(), self());
+        return;
+      }
+      handleBulkUploadBackground(
+          request,
+          (bulkUploadProcess) ->
+              processBulkUpload(
+                  bulkUploadProcess,
+                  (tasks) -> {
+                    CompletionStage<Void> tasksF = CompletableFuture.completedFuture(null);
+                    for (BulkUploadProcessTask task : tasks) {
+                      tasksF = tasksF.thenCompose(result -> upsertRow(task));
+                    }
+                    return tasksF;
+                  },
+                  request.getRequestContext()));
+    }
+
+    private CompletionStage<Void> upsertRow(BulkUploadProcessTask task) {
+      Request request = new Request();
+      request.setOperation(ROW_OPERATION);
+      request.getRequest().put(JsonKey.ID, task.getData());
+      Map<String, Object> row = request.getRequest();
+      return actorCall(rowActor, request)
+          .handle(
+              (result, error) -> {
+                try {
+                  if (null != error) {
+                    setTaskStatus(
+                        task,
+                        ProjectUtil.BulkProcessStatus.FAILED,
+                        ActorPatterns.unwrap(error).getMessage(),
+                        row,
+                        JsonKey.UPDATE);
+                  } else {
+                    setSuccessTaskStatus(
+                        task, ProjectUtil.BulkProcessStatus.COMPLETED, row, JsonKey.UPDATE);
+                  }
+                } catch (Exception e) {
+                  throw new IllegalStateException(e);
+                }
+                return null;
+              });
+    }
+
+    @Override
+    public void preProcessResult(Map<String, Object> result) {
+      // Do nothing
+    }
+  }
+}
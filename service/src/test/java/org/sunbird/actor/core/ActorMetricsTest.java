@@ -0,0 +1,180 @@
+package org.sunbird.actor.core;
+
+import static akka.testkit.JavaTestKit.duration;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.routing.FromConfig;
+import akka.testkit.javadsl.TestKit;
+import com.typesafe.config.ConfigFactory;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.request.Request;
+import org.sunbird.response.Response;
+
+public class ActorMetricsTest {
+
+  private static final String POOL = "metrics_test_actor";
+  private static ActorSystem system;
+  private static ActorRef subject;
+
+  @BeforeClass
+  public static void setUp() {
+    system =
+        ActorSystem.create(
+            "metricsTestSystem",
+            ConfigFactory.parseString(
+                    "akka.actor.timed-mailbox.mailbox-type = \"org.sunbird.actor.core.TimedMailbox\"\n"
+                        + "akka.actor.test-dispatcher.fork-join-executor {\n"
+                        + "  parallelism-min = 3\n"
+                        + "  parallelism-factor = 0.0\n"
+                        + "}\n"
+                        + "akka.actor.deployment {\n"
+                        + "  \"/"
+                        + POOL
+                        + "\" { router = smallest-mailbox-pool, nr-of-instances = 2 }\n"
+                        + "  \"/"
+                        + POOL
+                        + "/*\" {\n"
+                        + "    dispatcher = akka.actor.test-dispatcher\n"
+                        + "    mailbox = akka.actor.timed-mailbox\n"
+                        + "  }\n"
+                        + "}")
+                .withFallback(ConfigFactory.load()));
+    subject =
+        system.actorOf(FromConfig.getInstance().props(Props.create(MetricsTestActor.class)), POOL);
+  }
+
+  @AfterClass
+  public static void tearDown() {
+    TestKit.shutdownActorSystem(system);
+  }
+
+  @Test
+  public void testMetricsArePerOperation() {
+    TestKit probe = new TestKit(system);
+    subject.tell(createRequest("ok"), probe.getRef());
+    probe.expectMsgClass(duration("10 second"), Response.class);
+    probe = new TestKit(system);
+    subject.tell(createRequest("fail"), probe.getRef());
+    probe.expectMsgClass(duration("10 second"), ProjectCommonException.class);
+    probe = new TestKit(system);
+    subject.tell(createRequest("async"), probe.getRef());
+    probe.expectMsgClass(duration("10 second"), ProjectCommonException.class);
+
+    // the actor replies before the metrics of the request are recorded
+    probe.awaitAssert(
+        Duration.ofSeconds(10),
+        () -> {
+          Map<String, Object> ok = getMetrics("ok");
+          assertEquals(POOL, ok.get(JsonKey.ROUTER));
+          assertEquals(1L, ok.get(JsonKey.COUNT));
+          assertEquals(0L, ok.get(JsonKey.ERRORS));
+          assertEquals(0L, ok.get(JsonKey.IN_FLIGHT));
+          assertEquals(1L, ((Map<String, Object>) ok.get(JsonKey.MAILBOX_TIME)).get(JsonKey.COUNT));
+          assertEquals(1L, getMetrics("fail").get(JsonKey.ERRORS));
+          // the failure of a piped stage is counted once the stage fails
+          assertEquals(1L, getMetrics("async").get(JsonKey.ERRORS));
+          assertEquals(0L, getMetrics("async").get(JsonKey.IN_FLIGHT));
+          return null;
+        });
+  }
+
+  @Test
+  public void testMailboxTimeIsNotRecordedWithoutTimedMailbox() {
+    ActorRef untimed = system.actorOf(Props.create(UntimedTestActor.class));
+    TestKit probe = new TestKit(system);
+    untimed.tell(createRequest("ok"), probe.getRef());
+    probe.expectMsgClass(duration("10 second"), Response.class);
+
+    probe.awaitAssert(
+        Duration.ofSeconds(10),
+        () -> {
+          Map<String, Object> ok = getMetrics(UntimedTestActor.class, "ok");
+          assertEquals(1L, ok.get(JsonKey.COUNT));
+          assertEquals(0L, ((Map<String, Object>) ok.get(JsonKey.MAILBOX_TIME)).get(JsonKey.COUNT));
+          return null;
+        });
+  }
+
+  @Test
+  public void testRouterPoolsAreReadFromDeployment() {
+    List<Map<String, Object>> pools = RouterPools.getSnapshot(system.settings().config());
+    Map<String, Object> pool =
+        pools
+            .stream()
+            .filter(p -> POOL.equals(p.get(JsonKey.NAME)))
+            .findFirst()
+            .orElse(new HashMap<>());
+    assertEquals(2, pool.get(JsonKey.NR_OF_INSTANCES));
+    assertEquals("smallest-mailbox-pool", pool.get(JsonKey.ROUTER));
+    assertEquals("akka.actor.test-dispatcher", pool.get(JsonKey.DISPATCHER));
+    assertEquals(3, pool.get(JsonKey.PARALLELISM));
+    assertTrue(pools.stream().noneMatch(p -> ((String) p.get(JsonKey.NAME)).endsWith("*")));
+  }
+
+  private Map<String, Object> getMetrics(String operation) {
+    return getMetrics(MetricsTestActor.class, operation);
+  }
+
+  private Map<String, Object> getMetrics(Class<?> actorClass, String operation) {
+    return ActorMetrics.getInstance()
+        .getSnapshot()
+        .stream()
+        .filter(
+            metrics ->
+                actorClass.getSimpleName().equals(metrics.get(JsonKey.ACTOR))
+                    && operation.equals(metrics.get(JsonKey.OPERATION)))
+        .findFirst()
+        .orElse(new HashMap<>());
+  }
+
+  private Request createRequest(String operation) {
+    Request request = new Request();
+    request.setOperation(operation);
+    return request;
+  }
+
+  public static class MetricsTestActor extends BaseActor {
+
+    @Override
+    public void onReceive(Request request) throws Throwable {
+      ProjectCommonException exception =
+          new ProjectCommonException(
+              ResponseCode.SERVER_ERROR,
+              ResponseCode.SERVER_ERROR.getErrorMessage(),
+              ResponseCode.SERVER_ERROR.getResponseCode());
+      switch (request.getOperation()) {
+        case "ok":
+          sender().tell(new Response(), self());
+          break;
+        case "fail":
+          throw exception;
+        default:
+          CompletableFuture<Response> responseF = new CompletableFuture<>();
+          responseF.completeExceptionally(exception);
+          pipeToSender(responseF, request);
+      }
+    }
+  }
+
+  public static class UntimedTestActor extends BaseActor {
+
+    @Override
+    public void onReceive(Request request) throws Throwable {
+      sender().tell(new Response(), self());
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package org.sunbird.actor.core;
+
+import static akka.testkit.JavaTestKit.duration;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.pattern.Patterns;
+import akka.testkit.javadsl.TestKit;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
+import org.sunbird.request.Request;
+import org.sunbird.response.Response;
+
+public class ActorPatternsTest {
+
+  private static ActorSystem system;
+
+  @BeforeClass
+  public static void setUp() {
+    system = ActorSystem.create("actorPatternsTestSystem");
+  }
+
+  @AfterClass
+  public static void tearDown() {
+    TestKit.shutdownActorSystem(system);
+  }
+
+  @Test
+  public void testAskFailsWithServerErrorWhenActorDoesNotReply() {
+    ActorRef silent = system.actorOf(Props.create(SilentActor.class));
+
+    CompletableFuture<Object> reply =
+        ActorPatterns.ask(silent, createRequest(), Duration.ofMillis(100)).toCompletableFuture();
+
+    ProjectCommonException exception = getFailure(reply);
+    assertEquals(ResponseCode.SERVER_ERROR.getResponseCode(), exception.getErrorResponseCode());
+  }
+
+  @Test
+  public void testAskFailsWithExceptionOfFailedStagePipedBack() {
+    ActorRef failing = system.actorOf(Props.create(PipingActor.class));
+
+    CompletableFuture<Object> reply =
+        ActorPatterns.ask(failing, createRequest()).toCompletableFuture();
+
+    ProjectCommonException exception = getFailure(reply);
+    assertEquals(ResponseCode.CLIENT_ERROR.getResponseCode(), exception.getErrorResponseCode());
+  }
+
+  @Test
+  public void testPipeSendsCauseOfCompletionException() {
+    TestKit probe = new TestKit(system);
+    ProjectCommonException exception = createClientError();
+    CompletableFuture<Response> stage = new CompletableFuture<>();
+    stage.completeExceptionally(new CompletionException(exception));
+
+    ActorPatterns.pipe(stage, createRequest(), probe.getRef(), ActorRef.noSender());
+
+    ProjectCommonException reply =
+        probe.expectMsgClass(duration("10 second"), ProjectCommonException.class);
+    assertEquals(ResponseCode.CLIENT_ERROR.getResponseCode(), reply.getErrorResponseCode());
+    assertEquals(exception.getMessage(), reply.getMessage());
+  }
+
+  @Test
+  public void testUnwrapRemovesWrappingExceptions() {
+    ProjectCommonException exception = createClientError();
+
+    assertSame(
+        exception,
+        ActorPatterns.unwrap(new CompletionException(new ExecutionException(exception))));
+    assertSame(exception, ActorPatterns.unwrap(exception));
+  }
+
+  private static ProjectCommonException getFailure(CompletableFuture<Object> reply) {
+    try {
+      reply.join();
+      fail("Expected the ask to fail");
+    } catch (CompletionException e) {
+      return (ProjectCommonException) e.getCause();
+    }
+    return null;
+  }
+
+  private static ProjectCommonException createClientError() {
+    return new ProjectCommonException(
+        ResponseCode.invalidRequestData,
+        ResponseCode.invalidRequestData.getErrorMessage(),
+        ResponseCode.CLIENT_ERROR.getResponseCode());
+  }
+
+  private static Request createRequest() {
+    Request request = new Request();
+    request.setOperation("test");
+    return request;
+  }
+
+  public static class SilentActor extends AbstractActor {
+
+    @Override
+    public Receive createReceive() {
+      return receiveBuilder().matchAny(message -> {}).build();
+    }
+  }
+
+  public static class PipingActor extends AbstractActor {
+
+    @Override
+    public Receive createReceive() {
+      return receiveBuilder()
+          .matchAny(
+              message -> {
+                CompletableFuture<Response> stage = new CompletableFuture<>();
+                stage.completeExceptionally(createClientError());
+                // replies with a Status.Failure
+                Patterns.pipe(stage, getContext().dispatcher()).to(sender());
+              })
+          .build();
+    }
+  }
+}
@@ -8,6 +8,9 @@ import akka.actor.ActorSystem;
 import akka.actor.Props;
 import akka.dispatch.Futures;
 import akka.testkit.javadsl.TestKit;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -16,6 +19,7 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.powermock.reflect.Whitebox;
 import org.sunbird.cassandra.CassandraOperation;
 import org.sunbird.cassandraimpl.CassandraOperationImpl;
 import org.sunbird.common.CassandraUtil;
@@ -28,6 +32,8 @@ import org.sunbird.keys.JsonKey;
 import org.sunbird.operations.ActorOperations;
 import org.sunbird.request.Request;
 import org.sunbird.response.Response;
+import org.sunbird.util.BackendGuard;
+import org.sunbird.util.BackendGuardSettings;
 import org.sunbird.util.Util;
 import scala.concurrent.Promise;
 
@@ -101,6 +107,43 @@ public class HealthActorTest {
     subject.tell(reqObj, probe.getRef());
     Response res = probe.expectMsgClass(duration("200 second"), Response.class);
     Assert.assertTrue(null != res.get(JsonKey.RESPONSE));
+    Assert.assertTrue(
+        ((Map<String, Object>) res.get(JsonKey.RESPONSE)).containsKey(JsonKey.METRICS));
+    Assert.assertTrue(
+        ((Map<String, Object>) res.get(JsonKey.RESPONSE)).containsKey(JsonKey.BACKEND_GUARD));
+  }
+
+  @Test
+  public void getESHealthCheckWithOpenBreaker() throws Exception {
+    mockEsHealthCheck();
+    Map<String, Object> result =
+        withOpenBreaker(BackendGuard.ES, () -> getHealth(ActorOperations.ES.getValue()));
+    Assert.assertFalse((boolean) result.get(JsonKey.Healthy));
+    Assert.assertEquals(
+        BackendGuard.State.OPEN.name(),
+        ((Map<String, Object>) result.get(JsonKey.BACKEND_GUARD)).get("state"));
+  }
+
+  @Test
+  public void getHealthCheckWithOpenESBreaker() throws Exception {
+    mockEsHealthCheck();
+    mockCassandraHealthCheck();
+    Map<String, Object> result =
+        withOpenBreaker(BackendGuard.ES, () -> getHealth(ActorOperations.HEALTH_CHECK.getValue()));
+    // apis which only use Cassandra keep working while the Elasticsearch breaker is open
+    Assert.assertTrue((boolean) result.get(JsonKey.Healthy));
+    Assert.assertFalse(isCheckHealthy(result, JsonKey.ES_CIRCUIT_BREAKER));
+  }
+
+  @Test
+  public void getHealthCheckWithOpenCassandraBreaker() throws Exception {
+    mockEsHealthCheck();
+    mockCassandraHealthCheck();
+    Map<String, Object> result =
+        withOpenBreaker(
+            BackendGuard.CASSANDRA, () -> getHealth(ActorOperations.HEALTH_CHECK.getValue()));
+    Assert.assertFalse((boolean) result.get(JsonKey.Healthy));
+    Assert.assertFalse(isCheckHealthy(result, JsonKey.CASSANDRA_CIRCUIT_BREAKER));
   }
 
   @Test
@@ -118,5 +161,69 @@ public class HealthActorTest {
     subject.tell(reqObj, probe.getRef());
     Response res = probe.expectMsgClass(duration("200 second"), Response.class);
     Assert.assertTrue(null != res.get(JsonKey.RESPONSE));
+    Map<String, Object> result = (Map<String, Object>) res.get(JsonKey.RESPONSE);
+    Assert.assertTrue(result.containsKey(JsonKey.METRICS));
+    Assert.assertTrue(result.containsKey(JsonKey.CALLBACK_EXECUTOR));
+  }
+
+  private void mockEsHealthCheck() {
+    ElasticSearchService elasticSearchService = PowerMockito.mock(ElasticSearchService.class);
+    Promise<Boolean> promise = Futures.promise();
+    promise.success(true);
+    PowerMockito.mockStatic(EsClientFactory.class);
+    when(EsClientFactory.getInstance(JsonKey.REST)).thenReturn(elasticSearchService);
+    when(elasticSearchService.healthCheck()).thenReturn(promise.future());
+  }
+
+  private void mockCassandraHealthCheck() {
+    PowerMockito.mockStatic(ServiceFactory.class);
+    cassandraOperation = PowerMockito.mock(CassandraOperation.class);
+    when(ServiceFactory.getInstance()).thenReturn(cassandraOperation);
+    when(cassandraOperation.getAllRecords(
+            orgTypeDbInfo.getKeySpace(), orgTypeDbInfo.getTableName(), null))
+        .thenReturn(new Response());
+  }
+
+  private Map<String, Object> getHealth(String operation) {
+    TestKit probe = new TestKit(system);
+    ActorRef subject = system.actorOf(props);
+    Request reqObj = new Request();
+    reqObj.setOperation(operation);
+    subject.tell(reqObj, probe.getRef());
+    Response res = probe.expectMsgClass(duration("200 second"), Response.class);
+    return (Map<String, Object>) res.get(JsonKey.RESPONSE);
+  }
+
+  private boolean isCheckHealthy(Map<String, Object> result, String name) {
+    return ((List<Map<String, Object>>) result.get(JsonKey.CHECKS))
+        .stream()
+        .filter(check -> name.equals(check.get(JsonKey.NAME)))
+        .map(check -> (boolean) check.get(JsonKey.Healthy))
+        .findFirst()
+        .orElse(true);
+  }
+
+  private Map<String, Object> withOpenBreaker(
+      String backend, Supplier<Map<String, Object>> healthCheck) throws Exception {
+    BackendGuard guard =
+        Whitebox.invokeConstructor(
+            BackendGuard.class,
+            backend,
+            Whitebox.invokeConstructor(
+                BackendGuardSettings.class, true, 1, 50, 4, 4, 60000L, 2, 100L, 5000L, 4));
+    for (int i = 0; i < 4; i++) {
+      guard.complete(guard.acquire(), true);
+    }
+    Map<String, BackendGuard> guards = Whitebox.getInternalState(BackendGuard.class, "guards");
+    BackendGuard previous = guards.put(backend, guard);
+    try {
+      return healthCheck.get();
+    } finally {
+      if (null == previous) {
+        guards.remove(backend);
+      } else {
+        guards.put(backend, previous);
+      }
+    }
   }
 }
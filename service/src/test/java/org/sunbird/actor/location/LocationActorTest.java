@@ -85,6 +85,8 @@ public class LocationActorTest {
         .thenReturn(promise.future());
     when(esSearch.getDataByIdentifier(Mockito.anyString(), Mockito.anyString(), Mockito.any()))
         .thenReturn(promise.future());
+    when(esSearch.exists(Mockito.any(SearchDTO.class), Mockito.anyString(), Mockito.any()))
+        .thenReturn(Futures.successful(false));
     data = getDataMap();
 
     system = ActorSystem.create("system");
@@ -0,0 +1,123 @@
+package org.sunbird.actor.location;
+
+import static org.junit.Assert.assertEquals;
+import static org.powermock.api.mockito.PowerMockito.mock;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.dispatch.Futures;
+import akka.testkit.javadsl.TestKit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.powermock.reflect.Whitebox;
+import org.sunbird.common.ElasticSearchRestHighImpl;
+import org.sunbird.common.factory.EsClientFactory;
+import org.sunbird.common.inf.ElasticSearchService;
+import org.sunbird.dto.SearchDTO;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.request.Request;
+import org.sunbird.util.ProjectUtil;
+import org.sunbird.util.search.SearchResultCache;
+import scala.concurrent.Await;
+import scala.concurrent.duration.Duration;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({ElasticSearchRestHighImpl.class, EsClientFactory.class})
+@PowerMockIgnore({
+  "javax.management.*",
+  "javax.net.ssl.*",
+  "javax.security.*",
+  "jdk.internal.reflect.*",
+  "javax.crypto.*"
+})
+public class LocationBackgroundActorTest {
+  private static final String INDEX = ProjectUtil.EsType.location.getTypeName();
+  private ActorSystem system = ActorSystem.create("system");
+  private static final Props props = Props.create(LocationBackgroundActor.class);
+  private SearchResultCache searchResultCache;
+  private SearchResultCache configuredSearchResultCache;
+  private final AtomicInteger searches = new AtomicInteger();
+
+  @Before
+  public void beforeEachTest() throws Exception {
+    ElasticSearchService esService = mock(ElasticSearchRestHighImpl.class);
+    PowerMockito.mockStatic(EsClientFactory.class);
+    when(EsClientFactory.getInstance(Mockito.anyString())).thenReturn(esService);
+    when(esService.upsert(Mockito.anyString(), Mockito.anyString(), Mockito.any(), Mockito.any()))
+        .thenReturn(Futures.successful(true));
+    when(esService.delete(Mockito.anyString(), Mockito.anyString(), Mockito.any()))
+        .thenReturn(Futures.successful(true));
+
+    // an enabled cache in place of the one configured, the static methods of which must stay real
+    searchResultCache = Whitebox.invokeConstructor(SearchResultCache.class, true, 10, 60L);
+    configuredSearchResultCache = Whitebox.getInternalState(SearchResultCache.class, "instance");
+    Whitebox.setInternalState(SearchResultCache.class, "instance", searchResultCache);
+  }
+
+  @After
+  public void afterEachTest() {
+    Whitebox.setInternalState(SearchResultCache.class, "instance", configuredSearchResultCache);
+  }
+
+  @Test
+  public void testUpsertLocationInvalidatesCachedSearchResults() throws Exception {
+    Request reqObj = new Request();
+    reqObj.setOperation("upsertLocationDataToES");
+    Map<String, Object> location = new HashMap<>();
+    location.put(JsonKey.ID, "locationId");
+    reqObj.getRequest().put(JsonKey.LOCATION, location);
+
+    assertSearchAfterWrite(reqObj);
+  }
+
+  @Test
+  public void testDeleteLocationInvalidatesCachedSearchResults() throws Exception {
+    Request reqObj = new Request();
+    reqObj.setOperation("deleteLocationDataFromES");
+    reqObj.getRequest().put(JsonKey.LOCATION_ID, "locationId");
+
+    assertSearchAfterWrite(reqObj);
+  }
+
+  private void assertSearchAfterWrite(Request reqObj) throws Exception {
+    search();
+    search();
+    assertEquals(1, searches.get());
+
+    TestKit probe = new TestKit(system);
+    ActorRef subject = system.actorOf(props);
+    subject.tell(reqObj, probe.getRef());
+    probe.expectNoMessage();
+
+    search();
+    assertEquals(2, searches.get());
+  }
+
+  private void search() throws Exception {
+    SearchDTO searchDTO = new SearchDTO();
+    searchDTO.setQuery("location");
+    Await.result(
+        searchResultCache.search(
+            INDEX,
+            searchDTO,
+            false,
+            () -> {
+              searches.incrementAndGet();
+              return Futures.successful(new HashMap<>());
+            }),
+        Duration.create(5, TimeUnit.SECONDS));
+  }
+}
@@ -342,21 +342,8 @@ public class LocationRequestValidatorTest {
     request.setParentId("parentId");
     request.setParentCode("parentCode");
 
-    Map<String, Object> locMap = new HashMap<>();
-    List<Map<String, Object>> locList = new ArrayList<>();
-    locMap.put("id", "1234");
-    locMap.put("name", "locName");
-    locMap.put("code", "locCode");
-    locMap.put("type", "state");
-    locList.add(locMap);
-    Map<String, Object> emptyContentMap2 = new HashMap<>();
-    emptyContentMap2.put(JsonKey.CONTENT, locList);
-
-    Promise<Map<String, Object>> promise2 = Futures.promise();
-    promise2.success(emptyContentMap2);
-
-    when(esService.search(Mockito.any(), Mockito.anyString(), Mockito.any()))
-        .thenReturn(promise2.future());
+    when(esService.exists(Mockito.any(), Mockito.anyString(), Mockito.any()))
+        .thenReturn(Futures.successful(true));
 
     Map<String, Object> loc = new HashMap<>();
     loc.put("id", "1234");
@@ -378,6 +365,24 @@ public class LocationRequestValidatorTest {
     }
   }
 
+  @Test
+  public void isLocationHasChildFailureTest() {
+    when(esService.exists(Mockito.any(), Mockito.anyString(), Mockito.any()))
+        .thenReturn(Futures.failed(new RuntimeException("es unavailable")));
+    Map<String, Object> loc = new HashMap<>();
+    loc.put("id", "1234");
+    loc.put("type", "state");
+    when(esService.getDataByIdentifier(Mockito.anyString(), Mockito.anyString(), Mockito.any()))
+        .thenReturn(Futures.successful(loc));
+
+    try {
+      validator.isLocationHasChild("stateid", new RequestContext());
+      Assert.fail();
+    } catch (ProjectCommonException ex) {
+      Assert.assertEquals(ResponseCode.SERVER_ERROR.getResponseCode(), ex.getErrorResponseCode());
+    }
+  }
+
   @Test
   public void getValidatedLocationSetTest() {
     LocationRequestValidator validator = new LocationRequestValidator();
@@ -27,6 +27,7 @@ import org.sunbird.cassandraimpl.CassandraOperationImpl;
 import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.helper.ServiceFactory;
 import org.sunbird.keys.JsonKey;
+import org.sunbird.model.user.User;
 import org.sunbird.operations.ActorOperations;
 import org.sunbird.request.Request;
 import org.sunbird.response.Response;
@@ -76,6 +77,21 @@ public class EmailServiceActorTest {
     when(cassandraOperation.getRecordById(
             Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.any()))
         .thenReturn(cassandraGetRecordById());
+    when(cassandraOperation.getRecordObjById(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.eq(User.class),
+            Mockito.any()))
+        .thenReturn(getUser());
+  }
+
+  private static User getUser() {
+    User user = new User();
+    user.setId("anyId");
+    user.setEmail("xyz@xyz.com");
+    user.setPhone("9999999999");
+    return user;
   }
 
   private static Response cassandraGetRecordById() {
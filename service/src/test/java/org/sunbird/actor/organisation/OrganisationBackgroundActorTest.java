@@ -1,5 +1,6 @@
 package org.sunbird.actor.organisation;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.powermock.api.mockito.PowerMockito.mock;
 import static org.powermock.api.mockito.PowerMockito.when;
@@ -11,6 +12,9 @@ import akka.dispatch.Futures;
 import akka.testkit.javadsl.TestKit;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -19,17 +23,22 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.powermock.reflect.Whitebox;
 import org.sunbird.common.ElasticSearchHelper;
 import org.sunbird.common.ElasticSearchRestHighImpl;
 import org.sunbird.common.factory.EsClientFactory;
 import org.sunbird.common.inf.ElasticSearchService;
+import org.sunbird.dto.SearchDTO;
 import org.sunbird.http.HttpClientUtil;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.operations.ActorOperations;
 import org.sunbird.request.Request;
 import org.sunbird.request.RequestContext;
 import org.sunbird.util.ProjectUtil;
+import org.sunbird.util.search.SearchResultCache;
+import scala.concurrent.Await;
 import scala.concurrent.Promise;
+import scala.concurrent.duration.Duration;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({
@@ -50,6 +59,8 @@ public class OrganisationBackgroundActorTest {
   private ActorSystem system = ActorSystem.create("system");
   private static final Props props = Props.create(OrganisationBackgroundActor.class);
   private ElasticSearchService esService;
+  private SearchResultCache searchResultCache;
+  private SearchResultCache configuredSearchResultCache;
 
   @Before
   public void beforeEachTest() throws Exception {
@@ -76,6 +87,16 @@ public class OrganisationBackgroundActorTest {
 
     when(esService.upsert(Mockito.anyString(), Mockito.anyString(), Mockito.any(), Mockito.any()))
         .thenReturn(promise.future());
+
+    // an enabled cache in place of the one configured, the static methods of which must stay real
+    searchResultCache = Whitebox.invokeConstructor(SearchResultCache.class, true, 10, 60L);
+    configuredSearchResultCache = Whitebox.getInternalState(SearchResultCache.class, "instance");
+    Whitebox.setInternalState(SearchResultCache.class, "instance", searchResultCache);
+  }
+
+  @After
+  public void afterEachTest() {
+    Whitebox.setInternalState(SearchResultCache.class, "instance", configuredSearchResultCache);
   }
 
   @Test
@@ -95,4 +116,42 @@ public class OrganisationBackgroundActorTest {
     probe.expectNoMessage();
     assertTrue(true);
   }
+
+  @Test
+  public void testUpsertOrgInvalidatesCachedSearchResults() throws Exception {
+    String index = ProjectUtil.EsType.organisation.getTypeName();
+    AtomicInteger searches = new AtomicInteger();
+    search(index, searches);
+    search(index, searches);
+    assertEquals(1, searches.get());
+
+    TestKit probe = new TestKit(system);
+    ActorRef subject = system.actorOf(props);
+    Request reqObj = new Request();
+    reqObj.setOperation(ActorOperations.UPSERT_ORGANISATION_TO_ES.getValue());
+    reqObj.getRequest().put(JsonKey.OPERATION_TYPE, JsonKey.UPDATE);
+    Map<String, Object> reqMap = new HashMap<>();
+    reqMap.put(JsonKey.ID, "1321546897");
+    reqObj.getRequest().put(JsonKey.ORGANISATION, reqMap);
+    subject.tell(reqObj, probe.getRef());
+    probe.expectNoMessage();
+
+    search(index, searches);
+    assertEquals(2, searches.get());
+  }
+
+  private void search(String index, AtomicInteger searches) throws Exception {
+    SearchDTO searchDTO = new SearchDTO();
+    searchDTO.setQuery("org");
+    Await.result(
+        searchResultCache.search(
+            index,
+            searchDTO,
+            false,
+            () -> {
+              searches.incrementAndGet();
+              return Futures.successful(new HashMap<>());
+            }),
+        Duration.create(5, TimeUnit.SECONDS));
+  }
 }
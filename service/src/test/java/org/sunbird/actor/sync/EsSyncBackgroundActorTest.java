@@ -134,6 +134,13 @@ public class EsSyncBackgroundActorTest {
             Mockito.anyList(),
             Mockito.any()))
         .thenReturn(cassandraGetLocationRecord());
+    when(cassandraOperation.getRecordsByIdsWithSpecifiedColumns(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyList(),
+            Mockito.anyList(),
+            Mockito.any()))
+        .thenReturn(cassandraGetLocationRecord());
     TestKit probe = new TestKit(system);
     ActorRef subject = system.actorOf(props);
     Request reqObj = new Request();
@@ -160,6 +167,13 @@ public class EsSyncBackgroundActorTest {
             Mockito.anyList(),
             Mockito.any()))
         .thenReturn(cassandraGetOrgRecord());
+    when(cassandraOperation.getRecordsByIdsWithSpecifiedColumns(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyList(),
+            Mockito.anyList(),
+            Mockito.any()))
+        .thenReturn(cassandraGetOrgRecord());
     TestKit probe = new TestKit(system);
     ActorRef subject = system.actorOf(props);
     Request reqObj = new Request();
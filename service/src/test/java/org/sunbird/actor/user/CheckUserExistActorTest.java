@@ -10,6 +10,7 @@ import akka.actor.ActorSystem;
 import akka.actor.Props;
 import akka.dispatch.Futures;
 import akka.testkit.javadsl.TestKit;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -32,6 +33,7 @@ import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.exception.ResponseCode;
 import org.sunbird.helper.ServiceFactory;
 import org.sunbird.keys.JsonKey;
+import org.sunbird.model.user.User;
 import org.sunbird.request.Request;
 import org.sunbird.response.Response;
 import org.sunbird.service.user.UserService;
@@ -83,6 +85,13 @@ public class CheckUserExistActorTest {
     when(cassandraOperation.getRecordById(
             Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.any()))
         .thenReturn(response1);
+    when(cassandraOperation.getRecordObjById(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.eq(User.class),
+            Mockito.any()))
+        .thenReturn(new ObjectMapper().convertValue(userMap, User.class));
     setEsSearchResponse(getUserExistsSearchResponseMap());
   }
 
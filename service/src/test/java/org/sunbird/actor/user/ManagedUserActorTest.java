@@ -9,12 +9,15 @@ import static org.powermock.api.mockito.PowerMockito.when;
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.dispatch.Futures;
+import akka.pattern.Patterns;
 import akka.testkit.javadsl.TestKit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import org.junit.Before;
 import org.junit.Test;
@@ -24,6 +27,7 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.sunbird.common.ElasticSearchRestHighImpl;
 import org.sunbird.common.factory.EsClientFactory;
 import org.sunbird.common.inf.ElasticSearchService;
+import org.sunbird.dto.SearchDTO;
 import org.sunbird.exception.ProjectCommonException;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.operations.ActorOperations;
@@ -58,6 +62,13 @@ public class ManagedUserActorTest extends UserManagementActorTestBase {
 
   @Test
   public void testGetManagedUsers() throws Exception {
+    Map<String, Object> user = new HashMap<>();
+    user.put(JsonKey.ID, "managedUserId");
+    Map<String, Object> searchResult = new HashMap<>();
+    searchResult.put(JsonKey.CONTENT, new ArrayList<>(Arrays.asList(user)));
+    when(userService.searchUserAsync(Mockito.any(SearchDTO.class), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(searchResult));
+    when(Patterns.pipe(Mockito.any(CompletionStage.class), Mockito.any())).thenCallRealMethod();
     boolean result =
         testScenario(
             getRequest(false, false, false, reqMap, ActorOperations.GET_MANAGED_USERS),
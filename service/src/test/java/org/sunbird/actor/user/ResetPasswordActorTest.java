@@ -8,6 +8,7 @@ import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
 import akka.testkit.javadsl.TestKit;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -28,6 +29,7 @@ import org.sunbird.exception.ResponseCode;
 import org.sunbird.helper.ServiceFactory;
 import org.sunbird.http.HttpClientUtil;
 import org.sunbird.keys.JsonKey;
+import org.sunbird.model.user.User;
 import org.sunbird.request.Request;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
@@ -80,6 +82,10 @@ public class ResetPasswordActorTest {
     PowerMockito.when(
             cassandraOperation.getRecordById(JsonKey.SUNBIRD, JsonKey.USER, "ValidUserId", null))
         .thenReturn(response);
+    PowerMockito.when(
+            cassandraOperation.getRecordObjById(
+                JsonKey.SUNBIRD, JsonKey.USER, "ValidUserId", User.class, null))
+        .thenReturn(new ObjectMapper().convertValue(user, User.class));
   }
 
   private void getRecordByIdEmptyResponse() {
@@ -22,6 +22,7 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.powermock.reflect.Whitebox;
 import org.sunbird.cassandraimpl.CassandraOperationImpl;
 import org.sunbird.common.factory.EsClientFactory;
 import org.sunbird.dao.notification.impl.EmailTemplateDaoImpl;
@@ -34,6 +35,7 @@ import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
 import org.sunbird.util.DataCacheHandler;
 import org.sunbird.util.UserUtility;
+import org.sunbird.util.user.UserProfileCache;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({
@@ -193,6 +195,36 @@ public class UserExternalIdManagementActorTest {
     Assert.assertTrue(null != response && response.getResponseCode() == ResponseCode.OK);
   }
 
+  @Test
+  public void testUpsertUserExternalIdentityDetailsInvalidatesCachedProfiles() throws Exception {
+    UserProfileCache previous = Whitebox.getInternalState(UserProfileCache.class, "instance");
+    UserProfileCache cache = Whitebox.invokeConstructor(UserProfileCache.class, true, 10, 60L);
+    Whitebox.setInternalState(UserProfileCache.class, "instance", cache);
+    try {
+      cache.put("anyUserId", "v5", new HashMap<>(), cache.getGeneration("anyUserId"));
+      TestKit probe = new TestKit(system);
+      ActorRef subject = system.actorOf(props);
+
+      Request request = new Request();
+      request.setOperation(ActorOperations.UPSERT_USER_EXTERNAL_IDENTITY_DETAILS.getValue());
+      HashMap<String, Object> innerMap = new HashMap<>();
+      innerMap.put(JsonKey.OPERATION_TYPE, "CREATE");
+      List<Map<String, Object>> list = new ArrayList<>();
+      Map<String, Object> extIdMap = new HashMap<>();
+      extIdMap.put(JsonKey.OPERATION, "ADD");
+      list.add(extIdMap);
+      innerMap.put(JsonKey.EXTERNAL_IDS, list);
+      innerMap.put(JsonKey.USER_ID, "anyUserId");
+      request.setRequest(innerMap);
+
+      subject.tell(request, probe.getRef());
+      probe.expectMsgClass(duration("100 second"), Response.class);
+      Assert.assertNull(cache.get("anyUserId", "v5", false));
+    } finally {
+      Whitebox.setInternalState(UserProfileCache.class, "instance", previous);
+    }
+  }
+
   @Test
   public void testUpsertUserExternalIdentityDetailsEditSuccess() {
 
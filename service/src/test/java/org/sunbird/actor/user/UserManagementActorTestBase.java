@@ -15,6 +15,7 @@ import akka.pattern.PipeToSupport;
 import akka.testkit.javadsl.TestKit;
 import akka.util.Timeout;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 import org.codehaus.jackson.map.ObjectMapper;
 import org.junit.Before;
@@ -156,8 +157,8 @@ public abstract class UserManagementActorTestBase {
     userService = mock(UserServiceImpl.class);
     when(UserServiceImpl.getInstance()).thenReturn(userService);
     when(userService.getUserById(Mockito.any(), Mockito.any())).thenReturn(getUser(false));
-    when(userService.saveUserAttributes(Mockito.any(), Mockito.any(), Mockito.any()))
-        .thenReturn(getSaveResponse());
+    when(userService.saveUserAttributesAsync(Mockito.any(), Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(getSaveResponse()));
     when(userService.createUser(Mockito.anyMap(), Mockito.any())).thenReturn(getSuccessResponse());
     when(userService.updateUser(Mockito.anyMap(), Mockito.any())).thenReturn(getSuccessResponse());
     PowerMockito.mockStatic(UserLookUpServiceImpl.class);
@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -39,7 +40,6 @@ import org.sunbird.keys.JsonKey;
 import org.sunbird.model.user.User;
 import org.sunbird.operations.ActorOperations;
 import org.sunbird.request.Request;
-import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
 import org.sunbird.service.organisation.impl.OrgServiceImpl;
 import org.sunbird.service.user.UserExternalIdentityService;
@@ -507,8 +507,8 @@ public class UserProfileReadActorTest {
   @Test
   public void testGetUserByLoginId() {
     reqMap = getUserProfileByKeyRequest(JsonKey.LOGIN_ID, "loginId");
-    when(userService.searchUser(Mockito.any(SearchDTO.class), Mockito.any(RequestContext.class)))
-        .thenReturn(getUserExistsSearchResponseMap());
+    when(userService.searchUserAsync(Mockito.any(SearchDTO.class), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(getUserNotFoundSearchResponseMap()));
     setCassandraResponse(getCassandraResponse(true));
     boolean result =
         testScenario(
@@ -522,8 +522,8 @@ public class UserProfileReadActorTest {
     request.setOperation(ActorOperations.GET_USER_DETAILS_BY_LOGINID.getValue());
     request.put(JsonKey.LOGIN_ID, "loginId");
     request.getContext().put(JsonKey.PRIVATE, false);
-    when(userService.searchUser(Mockito.any(SearchDTO.class), Mockito.any(RequestContext.class)))
-        .thenReturn(getUserExistsSearchResponseMap());
+    when(userService.searchUserAsync(Mockito.any(SearchDTO.class), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(getUserNotFoundSearchResponseMap()));
     setCassandraResponse(getCassandraResponse(true));
     boolean result = testScenario(request, ResponseCode.resourceNotFound);
     assertTrue(result);
@@ -547,16 +547,9 @@ public class UserProfileReadActorTest {
     assertTrue(result);
   }
 
-  private static Map<String, Object> getUserExistsSearchResponseMap() {
+  private static Map<String, Object> getUserNotFoundSearchResponseMap() {
     Map<String, Object> map = new HashMap<>();
-    Map<String, Object> response = new HashMap<>();
-    response.put(JsonKey.EXISTS, "true");
-    response.put(JsonKey.USER_ID, "userId");
-    response.put(JsonKey.FIRST_NAME, "Name");
-    response.put(JsonKey.LAST_NAME, "Name");
-    List contentList = new ArrayList<>();
-    contentList.add(response);
-    map.put(JsonKey.CONTENT, contentList);
+    map.put(JsonKey.CONTENT, new ArrayList<>());
     return map;
   }
 
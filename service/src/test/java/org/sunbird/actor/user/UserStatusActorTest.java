@@ -11,6 +11,7 @@ import akka.actor.ActorSystem;
 import akka.actor.Props;
 import akka.dispatch.Futures;
 import akka.testkit.javadsl.TestKit;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -128,6 +129,13 @@ public class UserStatusActorTest {
       when(cassandraOperation.getRecordById(
               Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.any()))
           .thenReturn(response2);
+      when(cassandraOperation.getRecordObjById(
+              Mockito.anyString(),
+              Mockito.anyString(),
+              Mockito.anyString(),
+              Mockito.eq(User.class),
+              Mockito.any()))
+          .thenReturn(new ObjectMapper().convertValue(user, User.class));
 
       PowerMockito.mockStatic(SSOServiceFactory.class);
       SSOManager ssoManager = PowerMockito.mock(SSOManager.class);
@@ -154,6 +162,13 @@ public class UserStatusActorTest {
     when(cassandraOperation.getRecordById(
             Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.any()))
         .thenReturn(response2);
+    when(cassandraOperation.getRecordObjById(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.eq(User.class),
+            Mockito.any()))
+        .thenReturn(new ObjectMapper().convertValue(user, User.class));
     boolean result =
         testScenario(
             true, ActorOperations.BLOCK_USER, false, ResponseCode.userStatusError.getErrorCode());
@@ -173,6 +188,13 @@ public class UserStatusActorTest {
     when(cassandraOperation.getRecordById(
             Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.any()))
         .thenReturn(response2);
+    when(cassandraOperation.getRecordObjById(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.eq(User.class),
+            Mockito.any()))
+        .thenReturn(new ObjectMapper().convertValue(user, User.class));
 
     PowerMockito.mockStatic(SSOServiceFactory.class);
     SSOManager ssoManager = PowerMockito.mock(SSOManager.class);
@@ -196,6 +218,13 @@ public class UserStatusActorTest {
     when(cassandraOperation.getRecordById(
             Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.any()))
         .thenReturn(response2);
+    when(cassandraOperation.getRecordObjById(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.eq(User.class),
+            Mockito.any()))
+        .thenReturn(new ObjectMapper().convertValue(user, User.class));
     boolean result =
         testScenario(
             false,
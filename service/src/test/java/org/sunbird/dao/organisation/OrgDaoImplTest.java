@@ -17,6 +17,7 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.sunbird.actor.core.ActorPatterns;
 import org.sunbird.cassandra.CassandraOperation;
 import org.sunbird.cassandraimpl.CassandraOperationImpl;
 import org.sunbird.common.CassandraUtil;
@@ -106,6 +107,14 @@ public class OrgDaoImplTest {
                 Mockito.anyList(),
                 Mockito.any(RequestContext.class)))
         .thenReturn(getRecordsByProperty(false));
+    PowerMockito.when(
+            cassandraOperation.getRecordsByIdsWithSpecifiedColumns(
+                Mockito.anyString(),
+                Mockito.anyString(),
+                Mockito.anyList(),
+                Mockito.anyList(),
+                Mockito.any(RequestContext.class)))
+        .thenReturn(getRecordsByProperty(false));
     List<String> orgIds = new ArrayList<>();
     orgIds.add("id1");
     orgIds.add("id2");
@@ -156,7 +165,8 @@ public class OrgDaoImplTest {
     data.put(JsonKey.ID, "546546-6787-5476");
     data.put(JsonKey.ORG_NAME, "name");
     OrgDao orgDao = OrgDaoImpl.getInstance();
-    String response = orgDao.saveOrgToEs("546546-6787-5476", data, new RequestContext());
+    String response =
+        ActorPatterns.join(orgDao.saveOrgToEs("546546-6787-5476", data, new RequestContext()));
     Assert.assertNotNull(response);
   }
 }
@@ -4,6 +4,7 @@ import static org.powermock.api.mockito.PowerMockito.mock;
 import static org.powermock.api.mockito.PowerMockito.when;
 
 import akka.dispatch.Futures;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -17,6 +18,8 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.powermock.reflect.Whitebox;
+import org.sunbird.actor.core.ActorPatterns;
 import org.sunbird.cassandra.CassandraOperation;
 import org.sunbird.cassandraimpl.CassandraOperationImpl;
 import org.sunbird.common.ElasticSearchHelper;
@@ -24,12 +27,15 @@ import org.sunbird.common.ElasticSearchRestHighImpl;
 import org.sunbird.common.factory.EsClientFactory;
 import org.sunbird.common.inf.ElasticSearchService;
 import org.sunbird.dao.user.impl.UserDaoImpl;
+import org.sunbird.dto.SearchDTO;
 import org.sunbird.exception.ProjectCommonException;
+import org.sunbird.exception.ResponseCode;
 import org.sunbird.helper.ServiceFactory;
 import org.sunbird.keys.JsonKey;
 import org.sunbird.model.user.User;
 import org.sunbird.request.RequestContext;
 import org.sunbird.response.Response;
+import org.sunbird.util.user.UserProfileCache;
 import scala.concurrent.Promise;
 
 @RunWith(PowerMockRunner.class)
@@ -67,6 +73,13 @@ public class UserDaoImplTest {
     when(cassandraOperationImpl.getRecordById(
             Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.any()))
         .thenReturn(response);
+    when(cassandraOperationImpl.getRecordObjById(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.eq(User.class),
+            Mockito.any()))
+        .thenReturn(new ObjectMapper().convertValue(user, User.class));
 
     PowerMockito.mockStatic(EsClientFactory.class);
     esService = mock(ElasticSearchRestHighImpl.class);
@@ -103,7 +116,8 @@ public class UserDaoImplTest {
     when(esService.getDataByIdentifier(Mockito.anyString(), Mockito.anyString(), Mockito.any()))
         .thenReturn(promise.future());
     UserDao userDao = new UserDaoImpl();
-    Map<String, Object> user = userDao.getEsUserById("123-456-789", new RequestContext());
+    Map<String, Object> user =
+        ActorPatterns.join(userDao.getEsUserById("123-456-789", new RequestContext()));
     Assert.assertNotNull(user);
   }
 
@@ -142,7 +156,29 @@ public class UserDaoImplTest {
     when(esService.getDataByIdentifier(Mockito.anyString(), Mockito.anyString(), Mockito.any()))
         .thenReturn(promise.future());
     UserDao userDao = new UserDaoImpl();
-    userDao.getEsUserById("123-456-789", new RequestContext());
+    ActorPatterns.join(userDao.getEsUserById("123-456-789", new RequestContext()));
+  }
+
+  @Test
+  public void testCount() {
+    when(esService.count(Mockito.any(), Mockito.anyString(), Mockito.any()))
+        .thenReturn(Futures.successful(3L));
+    UserDao userDao = new UserDaoImpl();
+    Assert.assertEquals(
+        3L, (long) ActorPatterns.join(userDao.count(new SearchDTO(), new RequestContext())));
+  }
+
+  @Test
+  public void testCountFailure() {
+    when(esService.count(Mockito.any(), Mockito.anyString(), Mockito.any()))
+        .thenReturn(Futures.failed(new RuntimeException("es unavailable")));
+    UserDao userDao = new UserDaoImpl();
+    try {
+      ActorPatterns.join(userDao.count(new SearchDTO(), new RequestContext()));
+      Assert.fail();
+    } catch (ProjectCommonException e) {
+      Assert.assertEquals(ResponseCode.SERVER_ERROR.getResponseCode(), e.getErrorResponseCode());
+    }
   }
 
   @Test
@@ -154,4 +190,23 @@ public class UserDaoImplTest {
     String response = userDao.saveUserToES("546546-6787-5476", data, new RequestContext());
     Assert.assertNotNull(response);
   }
+
+  @Test
+  public void testUpdateUserInvalidatesCachedProfiles() throws Exception {
+    UserProfileCache previous = Whitebox.getInternalState(UserProfileCache.class, "instance");
+    UserProfileCache cache = Whitebox.invokeConstructor(UserProfileCache.class, true, 10, 60L);
+    Whitebox.setInternalState(UserProfileCache.class, "instance", cache);
+    try {
+      cache.put("46545665465465", "v5", new HashMap<>(), cache.getGeneration("46545665465465"));
+      Map<String, Object> user = new HashMap<>();
+      user.put(JsonKey.ID, "46545665465465");
+      user.put(JsonKey.IS_DELETED, true);
+
+      new UserDaoImpl().updateUser(user, new RequestContext());
+
+      Assert.assertNull(cache.get("46545665465465", "v5", false));
+    } finally {
+      Whitebox.setInternalState(UserProfileCache.class, "instance", previous);
+    }
+  }
 }
@@ -0,0 +1,125 @@
+package org.sunbird.service.export;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.powermock.api.mockito.PowerMockito.mock;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+import akka.dispatch.Futures;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.sunbird.common.ElasticSearchHelper;
+import org.sunbird.common.ElasticSearchRestHighImpl;
+import org.sunbird.common.factory.EsClientFactory;
+import org.sunbird.common.inf.ElasticSearchService;
+import org.sunbird.dto.SearchDTO;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.service.export.impl.ExportServiceImpl;
+import org.sunbird.util.ProjectUtil;
+import org.sunbird.util.UserUtility;
+import scala.concurrent.Future;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({EsClientFactory.class, ElasticSearchRestHighImpl.class, UserUtility.class})
+@PowerMockIgnore({
+  "javax.management.*",
+  "javax.net.ssl.*",
+  "javax.security.*",
+  "jdk.internal.reflect.*",
+  "javax.crypto.*"
+})
+public class ExportServiceImplTest {
+
+  private ElasticSearchService esService;
+
+  @Before
+  public void setUp() {
+    PowerMockito.mockStatic(EsClientFactory.class);
+    esService = mock(ElasticSearchRestHighImpl.class);
+    when(EsClientFactory.getInstance(Mockito.anyString())).thenReturn(esService);
+    PowerMockito.mockStatic(UserUtility.class);
+  }
+
+  @Test
+  public void testReadFirstPageOfUsers() throws Exception {
+    when(esService.search(Mockito.any(), Mockito.anyString(), Mockito.any()))
+        .thenReturn(Futures.successful(createSearchResult("user1", "user2")));
+
+    List<Map<String, Object>> page =
+        readPage(
+            new ExportServiceImpl(), ProjectUtil.EsType.user, Arrays.asList(JsonKey.EMAIL), null);
+
+    assertEquals(2, page.size());
+    assertFalse(page.get(0).containsKey(JsonKey.ENC_EMAIL));
+    SearchDTO searchDTO = getSearchDTO();
+    assertTrue(searchDTO.isCursorPagination());
+    assertNull(searchDTO.getCursor());
+    assertEquals(Arrays.asList(JsonKey.EMAIL, JsonKey.ID), searchDTO.getFields());
+    assertEquals(Integer.valueOf(2), searchDTO.getLimit());
+    PowerMockito.verifyStatic(UserUtility.class, Mockito.times(2));
+    UserUtility.decryptUserDataFrmES(Mockito.anyMap());
+  }
+
+  @Test
+  public void testReadOrgsAfterCheckpoint() throws Exception {
+    when(esService.search(Mockito.any(), Mockito.anyString(), Mockito.any()))
+        .thenReturn(Futures.successful(createSearchResult("org3")));
+
+    List<Map<String, Object>> page =
+        readPage(new ExportServiceImpl(), ProjectUtil.EsType.organisation, null, "ORG2");
+
+    assertEquals(1, page.size());
+    SearchDTO searchDTO = getSearchDTO();
+    assertNull(searchDTO.getFields());
+    assertArrayEquals(
+        new Object[] {"org2"}, ElasticSearchHelper.parseCursor(searchDTO.getCursor()));
+    PowerMockito.verifyStatic(UserUtility.class, Mockito.never());
+    UserUtility.decryptUserDataFrmES(Mockito.anyMap());
+  }
+
+  private List<Map<String, Object>> readPage(
+      ExportService exportService,
+      ProjectUtil.EsType type,
+      List<String> fields,
+      String checkpoint) {
+    Map<String, Object> filters = new HashMap<>();
+    filters.put(JsonKey.ROOT_ORG_ID, "rootOrgId");
+    Future<List<Map<String, Object>>> page =
+        exportService.readPage(type, filters, fields, checkpoint, 2, null);
+    return (List<Map<String, Object>>) ElasticSearchHelper.getResponseFromFuture(page);
+  }
+
+  private SearchDTO getSearchDTO() {
+    ArgumentCaptor<SearchDTO> captor = ArgumentCaptor.forClass(SearchDTO.class);
+    Mockito.verify(esService).search(captor.capture(), Mockito.anyString(), Mockito.any());
+    return captor.getValue();
+  }
+
+  private Map<String, Object> createSearchResult(String... ids) {
+    List<Map<String, Object>> content = new ArrayList<>();
+    for (String id : ids) {
+      Map<String, Object> document = new HashMap<>();
+      document.put(JsonKey.ID, id);
+      document.put(JsonKey.ENC_EMAIL, "encEmail");
+      content.add(document);
+    }
+    Map<String, Object> result = new HashMap<>();
+    result.put(JsonKey.CONTENT, content);
+    return result;
+  }
+}
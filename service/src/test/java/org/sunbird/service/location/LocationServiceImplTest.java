@@ -43,6 +43,8 @@ public class LocationServiceImplTest {
         .thenReturn(getLocationRecords());
     PowerMockito.when(locationDao.read(Mockito.any(), Mockito.any()))
         .thenReturn(getLocationRecords());
+    PowerMockito.when(locationDao.getLocationById(Mockito.any(), Mockito.any()))
+        .thenReturn(getLocation());
     PowerMockito.when(
             locationDao.getLocationsByIds(Mockito.anyList(), Mockito.anyList(), Mockito.any()))
         .thenReturn(getLocationRecords());
@@ -141,6 +143,14 @@ public class LocationServiceImplTest {
     return codeList;
   }
 
+  private Location getLocation() {
+    Location location = new Location();
+    location.setType("state");
+    location.setId("id1");
+    location.setCode("code1");
+    return location;
+  }
+
   private Response getLocationRecords() {
     Response response = new Response();
     List<Map<String, Object>> list = new ArrayList<>();
@@ -90,6 +90,14 @@ public class OrgServiceImplTest {
                 Mockito.anyList(),
                 Mockito.any(RequestContext.class)))
         .thenReturn(getRecordsByProperty(false));
+    PowerMockito.when(
+            cassandraOperation.getRecordsByIdsWithSpecifiedColumns(
+                Mockito.anyString(),
+                Mockito.anyString(),
+                Mockito.anyList(),
+                Mockito.anyList(),
+                Mockito.any(RequestContext.class)))
+        .thenReturn(getRecordsByProperty(false));
 
     PowerMockito.mockStatic(EsClientFactory.class);
     esService = mock(ElasticSearchRestHighImpl.class);
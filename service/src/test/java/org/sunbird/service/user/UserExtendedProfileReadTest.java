@@ -226,6 +226,19 @@ public class UserExtendedProfileReadTest {
                 .thenReturn(orgRes)
                 .thenReturn(locnResponse)
                 .thenReturn(locnResponse);
+        Mockito.when(
+                cassandraOperationImpl.getRecordsByIdsWithSpecifiedColumns(
+                        Mockito.anyString(),
+                        Mockito.anyString(),
+                        Mockito.anyList(),
+                        Mockito.anyList(),
+                        Mockito.any()))
+                .thenReturn(orgRes)
+                .thenReturn(orgRes)
+                .thenReturn(orgRes)
+                .thenReturn(orgRes)
+                .thenReturn(locnResponse)
+                .thenReturn(locnResponse);
 
         UserProfileReadService userProfileReadService = new UserProfileReadService();
 
@@ -0,0 +1,83 @@
+package org.sunbird.service.user;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.operations.ActorOperations;
+
+public class UserProfileReadPlanTest {
+
+  private static final String READ_V5 = ActorOperations.GET_USER_PROFILE_V5.getValue();
+  private static final String READ_V4 = ActorOperations.GET_USER_PROFILE_V4.getValue();
+
+  @Test
+  public void testFieldsWithoutProjectionReadFullProfile() {
+    UserProfileReadPlan plan = new UserProfileReadPlan(READ_V5, "firstName,roles", false);
+    assertFalse(plan.isProjection());
+    assertTrue(plan.needsRootOrg());
+    assertTrue(plan.needsRoles());
+    assertTrue(plan.needsOrganisations());
+
+    Map<String, Object> profile = createProfile();
+    plan.project(profile);
+    assertEquals(createProfile(), profile);
+  }
+
+  @Test
+  public void testProjectionWithoutFieldsReadsFullProfile() {
+    UserProfileReadPlan plan = new UserProfileReadPlan(READ_V5, " ", true);
+    assertFalse(plan.isProjection());
+    assertTrue(plan.needsRootOrg());
+    assertTrue(plan.needsOrganisations());
+  }
+
+  @Test
+  public void testProjectionSkipsLookupsOfFieldsNotRequested() {
+    UserProfileReadPlan plan = new UserProfileReadPlan(READ_V5, "firstName, roles", true);
+    assertTrue(plan.isProjection());
+    assertFalse(plan.needsRootOrg());
+    assertTrue(plan.needsRoles());
+    assertFalse(plan.needsOrganisations());
+
+    Map<String, Object> profile = createProfile();
+    plan.project(profile);
+    assertEquals(4, profile.size());
+    assertEquals("first name", profile.get(JsonKey.FIRST_NAME));
+    assertTrue(profile.containsKey(JsonKey.ROLES));
+    assertTrue(profile.containsKey(JsonKey.ID));
+    assertTrue(profile.containsKey(JsonKey.IDENTIFIER));
+  }
+
+  @Test
+  public void testOrgRolesOfOlderReadsNeedRoles() {
+    UserProfileReadPlan plan = new UserProfileReadPlan(READ_V4, "organisations", true);
+    assertTrue(plan.needsRoles());
+    assertTrue(plan.needsOrganisations());
+    assertFalse(plan.needsRootOrg());
+
+    plan = new UserProfileReadPlan(READ_V4, "roles", true);
+    assertFalse(plan.needsRoles());
+  }
+
+  @Test
+  public void testDefaultUserFieldsNeedRootOrg() {
+    assertTrue(new UserProfileReadPlan(READ_V5, "rootOrg", true).needsRootOrg());
+    assertTrue(new UserProfileReadPlan(READ_V5, "gender", true).needsRootOrg());
+  }
+
+  private Map<String, Object> createProfile() {
+    Map<String, Object> profile = new HashMap<>();
+    profile.put(JsonKey.ID, "user1");
+    profile.put(JsonKey.IDENTIFIER, "user1");
+    profile.put(JsonKey.FIRST_NAME, "first name");
+    profile.put(JsonKey.LAST_NAME, "last name");
+    profile.put(JsonKey.ROLES, "roles");
+    profile.put(JsonKey.ROOT_ORG_ID, "org1");
+    return profile;
+  }
+}
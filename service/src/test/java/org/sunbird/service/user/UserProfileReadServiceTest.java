@@ -8,9 +8,15 @@ import akka.dispatch.Futures;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -20,6 +26,7 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.powermock.reflect.Whitebox;
 import org.sunbird.actor.organisation.validator.OrgTypeValidator;
 import org.sunbird.cassandra.CassandraOperation;
 import org.sunbird.cassandraimpl.CassandraOperationImpl;
@@ -41,10 +48,12 @@ import org.sunbird.model.user.User;
 import org.sunbird.operations.ActorOperations;
 import org.sunbird.request.Request;
 import org.sunbird.response.Response;
+import org.sunbird.service.organisation.OrgService;
 import org.sunbird.service.user.impl.UserExternalIdentityServiceImpl;
 import org.sunbird.util.DataCacheHandler;
 import org.sunbird.util.UserUtility;
 import org.sunbird.util.Util;
+import org.sunbird.util.user.UserProfileReadMetrics;
 import org.sunbird.util.user.UserUtil;
 import scala.concurrent.Promise;
 
@@ -251,6 +260,19 @@ public class UserProfileReadServiceTest {
         .thenReturn(orgRes)
         .thenReturn(locnResponse)
         .thenReturn(locnResponse);
+    Mockito.when(
+            cassandraOperationImpl.getRecordsByIdsWithSpecifiedColumns(
+                Mockito.anyString(),
+                Mockito.anyString(),
+                Mockito.anyList(),
+                Mockito.anyList(),
+                Mockito.any()))
+        .thenReturn(orgRes)
+        .thenReturn(orgRes)
+        .thenReturn(orgRes)
+        .thenReturn(orgRes)
+        .thenReturn(locnResponse)
+        .thenReturn(locnResponse);
 
     UserProfileReadService userProfileReadService = new UserProfileReadService();
 
@@ -306,6 +328,15 @@ public class UserProfileReadServiceTest {
     Response response1 =
         userProfileReadService.getUserProfileData(getProfileReadRequest("1234567890"));
     Assert.assertNotNull(response1);
+    Map<String, Object> result = (Map<String, Object>) response1.get(JsonKey.RESPONSE);
+    Assert.assertNotNull(result.get(JsonKey.ROOT_ORG));
+    Assert.assertNotNull(result.get(JsonKey.ORGANISATIONS));
+    Assert.assertNotNull(result.get(JsonKey.EXTERNAL_IDS));
+    Assert.assertTrue(
+        UserProfileReadMetrics.getInstance()
+            .getSnapshot()
+            .stream()
+            .anyMatch(stage -> UserProfileReadMetrics.TOTAL.equals(stage.get(JsonKey.STAGE))));
   }
 
   // @Test
@@ -356,6 +387,113 @@ public class UserProfileReadServiceTest {
     }
   }
 
+  @Test
+  public void readUserProfileMakesLookupsConcurrentlyTest() throws Exception {
+    // each lookup waits for the other two, which only returns if they run at the same time
+    CountDownLatch lookups = new CountDownLatch(3);
+    Set<String> concurrentLookups = ConcurrentHashMap.newKeySet();
+    OrgService orgService = mock(OrgService.class);
+    when(orgService.getOrgById(Mockito.anyString(), Mockito.any()))
+        .thenAnswer(
+            invocation -> {
+              awaitLookups(lookups, concurrentLookups, JsonKey.ROOT_ORG);
+              Map<String, Object> rootOrg = new HashMap<>();
+              rootOrg.put(JsonKey.ID, invocation.getArgument(0));
+              return rootOrg;
+            });
+    UserRoleService userRoleService = mock(UserRoleService.class);
+    when(userRoleService.getUserRoles(Mockito.anyString(), Mockito.any()))
+        .thenAnswer(
+            invocation -> {
+              awaitLookups(lookups, concurrentLookups, JsonKey.ROLES);
+              return new ArrayList<>();
+            });
+    UserOrgService userOrgService = mock(UserOrgService.class);
+    when(userOrgService.getUserOrgListByUserId(Mockito.anyString(), Mockito.any()))
+        .thenAnswer(
+            invocation -> {
+              awaitLookups(lookups, concurrentLookups, JsonKey.ORGANISATIONS);
+              return new ArrayList<>();
+            });
+    UserProfileReadService userProfileReadService =
+        createUserProfileReadService(orgService, userRoleService, userOrgService);
+
+    Map<String, Object> result = readUserProfile(userProfileReadService, "1234567890");
+
+    Assert.assertEquals(
+        new HashSet<>(Arrays.asList(JsonKey.ROOT_ORG, JsonKey.ROLES, JsonKey.ORGANISATIONS)),
+        concurrentLookups);
+    Assert.assertEquals(
+        "4578963210", ((Map<String, Object>) result.get(JsonKey.ROOT_ORG)).get(JsonKey.ID));
+    Assert.assertNotNull(result.get(JsonKey.ORGANISATIONS));
+  }
+
+  @Test
+  public void readUserProfileThrowsFailureOfLookupTest() throws Exception {
+    OrgService orgService = mock(OrgService.class);
+    when(orgService.getOrgById(Mockito.anyString(), Mockito.any()))
+        .thenThrow(
+            new ProjectCommonException(
+                ResponseCode.serverError,
+                ResponseCode.serverError.getErrorMessage(),
+                ResponseCode.SERVER_ERROR.getResponseCode()));
+    UserRoleService userRoleService = mock(UserRoleService.class);
+    when(userRoleService.getUserRoles(Mockito.anyString(), Mockito.any()))
+        .thenReturn(new ArrayList<>());
+    UserOrgService userOrgService = mock(UserOrgService.class);
+    when(userOrgService.getUserOrgListByUserId(Mockito.anyString(), Mockito.any()))
+        .thenReturn(new ArrayList<>());
+    UserProfileReadService userProfileReadService =
+        createUserProfileReadService(orgService, userRoleService, userOrgService);
+
+    try {
+      readUserProfile(userProfileReadService, "1234567890");
+      Assert.fail("Expected the failure of the root org lookup");
+    } catch (ProjectCommonException ex) {
+      Assert.assertEquals(ResponseCode.SERVER_ERROR.getResponseCode(), ex.getErrorResponseCode());
+    }
+  }
+
+  private static void awaitLookups(
+      CountDownLatch lookups, Set<String> concurrentLookups, String lookup)
+      throws InterruptedException {
+    lookups.countDown();
+    if (lookups.await(10, TimeUnit.SECONDS)) {
+      concurrentLookups.add(lookup);
+    }
+  }
+
+  private UserProfileReadService createUserProfileReadService(
+      OrgService orgService, UserRoleService userRoleService, UserOrgService userOrgService)
+      throws JsonProcessingException {
+    UserService userService = mock(UserService.class);
+    when(userService.getUserDetailsById(Mockito.anyString(), Mockito.any()))
+        .thenReturn(getValidUserResponse("1234567890"));
+    UserProfileReadService userProfileReadService = new UserProfileReadService();
+    Whitebox.setInternalState(userProfileReadService, "userService", userService);
+    Whitebox.setInternalState(userProfileReadService, "orgService", orgService);
+    Whitebox.setInternalState(userProfileReadService, "userRoleService", userRoleService);
+    Whitebox.setInternalState(userProfileReadService, "userOrgService", userOrgService);
+    return userProfileReadService;
+  }
+
+  private Map<String, Object> readUserProfile(
+      UserProfileReadService userProfileReadService, String userId) throws Exception {
+    Request request = getProfileReadRequest(userId);
+    request.getContext().put(JsonKey.PRIVATE, true);
+    request.getContext().remove(JsonKey.FIELDS);
+    return Whitebox.invokeMethod(
+        userProfileReadService,
+        "readUserProfile",
+        request,
+        userId,
+        "1234567890",
+        "",
+        false,
+        new UserProfileReadPlan(request.getOperation(), null, false),
+        new ConcurrentHashMap<String, Long>());
+  }
+
   private Request getProfileReadRequest(String userId) {
     Request reqObj = new Request();
     Map<String, Object> innerMap = new HashMap<>();
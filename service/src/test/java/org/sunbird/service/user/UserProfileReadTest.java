@@ -246,6 +246,19 @@ public class UserProfileReadTest {
         .thenReturn(orgRes)
         .thenReturn(locnResponse)
         .thenReturn(locnResponse);
+    Mockito.when(
+            cassandraOperationImpl.getRecordsByIdsWithSpecifiedColumns(
+                Mockito.anyString(),
+                Mockito.anyString(),
+                Mockito.anyList(),
+                Mockito.anyList(),
+                Mockito.any()))
+        .thenReturn(orgRes)
+        .thenReturn(orgRes)
+        .thenReturn(orgRes)
+        .thenReturn(orgRes)
+        .thenReturn(locnResponse)
+        .thenReturn(locnResponse);
 
     UserProfileReadService userProfileReadService = new UserProfileReadService();
 
@@ -0,0 +1,39 @@
+package org.sunbird.util.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.sunbird.keys.JsonKey;
+
+public class CacheUtilTest {
+
+  @Test
+  public void testIsBypassed() {
+    Map<String, Object> context = new HashMap<>();
+    assertFalse(CacheUtil.isBypassed(context));
+    context.put(JsonKey.CACHE_CONTROL, "No-Cache");
+    assertTrue(CacheUtil.isBypassed(context));
+  }
+
+  @Test
+  public void testCopyIsDeep() {
+    Map<String, Object> org = new HashMap<>();
+    org.put(JsonKey.ID, "org1");
+    List<Map<String, Object>> content = new ArrayList<>();
+    content.add(org);
+    Map<String, Object> value = new HashMap<>();
+    value.put(JsonKey.CONTENT, content);
+
+    Map<String, Object> copy = CacheUtil.copy(value);
+    assertEquals(value, copy);
+    ((List<Map<String, Object>>) copy.get(JsonKey.CONTENT)).get(0).put(JsonKey.ID, "changed");
+
+    assertEquals("org1", org.get(JsonKey.ID));
+  }
+}
@@ -0,0 +1,132 @@
+package org.sunbird.util.search;
+
+import static org.junit.Assert.assertEquals;
+
+import akka.dispatch.Futures;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.sunbird.dto.SearchDTO;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.util.cache.CacheStatistics;
+import scala.concurrent.Await;
+import scala.concurrent.Future;
+import scala.concurrent.duration.Duration;
+
+public class SearchResultCacheTest {
+
+  private static final Duration TIMEOUT = Duration.create(5, TimeUnit.SECONDS);
+  private static final String ORG = "org";
+  private static final String LOCATION = "location";
+
+  private final AtomicInteger searches = new AtomicInteger();
+
+  @Test
+  public void testSameSearchIsAnsweredFromCache() throws Exception {
+    SearchResultCache cache = new SearchResultCache(true, 10, 60);
+
+    Map<String, Object> first = search(cache, ORG, createSearch("org1", "org2"), false);
+    getContent(first).get(0).put(JsonKey.NAME, "changed by caller");
+    Map<String, Object> second = search(cache, ORG, createSearch("org1", "org2"), false);
+
+    assertEquals(1, searches.get());
+    assertEquals("org1", getContent(second).get(0).get(JsonKey.NAME));
+    Map<String, Object> stats = cache.getStats();
+    assertEquals(1L, stats.get(CacheStatistics.HIT_COUNT));
+    assertEquals(1L, stats.get(CacheStatistics.MISS_COUNT));
+  }
+
+  @Test
+  public void testDifferentSearchOrIndexIsNotAnsweredFromCache() throws Exception {
+    SearchResultCache cache = new SearchResultCache(true, 10, 60);
+
+    search(cache, ORG, createSearch("org1", "org2"), false);
+    search(cache, ORG, createSearch("org1", "org3"), false);
+    search(cache, LOCATION, createSearch("org1", "org2"), false);
+
+    assertEquals(3, searches.get());
+  }
+
+  @Test
+  public void testBypassedSearchIsNotAnsweredFromCache() throws Exception {
+    SearchResultCache cache = new SearchResultCache(true, 10, 60);
+
+    search(cache, ORG, createSearch("org1", "org2"), false);
+    search(cache, ORG, createSearch("org1", "org2"), true);
+
+    assertEquals(2, searches.get());
+    assertEquals(1L, cache.getStats().get(CacheStatistics.BYPASS_COUNT));
+  }
+
+  @Test
+  public void testInvalidateRemovesResultsOfIndex() throws Exception {
+    SearchResultCache cache = new SearchResultCache(true, 10, 60);
+    search(cache, ORG, createSearch("org1", "org2"), false);
+    search(cache, LOCATION, createSearch("org1", "org2"), false);
+
+    cache.invalidate(ORG);
+    search(cache, ORG, createSearch("org1", "org2"), false);
+    search(cache, ORG, createSearch("org1", "org2"), false);
+    search(cache, LOCATION, createSearch("org1", "org2"), false);
+
+    // results of searches right after a save may miss it, so they are not cached
+    assertEquals(4, searches.get());
+    assertEquals(1L, cache.getStats().get(CacheStatistics.SIZE));
+  }
+
+  @Test
+  public void testDisabledCacheSearchesEachTime() throws Exception {
+    SearchResultCache cache = new SearchResultCache(false, 10, 60);
+
+    search(cache, ORG, createSearch("org1", "org2"), false);
+    search(cache, ORG, createSearch("org1", "org2"), false);
+
+    assertEquals(2, searches.get());
+    assertEquals(false, cache.getStats().get(CacheStatistics.ENABLED));
+  }
+
+  private Map<String, Object> search(
+      SearchResultCache cache, String index, SearchDTO searchDTO, boolean bypass) throws Exception {
+    Future<Map<String, Object>> resultF =
+        cache.search(index, searchDTO, bypass, () -> searchIndex(searchDTO));
+    return Await.result(resultF, TIMEOUT);
+  }
+
+  /** Stand-in of the index, answering with one organisation per id of the filter. */
+  @SuppressWarnings("unchecked")
+  private Future<Map<String, Object>> searchIndex(SearchDTO searchDTO) {
+    searches.incrementAndGet();
+    Map<String, Object> filters =
+        (Map<String, Object>) searchDTO.getAdditionalProperties().get(JsonKey.FILTERS);
+    List<Map<String, Object>> content = new ArrayList<>();
+    for (String id : (List<String>) filters.get(JsonKey.ID)) {
+      Map<String, Object> org = new HashMap<>();
+      org.put(JsonKey.ID, id);
+      org.put(JsonKey.NAME, id);
+      content.add(org);
+    }
+    Map<String, Object> result = new HashMap<>();
+    result.put(JsonKey.CONTENT, content);
+    result.put(JsonKey.COUNT, content.size());
+    return Futures.successful(result);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Map<String, Object>> getContent(Map<String, Object> result) {
+    return (List<Map<String, Object>>) result.get(JsonKey.CONTENT);
+  }
+
+  private SearchDTO createSearch(String... ids) {
+    Map<String, Object> filters = new HashMap<>();
+    filters.put(JsonKey.ID, Arrays.asList(ids));
+    filters.put(JsonKey.STATUS, 1);
+    SearchDTO searchDTO = new SearchDTO();
+    searchDTO.getAdditionalProperties().put(JsonKey.FILTERS, filters);
+    return searchDTO;
+  }
+}
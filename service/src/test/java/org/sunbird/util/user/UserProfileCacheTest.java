@@ -0,0 +1,106 @@
+package org.sunbird.util.user;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.sunbird.keys.JsonKey;
+import org.sunbird.util.cache.CacheStatistics;
+
+public class UserProfileCacheTest {
+
+  private static final String USER_ID = "user1";
+  private static final String VARIANT =
+      UserProfileCache.getVariant("getUserProfileV5", "", false, true);
+
+  @Test
+  public void testCachedProfileIsACopy() {
+    UserProfileCache cache = new UserProfileCache(true, 10, 60);
+    Map<String, Object> profile = createProfile();
+    cache.put(USER_ID, VARIANT, profile, cache.getGeneration(USER_ID));
+    profile.put(JsonKey.FIRST_NAME, "changed after put");
+
+    Map<String, Object> cached = cache.get(USER_ID, VARIANT, false);
+    getOrganisations(cached).get(0).put(JsonKey.ORGANISATION_ID, "changed by caller");
+
+    assertEquals("first name", cache.get(USER_ID, VARIANT, false).get(JsonKey.FIRST_NAME));
+    assertEquals(
+        "org1",
+        getOrganisations(cache.get(USER_ID, VARIANT, false)).get(0).get(JsonKey.ORGANISATION_ID));
+    Map<String, Object> stats = cache.getStats();
+    assertEquals(3L, stats.get(CacheStatistics.HIT_COUNT));
+    assertEquals(0L, stats.get(CacheStatistics.MISS_COUNT));
+  }
+
+  @Test
+  public void testOtherVariantIsNotAnsweredFromCache() {
+    UserProfileCache cache = new UserProfileCache(true, 10, 60);
+    cache.put(USER_ID, VARIANT, createProfile(), cache.getGeneration(USER_ID));
+
+    assertNull(
+        cache.get(
+            USER_ID,
+            UserProfileCache.getVariant("getUserProfileV5", "organisations", false, false),
+            false));
+    assertNull(cache.get("user2", VARIANT, false));
+    assertNull(cache.get(USER_ID, VARIANT, true));
+    Map<String, Object> stats = cache.getStats();
+    assertEquals(2L, stats.get(CacheStatistics.MISS_COUNT));
+    assertEquals(1L, stats.get(CacheStatistics.BYPASS_COUNT));
+  }
+
+  @Test
+  public void testInvalidateRemovesProfilesOfUser() {
+    UserProfileCache cache = new UserProfileCache(true, 10, 60);
+    String otherVariant = UserProfileCache.getVariant("getUserProfileV4", null, false, false);
+    cache.put(USER_ID, VARIANT, createProfile(), cache.getGeneration(USER_ID));
+    cache.put(USER_ID, otherVariant, createProfile(), cache.getGeneration(USER_ID));
+    cache.put("user2", VARIANT, createProfile(), cache.getGeneration("user2"));
+
+    cache.invalidate(USER_ID);
+
+    assertNull(cache.get(USER_ID, VARIANT, false));
+    assertNull(cache.get(USER_ID, otherVariant, false));
+    assertEquals("first name", cache.get("user2", VARIANT, false).get(JsonKey.FIRST_NAME));
+  }
+
+  @Test
+  public void testProfileReadDuringSaveIsNotCached() {
+    UserProfileCache cache = new UserProfileCache(true, 10, 60);
+    long generation = cache.getGeneration(USER_ID);
+
+    cache.invalidate(USER_ID);
+    cache.put(USER_ID, VARIANT, createProfile(), generation);
+
+    assertNull(cache.get(USER_ID, VARIANT, false));
+  }
+
+  @Test
+  public void testDisabledCacheIsBypassed() {
+    UserProfileCache cache = new UserProfileCache(false, 10, 60);
+    cache.put(USER_ID, VARIANT, createProfile(), cache.getGeneration(USER_ID));
+
+    assertNull(cache.get(USER_ID, VARIANT, false));
+    assertEquals(0L, cache.getStats().get(CacheStatistics.SIZE));
+  }
+
+  private Map<String, Object> createProfile() {
+    Map<String, Object> org = new HashMap<>();
+    org.put(JsonKey.ORGANISATION_ID, "org1");
+    List<Map<String, Object>> organisations = new ArrayList<>();
+    organisations.add(org);
+    Map<String, Object> profile = new HashMap<>();
+    profile.put(JsonKey.ID, USER_ID);
+    profile.put(JsonKey.FIRST_NAME, "first name");
+    profile.put(JsonKey.ORGANISATIONS, organisations);
+    return profile;
+  }
+
+  private List<Map<String, Object>> getOrganisations(Map<String, Object> profile) {
+    return (List<Map<String, Object>>) profile.get(JsonKey.ORGANISATIONS);
+  }
+}
@@ -112,6 +112,8 @@ public class UserUtilTest {
     promise.success(contentMap);
     when(esService.search(Mockito.any(SearchDTO.class), Mockito.anyString(), Mockito.any()))
         .thenReturn(promise.future());
+    when(esService.count(Mockito.any(SearchDTO.class), Mockito.anyString(), Mockito.any()))
+        .thenReturn(Futures.successful((long) managedUserList.size()));
 
     List<Map<String, Object>> userOrgMapList = new ArrayList<>();
     Map<String, Object> userOrgMap = new HashMap<String, Object>();